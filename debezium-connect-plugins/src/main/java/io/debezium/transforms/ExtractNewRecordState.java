@@ -86,7 +86,7 @@
     private String dropFieldsHeaderName;
     private boolean dropFieldsFromKey;
     private boolean dropFieldsKeepSchemaCompatible;
-    private BoundedConcurrentHashMap<NewRecordValueMetadata, Schema> schemaUpdateCache;
+    private BoundedConcurrentHashMap<NewRecordValueMetadata, FieldPlan> fieldPlanCache;
 
     private final Field.Set configFields = CONFIG_FIELDS.with(
             DROP_FIELDS_HEADER, DROP_FIELDS_FROM_KEY, DROP_FIELDS_KEEP_SCHEMA_COMPATIBLE);
@@ -98,7 +98,7 @@ public void configure(final Map<String, ?> configs) {
         dropFieldsHeaderName = config.getString(DROP_FIELDS_HEADER);
         dropFieldsFromKey = config.getBoolean(DROP_FIELDS_FROM_KEY);
         dropFieldsKeepSchemaCompatible = config.getBoolean(DROP_FIELDS_KEEP_SCHEMA_COMPATIBLE);
-        schemaUpdateCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
+        fieldPlanCache = new BoundedConcurrentHashMap<>(SCHEMA_CACHE_SIZE);
     }
 
     @Override
@@ -183,23 +183,24 @@ private R addFields(List<FieldReference> additionalFields, R originalRecord, R u
         final Struct value = requireStruct(unwrappedRecord.value(), PURPOSE);
         Struct originalRecordValue = (Struct) originalRecord.value();
 
-        Schema updatedSchema = schemaUpdateCache.computeIfAbsent(buildCacheKey(value, originalRecord),
-                s -> makeUpdatedSchema(additionalFields, value.schema(), originalRecordValue));
+        final FieldPlan plan = fieldPlanCache.computeIfAbsent(buildCacheKey(value, originalRecord),
+                s -> FieldPlan.of(makeUpdatedSchema(additionalFields, value.schema(), originalRecordValue), value.schema(),
+                        additionalFields, originalRecordValue.schema()));
 
         // Update the value with the new fields
-        Struct updatedValue = new Struct(updatedSchema);
-        for (org.apache.kafka.connect.data.Field field : value.schema().fields()) {
+        final Struct updatedValue = new Struct(plan.updatedSchema);
+        final org.apache.kafka.connect.data.Field[] sourceFields = plan.sourceFields;
+        final org.apache.kafka.connect.data.Field[] targetFields = plan.targetFields;
+        for (int i = 0; i < sourceFields.length; i++) {
             // We use getWithoutDefault method (instead of get) to get the raw value of the field
             // Using get method may perform unwanted manipulation for the value (e.g: replacing null value with default value)
-            updatedValue.put(field.name(), value.getWithoutDefault(field.name()));
-
+            updatedValue.put(targetFields[i], value.getWithoutDefault(sourceFields[i].name()));
         }
 
-        for (FieldReference fieldReference : additionalFields) {
-            Optional<Schema> schema = fieldReference.getSchema(originalRecordValue.schema());
-            if (schema.isPresent()) {
-                updatedValue = updateValue(fieldReference, updatedValue, originalRecordValue);
-            }
+        final FieldReference[] additionalReferences = plan.additionalReferences;
+        final org.apache.kafka.connect.data.Field[] additionalTargetFields = plan.additionalTargetFields;
+        for (int i = 0; i < additionalReferences.length; i++) {
+            updatedValue.put(additionalTargetFields[i], additionalReferences[i].getValue(originalRecordValue));
         }
 
         return unwrappedRecord.newRecord(
@@ -207,7 +208,7 @@ private R addFields(List<FieldReference> additionalFields, R originalRecord, R u
                 unwrappedRecord.kafkaPartition(),
                 unwrappedRecord.keySchema(),
                 unwrappedRecord.key(),
-                updatedSchema,
+                plan.updatedSchema,
                 updatedValue,
                 unwrappedRecord.timestamp());
     }
@@ -301,8 +302,48 @@ private SchemaBuilder updateSchema(FieldReference fieldReference, SchemaBuilder
         return builder.field(fieldReference.getNewField(), fieldSchema);
     }
 
-    private Struct updateValue(FieldReference fieldReference, Struct updatedValue, Struct struct) {
-        return updatedValue.put(fieldReference.getNewField(), fieldReference.getValue(struct));
+    /**
+     * The precompiled copy plan for a given unwrapped value schema; the fields of the updated schema are resolved
+     * once so that each record is populated by index instead of by field name.
+     */
+    private static final class FieldPlan {
+        private final Schema updatedSchema;
+        private final org.apache.kafka.connect.data.Field[] sourceFields;
+        private final org.apache.kafka.connect.data.Field[] targetFields;
+        private final FieldReference[] additionalReferences;
+        private final org.apache.kafka.connect.data.Field[] additionalTargetFields;
+
+        private FieldPlan(Schema updatedSchema, org.apache.kafka.connect.data.Field[] sourceFields, org.apache.kafka.connect.data.Field[] targetFields,
+                          FieldReference[] additionalReferences, org.apache.kafka.connect.data.Field[] additionalTargetFields) {
+            this.updatedSchema = updatedSchema;
+            this.sourceFields = sourceFields;
+            this.targetFields = targetFields;
+            this.additionalReferences = additionalReferences;
+            this.additionalTargetFields = additionalTargetFields;
+        }
+
+        static FieldPlan of(Schema updatedSchema, Schema valueSchema, List<FieldReference> additionalFields, Schema originalRecordSchema) {
+            final List<org.apache.kafka.connect.data.Field> valueFields = valueSchema.fields();
+            final org.apache.kafka.connect.data.Field[] sourceFields = new org.apache.kafka.connect.data.Field[valueFields.size()];
+            final org.apache.kafka.connect.data.Field[] targetFields = new org.apache.kafka.connect.data.Field[valueFields.size()];
+            for (int i = 0; i < sourceFields.length; i++) {
+                sourceFields[i] = valueFields.get(i);
+                targetFields[i] = updatedSchema.field(sourceFields[i].name());
+            }
+
+            final List<FieldReference> references = new ArrayList<>(additionalFields.size());
+            final List<org.apache.kafka.connect.data.Field> referenceTargets = new ArrayList<>(additionalFields.size());
+            for (FieldReference fieldReference : additionalFields) {
+                if (fieldReference.getSchema(originalRecordSchema).isPresent()) {
+                    references.add(fieldReference);
+                    referenceTargets.add(updatedSchema.field(fieldReference.getNewField()));
+                }
+            }
+
+            return new FieldPlan(updatedSchema, sourceFields, targetFields,
+                    references.toArray(new FieldReference[0]),
+                    referenceTargets.toArray(new org.apache.kafka.connect.data.Field[0]));
+        }
     }
 
     @Override
@@ -12,6 +12,7 @@
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -47,6 +48,7 @@
 import io.debezium.time.Timestamp;
 import io.debezium.time.ZonedTime;
 import io.debezium.time.ZonedTimestamp;
+import io.debezium.util.BoundedConcurrentHashMap;
 
 /**
  *
@@ -94,6 +96,8 @@
 
     private SmtManager<R> smtManager;
     private String convertedTimezone;
+    private ZoneId zoneId;
+    private BoundedConcurrentHashMap<FieldPlanKey, FieldPlan> fieldPlans;
     private List<String> includeList;
     private List<String> excludeList;
     private static final String SOURCE = FieldName.SOURCE;
@@ -121,6 +125,7 @@
             org.apache.kafka.connect.data.Date.LOGICAL_NAME,
             org.apache.kafka.connect.data.Time.LOGICAL_NAME);
     private static final List<String> SUPPORTED_EPOCH_FIELDS = List.of("ts_ms", "ts_us", "ts_ns");
+    private static final int FIELD_PLAN_CACHE_SIZE = 64;
 
     @Override
     public ConfigDef config() {
@@ -172,6 +177,9 @@ public void configure(Map<String, ?> configs) {
 
         validateConfiguration();
 
+        zoneId = ZoneId.of(convertedTimezone);
+        fieldPlans = new BoundedConcurrentHashMap<>(FIELD_PLAN_CACHE_SIZE);
+
         if (!excludeList.isEmpty()) {
             collectTablesAndTopics(excludeList);
         }
@@ -272,7 +280,6 @@ private enum Type {
 
     private Object getTimestampWithTimezone(String schemaName, Object fieldValue) {
         Object updatedFieldValue = fieldValue;
-        ZoneId zoneId = ZoneId.of(convertedTimezone);
         ZoneOffset zoneOffset = zoneId.getRules().getOffset(Instant.now());
         switch (schemaName) {
             case ZonedTimestamp.SCHEMA_NAME:
@@ -322,45 +329,42 @@ private void handleStructs(Struct value, Type type, String matchName, Set<String
             return;
         }
 
-        Struct before = getStruct(value, FieldName.BEFORE);
-        Struct after = getStruct(value, FieldName.AFTER);
-        Struct source = getStruct(value, FieldName.SOURCE);
-
-        Set<String> beforeFields = new HashSet<>();
-        Set<String> afterFields = new HashSet<>();
-        Set<String> sourceFields = new HashSet<>();
+        final FieldPlan plan = fieldPlans.computeIfAbsent(new FieldPlanKey(value.schema(), type, fields),
+                key -> FieldPlan.of(this, value.schema(), type, fields));
 
-        if (!fields.isEmpty()) {
-            for (String field : fields) {
-                if (field.startsWith(FIELD_SOURCE_PREFIX)) {
-                    sourceFields.add(field.substring(FIELD_SOURCE_PREFIX.length()));
-                }
-                else if (field.startsWith(FIELD_BEFORE_PREFIX)) {
-                    beforeFields.add(field.substring(FIELD_BEFORE_PREFIX.length()));
-                }
-                else if (field.startsWith(FIELD_AFTER_PREFIX)) {
-                    afterFields.add(field.substring(FIELD_AFTER_PREFIX.length()));
-                }
-                else {
-                    beforeFields.add(field);
-                    afterFields.add(field);
-                }
+        if (plan.beforeFields.length > 0) {
+            Struct before = getStruct(value, FieldName.BEFORE);
+            if (before != null) {
+                handleValueForFields(FieldName.BEFORE, before, plan.beforeFields);
             }
         }
-
-        if (before != null) {
-            handleValueForFields(FieldName.BEFORE, before, type, beforeFields);
+        if (plan.afterFields.length > 0) {
+            Struct after = getStruct(value, FieldName.AFTER);
+            if (after != null) {
+                handleValueForFields(FieldName.AFTER, after, plan.afterFields);
+            }
         }
-        if (after != null) {
-            handleValueForFields(FieldName.AFTER, after, type, afterFields);
+        if (plan.sourceFields.length > 0) {
+            Struct source = getStruct(value, FieldName.SOURCE);
+            if (source != null) {
+                handleValueForFields(FieldName.SOURCE, source, plan.sourceFields);
+            }
         }
-        if (source != null && !sourceFields.isEmpty()) {
-            handleValueForFields(FieldName.SOURCE, source, type, sourceFields);
+    }
+
+    private void handleValueForFields(String valueFieldName, Struct value, org.apache.kafka.connect.data.Field[] fields) {
+        for (org.apache.kafka.connect.data.Field field : fields) {
+            if (value.get(field) != null) {
+                handleValueForField(valueFieldName, value, field);
+            }
         }
     }
 
-    private void handleValueForFields(String valueFieldName, Struct value, Type type, Set<String> fields) {
-        Schema schema = value.schema();
+    /**
+     * Resolves the fields of the given struct schema that are subject to the timezone conversion.
+     */
+    private org.apache.kafka.connect.data.Field[] resolveFields(String valueFieldName, Schema schema, Type type, Set<String> fields) {
+        final List<org.apache.kafka.connect.data.Field> resolved = new ArrayList<>();
         for (org.apache.kafka.connect.data.Field field : schema.fields()) {
             String schemaName = field.schema().name();
 
@@ -381,11 +385,10 @@ private void handleValueForFields(String valueFieldName, Struct value, Type type
             }
 
             if (shouldIncludeField && (supportedLogicalType || isEpochType)) {
-                if (value.get(field) != null) {
-                    handleValueForField(valueFieldName, value, field);
-                }
+                resolved.add(field);
             }
         }
+        return resolved.toArray(new org.apache.kafka.connect.data.Field[0]);
     }
 
     private boolean isEpochType(String structFieldName, org.apache.kafka.connect.data.Field field) {
@@ -395,17 +398,17 @@ private boolean isEpochType(String structFieldName, org.apache.kafka.connect.dat
     private void handleValueForField(String valueFieldName, Struct value, org.apache.kafka.connect.data.Field field) {
         String fieldName = field.name();
         Schema schema = field.schema();
-        Object fieldValue = value.get(fieldName);
+        Object fieldValue = value.get(field);
         Object newValue = fieldValue;
         if (fieldValue != null) {
             if (schema.name() != null) {
-                newValue = getTimestampWithTimezone(schema.name(), value.get(fieldName));
+                newValue = getTimestampWithTimezone(schema.name(), fieldValue);
             }
-            else if (schema.name() == null && isEpochType(valueFieldName, field)) {
+            else if (isEpochType(valueFieldName, field)) {
                 newValue = getEpochWithTimezone(fieldName, fieldValue);
             }
         }
-        value.put(fieldName, newValue);
+        value.put(field, newValue);
     }
 
     private Long getEpochWithTimezone(String fieldName, Object fieldValue) {
@@ -422,7 +425,6 @@ private Long getEpochWithTimezone(String fieldName, Object fieldValue) {
     }
 
     private Instant getConvertedInstant(Instant value) {
-        final ZoneId zoneId = ZoneId.of(convertedTimezone);
         return value.plusSeconds(zoneId.getRules().getOffset(value).getTotalSeconds());
     }
 
@@ -445,6 +447,97 @@ private String getTableFromSource(Struct value) {
         return null;
     }
 
+    /**
+     * Identifies a {@link FieldPlan}. The envelope schema is compared by identity as connectors reuse the same
+     * {@link Schema} instance for all events of a given table schema version, and a deep comparison would cost
+     * as much as the plan saves. The field set is one of the configured sets and hence also compared by identity.
+     */
+    private static final class FieldPlanKey {
+        private final Schema schema;
+        private final Type type;
+        private final Set<String> fields;
+        private final int hashCode;
+
+        FieldPlanKey(Schema schema, Type type, Set<String> fields) {
+            this.schema = schema;
+            this.type = type;
+            this.fields = fields;
+            this.hashCode = 31 * (31 * System.identityHashCode(schema) + type.hashCode()) + System.identityHashCode(fields);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FieldPlanKey)) {
+                return false;
+            }
+            final FieldPlanKey other = (FieldPlanKey) o;
+            return schema == other.schema && type == other.type && fields == other.fields;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The fields of the {@code before}, {@code after} and {@code source} blocks of an envelope schema that are
+     * subject to the conversion, resolved once per schema so that each record only iterates over these fields.
+     */
+    private static final class FieldPlan {
+        private static final org.apache.kafka.connect.data.Field[] NO_FIELDS = new org.apache.kafka.connect.data.Field[0];
+
+        private final org.apache.kafka.connect.data.Field[] beforeFields;
+        private final org.apache.kafka.connect.data.Field[] afterFields;
+        private final org.apache.kafka.connect.data.Field[] sourceFields;
+
+        private FieldPlan(org.apache.kafka.connect.data.Field[] beforeFields, org.apache.kafka.connect.data.Field[] afterFields,
+                          org.apache.kafka.connect.data.Field[] sourceFields) {
+            this.beforeFields = beforeFields;
+            this.afterFields = afterFields;
+            this.sourceFields = sourceFields;
+        }
+
+        static FieldPlan of(TimezoneConverter<?> converter, Schema schema, Type type, Set<String> fields) {
+            final Set<String> beforeFields = new HashSet<>();
+            final Set<String> afterFields = new HashSet<>();
+            final Set<String> sourceFields = new HashSet<>();
+
+            for (String field : fields) {
+                if (field.startsWith(FIELD_SOURCE_PREFIX)) {
+                    sourceFields.add(field.substring(FIELD_SOURCE_PREFIX.length()));
+                }
+                else if (field.startsWith(FIELD_BEFORE_PREFIX)) {
+                    beforeFields.add(field.substring(FIELD_BEFORE_PREFIX.length()));
+                }
+                else if (field.startsWith(FIELD_AFTER_PREFIX)) {
+                    afterFields.add(field.substring(FIELD_AFTER_PREFIX.length()));
+                }
+                else {
+                    beforeFields.add(field);
+                    afterFields.add(field);
+                }
+            }
+
+            return new FieldPlan(
+                    resolve(converter, schema, FieldName.BEFORE, type, beforeFields),
+                    resolve(converter, schema, FieldName.AFTER, type, afterFields),
+                    sourceFields.isEmpty() ? NO_FIELDS : resolve(converter, schema, FieldName.SOURCE, type, sourceFields));
+        }
+
+        private static org.apache.kafka.connect.data.Field[] resolve(TimezoneConverter<?> converter, Schema schema, String structName,
+                                                                     Type type, Set<String> fields) {
+            final org.apache.kafka.connect.data.Field structField = schema.field(structName);
+            if (structField == null || structField.schema().type() != Schema.Type.STRUCT) {
+                return NO_FIELDS;
+            }
+            return converter.resolveFields(structName, structField.schema(), type, fields);
+        }
+    }
+
     private static class FieldItem {
         private final String prefix;
         private final String matchName;
@@ -946,4 +946,60 @@ public void testEpochTimezoneConversion() {
         assertThat(transformedSource.getInt64("ts_us")).isEqualTo(1762672421071088L);
         assertThat(transformedSource.getInt64("random")).isEqualTo(125L);
     }
+
+    @Test
+    public void testSchemaChangeBetweenRecords() {
+        final Map<String, String> props = new HashMap<>();
+        props.put("converted.timezone", "+05:30");
+        converter.configure(props);
+
+        final Struct source = new Struct(sourceSchema);
+        source.put("table", "orders");
+        source.put("lsn", 1);
+
+        final Envelope envelope = Envelope.defineSchema()
+                .withName("dummy.Envelope")
+                .withRecord(recordSchema)
+                .withSource(sourceSchema)
+                .build();
+
+        final Struct after = new Struct(recordSchema);
+        after.put("id", (byte) 1);
+        after.put("name", "Srikanth");
+        after.put("order_date_timestamp", 1514908810123L);
+
+        SourceRecord transformedRecord = converter.apply(new SourceRecord(
+                new HashMap<>(),
+                new HashMap<>(),
+                "db.server1.table1",
+                envelope.schema(),
+                envelope.create(after, source, Instant.now())));
+        assertThat(((Struct) transformedRecord.value()).getStruct(Envelope.FieldName.AFTER).get("order_date_timestamp")).isEqualTo(1514889010123L);
+
+        final Schema evolvedRecordSchema = SchemaBuilder.struct().optional()
+                .field("id", Schema.INT8_SCHEMA)
+                .field("delivery_date_timestamp", Timestamp.builder().optional().build())
+                .field("order_date_timestamp", Timestamp.builder().optional().build())
+                .build();
+        final Envelope evolvedEnvelope = Envelope.defineSchema()
+                .withName("dummy.Envelope")
+                .withRecord(evolvedRecordSchema)
+                .withSource(sourceSchema)
+                .build();
+
+        final Struct evolvedAfter = new Struct(evolvedRecordSchema);
+        evolvedAfter.put("id", (byte) 2);
+        evolvedAfter.put("delivery_date_timestamp", 1514908810123L);
+        evolvedAfter.put("order_date_timestamp", 1514908810123L);
+
+        transformedRecord = converter.apply(new SourceRecord(
+                new HashMap<>(),
+                new HashMap<>(),
+                "db.server1.table1",
+                evolvedEnvelope.schema(),
+                evolvedEnvelope.create(evolvedAfter, source, Instant.now())));
+        final Struct transformedAfter = ((Struct) transformedRecord.value()).getStruct(Envelope.FieldName.AFTER);
+        assertThat(transformedAfter.get("delivery_date_timestamp")).isEqualTo(1514889010123L);
+        assertThat(transformedAfter.get("order_date_timestamp")).isEqualTo(1514889010123L);
+    }
 }
@@ -92,7 +92,8 @@ public BinlogDatabaseSchema(BinlogConnectorConfig connectorConfig,
                         connectorConfig.getSourceInfoStructMaker().schema(),
                         connectorConfig.getFieldNamer(),
                         false,
-                        connectorConfig.getEventConvertingFailureHandlingMode()),
+                        connectorConfig.getEventConvertingFailureHandlingMode(),
+                        connectorConfig.getStructGeneratorMode()),
                 tableIdCaseInsensitive,
                 connectorConfig.getKeyMapper(), taskContext);
         this.ddlParser = createDdlParser(connectorConfig, valueConverter);
@@ -2271,6 +2271,23 @@ void shouldParseGrantStatementWithoutSpecifiedHostName() {
         assertThat(listener.total()).isEqualTo(0);
     }
 
+    @Test
+    void shouldSkipStatementsWhichCannotChangeTables() {
+        parser.parse("FLUSH PRIVILEGES", tables);
+        parser.parse("/* no statement */ -- at all", tables);
+        parser.parse("REVOKE INSERT ON *.* FROM 'jeffrey'@'localhost';", tables);
+        assertThat(tables.size()).isEqualTo(0);
+        assertThat(listener.total()).isEqualTo(0);
+
+        // a skippable statement followed by other statements must be parsed
+        parser.parse("GRANT ALL PRIVILEGES ON db.* TO 'jeffrey'@'localhost'; CREATE TABLE t1 (id INT PRIMARY KEY)", tables);
+        assertThat(tables.size()).isEqualTo(1);
+
+        // statements changing the parsing context must not be skipped
+        parser.parse("SET character_set_client = latin1", tables);
+        assertVariable("character_set_client", "latin1");
+    }
+
     @Test
     void shouldParseSetOfOneVariableStatementWithoutTerminator() {
         String ddl = "set character_set_client=utf8";
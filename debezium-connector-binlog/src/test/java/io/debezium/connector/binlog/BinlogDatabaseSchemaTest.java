@@ -26,6 +26,7 @@
 import io.debezium.doc.FixFor;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.pipeline.spi.Offsets;
+import io.debezium.relational.RelationalDatabaseConnectorConfig;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.TableSchema;
@@ -219,6 +220,46 @@ void shouldLoadSystemAndNonSystemTablesAndConsumeAllDatabases() throws Interrupt
         assertHistoryRecorded(config, partition, offset);
     }
 
+    @Test
+    void shouldBuildTableSchemasLazily() throws InterruptedException {
+        final Configuration config = DATABASE.defaultConfig()
+                .with(RelationalDatabaseConnectorConfig.TABLE_SCHEMA_BUILD_MODE, RelationalDatabaseConnectorConfig.TableSchemaBuildMode.LAZY)
+                .with(RelationalDatabaseConnectorConfig.TABLE_SCHEMA_CACHE_SIZE, 2)
+                .build();
+        schema = getSchema(config);
+        schema.initializeStorage();
+        final P partition = initializePartition(connectorConfig, config);
+        final O offset = initializeOffset(connectorConfig);
+
+        offset.setBinlogStartPoint("binlog.001", 400);
+        schema.parseStreamingDdl(partition, "SET " + BinlogSystemVariables.CHARSET_NAME_SERVER + "=utf8mb4", null,
+                offset, Instant.now()).forEach(x -> schema.applySchemaChange(x));
+        schema.parseStreamingDdl(partition, ddlStatements, "db1",
+                offset, Instant.now()).forEach(x -> schema.applySchemaChange(x));
+
+        // schemas are built on demand, also after being evicted from the cache
+        final TableId products = TableId.parse("connector_test.products");
+        assertTableIncluded("connector_test.products");
+        final TableSchema productsSchema = schema.schemaFor(products);
+        assertTableIncluded("connector_test.products_on_hand");
+        assertTableIncluded("connector_test.customers");
+        assertTableIncluded("connector_test.orders");
+        assertTableIncluded("connector_test.products");
+        assertTableExcluded("connector_test.unknown");
+
+        // a rebuilt schema keeps using the Kafka Connect schemas built before
+        final TableSchema rebuiltProductsSchema = schema.schemaFor(products);
+        assertThat(rebuiltProductsSchema.keySchema()).isSameAs(productsSchema.keySchema());
+        assertThat(rebuiltProductsSchema.valueSchema()).isSameAs(productsSchema.valueSchema());
+        assertThat(rebuiltProductsSchema.getEnvelopeSchema()).isSameAs(productsSchema.getEnvelopeSchema());
+
+        // a changed table definition replaces the schema built before
+        assertThat(schema.schemaFor(products).valueSchema().field("extra")).isNull();
+        schema.parseStreamingDdl(partition, "ALTER TABLE connector_test.products ADD COLUMN extra INT", "connector_test",
+                offset, Instant.now()).forEach(x -> schema.applySchemaChange(x));
+        assertThat(schema.schemaFor(products).valueSchema().field("extra")).isNotNull();
+    }
+
     @Test
     void shouldAllowDecimalPrecision() throws InterruptedException {
         // Testing.Print.enable();
@@ -31,10 +31,14 @@ void beforeEach() {
     @Override
     protected SchemaHistory createHistory() {
         SchemaHistory history = new FileSchemaHistory();
-        history.configure(Configuration.create()
-                .with(FileSchemaHistory.FILE_PATH, TEST_FILE_PATH.toAbsolutePath().toString())
+        history.configure(configure(Configuration.create()
+                .with(FileSchemaHistory.FILE_PATH, TEST_FILE_PATH.toAbsolutePath().toString()))
                 .build(), null, SchemaHistoryMetrics.NOOP, true);
         history.start();
         return history;
     }
+
+    protected Configuration.Builder configure(Configuration.Builder config) {
+        return config;
+    }
 }
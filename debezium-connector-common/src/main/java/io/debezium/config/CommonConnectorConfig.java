@@ -20,6 +20,7 @@
 import java.util.Optional;
 import java.util.Properties;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,6 +44,7 @@
 import io.debezium.connector.SourceInfoStructMaker;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.Operation;
+import io.debezium.function.Predicates;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.heartbeat.HeartbeatConnectionProvider;
 import io.debezium.heartbeat.HeartbeatErrorHandler;
@@ -520,6 +522,71 @@ public static GuardrailCollectionsLimitAction parse(String value, String default
         }
     }
 
+    /**
+     * The set of predefined latency histogram options.
+     */
+    public enum LatencyHistograms implements EnumeratedValue {
+        /**
+         * No latency histograms are recorded.
+         */
+        NONE("none"),
+
+        /**
+         * A latency histogram is recorded for each stage of the event pipeline.
+         */
+        STAGE("stage"),
+
+        /**
+         * In addition to the histograms of each stage, the latencies of the table scoped stages are recorded per table.
+         */
+        TABLE("table");
+
+        private final String value;
+
+        LatencyHistograms(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static LatencyHistograms parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (LatencyHistograms option : LatencyHistograms.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static LatencyHistograms parse(String value, String defaultValue) {
+            LatencyHistograms option = parse(value);
+            if (option == null && defaultValue != null) {
+                option = parse(defaultValue);
+            }
+            return option;
+        }
+    }
+
     public enum EventConvertingFailureHandlingMode implements EnumeratedValue {
         /**
          * Problematic events will be skipped.
@@ -917,6 +984,18 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     "This may not be ideal for larger tables, and using the multiplier, the formula is adjusted to increase the " +
                     "number of chunks by using 'row_count/(snapshot.max.threads * snapshot.max.threads.multiplier).");
 
+    public static final Field SNAPSHOT_PREFETCH_BATCHES = Field.create("snapshot.prefetch.batches")
+            .withDisplayName("Snapshot prefetch batches")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 23))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The number of batches of rows that each snapshot thread fetches ahead of the rows being converted into change events. " +
+                    "When set to a positive value, a separate thread reads the rows of each snapshot query while the snapshot thread converts them, " +
+                    "so that the database and the connector work in parallel. Defaults to 0, which reads and converts the rows on the same thread.");
+
     public static final Field LEGACY_SNAPSHOT_MAX_THREADS = Field.createInternal("legacy.snapshot.max.threads")
             .withDisplayName("Enforces using a single thread per table regardless of table size")
             .withType(Type.BOOLEAN)
@@ -1460,6 +1539,43 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     "'warn' (the default) logs a warning message and continues processing; " +
                     "'fail' stops the connector with an error.");
 
+    public static final Field LATENCY_HISTOGRAMS = Field.create("latency.histograms")
+            .withDisplayName("Latency histograms")
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 49))
+            .withEnum(LatencyHistograms.class, LatencyHistograms.NONE)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify which latency histograms of the event pipeline are recorded and exposed as metrics: "
+                    + "'none' (the default) records no histograms; "
+                    + "'stage' records a histogram for each pipeline stage, i.e. source commit to read, read to enqueue, queue dwell time "
+                    + "and poll to commit; "
+                    + "'table' additionally records the source commit to read and read to enqueue stages per table.");
+
+    public static final Field CONFLATION_INCLUDE_LIST = Field.create("conflation.include.list")
+            .withDisplayName("Conflated data collections")
+            .withType(Type.LIST)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 50))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isListOfRegex)
+            .withDescription("A comma-separated list of regular expressions matching the fully-qualified names of the data collections "
+                    + "whose streamed change events are conflated: within the conflation window, only the newest change event "
+                    + "of each key is emitted, a delete being emitted together with its tombstone. "
+                    + "Events of data collections without a key, and events carrying transaction metadata, are never conflated. "
+                    + "By default, no data collections are conflated.");
+
+    public static final Field CONFLATION_WINDOW_MS = Field.create("conflation.window.ms")
+            .withDisplayName("Conflation window (ms)")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED, 51))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The maximum time, in milliseconds, a change event of a conflated data collection is held back "
+                    + "to be replaced by a newer change event of the same key. The window also ends as soon as a batch of "
+                    + "'max.batch.size' distinct keys is held, or when any other event is enqueued. Defaults to 1000 ms.")
+            .withDefault(1000L)
+            .withValidation(Field::isPositiveLong);
+
     protected static final ConfigDefinition CONFIG_DEFINITION = ConfigDefinition.editor()
             .connector(
                     EVENT_PROCESSING_FAILURE_HANDLING_MODE,
@@ -1475,6 +1591,7 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     SNAPSHOT_FETCH_SIZE,
                     SNAPSHOT_MAX_THREADS,
                     SNAPSHOT_MAX_THREADS_MULTIPLIER,
+                    SNAPSHOT_PREFETCH_BATCHES,
                     LEGACY_SNAPSHOT_MAX_THREADS,
                     SNAPSHOT_MODE_CUSTOM_NAME,
                     SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_DATA,
@@ -1488,6 +1605,9 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
                     INCREMENTAL_SNAPSHOT_WATERMARKING_STRATEGY,
                     LOG_POSITION_CHECK_ENABLED,
                     ADVANCED_METRICS_ENABLE,
+                    LATENCY_HISTOGRAMS,
+                    CONFLATION_INCLUDE_LIST,
+                    CONFLATION_WINDOW_MS,
                     CONNECTION_VALIDATION_TIMEOUT_MS,
                     EXECUTOR_SHUTDOWN_TIMEOUT_MS,
                     OPEN_LINEAGE_INTEGRATION_ENABLED,
@@ -1534,6 +1654,7 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
     private final boolean incrementalSnapshotAllowSchemaChanges;
     private final int snapshotMaxThreads;
     private final int snapshotMaxThreadsMultiplier;
+    private final int snapshotPrefetchBatches;
     private final boolean legacySnapshotMaxThreads;
 
     private final String snapshotModeCustomName;
@@ -1559,6 +1680,9 @@ public static SnapshotQueryMode parse(String value, String defaultValue) {
     private final String notificationTopicName;
     private final List<String> enabledNotificationChannels;
     private final Map<String, String> customMetricTags;
+    private final LatencyHistograms latencyHistograms;
+    private final Predicate<DataCollectionId> conflatedDataCollections;
+    private final Duration conflationWindow;
     private WatermarkStrategy incrementalSnapshotWatermarkingStrategy;
 
     // Intentionally protected so that subclasses can access internal contracts
@@ -1583,6 +1707,7 @@ protected CommonConnectorConfig(Configuration config, int defaultSnapshotFetchSi
         this.snapshotFetchSize = config.getInteger(SNAPSHOT_FETCH_SIZE, defaultSnapshotFetchSize);
         this.snapshotMaxThreads = config.getInteger(SNAPSHOT_MAX_THREADS);
         this.snapshotMaxThreadsMultiplier = config.getInteger(SNAPSHOT_MAX_THREADS_MULTIPLIER);
+        this.snapshotPrefetchBatches = config.getInteger(SNAPSHOT_PREFETCH_BATCHES);
         this.legacySnapshotMaxThreads = config.getBoolean(LEGACY_SNAPSHOT_MAX_THREADS);
         this.snapshotModeCustomName = config.getString(SNAPSHOT_MODE_CUSTOM_NAME);
         this.queryFetchSize = config.getInteger(QUERY_FETCH_SIZE);
@@ -1617,6 +1742,11 @@ protected CommonConnectorConfig(Configuration config, int defaultSnapshotFetchSi
         this.snapshotModeConfigurationBasedSnapshotOnDataError = config.getBoolean(SNAPSHOT_MODE_CONFIGURATION_BASED_SNAPSHOT_ON_DATA_ERROR);
         this.isLogPositionCheckEnabled = config.getBoolean(LOG_POSITION_CHECK_ENABLED);
         this.isAdvancedMetricsEnabled = config.getBoolean(ADVANCED_METRICS_ENABLE);
+        this.latencyHistograms = LatencyHistograms.parse(config.getString(LATENCY_HISTOGRAMS), LATENCY_HISTOGRAMS.defaultValueAsString());
+        final String conflationIncludeList = config.getString(CONFLATION_INCLUDE_LIST);
+        this.conflatedDataCollections = Strings.isNullOrBlank(conflationIncludeList) ? null
+                : Predicates.includes(conflationIncludeList, DataCollectionId::identifier);
+        this.conflationWindow = Duration.ofMillis(config.getLong(CONFLATION_WINDOW_MS));
         this.isExtendedHeadersEnabled = config.getBoolean(EXTENDED_HEADERS_ENABLED);
         this.guardrailCollectionsMax = config.getInteger(GUARDRAIL_COLLECTIONS_MAX);
         this.guardrailCollectionsLimitAction = GuardrailCollectionsLimitAction.parse(config.getString(GUARDRAIL_COLLECTIONS_LIMIT_ACTION));
@@ -1747,6 +1877,10 @@ public int getSnapshotMaxThreadsMultiplier() {
         return snapshotMaxThreadsMultiplier;
     }
 
+    public int getSnapshotPrefetchBatches() {
+        return snapshotPrefetchBatches;
+    }
+
     public int getSnapshotMaxThreadsTableMultiplierAsInteger(TableId tableId) {
         final String key = SNAPSHOT_MAX_THREADS_MULTIPLIER.name() + "." + tableId.identifier();
         return getSnapshotMaxThreadsTableMultiplierAsInteger(config, key);
@@ -2123,6 +2257,22 @@ public boolean isLogPositionCheckEnabled() {
         return isLogPositionCheckEnabled;
     }
 
+    public LatencyHistograms getLatencyHistograms() {
+        return latencyHistograms;
+    }
+
+    /**
+     * Returns the window within which the streamed change events of conflated data collections are conflated,
+     * or {@code null} if no data collections are conflated.
+     */
+    public Duration getConflationWindow() {
+        return conflatedDataCollections != null ? conflationWindow : null;
+    }
+
+    public boolean isConflated(DataCollectionId dataCollectionId) {
+        return conflatedDataCollections != null && conflatedDataCollections.test(dataCollectionId);
+    }
+
     public boolean isAdvancedMetricsEnabled() {
         return isAdvancedMetricsEnabled;
     }
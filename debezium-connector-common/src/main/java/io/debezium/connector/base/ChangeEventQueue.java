@@ -8,11 +8,11 @@
 import static io.debezium.util.Loggings.maybeRedactSensitiveData;
 
 import java.time.Duration;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
@@ -26,8 +26,10 @@
 
 import io.debezium.annotation.SingleThreadAccess;
 import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig.LatencyHistograms;
 import io.debezium.config.ConfigurationDefaults;
 import io.debezium.pipeline.Sizeable;
+import io.debezium.pipeline.meters.LatencyMeter;
 import io.debezium.time.Temporals;
 import io.debezium.util.Clock;
 import io.debezium.util.LoggingContext;
@@ -46,6 +48,11 @@
  * to {@link #enqueue(T)} will block until elements have been removed from
  * the queue.
  * <p>
+ * If a conflation window is configured, the records enqueued via {@link #enqueueConflated(Object, Sizeable, Sizeable)}
+ * are held back for up to that window, a record being dropped when a newer record of the same key is enqueued
+ * before it has been polled. Any record enqueued otherwise ends the window, so that records are always polled in
+ * the order of the positions of their surviving records and offsets are never committed past a held back record.
+ * <p>
  * If an exception occurs on the producer side, the producer should make that
  * exception known by calling {@link #producerException(RuntimeException)} before stopping its
  * operation. Upon the next call to {@link #poll()}, that exception will be
@@ -76,9 +83,25 @@
 
     private final QueueProvider<T> queue;
     private final Supplier<PreviousContext> loggingContextSupplier;
-    private final Queue<Long> sizeInBytesQueue;
     private long currentQueueSizeInBytes = 0;
 
+    private final LatencyMeter latencyMeter;
+
+    // Per record bookkeeping kept in ring buffers parallel to the queue, the slot of the oldest queued record
+    // being ringHead; the sizes are null unless max.queue.size.in.bytes is set, the enqueue times are null
+    // unless latency histograms are enabled
+    private final long[] sizesInBytes;
+    private final long[] enqueueNanos;
+    private final boolean tracksRecords;
+    private int ringHead = 0;
+
+    // The conflated records held back in the order of their newest record, null unless a conflation window is set
+    private final LinkedHashMap<Object, ConflatedChange<T>> conflatedChanges;
+    private final long conflationWindowNanos;
+    private long conflationStartNanos;
+    private volatile long conflatableRecords;
+    private volatile long conflatedRecords;
+
     // Sometimes it is necessary to update the record before it is delivered depending on the content
     // of the following record. In that cases the easiest solution is to provide a single cell buffer
     // that will allow the modification of it during the explicit flush.
@@ -92,7 +115,8 @@
     private volatile RuntimeException producerException;
 
     private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSize, Supplier<LoggingContext.PreviousContext> loggingContextSupplier,
-                             long maxQueueSizeInBytes, boolean buffering, QueueProvider<T> queueProvider) {
+                             long maxQueueSizeInBytes, boolean buffering, QueueProvider<T> queueProvider, LatencyHistograms latencyHistograms,
+                             Duration conflationWindow) {
         this.pollInterval = pollInterval;
         this.maxBatchSize = maxBatchSize;
         this.maxQueueSize = maxQueueSize;
@@ -102,16 +126,17 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         this.isNotFull = lock.newCondition();
 
         this.loggingContextSupplier = loggingContextSupplier;
-        if (maxQueueSizeInBytes > 0) {
-            this.sizeInBytesQueue = new ArrayDeque<>(maxQueueSize);
-        }
-        else {
-            this.sizeInBytesQueue = new ArrayDeque<>(0);
-        }
+        this.sizesInBytes = maxQueueSizeInBytes > 0 ? new long[maxQueueSize] : null;
 
         this.maxQueueSizeInBytes = maxQueueSizeInBytes;
         this.buffering = buffering;
         this.queue = queueProvider;
+        this.latencyMeter = latencyHistograms != null ? new LatencyMeter(latencyHistograms) : LatencyMeter.NONE;
+        this.enqueueNanos = latencyMeter.isEnabled() ? new long[maxQueueSize] : null;
+        this.tracksRecords = sizesInBytes != null || enqueueNanos != null;
+        final boolean conflating = conflationWindow != null && !conflationWindow.isZero() && !conflationWindow.isNegative();
+        this.conflatedChanges = conflating ? new LinkedHashMap<>() : null;
+        this.conflationWindowNanos = conflating ? conflationWindow.toNanos() : 0L;
     }
 
     public static class Builder<T extends Sizeable> {
@@ -123,6 +148,8 @@ private ChangeEventQueue(Duration pollInterval, int maxQueueSize, int maxBatchSi
         private long maxQueueSizeInBytes;
         private boolean buffering;
         private QueueProvider<T> queueProvider;
+        private LatencyHistograms latencyHistograms;
+        private Duration conflationWindow;
 
         public Builder<T> pollInterval(Duration pollInterval) {
             this.pollInterval = pollInterval;
@@ -163,6 +190,29 @@ public ChangeEventQueue.Builder<T> queueProvider(QueueProvider<T> queueProvider)
             return this;
         }
 
+        /**
+         * Sets the latency histograms recorded for the events passing through the queue.
+         *
+         * @param latencyHistograms the histograms to record; may be {@code null}, in which case none are recorded
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> latencyHistograms(LatencyHistograms latencyHistograms) {
+            this.latencyHistograms = latencyHistograms;
+            return this;
+        }
+
+        /**
+         * Sets the window within which the records enqueued via {@link ChangeEventQueue#enqueueConflated(Object, Sizeable, Sizeable)}
+         * are conflated.
+         *
+         * @param conflationWindow the conflation window; may be {@code null}, in which case no records are conflated
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> conflationWindow(Duration conflationWindow) {
+            this.conflationWindow = conflationWindow;
+            return this;
+        }
+
         public Builder<T> buffering() {
             this.buffering = true;
             return this;
@@ -170,7 +220,8 @@ public Builder<T> buffering() {
 
         public ChangeEventQueue<T> build() {
             QueueProvider<T> effectiveQueueProvider = (queueProvider != null) ? queueProvider : new DefaultQueueProvider<>(maxQueueSize);
-            return new ChangeEventQueue<>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering, effectiveQueueProvider);
+            return new ChangeEventQueue<>(pollInterval, maxQueueSize, maxBatchSize, loggingContextSupplier, maxQueueSizeInBytes, buffering, effectiveQueueProvider,
+                    latencyHistograms, conflationWindow);
         }
     }
 
@@ -201,9 +252,83 @@ public void enqueue(T record) throws InterruptedException {
             }
         }
 
+        flushConflated();
         doEnqueue(record);
     }
 
+    /**
+     * Enqueues the record of a change of the given key, replacing the record of a previous change of the same key
+     * which has not been polled yet if conflation is enabled. This method will block if the queue is full.
+     *
+     * @param key the key identifying the changed entity, e.g. the topic and the key of the record
+     * @param record the record to be enqueued
+     * @param tombstone the tombstone to be enqueued after the record, which is replaced along with it; may be {@code null}
+     * @throws InterruptedException if this thread has been interrupted
+     */
+    public void enqueueConflated(Object key, T record, T tombstone) throws InterruptedException {
+        if (conflatedChanges == null || buffering) {
+            enqueue(record);
+            enqueue(tombstone);
+            return;
+        }
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        final boolean windowEnded;
+        try {
+            this.lock.lock();
+
+            final ConflatedChange<T> previous = conflatedChanges.remove(key);
+            if (previous != null) {
+                conflatedRecords += previous.size();
+            }
+            if (conflatedChanges.isEmpty()) {
+                conflationStartNanos = System.nanoTime();
+            }
+            final ConflatedChange<T> change = new ConflatedChange<>(record, tombstone);
+            conflatedChanges.put(key, change);
+            conflatableRecords += change.size();
+
+            windowEnded = conflatedChanges.size() >= maxBatchSize || System.nanoTime() - conflationStartNanos >= conflationWindowNanos;
+        }
+        finally {
+            this.lock.unlock();
+        }
+
+        if (windowEnded) {
+            flushConflated();
+        }
+    }
+
+    /**
+     * Moves the held back conflated records into the queue, ahead of any record enqueued after them.
+     */
+    private void flushConflated() throws InterruptedException {
+        if (conflatedChanges == null) {
+            return;
+        }
+        final List<T> records;
+        try {
+            this.lock.lock();
+            if (conflatedChanges.isEmpty()) {
+                return;
+            }
+            records = new ArrayList<>(conflatedChanges.size());
+            for (ConflatedChange<T> change : conflatedChanges.values()) {
+                change.addTo(records);
+            }
+            conflatedChanges.clear();
+        }
+        finally {
+            this.lock.unlock();
+        }
+        for (T record : records) {
+            doEnqueue(record);
+        }
+    }
+
     /**
      * Applies a function to the event and the buffer and adds it to the queue. Buffer is emptied.
      *
@@ -214,6 +339,7 @@ public void flushBuffer(Function<T, T> recordModifier) throws InterruptedExcepti
         assert buffering : "Unsupported for queues with disabled buffering";
         T record = bufferedEvent.getAndSet(null);
         if (record != null) {
+            flushConflated();
             doEnqueue(recordModifier.apply(record));
         }
     }
@@ -238,6 +364,9 @@ protected void doEnqueue(T record) throws InterruptedException {
             LOGGER.trace("Enqueuing source record '{}'", maybeRedactSensitiveData(record));
         }
 
+        // the size only depends on the record, so it is computed before taking the lock
+        final long messageSize = maxQueueSizeInBytes > 0 ? record.objectSize() : 0L;
+
         try {
             this.lock.lock();
 
@@ -248,13 +377,16 @@ protected void doEnqueue(T record) throws InterruptedException {
                 this.isNotFull.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
             }
 
+            final int slot = tracksRecords ? (ringHead + queue.size()) % maxQueueSize : 0;
             queue.enqueue(record);
             // If we pass a positiveLong max.queue.size.in.bytes to enable handling queue size in bytes feature
-            if (maxQueueSizeInBytes > 0) {
-                long messageSize = record.objectSize();
-                sizeInBytesQueue.add(messageSize);
+            if (sizesInBytes != null) {
+                sizesInBytes[slot] = messageSize;
                 currentQueueSizeInBytes += messageSize;
             }
+            if (enqueueNanos != null) {
+                enqueueNanos[slot] = System.nanoTime();
+            }
 
             // batch size or queue sizeInBytes threshold reached
             if (queue.size() >= maxBatchSize || (maxQueueSizeInBytes > 0 && currentQueueSizeInBytes >= maxQueueSizeInBytes)) {
@@ -316,6 +448,7 @@ public List<T> poll() throws InterruptedException {
     private long drainRecords(List<T> records, int maxElements) throws InterruptedException {
         int queueSize = queue.size();
         if (queueSize == 0) {
+            drainConflated(records);
             return records.size();
         }
         int recordsToDrain = Math.min(queueSize, maxElements);
@@ -324,16 +457,44 @@ private long drainRecords(List<T> records, int maxElements) throws InterruptedEx
             T record = queue.poll();
             drainedRecords[i] = record;
         }
-        if (maxQueueSizeInBytes > 0) {
+        if (sizesInBytes != null) {
+            for (int i = 0; i < recordsToDrain; i++) {
+                currentQueueSizeInBytes -= sizesInBytes[(ringHead + i) % maxQueueSize];
+            }
+        }
+        if (enqueueNanos != null) {
+            final long now = System.nanoTime();
             for (int i = 0; i < recordsToDrain; i++) {
-                Long objectSize = sizeInBytesQueue.poll();
-                currentQueueSizeInBytes -= (objectSize == null ? 0L : objectSize);
+                latencyMeter.onDequeued(enqueueNanos[(ringHead + i) % maxQueueSize], now);
             }
         }
+        if (tracksRecords) {
+            ringHead = (ringHead + recordsToDrain) % maxQueueSize;
+        }
         records.addAll(Arrays.asList(drainedRecords));
         return records.size();
     }
 
+    /**
+     * Adds the held back conflated records to the batch once their window has ended; they are newer than all the
+     * queued records, so this is only done once the queue has been drained.
+     */
+    private void drainConflated(List<T> records) {
+        if (conflatedChanges == null || conflatedChanges.isEmpty() || queue.size() > 0
+                || System.nanoTime() - conflationStartNanos < conflationWindowNanos) {
+            return;
+        }
+        final Iterator<ConflatedChange<T>> changes = conflatedChanges.values().iterator();
+        while (changes.hasNext()) {
+            final ConflatedChange<T> change = changes.next();
+            if (!records.isEmpty() && records.size() + change.size() > maxBatchSize) {
+                break;
+            }
+            change.addTo(records);
+            changes.remove();
+        }
+    }
+
     public void producerException(final RuntimeException producerException) {
         this.producerException = producerException;
     }
@@ -364,7 +525,47 @@ public long currentQueueSizeInBytes() {
         return currentQueueSizeInBytes;
     }
 
+    @Override
+    public LatencyMeter latencyMeter() {
+        return latencyMeter;
+    }
+
+    @Override
+    public long conflatableRecords() {
+        return conflatableRecords;
+    }
+
+    @Override
+    public long conflatedRecords() {
+        return conflatedRecords;
+    }
+
     public boolean isBuffered() {
         return buffering;
     }
+
+    /**
+     * The record of a change held back for conflation, along with its tombstone.
+     */
+    private static final class ConflatedChange<T> {
+
+        private final T record;
+        private final T tombstone;
+
+        ConflatedChange(T record, T tombstone) {
+            this.record = record;
+            this.tombstone = tombstone;
+        }
+
+        int size() {
+            return tombstone != null ? 2 : 1;
+        }
+
+        void addTo(List<T> records) {
+            records.add(record);
+            if (tombstone != null) {
+                records.add(tombstone);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.base;
 
+import io.debezium.pipeline.meters.LatencyMeter;
+
 public interface ChangeEventQueueMetrics {
 
     int totalCapacity();
@@ -14,4 +16,22 @@ public interface ChangeEventQueueMetrics {
     long maxQueueSizeInBytes();
 
     long currentQueueSizeInBytes();
+
+    default LatencyMeter latencyMeter() {
+        return LatencyMeter.NONE;
+    }
+
+    /**
+     * Returns the number of records enqueued for conflation.
+     */
+    default long conflatableRecords() {
+        return 0L;
+    }
+
+    /**
+     * Returns the number of records dropped by conflation, having been replaced by a newer record of the same key.
+     */
+    default long conflatedRecords() {
+        return 0L;
+    }
 }
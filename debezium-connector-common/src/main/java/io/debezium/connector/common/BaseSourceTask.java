@@ -46,6 +46,7 @@
 import io.debezium.openlineage.DebeziumOpenLineageEmitter;
 import io.debezium.pipeline.ChangeEventSourceCoordinator;
 import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.meters.LatencyMeter;
 import io.debezium.pipeline.notification.channels.NotificationChannel;
 import io.debezium.pipeline.signal.channels.SignalChannelReader;
 import io.debezium.pipeline.signal.channels.process.SignalChannelWriter;
@@ -359,6 +360,9 @@ public final List<SourceRecord> poll() throws InterruptedException {
 
             final List<SourceRecord> records = doPoll();
             logStatistics(records);
+            if (records != null) {
+                latencyMeter().onBatchPolled(records.size());
+            }
 
             resetErrorHandlerRetriesIfNeeded(records);
 
@@ -556,6 +560,13 @@ public void commitRecord(SourceRecord record, RecordMetadata metadata) throws In
         if (currentOffset != null) {
             updateLastOffset(record.sourcePartition(), currentOffset);
         }
+        latencyMeter().onRecordCommitted();
+    }
+
+    private LatencyMeter latencyMeter() {
+        final ChangeEventSourceCoordinator<P, O> current = coordinator;
+        final LatencyMeter latencyMeter = current != null ? current.getLatencyMeter() : null;
+        return latencyMeter != null ? latencyMeter : LatencyMeter.NONE;
     }
 
     @Override
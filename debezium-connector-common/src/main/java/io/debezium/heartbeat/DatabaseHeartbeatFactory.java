@@ -7,12 +7,14 @@
 package io.debezium.heartbeat;
 
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
 import io.debezium.util.Strings;
+import io.debezium.util.Threads;
 
 public class DatabaseHeartbeatFactory implements DebeziumHeartbeatFactory {
     @Override
@@ -22,10 +24,18 @@ public Optional<Heartbeat> getHeartbeat(CommonConnectorConfig connectorConfig,
                                             ChangeEventQueue<DataChangeEvent> queue) {
         if (connectorConfig instanceof RelationalDatabaseConnectorConfig relConfig) {
             if (!Strings.isNullOrBlank(relConfig.getHeartbeatActionQuery())) {
+                final boolean async = relConfig.isHeartbeatActionQueryAsync() && !relConfig.getHeartbeatInterval().isZero();
+                final ScheduledExecutorService executor = async
+                        ? Threads.newSingleThreadScheduledExecutor(DatabaseHeartbeatImpl.class, relConfig.getLogicalName(), "heartbeat-action", true)
+                        : null;
+
                 return Optional.of(new DatabaseHeartbeatImpl(
                         connectionProvider.get(),
                         relConfig.getHeartbeatActionQuery(),
-                        errorHandler));
+                        errorHandler,
+                        new HeartbeatMetrics(relConfig),
+                        executor,
+                        relConfig.getHeartbeatInterval()));
             }
         }
 
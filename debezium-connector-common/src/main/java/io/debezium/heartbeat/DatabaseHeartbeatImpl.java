@@ -6,7 +6,10 @@
 package io.debezium.heartbeat;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -17,13 +20,20 @@
 import io.debezium.function.BlockingConsumer;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.util.Clock;
 
 /**
  *  Implementation of the heartbeat feature that allows for a DB query to be executed with every heartbeat.
+ *  <p>
+ *  By default the query is executed synchronously by the thread emitting the heartbeat. When an executor is given, the
+ *  query is instead executed periodically on that executor, so that a slow heartbeat action query does not delay the
+ *  streaming of changes; the heartbeat record itself is still emitted by the streaming thread.
  */
 public class DatabaseHeartbeatImpl implements Heartbeat {
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseHeartbeatImpl.class);
 
+    private static final Duration EXECUTOR_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
     public static final String HEARTBEAT_ACTION_QUERY_PROPERTY_NAME = "heartbeat.action.query";
 
     public static final Field HEARTBEAT_ACTION_QUERY = Field.create(HEARTBEAT_ACTION_QUERY_PROPERTY_NAME)
@@ -34,15 +44,56 @@ public class DatabaseHeartbeatImpl implements Heartbeat {
             .withImportance(ConfigDef.Importance.LOW)
             .withDescription("The query executed with every heartbeat.");
 
+    public static final Field HEARTBEAT_ACTION_QUERY_ASYNC = Field.create("heartbeat.action.query.async")
+            .withDisplayName("Execute the heartbeat action query asynchronously")
+            .withType(ConfigDef.Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.ADVANCED_HEARTBEAT, 3))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(false)
+            .withDescription("Whether the heartbeat action query should be executed on a dedicated thread every 'heartbeat.interval.ms' "
+                    + "instead of by the streaming thread with every heartbeat. "
+                    + "The heartbeat messages are still emitted by the streaming thread, so a slow or blocked heartbeat action query "
+                    + "no longer delays the streaming of changes.");
+
     private final String heartBeatActionQuery;
     private final JdbcConnection jdbcConnection;
     private final HeartbeatErrorHandler errorHandler;
+    private final HeartbeatMetrics metrics;
+    private final ScheduledExecutorService executor;
+    private final Clock clock = Clock.system();
+
+    /**
+     * The error raised by the error handler on the executor, rethrown by the streaming thread with the next heartbeat.
+     */
+    private volatile RuntimeException asyncFailure;
 
     public DatabaseHeartbeatImpl(JdbcConnection jdbcConnection, String heartBeatActionQuery,
                                  HeartbeatErrorHandler errorHandler) {
+        this(jdbcConnection, heartBeatActionQuery, errorHandler, null, null, null);
+    }
+
+    /**
+     * @param metrics the metrics updated with every execution of the query, may be {@code null}
+     * @param executor the executor running the query every {@code interval}, {@code null} to run the query with every heartbeat
+     * @param interval the interval between the end of an execution of the query and the start of the next one
+     */
+    public DatabaseHeartbeatImpl(JdbcConnection jdbcConnection, String heartBeatActionQuery,
+                                 HeartbeatErrorHandler errorHandler, HeartbeatMetrics metrics,
+                                 ScheduledExecutorService executor, Duration interval) {
         this.heartBeatActionQuery = heartBeatActionQuery;
         this.jdbcConnection = jdbcConnection;
         this.errorHandler = errorHandler;
+        this.metrics = metrics;
+        this.executor = executor;
+
+        if (metrics != null) {
+            metrics.register();
+        }
+        if (executor != null) {
+            // with a fixed delay the executions never overlap, even if a query takes longer than the interval
+            executor.scheduleWithFixedDelay(this::executeAsync, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
@@ -52,17 +103,45 @@ public boolean isEnabled() {
 
     @Override
     public void forcedBeat(Map<String, ?> partition, Map<String, ?> offset, BlockingConsumer<SourceRecord> consumer) {
+        if (executor != null) {
+            final RuntimeException failure = asyncFailure;
+            if (failure != null) {
+                throw failure;
+            }
+            return;
+        }
+        execute();
+    }
+
+    private void executeAsync() {
+        try {
+            execute();
+        }
+        catch (RuntimeException e) {
+            // stops the scheduling of further executions, the failure is handed over to the streaming thread
+            asyncFailure = e;
+            throw e;
+        }
+    }
+
+    private void execute() {
+        final long start = clock.currentTimeInNanos();
         try {
             jdbcConnection.execute(heartBeatActionQuery);
+            if (metrics != null) {
+                metrics.onActionQueryExecuted(Duration.ofNanos(clock.currentTimeInNanos() - start));
+            }
         }
         catch (SQLException e) {
+            if (metrics != null) {
+                metrics.onActionQueryFailed(Duration.ofNanos(clock.currentTimeInNanos() - start));
+            }
             if (errorHandler != null) {
                 errorHandler.onError(e);
             }
             LOGGER.error("Could not execute heartbeat action (Error: {})", e.getSQLState(), e);
         }
         LOGGER.debug("Executed heartbeat action query");
-
     }
 
     @Override
@@ -72,6 +151,20 @@ public void emit(Map<String, ?> partition, OffsetContext offset) throws Interrup
 
     @Override
     public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                if (!executor.awaitTermination(EXECUTOR_SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("The heartbeat action query did not complete within {}", EXECUTOR_SHUTDOWN_TIMEOUT);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (metrics != null) {
+            metrics.unregister();
+        }
         try {
             jdbcConnection.close();
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.heartbeat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.metrics.Metrics;
+import io.debezium.util.Clock;
+
+/**
+ * Implementation of {@link HeartbeatMetricsMXBean}, updated by the {@link DatabaseHeartbeatImpl} whenever it executes
+ * the heartbeat action query.
+ * <p>
+ * Each task executes its own heartbeat action query, so the MBean name always includes the task id, also for
+ * connectors that are not in multi-partition mode.
+ */
+@ThreadSafe
+public class HeartbeatMetrics extends Metrics implements HeartbeatMetricsMXBean {
+
+    private static final String CONTEXT_NAME = "heartbeat";
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final Clock clock = Clock.system();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong lastDuration = new AtomicLong(-1);
+    private final AtomicLong maxDuration = new AtomicLong();
+    private final AtomicLong lastSuccessNanos = new AtomicLong(NEVER);
+
+    public HeartbeatMetrics(CommonConnectorConfig connectorConfig) {
+        super(connectorConfig, CONTEXT_NAME, true);
+    }
+
+    void onActionQueryExecuted(Duration duration) {
+        record(duration);
+        lastSuccessNanos.set(clock.currentTimeInNanos());
+    }
+
+    void onActionQueryFailed(Duration duration) {
+        record(duration);
+        failures.incrementAndGet();
+    }
+
+    private void record(Duration duration) {
+        final long millis = duration.toMillis();
+        executions.incrementAndGet();
+        lastDuration.set(millis);
+        maxDuration.accumulateAndGet(millis, Math::max);
+    }
+
+    @Override
+    public long getActionQueryExecutions() {
+        return executions.get();
+    }
+
+    @Override
+    public long getActionQueryFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public long getLastActionQueryDurationInMilliseconds() {
+        return lastDuration.get();
+    }
+
+    @Override
+    public long getMaxActionQueryDurationInMilliseconds() {
+        return maxDuration.get();
+    }
+
+    @Override
+    public long getMilliSecondsSinceLastSuccessfulActionQuery() {
+        final long last = lastSuccessNanos.get();
+        return last == NEVER ? -1 : TimeUnit.NANOSECONDS.toMillis(clock.currentTimeInNanos() - last);
+    }
+
+    @Override
+    public void reset() {
+        executions.set(0);
+        failures.set(0);
+        lastDuration.set(-1);
+        maxDuration.set(0);
+        lastSuccessNanos.set(NEVER);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.heartbeat;
+
+/**
+ * Metrics describing the execution of the {@code heartbeat.action.query}.
+ */
+public interface HeartbeatMetricsMXBean {
+
+    /**
+     * @return number of times the heartbeat action query was executed, including failed executions
+     */
+    long getActionQueryExecutions();
+
+    /**
+     * @return number of times the heartbeat action query failed
+     */
+    long getActionQueryFailures();
+
+    /**
+     * @return duration in milliseconds of the last execution of the heartbeat action query, {@code -1} if it was not executed yet
+     */
+    long getLastActionQueryDurationInMilliseconds();
+
+    /**
+     * @return the longest duration in milliseconds of an execution of the heartbeat action query
+     */
+    long getMaxActionQueryDurationInMilliseconds();
+
+    /**
+     * @return elapsed time in milliseconds since the heartbeat action query was last executed successfully, {@code -1} if
+     * it did not succeed yet
+     */
+    long getMilliSecondsSinceLastSuccessfulActionQuery();
+
+    void reset();
+}
@@ -21,6 +21,7 @@
 import java.sql.SQLXML;
 import java.sql.Types;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
@@ -464,6 +465,9 @@ else if (getTimePrecision(column) <= 6) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertTimestampToEpochMillis(Column column, Field fieldDefn, Object data) {
+        if (isJdbcTimestamp(data)) {
+            return Timestamp.toEpochMillis(data, adjuster);
+        }
         // epoch is the fallback value
         return convertValue(column, fieldDefn, data, 0L, (r) -> {
             try {
@@ -489,6 +493,9 @@ protected Object convertTimestampToEpochMillis(Column column, Field fieldDefn, O
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertTimestampToEpochMicros(Column column, Field fieldDefn, Object data) {
+        if (isJdbcTimestamp(data)) {
+            return MicroTimestamp.toEpochMicros(data, adjuster);
+        }
         // epoch is the fallback value
         return convertValue(column, fieldDefn, data, 0L, (r) -> {
             try {
@@ -514,6 +521,9 @@ protected Object convertTimestampToEpochMicros(Column column, Field fieldDefn, O
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertTimestampToEpochNanos(Column column, Field fieldDefn, Object data) {
+        if (isJdbcTimestamp(data)) {
+            return NanoTimestamp.toEpochNanos(data, adjuster);
+        }
         // epoch is the fallback value
         return convertValue(column, fieldDefn, data, 0L, (r) -> {
             try {
@@ -973,6 +983,10 @@ protected Object convertTinyInt(Column column, Field fieldDefn, Object data) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertSmallInt(Column column, Field fieldDefn, Object data) {
+        if (data instanceof Short) {
+            // the value already has the expected type, so the conversion callback is not needed
+            return data;
+        }
         return convertValue(column, fieldDefn, data, SHORT_FALSE, (r) -> {
             if (data instanceof Short) {
                 r.deliver(data);
@@ -1000,6 +1014,10 @@ else if (data instanceof String) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertInteger(Column column, Field fieldDefn, Object data) {
+        if (data instanceof Integer) {
+            // the value already has the expected type, so the conversion callback is not needed
+            return data;
+        }
         return convertValue(column, fieldDefn, data, 0, (r) -> {
             if (data instanceof Integer) {
                 r.deliver(data);
@@ -1027,6 +1045,10 @@ else if (data instanceof String) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertBigInt(Column column, Field fieldDefn, Object data) {
+        if (data instanceof Long) {
+            // the value already has the expected type, so the conversion callback is not needed
+            return data;
+        }
         return convertValue(column, fieldDefn, data, 0L, (r) -> {
             if (data instanceof Long) {
                 r.deliver(data);
@@ -1067,6 +1089,10 @@ protected Object convertFloat(Column column, Field fieldDefn, Object data) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertDouble(Column column, Field fieldDefn, Object data) {
+        if (data instanceof Double) {
+            // the value already has the expected type, so the conversion callback is not needed
+            return data;
+        }
         return convertValue(column, fieldDefn, data, 0.0d, (r) -> {
             if (data instanceof Double) {
                 r.deliver(data);
@@ -1095,6 +1121,10 @@ else if (data instanceof Boolean) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertReal(Column column, Field fieldDefn, Object data) {
+        if (data instanceof Float) {
+            // the value already has the expected type, so the conversion callback is not needed
+            return data;
+        }
         return convertValue(column, fieldDefn, data, 0.0f, (r) -> {
             if (data instanceof Float) {
                 r.deliver(data);
@@ -1133,6 +1163,10 @@ protected Object convertNumeric(Column column, Field fieldDefn, Object data) {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertDecimal(Column column, Field fieldDefn, Object data) {
+        if (data instanceof BigDecimal) {
+            // same as below, without wrapping the value into a SpecialValueDecimal first
+            return fromBigDecimal((BigDecimal) data);
+        }
         if (data instanceof SpecialValueDecimal) {
             return SpecialValueDecimal.fromLogical((SpecialValueDecimal) data, decimalMode, column.name());
         }
@@ -1143,6 +1177,17 @@ protected Object convertDecimal(Column column, Field fieldDefn, Object data) {
         return decimal;
     }
 
+    private Object fromBigDecimal(BigDecimal decimal) {
+        switch (decimalMode) {
+            case DOUBLE:
+                return decimal.doubleValue();
+            case STRING:
+                return decimal.toPlainString();
+            default:
+                return decimal;
+        }
+    }
+
     protected Object toBigDecimal(Column column, Field fieldDefn, Object data) {
         BigDecimal fallback = withScaleAdjustedIfNeeded(column, BigDecimal.ZERO);
         return convertValue(column, fieldDefn, data, fallback, (r) -> {
@@ -1335,6 +1380,10 @@ protected ByteOrder byteOrderOfBitType() {
      * @throws IllegalArgumentException if the value could not be converted but the column does not allow nulls
      */
     protected Object convertBoolean(Column column, Field fieldDefn, Object data) {
+        if (data instanceof Boolean) {
+            // the value already has the expected type, so the conversion callback is not needed
+            return data;
+        }
         return convertValue(column, fieldDefn, data, false, (r) -> {
             if (data instanceof Boolean) {
                 r.deliver(data);
@@ -1418,6 +1467,14 @@ protected Object convertValue(Column column, Field fieldDefn, Object data, Objec
         return r.hasReceived() ? r.get() : handleUnknownData(column, fieldDefn, data);
     }
 
+    /**
+     * Whether the value is of one of the types JDBC drivers commonly return for {@link Types#TIMESTAMP} columns, all of
+     * which are supported by the conversions to epoch based values.
+     */
+    private static boolean isJdbcTimestamp(Object data) {
+        return data instanceof java.sql.Timestamp || data instanceof LocalDateTime;
+    }
+
     private boolean supportsLargeTimeValues() {
         return temporalPrecisionMode == TemporalPrecisionMode.ADAPTIVE
                 || temporalPrecisionMode == TemporalPrecisionMode.ADAPTIVE_TIME_MICROSECONDS
@@ -29,6 +29,7 @@
 import io.debezium.config.ConfigurationDefaults;
 import io.debezium.connector.base.ChangeEventQueueMetrics;
 import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.pipeline.meters.LatencyMeter;
 import io.debezium.pipeline.metrics.SnapshotChangeEventSourceMetrics;
 import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetrics;
 import io.debezium.pipeline.metrics.spi.ChangeEventSourceMetricsFactory;
@@ -97,6 +98,7 @@
     private SnapshotChangeEventSource<P, O> snapshotSource;
     private AtomicReference<LoggingContext.PreviousContext> previousLogContext;
     private CdcSourceTaskContext taskContext;
+    private volatile LatencyMeter latencyMeter = LatencyMeter.NONE;
 
     public ChangeEventSourceCoordinator(Offsets<P, O> previousOffsets, ErrorHandler errorHandler, Class<? extends SourceConnector> connectorType,
                                         CommonConnectorConfig connectorConfig,
@@ -124,6 +126,7 @@ public synchronized void start(CdcSourceTaskContext taskContext, ChangeEventQueu
         previousLogContext = new AtomicReference<>();
         try {
             this.taskContext = taskContext;
+            this.latencyMeter = changeEventQueueMetrics.latencyMeter();
             this.snapshotMetrics = changeEventSourceMetricsFactory.getSnapshotMetrics(taskContext, changeEventQueueMetrics, metadataProvider);
             this.streamingMetrics = changeEventSourceMetricsFactory.getStreamingMetrics(taskContext, changeEventQueueMetrics, metadataProvider,
                     schema::dataCollectionIds);
@@ -428,6 +431,10 @@ public ErrorHandler getErrorHandler() {
         return errorHandler;
     }
 
+    public LatencyMeter getLatencyMeter() {
+        return latencyMeter;
+    }
+
     public class ChangeEventSourceContextImpl implements ChangeEventSourceContext {
 
         private final Lock lock = new ReentrantLock();
@@ -14,6 +14,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
@@ -102,6 +103,11 @@
      */
     private final StreamingChangeRecordReceiver streamingReceiver;
 
+    /**
+     * Whether the streamed events of each data collection are conflated, or null if no events are conflated.
+     */
+    private final Map<DataCollectionId, Boolean> conflatedDataCollections;
+
     private final SignalProcessor<P, ?> signalProcessor;
 
     private final PostProcessorRegistry postProcessorRegistry;
@@ -162,6 +168,9 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrateg
         this.filter = filter;
         this.changeEventCreator = changeEventCreator;
         this.streamingReceiver = new StreamingChangeRecordReceiver();
+        this.conflatedDataCollections = connectorConfig.getConflationWindow() != null && !connectorConfig.shouldProvideTransactionMetadata()
+                ? new ConcurrentHashMap<>()
+                : null;
         this.emitTombstonesOnDelete = connectorConfig.isEmitTombstoneOnDelete();
         this.inconsistentSchemaHandler = inconsistentSchemaHandler != null ? inconsistentSchemaHandler : this::errorOnMissingSchema;
         this.skippedOperations = connectorConfig.getSkippedOperations();
@@ -201,6 +210,9 @@ public EventDispatcher(CommonConnectorConfig connectorConfig, TopicNamingStrateg
         this.changeEventCreator = changeEventCreator;
         this.debeziumHeaderProducer = debeziumHeaderProducer;
         this.streamingReceiver = new StreamingChangeRecordReceiver();
+        this.conflatedDataCollections = connectorConfig.getConflationWindow() != null && !connectorConfig.shouldProvideTransactionMetadata()
+                ? new ConcurrentHashMap<>()
+                : null;
         this.emitTombstonesOnDelete = connectorConfig.isEmitTombstoneOnDelete();
         this.inconsistentSchemaHandler = inconsistentSchemaHandler != null ? inconsistentSchemaHandler : this::errorOnMissingSchema;
         this.skippedOperations = connectorConfig.getSkippedOperations();
@@ -276,6 +288,7 @@ public SnapshotReceiver<P> getIncrementalSnapshotChangeEventReceiver(DataChangeE
      * @return {@code true} if an event was dispatched (i.e. sent to the message broker), {@code false} otherwise.
      */
     public boolean dispatchDataChangeEvent(P partition, T dataCollectionId, ChangeRecordEmitter<P> changeRecordEmitter) throws InterruptedException {
+        final long dispatchStartNanos = queue.latencyMeter().startNanos();
         try {
             boolean handled = false;
             if (changeRecordEmitter.ignoreRecord() || !filter.isIncluded(dataCollectionId)) {
@@ -327,6 +340,7 @@ public void changeRecord(P partition,
                                 incrementalSnapshotChangeEventSource.processMessage(partition, dataCollectionId, key, offset);
                             }
                             streamingReceiver.changeRecord(partition, schema, operation, key, value, offset, headers);
+                            queue.latencyMeter().onDispatched(dataCollectionId, dispatchStartNanos);
                         }
                     }
 
@@ -534,7 +548,8 @@ public void changeRecord(P partition,
                     null,
                     extendedHeaders);
 
-            queue.enqueue(changeEventCreator.createDataChangeEvent(record));
+            final DataChangeEvent event = changeEventCreator.createDataChangeEvent(record);
+            DataChangeEvent tombstoneEvent = null;
 
             if (emitTombstonesOnDelete && operation == Operation.DELETE) {
                 SourceRecord tombStone = record.newRecord(
@@ -547,11 +562,36 @@ public void changeRecord(P partition,
                         record.timestamp(),
                         record.headers());
 
-                queue.enqueue(changeEventCreator.createDataChangeEvent(tombStone));
+                tombstoneEvent = changeEventCreator.createDataChangeEvent(tombStone);
+            }
+
+            if (key != null && isConflated(dataCollectionSchema.id())) {
+                queue.enqueueConflated(new ConflationKey(topicName, key), event, tombstoneEvent);
+            }
+            else {
+                queue.enqueue(event);
+                queue.enqueue(tombstoneEvent);
+            }
+        }
+
+        /**
+         * Whether the events of the given data collection are conflated; as the number of events in a transaction is
+         * part of the transaction metadata, events are not conflated when it is provided.
+         */
+        private boolean isConflated(DataCollectionId dataCollectionId) {
+            if (conflatedDataCollections == null) {
+                return false;
             }
+            return conflatedDataCollections.computeIfAbsent(dataCollectionId, connectorConfig::isConflated);
         }
     }
 
+    /**
+     * The identity of the changed entity of a conflated change event.
+     */
+    private record ConflationKey(String topic, Object key) {
+    }
+
     private ConnectHeaders getExtendedHeaders(ConnectHeaders headers) {
 
         if (!connectorConfig.isExtendedHeadersEnabled()) {
@@ -0,0 +1,196 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.meters;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.config.CommonConnectorConfig.LatencyHistograms;
+import io.debezium.pipeline.metrics.traits.LatencyMetricsMXBean;
+import io.debezium.spi.schema.DataCollectionId;
+
+/**
+ * Carries the latency histograms of the stages of the event pipeline:
+ * <ul>
+ *     <li>{@code source}, the time between the commit of a change in the source database and its dispatch by the connector,</li>
+ *     <li>{@code dispatch}, the time between the dispatch of a change and the end of the enqueuing of its events,
+ *     including the time blocked by a full queue,</li>
+ *     <li>{@code queue}, the time an event spends in the change event queue,</li>
+ *     <li>{@code commit}, the time between the poll of a batch by Kafka Connect and the commit of its records.</li>
+ * </ul>
+ * The {@code source} and {@code dispatch} stages can additionally be recorded per table.
+ */
+@ThreadSafe
+public class LatencyMeter implements LatencyMetricsMXBean {
+
+    /**
+     * A meter which records nothing, used when latency histograms are disabled.
+     */
+    public static final LatencyMeter NONE = new LatencyMeter(LatencyHistograms.NONE);
+
+    private static final String[] STAGE_NAMES = { "source", "dispatch", "queue", "commit" };
+    private static final int SOURCE = 0;
+    private static final int DISPATCH = 1;
+    private static final int QUEUE = 2;
+    private static final int COMMIT = 3;
+    private static final int TABLE_STAGE_COUNT = 2;
+
+    private final boolean enabled;
+    private final boolean perTable;
+    private final LatencyHistogram[] stages;
+    private final ConcurrentMap<String, LatencyHistogram[]> tables = new ConcurrentHashMap<>();
+
+    /**
+     * The poll time and the number of records not yet committed of each polled batch, in polling order.
+     */
+    private final Deque<long[]> polledBatches = new ArrayDeque<>();
+
+    public LatencyMeter(LatencyHistograms mode) {
+        this.enabled = mode != null && mode != LatencyHistograms.NONE;
+        this.perTable = mode == LatencyHistograms.TABLE;
+        this.stages = new LatencyHistogram[enabled ? STAGE_NAMES.length : 0];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new LatencyHistogram();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start time of a measured stage, or 0 if nothing is recorded so that the clock is not read in vain.
+     */
+    public long startNanos() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void onSourceLag(DataCollectionId source, Duration lag) {
+        if (enabled) {
+            record(SOURCE, source, TimeUnit.NANOSECONDS.toMicros(lag.toNanos()));
+        }
+    }
+
+    public void onDispatched(DataCollectionId source, long startNanos) {
+        if (enabled) {
+            record(DISPATCH, source, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Records the time spent in the queue by an event.
+     *
+     * @param enqueueNanos the time the event was enqueued
+     * @param nowNanos the time the event was polled
+     */
+    public void onDequeued(long enqueueNanos, long nowNanos) {
+        if (enabled) {
+            stages[QUEUE].record(TimeUnit.NANOSECONDS.toMicros(nowNanos - enqueueNanos));
+        }
+    }
+
+    /**
+     * Notifies the meter of a batch of records returned to Kafka Connect, whose commits are awaited.
+     */
+    public void onBatchPolled(int size) {
+        if (enabled && size > 0) {
+            final long now = System.nanoTime();
+            synchronized (polledBatches) {
+                polledBatches.addLast(new long[]{ now, size });
+            }
+        }
+    }
+
+    /**
+     * Notifies the meter of the commit of a record. Records are assumed to be committed in the order they were polled,
+     * a record committed out of order is accounted to the oldest batch not yet fully committed.
+     */
+    public void onRecordCommitted() {
+        if (enabled) {
+            final long now = System.nanoTime();
+            final long pollNanos;
+            synchronized (polledBatches) {
+                final long[] batch = polledBatches.peekFirst();
+                if (batch == null) {
+                    return;
+                }
+                pollNanos = batch[0];
+                if (--batch[1] == 0) {
+                    polledBatches.removeFirst();
+                }
+            }
+            stages[COMMIT].record(TimeUnit.NANOSECONDS.toMicros(now - pollNanos));
+        }
+    }
+
+    private void record(int stage, DataCollectionId source, long micros) {
+        stages[stage].record(micros);
+        if (perTable && source != null) {
+            tables.computeIfAbsent(source.identifier(), k -> newTableHistograms())[stage].record(micros);
+        }
+    }
+
+    private static LatencyHistogram[] newTableHistograms() {
+        final LatencyHistogram[] histograms = new LatencyHistogram[TABLE_STAGE_COUNT];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    @Override
+    public Map<String, Long> getStageLatencyMicros() {
+        if (!enabled) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Long> latencies = new LinkedHashMap<>();
+        for (int i = 0; i < stages.length; i++) {
+            final LatencyHistogram.Snapshot snapshot = stages[i].snapshot();
+            final String prefix = STAGE_NAMES[i] + ".";
+            latencies.put(prefix + "count", snapshot.getTotalCount());
+            latencies.put(prefix + "p50", snapshot.getValueAtPercentile(50.0));
+            latencies.put(prefix + "p90", snapshot.getValueAtPercentile(90.0));
+            latencies.put(prefix + "p99", snapshot.getValueAtPercentile(99.0));
+            latencies.put(prefix + "p999", snapshot.getValueAtPercentile(99.9));
+            latencies.put(prefix + "max", snapshot.getMaxValue());
+        }
+        return latencies;
+    }
+
+    @Override
+    public Map<String, Long> getTableLatencyMicros() {
+        if (!perTable) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Long> latencies = new TreeMap<>();
+        tables.forEach((table, histograms) -> {
+            for (int i = 0; i < histograms.length; i++) {
+                final LatencyHistogram.Snapshot snapshot = histograms[i].snapshot();
+                final String prefix = table + "." + STAGE_NAMES[i] + ".";
+                latencies.put(prefix + "p50", snapshot.getValueAtPercentile(50.0));
+                latencies.put(prefix + "p99", snapshot.getValueAtPercentile(99.0));
+                latencies.put(prefix + "max", snapshot.getMaxValue());
+            }
+        });
+        return latencies;
+    }
+
+    public void reset() {
+        for (LatencyHistogram stage : stages) {
+            stage.reset();
+        }
+        tables.clear();
+    }
+}
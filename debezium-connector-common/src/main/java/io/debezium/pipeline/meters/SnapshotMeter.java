@@ -5,13 +5,16 @@
  */
 package io.debezium.pipeline.meters;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -57,6 +60,9 @@ public class SnapshotMeter implements SnapshotMetricsMXBean {
     private final ConcurrentMap<String, Long> tableChunksTotal = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Long> tableChunksCompleted = new ConcurrentHashMap<>();
 
+    private final ConcurrentMap<String, Long> tableFetchNanos = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> tableConvertNanos = new ConcurrentHashMap<>();
+
     private final Clock clock;
 
     public SnapshotMeter(Clock clock) {
@@ -265,6 +271,28 @@ public Map<String, Long> getTableChunksCompletedCounts() {
         return Collections.unmodifiableMap(tableChunksCompleted);
     }
 
+    public void readDurations(TableId tableId, Duration fetchDuration, Duration convertDuration) {
+        final String tableKey = tableId.identifier();
+        tableFetchNanos.merge(tableKey, fetchDuration.toNanos(), Long::sum);
+        tableConvertNanos.merge(tableKey, convertDuration.toNanos(), Long::sum);
+    }
+
+    @Override
+    public Map<String, Long> getTableFetchDurationsInMillis() {
+        return toMillis(tableFetchNanos);
+    }
+
+    @Override
+    public Map<String, Long> getTableConvertDurationsInMillis() {
+        return toMillis(tableConvertNanos);
+    }
+
+    private static Map<String, Long> toMillis(Map<String, Long> nanos) {
+        final Map<String, Long> millis = new HashMap<>(nanos.size());
+        nanos.forEach((table, duration) -> millis.put(table, TimeUnit.NANOSECONDS.toMillis(duration)));
+        return millis;
+    }
+
     private String arrayToString(Object[] array) {
         return (array == null) ? null : Arrays.toString(array);
     }
@@ -290,5 +318,7 @@ public void reset() {
         tableTo.set(null);
         tableChunksTotal.clear();
         tableChunksCompleted.clear();
+        tableFetchNanos.clear();
+        tableConvertNanos.clear();
     }
 }
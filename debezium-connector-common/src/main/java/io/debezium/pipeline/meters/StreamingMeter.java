@@ -34,10 +34,16 @@ public class StreamingMeter implements StreamingMetricsMXBean {
 
     private final CapturedTablesSupplier capturedTablesSupplier;
     private final EventMetadataProvider metadataProvider;
+    private final LatencyMeter latencyMeter;
 
     public StreamingMeter(CapturedTablesSupplier capturedTablesSupplier, EventMetadataProvider metadataProvider) {
+        this(capturedTablesSupplier, metadataProvider, LatencyMeter.NONE);
+    }
+
+    public StreamingMeter(CapturedTablesSupplier capturedTablesSupplier, EventMetadataProvider metadataProvider, LatencyMeter latencyMeter) {
         this.capturedTablesSupplier = capturedTablesSupplier != null ? capturedTablesSupplier : Collections::emptyList;
         this.metadataProvider = metadataProvider;
+        this.latencyMeter = latencyMeter;
     }
 
     @Override
@@ -77,7 +83,9 @@ public void resetLagBehindSource() {
     public void onEvent(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
         final Instant eventTimestamp = metadataProvider.getEventTimestamp(source, offset, key, value);
         if (eventTimestamp != null) {
-            lagBehindSource.set(Duration.between(eventTimestamp, Instant.now()));
+            final Duration lag = Duration.between(eventTimestamp, Instant.now());
+            lagBehindSource.set(lag);
+            latencyMeter.onSourceLag(source, lag);
         }
 
         final String transactionId = metadataProvider.getTransactionId(source, offset, key, value);
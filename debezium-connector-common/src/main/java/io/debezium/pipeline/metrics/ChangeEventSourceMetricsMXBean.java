@@ -6,6 +6,7 @@
 package io.debezium.pipeline.metrics;
 
 import io.debezium.pipeline.metrics.traits.CommonEventMetricsMXBean;
+import io.debezium.pipeline.metrics.traits.LatencyMetricsMXBean;
 import io.debezium.pipeline.metrics.traits.QueueMetricsMXBean;
 import io.debezium.pipeline.metrics.traits.SchemaMetricsMXBean;
 
@@ -15,7 +16,7 @@
  * @author Jiri Pechanec
  */
 public interface ChangeEventSourceMetricsMXBean extends CommonEventMetricsMXBean, QueueMetricsMXBean,
-        SchemaMetricsMXBean {
+        SchemaMetricsMXBean, LatencyMetricsMXBean {
 
     void reset();
 }
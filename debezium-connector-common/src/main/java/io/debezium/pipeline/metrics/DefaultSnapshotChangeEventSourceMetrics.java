@@ -5,6 +5,7 @@
  */
 package io.debezium.pipeline.metrics;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
@@ -190,6 +191,21 @@ public Map<String, Long> getTableChunksCompletedCounts() {
         return snapshotMeter.getTableChunksCompletedCounts();
     }
 
+    @Override
+    public void readDurations(P partition, TableId tableId, Duration fetchDuration, Duration convertDuration) {
+        snapshotMeter.readDurations(tableId, fetchDuration, convertDuration);
+    }
+
+    @Override
+    public Map<String, Long> getTableFetchDurationsInMillis() {
+        return snapshotMeter.getTableFetchDurationsInMillis();
+    }
+
+    @Override
+    public Map<String, Long> getTableConvertDurationsInMillis() {
+        return snapshotMeter.getTableConvertDurationsInMillis();
+    }
+
     @Override
     public void reset() {
         super.reset();
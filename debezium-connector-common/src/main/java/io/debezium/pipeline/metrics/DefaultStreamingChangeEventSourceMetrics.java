@@ -39,7 +39,7 @@ public <T extends CdcSourceTaskContext> DefaultStreamingChangeEventSourceMetrics
                                                                                      EventMetadataProvider metadataProvider,
                                                                                      CapturedTablesSupplier capturedTablesSupplier) {
         super(taskContext, "streaming", changeEventQueueMetrics, metadataProvider);
-        streamingMeter = new StreamingMeter(capturedTablesSupplier, metadataProvider);
+        streamingMeter = new StreamingMeter(capturedTablesSupplier, metadataProvider, changeEventQueueMetrics.latencyMeter());
         connectionMeter = new ConnectionMeter();
         activityMonitoringMeter = new ActivityMonitoringMeter();
     }
@@ -48,7 +48,7 @@ public <T extends CdcSourceTaskContext> DefaultStreamingChangeEventSourceMetrics
                                                                                      EventMetadataProvider metadataProvider, Map<String, String> tags,
                                                                                      CapturedTablesSupplier capturedTablesSupplier) {
         super(taskContext, changeEventQueueMetrics, metadataProvider, tags);
-        streamingMeter = new StreamingMeter(capturedTablesSupplier, metadataProvider);
+        streamingMeter = new StreamingMeter(capturedTablesSupplier, metadataProvider, changeEventQueueMetrics.latencyMeter());
         connectionMeter = new ConnectionMeter();
         activityMonitoringMeter = new ActivityMonitoringMeter();
     }
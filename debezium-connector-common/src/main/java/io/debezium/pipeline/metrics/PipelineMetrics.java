@@ -128,6 +128,7 @@ public long getNumberOfErroneousEvents() {
     @Override
     public void reset() {
         commonEventMeter.reset();
+        changeEventQueueMetrics.latencyMeter().reset();
     }
 
     @Override
@@ -150,4 +151,24 @@ public long getCurrentQueueSizeInBytes() {
         return changeEventQueueMetrics.currentQueueSizeInBytes();
     }
 
+    @Override
+    public long getNumberOfConflatedEvents() {
+        return changeEventQueueMetrics.conflatedRecords();
+    }
+
+    @Override
+    public double getConflationRatio() {
+        final long conflatable = changeEventQueueMetrics.conflatableRecords();
+        return conflatable == 0 ? 0.0 : (double) changeEventQueueMetrics.conflatedRecords() / conflatable;
+    }
+
+    @Override
+    public Map<String, Long> getStageLatencyMicros() {
+        return changeEventQueueMetrics.latencyMeter().getStageLatencyMicros();
+    }
+
+    @Override
+    public Map<String, Long> getTableLatencyMicros() {
+        return changeEventQueueMetrics.latencyMeter().getTableLatencyMicros();
+    }
 }
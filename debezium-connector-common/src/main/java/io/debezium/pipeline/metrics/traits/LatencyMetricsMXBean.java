@@ -0,0 +1,26 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.metrics.traits;
+
+import java.util.Map;
+
+/**
+ * Exposes the distribution of the latencies of the stages of the event pipeline.
+ */
+public interface LatencyMetricsMXBean {
+
+    /**
+     * Returns the latency percentiles in microseconds of each pipeline stage, keyed by {@code <stage>.<statistic>},
+     * e.g. {@code queue.p99}.
+     */
+    Map<String, Long> getStageLatencyMicros();
+
+    /**
+     * Returns the latency percentiles in microseconds of the table scoped pipeline stages of each table, keyed by
+     * {@code <table>.<stage>.<statistic>}, e.g. {@code inventory.customers.source.p99}.
+     */
+    Map<String, Long> getTableLatencyMicros();
+}
@@ -17,4 +17,14 @@ public interface QueueMetricsMXBean {
     long getMaxQueueSizeInBytes();
 
     long getCurrentQueueSizeInBytes();
+
+    /**
+     * Returns the number of change events dropped by conflation, having been replaced by a newer event of the same key.
+     */
+    long getNumberOfConflatedEvents();
+
+    /**
+     * Returns the ratio of the change events of conflated data collections dropped by conflation.
+     */
+    double getConflationRatio();
 }
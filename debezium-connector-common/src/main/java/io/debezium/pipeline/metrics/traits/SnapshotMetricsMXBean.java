@@ -45,4 +45,8 @@ public interface SnapshotMetricsMXBean extends SchemaMetricsMXBean {
     Map<String, Long> getTableChunkCounts();
 
     Map<String, Long> getTableChunksCompletedCounts();
+
+    Map<String, Long> getTableFetchDurationsInMillis();
+
+    Map<String, Long> getTableConvertDurationsInMillis();
 }
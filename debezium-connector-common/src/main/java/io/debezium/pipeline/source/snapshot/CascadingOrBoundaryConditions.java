@@ -7,6 +7,7 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
 import io.debezium.jdbc.JdbcConnection;
@@ -43,8 +44,22 @@ private CascadingOrBoundaryConditions() {
      *                       {@code false} to use {@code >} throughout
      */
     public static void buildLowerBound(List<String> columnNames, StringBuilder sql, boolean inclusiveFinal) {
+        buildLowerBound(columnNames, Collections.nCopies(columnNames.size(), "?"), sql, inclusiveFinal);
+    }
+
+    /**
+     * Appends the cascading-OR lower-bound condition for the given (already-quoted) column names, comparing each
+     * column with the given SQL expression, e.g. a literal of the boundary value, instead of a parameter.
+     *
+     * @param columnNames quoted column name strings in key order
+     * @param values the SQL expressions of the boundary values, in key order
+     * @param sql target string builder
+     * @param inclusiveFinal {@code true} to use {@code >=} on the final (most-specific) term;
+     *                       {@code false} to use {@code >} throughout
+     */
+    public static void buildLowerBound(List<String> columnNames, List<String> values, StringBuilder sql, boolean inclusiveFinal) {
         if (columnNames.size() == 1) {
-            sql.append(columnNames.get(0)).append(inclusiveFinal ? " >= ?" : " > ?");
+            sql.append(columnNames.get(0)).append(inclusiveFinal ? " >= " : " > ").append(values.get(0));
             return;
         }
         sql.append('(');
@@ -60,10 +75,10 @@ public static void buildLowerBound(List<String> columnNames, StringBuilder sql,
                 final String col = columnNames.get(j);
                 if (j == i) {
                     final boolean isLastTerm = (i == columnNames.size() - 1);
-                    sql.append(col).append((isLastTerm && inclusiveFinal) ? " >= ?" : " > ?");
+                    sql.append(col).append((isLastTerm && inclusiveFinal) ? " >= " : " > ").append(values.get(j));
                 }
                 else {
-                    sql.append(col).append(" = ?");
+                    sql.append(col).append(" = ").append(values.get(j));
                 }
             }
             sql.append(')');
@@ -82,9 +97,22 @@ public static void buildLowerBound(List<String> columnNames, StringBuilder sql,
      * @param inclusive {@code true} to use {@code <=}; {@code false} to use {@code <}
      */
     public static void buildUpperBound(List<String> columnNames, StringBuilder sql, boolean inclusive) {
-        final String operator = inclusive ? " <= ?" : " < ?";
+        buildUpperBound(columnNames, Collections.nCopies(columnNames.size(), "?"), sql, inclusive);
+    }
+
+    /**
+     * Appends the cascading-OR upper-bound condition for the given (already-quoted) column names, comparing each
+     * column with the given SQL expression, e.g. a literal of the boundary value, instead of a parameter.
+     *
+     * @param columnNames quoted column name strings in key order
+     * @param values the SQL expressions of the boundary values, in key order
+     * @param sql target string builder
+     * @param inclusive {@code true} to use {@code <=}; {@code false} to use {@code <}
+     */
+    public static void buildUpperBound(List<String> columnNames, List<String> values, StringBuilder sql, boolean inclusive) {
+        final String operator = inclusive ? " <= " : " < ";
         if (columnNames.size() == 1) {
-            sql.append(columnNames.get(0)).append(operator);
+            sql.append(columnNames.get(0)).append(operator).append(values.get(0));
             return;
         }
         sql.append('(');
@@ -94,9 +122,9 @@ public static void buildUpperBound(List<String> columnNames, StringBuilder sql,
             }
             sql.append('(');
             for (int j = 0; j < i; j++) {
-                sql.append(columnNames.get(j)).append(" = ? AND ");
+                sql.append(columnNames.get(j)).append(" = ").append(values.get(j)).append(" AND ");
             }
-            sql.append(columnNames.get(i)).append(operator);
+            sql.append(columnNames.get(i)).append(operator).append(values.get(i));
             sql.append(')');
         }
         sql.append(')');
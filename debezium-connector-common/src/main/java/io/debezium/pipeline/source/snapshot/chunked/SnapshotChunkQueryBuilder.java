@@ -6,6 +6,7 @@
 package io.debezium.pipeline.source.snapshot.chunked;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -21,9 +22,20 @@
 public class SnapshotChunkQueryBuilder {
 
     private final JdbcConnection jdbcConnection;
+    private final int fetchSize;
 
     public SnapshotChunkQueryBuilder(JdbcConnection jdbcConnection) {
+        this(jdbcConnection, 0);
+    }
+
+    /**
+     * @param jdbcConnection the connection the chunk queries are executed on
+     * @param fetchSize the fetch size hint of the chunk statements, e.g. the {@code snapshot.fetch.size} of the connector;
+     *            {@code 0} uses the default of the JDBC driver
+     */
+    public SnapshotChunkQueryBuilder(JdbcConnection jdbcConnection, int fetchSize) {
         this.jdbcConnection = jdbcConnection;
+        this.fetchSize = fetchSize;
     }
 
     /**
@@ -127,7 +139,16 @@ else if (orderByIndex >= 0) {
      * Prepare a statement and bind chunk boundary parameters.
      */
     public PreparedStatement prepareChunkStatement(SnapshotChunk chunk, List<Column> keyColumns, String sql) throws SQLException {
-        final PreparedStatement statement = jdbcConnection.connection().prepareStatement(sql);
+        final PreparedStatement statement;
+        if (fetchSize != 0) {
+            // a forward-only, read-only statement with a fetch size hint lets the driver stream the rows of the chunk,
+            // e.g. MySQL streams them for a fetch size of Integer.MIN_VALUE and PostgreSQL reads them through a cursor
+            statement = jdbcConnection.connection().prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+        }
+        else {
+            statement = jdbcConnection.connection().prepareStatement(sql);
+        }
 
         if (!chunk.hasLowerBound() && !chunk.hasUpperBound()) {
             return statement;
@@ -5,6 +5,8 @@
  */
 package io.debezium.pipeline.source.spi;
 
+import java.time.Duration;
+
 import io.debezium.pipeline.spi.Partition;
 import io.debezium.relational.TableId;
 import io.debezium.spi.schema.DataCollectionId;
@@ -40,6 +42,14 @@
 
     void chunkProgress(P partition, TableId tableId, long totalChunks, long completedChunks);
 
+    /**
+     * Invoked once the rows of a table, or of a chunk of a table, have been read.
+     *
+     * @param fetchDuration the time spent on waiting for the database to return the rows
+     * @param convertDuration the time spent on converting the rows into change events and dispatching them
+     */
+    void readDurations(P partition, TableId tableId, Duration fetchDuration, Duration convertDuration);
+
     static <P extends Partition> SnapshotProgressListener<P> NO_OP() {
         return new SnapshotProgressListener<P>() {
 
@@ -90,6 +100,10 @@ public void currentChunk(P partition, String chunkId, Object[] chunkFrom, Object
             @Override
             public void chunkProgress(P partition, TableId tableId, long totalChunks, long completedChunks) {
             }
+
+            @Override
+            public void readDurations(P partition, TableId tableId, Duration fetchDuration, Duration convertDuration) {
+            }
         };
     }
 }
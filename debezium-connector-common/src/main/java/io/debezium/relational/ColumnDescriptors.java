@@ -0,0 +1,61 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Interns the metadata shared by many columns, such as type names, character set names and enumeration values,
+ * so that each distinct value is held in memory only once regardless of the number of columns using it.
+ * Interned values are released once no column refers to them anymore.
+ */
+@ThreadSafe
+final class ColumnDescriptors {
+
+    private static final Map<List<String>, WeakReference<List<String>>> ENUM_VALUES = new WeakHashMap<>();
+
+    private ColumnDescriptors() {
+    }
+
+    /**
+     * Returns the canonical instance of a type name, type expression, character set name or default value expression.
+     *
+     * @param value the value; may be null
+     * @return the canonical value or null if the value is null
+     */
+    static String intern(String value) {
+        return value == null ? null : value.intern();
+    }
+
+    /**
+     * Returns the canonical, immutable instance of a list of enumeration values.
+     *
+     * @param enumValues the enumeration values; may be null
+     * @return the canonical list; never null
+     */
+    static List<String> internEnumValues(List<String> enumValues) {
+        if (enumValues == null || enumValues.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> candidate = Collections.unmodifiableList(new ArrayList<>(enumValues));
+        synchronized (ENUM_VALUES) {
+            final WeakReference<List<String>> existing = ENUM_VALUES.get(candidate);
+            final List<String> interned = existing != null ? existing.get() : null;
+            if (interned != null) {
+                return interned;
+            }
+            ENUM_VALUES.put(candidate, new WeakReference<>(candidate));
+            return candidate;
+        }
+    }
+}
@@ -5,7 +5,6 @@
  */
 package io.debezium.relational;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,22 +51,22 @@ protected ColumnImpl(String columnName, int position, int jdbcType, int nativeTy
         this.position = position;
         this.jdbcType = jdbcType;
         this.nativeType = nativeType;
-        this.typeName = typeName;
-        this.typeExpression = typeExpression;
+        this.typeName = ColumnDescriptors.intern(typeName);
+        this.typeExpression = ColumnDescriptors.intern(typeExpression);
         // We want to always capture the charset name for the column (if the column needs one) ...
         if (typeUsesCharset() && (charsetName == null || "DEFAULT".equalsIgnoreCase(charsetName))) {
             // Use the default charset name ...
             charsetName = defaultCharsetName;
         }
-        this.charsetName = charsetName;
+        this.charsetName = ColumnDescriptors.intern(charsetName);
         this.length = columnLength;
         this.scale = columnScale;
         this.optional = optional;
         this.autoIncremented = autoIncremented;
         this.generated = generated;
-        this.defaultValueExpression = defaultValueExpression;
+        this.defaultValueExpression = ColumnDescriptors.intern(defaultValueExpression);
         this.hasDefaultValue = hasDefaultValue;
-        this.enumValues = enumValues == null ? new ArrayList<>() : enumValues;
+        this.enumValues = ColumnDescriptors.internEnumValues(enumValues);
         this.comment = comment;
         assert this.length >= -1;
     }
@@ -0,0 +1,171 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SnapshotRowReader} which fetches the rows of another reader on a separate thread, so that the database
+ * sends the next rows of a snapshot query while the snapshot thread converts the previous ones into change events.
+ * The rows are handed over in batches through a bounded buffer, which limits the number of rows held in memory to
+ * {@code batches * batchSize}.
+ */
+class PrefetchingSnapshotRowReader implements SnapshotRowReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingSnapshotRowReader.class);
+
+    /**
+     * The number of rows handed over at once.
+     */
+    static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * Marks the end of the rows, whether all rows were fetched or fetching them failed.
+     */
+    private static final Object[][] END = new Object[0][];
+
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    /**
+     * The JDBC types whose values may be locators that read their content through the connection when they are
+     * accessed, which would then happen on the snapshot thread while the connection is used to fetch the next rows.
+     */
+    private static final Set<Integer> LOCATOR_TYPES = Set.of(Types.BLOB, Types.CLOB, Types.NCLOB, Types.SQLXML, Types.ARRAY, Types.STRUCT, Types.REF);
+
+    private final SnapshotRowReader delegate;
+    private final int batchSize;
+    private final BlockingQueue<Object[][]> batches;
+    private final Future<?> fetcher;
+
+    private volatile boolean closed;
+    private volatile Exception failure;
+
+    private Object[][] batch;
+    private int position;
+
+    PrefetchingSnapshotRowReader(SnapshotRowReader delegate, ExecutorService executor, int batches, int batchSize) {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.batches = new ArrayBlockingQueue<>(batches);
+        this.fetcher = executor.submit(this::fetch);
+    }
+
+    /**
+     * Whether the rows of the given table can be fetched ahead of their conversion, i.e. whether none of its columns
+     * has values that may still be read through the connection when they are converted.
+     */
+    static boolean isSupported(Table table) {
+        return table.columns().stream().noneMatch(column -> LOCATOR_TYPES.contains(column.jdbcType()));
+    }
+
+    @Override
+    public Object[] next() throws SQLException {
+        while (batch == null || position == batch.length) {
+            if (batch == END) {
+                return null;
+            }
+            batch = takeBatch();
+            position = 0;
+        }
+        return batch[position++];
+    }
+
+    private Object[][] takeBatch() throws SQLException {
+        final Object[][] next;
+        try {
+            next = batches.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the snapshot rows to be fetched", e);
+        }
+        if (next == END && failure != null) {
+            batch = END;
+            if (failure instanceof SQLException) {
+                throw (SQLException) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+        return next;
+    }
+
+    private void fetch() {
+        try {
+            Object[][] rows = new Object[batchSize][];
+            int size = 0;
+            Object[] row;
+            while (!closed && (row = delegate.next()) != null) {
+                rows[size++] = row;
+                if (size == batchSize) {
+                    if (!put(rows)) {
+                        return;
+                    }
+                    rows = new Object[batchSize][];
+                    size = 0;
+                }
+            }
+            if (size > 0 && !put(Arrays.copyOf(rows, size))) {
+                return;
+            }
+        }
+        catch (SQLException | RuntimeException e) {
+            failure = e;
+        }
+        put(END);
+    }
+
+    /**
+     * Hands a batch over to the snapshot thread, waiting for free space in the buffer unless the reader is closed.
+     *
+     * @return {@code true} if the batch was handed over, {@code false} if the reader was closed meanwhile
+     */
+    private boolean put(Object[][] rows) {
+        try {
+            while (!closed) {
+                if (batches.offer(rows, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        // the fetcher is either blocked on a full buffer, which it notices to be closed, or it is fetching rows, which
+        // it stops after the current row; the delegate is only closed once it is no longer used by the fetcher
+        batches.clear();
+        try {
+            fetcher.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fetcher.cancel(true);
+        }
+        catch (ExecutionException e) {
+            LOGGER.debug("Fetching the snapshot rows failed", e.getCause());
+        }
+        finally {
+            delegate.close();
+        }
+    }
+}
@@ -197,6 +197,127 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
         }
     }
 
+    /**
+     * The set of predefined TableSchemaBuildMode options or aliases.
+     */
+    public enum TableSchemaBuildMode implements EnumeratedValue {
+        /**
+         * The event schema of a table is built whenever the table definition is registered or changed.
+         */
+        EAGER("eager"),
+
+        /**
+         * The event schema of a table is built from the table definition when it is first needed.
+         */
+        LAZY("lazy");
+
+        private final String value;
+
+        TableSchemaBuildMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static TableSchemaBuildMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (TableSchemaBuildMode option : TableSchemaBuildMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static TableSchemaBuildMode parse(String value, String defaultValue) {
+            TableSchemaBuildMode mode = parse(value);
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+            return mode;
+        }
+    }
+
+    /**
+     * The set of predefined StructGeneratorMode options or aliases.
+     */
+    public enum StructGeneratorMode implements EnumeratedValue {
+        /**
+         * Key and value structs are populated through {@link org.apache.kafka.connect.data.Struct#put}, validating every value.
+         */
+        GENERIC("generic"),
+
+        /**
+         * Key and value structs are populated by a generator specialized for the table schema, resolving the columns,
+         * converters and fields in advance and validating every value.
+         */
+        SPECIALIZED("specialized");
+
+        private final String value;
+
+        StructGeneratorMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static StructGeneratorMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (StructGeneratorMode option : StructGeneratorMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static StructGeneratorMode parse(String value, String defaultValue) {
+            StructGeneratorMode mode = parse(value);
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+            return mode;
+        }
+    }
+
     public static final Field HOSTNAME = Field.create(ConfigurationNames.DATABASE_CONFIG_PREFIX + JdbcConfiguration.HOSTNAME)
             .withDisplayName("Hostname")
             .withType(Type.STRING)
@@ -535,13 +656,51 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     + "A `ascending` value will order the tables by row count ascending. "
                     + "A value of `disabled` (the default) will disable ordering by row count.");
 
+    public static final Field TABLE_SCHEMA_BUILD_MODE = Field.create("table.schema.build.mode")
+            .withDisplayName("Table schema build mode")
+            .withEnum(TableSchemaBuildMode.class, TableSchemaBuildMode.EAGER)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 21))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls when the connector builds the event schema of a captured table. "
+                    + "'eager' (the default) builds the schema whenever the table definition is loaded or changed. "
+                    + "'lazy' builds the schema from the table definition when the first event for the table is emitted, "
+                    + "which reduces the startup time and memory of connectors capturing a large number of rarely changed tables.");
+
+    public static final Field TABLE_SCHEMA_CACHE_SIZE = Field.create("table.schema.cache.size")
+            .withDisplayName("Table schema cache size")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 22))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum number of table event schemas kept in memory when '" + TABLE_SCHEMA_BUILD_MODE.name() + "' is 'lazy'. "
+                    + "The converters of the least recently used schemas are evicted and rebuilt from the table definition when needed again, "
+                    + "reusing the key and value schemas of up to the same number of evicted schemas as long as the table definition is unchanged. "
+                    + "0 (the default) keeps the schemas of all tables.");
+
+    public static final Field STRUCT_GENERATOR_MODE = Field.create("struct.generator.mode")
+            .withDisplayName("Struct generator mode")
+            .withEnum(StructGeneratorMode.class, StructGeneratorMode.GENERIC)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 23))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls how the key and value of change events are populated from the converted column values. "
+                    + "'generic' (the default) validates every value against the event schema. "
+                    + "'specialized' uses a generator built once per table schema that resolves the columns, converters and fields "
+                    + "in advance and still validates every value, which reduces the conversion cost of wide tables.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = CommonConnectorConfig.CONFIG_DEFINITION.edit()
             .type(
                     CommonConnectorConfig.TOPIC_PREFIX)
             .connector(
                     DECIMAL_HANDLING_MODE,
                     TIME_PRECISION_MODE,
-                    SNAPSHOT_LOCK_TIMEOUT_MS)
+                    SNAPSHOT_LOCK_TIMEOUT_MS,
+                    TABLE_SCHEMA_BUILD_MODE,
+                    TABLE_SCHEMA_CACHE_SIZE,
+                    STRUCT_GENERATOR_MODE)
             .events(
                     COLUMN_INCLUDE_LIST,
                     COLUMN_EXCLUDE_LIST,
@@ -561,7 +720,8 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
                     PROPAGATE_DATATYPE_SOURCE_TYPE,
                     SNAPSHOT_FULL_COLUMN_SCAN_FORCE,
                     SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT,
-                    DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY)
+                    DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY,
+                    DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY_ASYNC)
             .create();
 
     private final RelationalTableFilters tableFilters;
@@ -572,8 +732,12 @@ public static SnapshotTablesRowCountOrder parse(String value, String defaultValu
     private final TableIdToStringMapper tableIdMapper;
     private final JdbcConfiguration jdbcConfig;
     private final String heartbeatActionQuery;
+    private final boolean heartbeatActionQueryAsync;
     private final FieldNamer<Column> fieldNamer;
     private final SnapshotTablesRowCountOrder snapshotOrderByRowCount;
+    private final TableSchemaBuildMode tableSchemaBuildMode;
+    private final int tableSchemaCacheSize;
+    private final StructGeneratorMode structGeneratorMode;
 
     protected RelationalDatabaseConnectorConfig(Configuration config, TableFilter systemTablesFilter,
                                                 TableIdToStringMapper tableIdMapper, int defaultSnapshotFetchSize,
@@ -608,8 +772,12 @@ protected RelationalDatabaseConnectorConfig(Configuration config, TableFilter sy
         }
 
         this.heartbeatActionQuery = config.getString(DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY_PROPERTY_NAME, "");
+        this.heartbeatActionQueryAsync = config.getBoolean(DatabaseHeartbeatImpl.HEARTBEAT_ACTION_QUERY_ASYNC);
         this.fieldNamer = FieldNameSelector.defaultSelector(fieldNameAdjuster());
         this.snapshotOrderByRowCount = SnapshotTablesRowCountOrder.parse(config.getString(SNAPSHOT_TABLES_ORDER_BY_ROW_COUNT));
+        this.tableSchemaBuildMode = TableSchemaBuildMode.parse(config.getString(TABLE_SCHEMA_BUILD_MODE), TABLE_SCHEMA_BUILD_MODE.defaultValueAsString());
+        this.tableSchemaCacheSize = config.getInteger(TABLE_SCHEMA_CACHE_SIZE);
+        this.structGeneratorMode = StructGeneratorMode.parse(config.getString(STRUCT_GENERATOR_MODE), STRUCT_GENERATOR_MODE.defaultValueAsString());
     }
 
     public RelationalTableFilters getTableFilters() {
@@ -651,6 +819,10 @@ public String getHeartbeatActionQuery() {
         return heartbeatActionQuery;
     }
 
+    public boolean isHeartbeatActionQueryAsync() {
+        return heartbeatActionQueryAsync;
+    }
+
     public byte[] getUnavailableValuePlaceholder() {
         return getConfig().getString(UNAVAILABLE_VALUE_PLACEHOLDER).getBytes();
     }
@@ -691,6 +863,18 @@ public SnapshotTablesRowCountOrder snapshotOrderByRowCount() {
         return snapshotOrderByRowCount;
     }
 
+    public TableSchemaBuildMode getTableSchemaBuildMode() {
+        return tableSchemaBuildMode;
+    }
+
+    public int getTableSchemaCacheSize() {
+        return tableSchemaCacheSize;
+    }
+
+    public StructGeneratorMode getStructGeneratorMode() {
+        return structGeneratorMode;
+    }
+
     /**
      * Validates that include and exclude lists are not both specified for the same filter type.
      *
@@ -8,6 +8,7 @@
 import static io.debezium.openlineage.dataset.DatasetMetadata.DatasetKind.INPUT;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -22,11 +23,15 @@
 import io.debezium.openlineage.DebeziumOpenLineageEmitter;
 import io.debezium.openlineage.dataset.DatasetMetadata;
 import io.debezium.relational.Key.KeyMapper;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.TableSchemaBuildMode;
 import io.debezium.relational.Tables.ColumnNameFilter;
 import io.debezium.relational.Tables.TableFilter;
 import io.debezium.relational.mapping.ColumnMappers;
 import io.debezium.schema.DatabaseSchema;
 import io.debezium.spi.topic.TopicNamingStrategy;
+import io.debezium.util.BoundedConcurrentHashMap;
+import io.debezium.util.BoundedConcurrentHashMap.Eviction;
+import io.debezium.util.BoundedConcurrentHashMap.EvictionListener;
 
 /**
  * A {@link DatabaseSchema} of a relational database such as Postgres. Provides information about the physical structure
@@ -45,6 +50,7 @@ public abstract class RelationalDatabaseSchema implements DatabaseSchema<TableId
     private final ColumnMappers columnMappers;
     private final KeyMapper customKeysMapper;
     private final CdcSourceTaskContext<? extends CommonConnectorConfig> taskContext;
+    private final boolean lazySchemas;
 
     private final SchemasByTableId schemasByTableId;
     private final Tables tables;
@@ -61,7 +67,9 @@ protected RelationalDatabaseSchema(RelationalDatabaseConnectorConfig config, Top
         this.columnMappers = ColumnMappers.create(config);
         this.customKeysMapper = customKeysMapper;
 
-        this.schemasByTableId = new SchemasByTableId(tableIdCaseInsensitive);
+        this.lazySchemas = config.getTableSchemaBuildMode() == TableSchemaBuildMode.LAZY;
+        // evicting schemas is only possible when they can be rebuilt on demand
+        this.schemasByTableId = new SchemasByTableId(tableIdCaseInsensitive, lazySchemas ? config.getTableSchemaCacheSize() : 0);
         this.tables = new Tables(tableIdCaseInsensitive);
         this.taskContext = taskContext;
     }
@@ -94,7 +102,8 @@ public void assureNonEmptySchema() {
      * Get the {@link TableSchema Schema information} for the table with the given identifier, if that table exists and
      * is included by the filter configuration.
      * <p>
-     * Note that the {@link Schema} will not contain any columns that have been filtered out.
+     * Note that the {@link Schema} will not contain any columns that have been filtered out. When the schemas are
+     * built lazily, the schema is built from the current table definition on the first call for the table.
      *
      * @param id
      *            the table identifier; may be null
@@ -103,7 +112,15 @@ public void assureNonEmptySchema() {
      */
     @Override
     public TableSchema schemaFor(TableId id) {
-        return schemasByTableId.get(id);
+        TableSchema schema = schemasByTableId.get(id);
+        if (schema == null && lazySchemas && id != null) {
+            final Table table = tableFor(id);
+            if (table != null) {
+                schema = schemaBuilder.create(topicNamingStrategy, table, columnFilter, columnMappers, customKeysMapper, schemasByTableId.getEvicted(id));
+                schemasByTableId.put(id, schema);
+            }
+        }
+        return schema;
     }
 
     /**
@@ -132,12 +149,18 @@ protected void clearSchemas() {
     }
 
     /**
-     * Builds up the CDC event schema for the given table and stores it in this schema.
+     * Builds up the CDC event schema for the given table and stores it in this schema. When the schemas are built
+     * lazily, any schema built for a previous definition of the table is discarded instead.
      */
     protected void buildAndRegisterSchema(Table table) {
         if (tableFilter.isIncluded(table.id())) {
-            TableSchema schema = schemaBuilder.create(topicNamingStrategy, table, columnFilter, columnMappers, customKeysMapper);
-            schemasByTableId.put(table.id(), schema);
+            if (lazySchemas) {
+                schemasByTableId.remove(table.id());
+            }
+            else {
+                TableSchema schema = schemaBuilder.create(topicNamingStrategy, table, columnFilter, columnMappers, customKeysMapper);
+                schemasByTableId.put(table.id(), schema);
+            }
             DebeziumOpenLineageEmitter.emit(
                     DebeziumOpenLineageEmitter.connectorContext(taskContext.getRawConfig().asMap(), config.getConnectorName(), taskContext.getRunId()),
                     DebeziumTaskState.RUNNING,
@@ -170,22 +193,54 @@ protected void removeSchema(TableId id) {
 
     /**
      * A map of schemas by table id. Table names are stored lower-case if required as per the config.
+     * If a maximum size is given, the least recently used schemas are evicted. The Kafka Connect schemas of up to the
+     * same number of evicted schemas are retained without their converters and struct generators, so that they can be
+     * reused when the schema is rebuilt.
      */
     private static class SchemasByTableId {
 
+        private static final int MAX_CONCURRENCY_LEVEL = 16;
+
         private final boolean tableIdCaseInsensitive;
         private final ConcurrentMap<TableId, TableSchema> values;
+        private final ConcurrentMap<TableId, TableSchema> evicted;
 
-        SchemasByTableId(boolean tableIdCaseInsensitive) {
+        SchemasByTableId(boolean tableIdCaseInsensitive, int maxSize) {
             this.tableIdCaseInsensitive = tableIdCaseInsensitive;
-            this.values = new ConcurrentHashMap<>();
+            if (maxSize > 0) {
+                // each segment of the bounded map must hold at least two schemas
+                final int concurrencyLevel = Math.max(1, Math.min(MAX_CONCURRENCY_LEVEL, maxSize / 2));
+                this.evicted = new BoundedConcurrentHashMap<>(maxSize, concurrencyLevel);
+                this.values = new BoundedConcurrentHashMap<>(maxSize, concurrencyLevel, Eviction.LRU, new EvictionListener<>() {
+
+                    @Override
+                    public void onEntryEviction(Map<TableId, TableSchema> evictedSchemas) {
+                        evictedSchemas.forEach((id, schema) -> evicted.put(id,
+                                new TableSchema(schema.id(), schema.keySchema(), null, schema.getEnvelopeSchema(), schema.valueSchema(), null)));
+                    }
+
+                    @Override
+                    public void onEntryChosenForEviction(TableSchema schema) {
+                    }
+                });
+            }
+            else {
+                this.values = new ConcurrentHashMap<>();
+                this.evicted = null;
+            }
         }
 
         public void clear() {
             values.clear();
+            if (evicted != null) {
+                evicted.clear();
+            }
         }
 
         public TableSchema remove(TableId tableId) {
+            if (evicted != null) {
+                evicted.remove(toLowerCaseIfNeeded(tableId));
+            }
             return values.remove(toLowerCaseIfNeeded(tableId));
         }
 
@@ -194,9 +249,20 @@ public TableSchema get(TableId tableId) {
         }
 
         public TableSchema put(TableId tableId, TableSchema updated) {
+            if (evicted != null) {
+                evicted.remove(toLowerCaseIfNeeded(tableId));
+            }
             return values.put(toLowerCaseIfNeeded(tableId), updated);
         }
 
+        /**
+         * @return the Kafka Connect schemas of an evicted schema of the given table, without its generators; null if
+         *         no schema built for the current definition of the table has been evicted recently
+         */
+        public TableSchema getEvicted(TableId tableId) {
+            return evicted != null ? evicted.get(toLowerCaseIfNeeded(tableId)) : null;
+        }
+
         private TableId toLowerCaseIfNeeded(TableId tableId) {
             return tableIdCaseInsensitive ? tableId.toLowercase() : tableId;
         }
@@ -10,6 +10,7 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -104,6 +105,10 @@
     protected Queue<JdbcConnection> connectionPool;
     private final TableId signalDataCollectionTableId;
 
+    // The threads fetching the rows of the snapshot queries ahead of their conversion while the data is snapshotted,
+    // null unless snapshot.prefetch.batches is set
+    private volatile ExecutorService prefetchExecutor;
+
     public RelationalSnapshotChangeEventSource(RelationalDatabaseConnectorConfig connectorConfig,
                                                MainConnectionProvidingConnectionFactory<? extends JdbcConnection> jdbcConnectionFactory,
                                                RelationalDatabaseSchema schema, EventDispatcher<P, TableId> dispatcher, Clock clock,
@@ -506,13 +511,25 @@ private void createDataEvents(ChangeEventSourceContext sourceContext, Relational
         final int snapshotMaxThreads = connectionPool.size();
         final Queue<O> offsets = createOffsetPool(snapshotContext, snapshotMaxThreads);
 
-        // When legacy snapshot max threads is enabled, we fall back to the table per thread behavior. This provides
-        // a reasonable fallback for parallelism while the new chunked solution matures.
-        if (isUseNonChunkedSnapshots(snapshotMaxThreads)) {
-            createLegacyDataEvents(sourceContext, snapshotContext, connectionPool, snapshotSelectOverridesByTable, offsets, snapshotReceiver);
+        if (connectorConfig.getSnapshotPrefetchBatches() > 0) {
+            prefetchExecutor = Executors.newFixedThreadPool(snapshotMaxThreads,
+                    Threads.threadFactory(getClass(), connectorConfig.getLogicalName(), "snapshot-prefetch", true, true));
         }
-        else {
-            createChunkedDataEvents(sourceContext, snapshotContext, connectionPool, snapshotSelectOverridesByTable, offsets, snapshotReceiver);
+        try {
+            // When legacy snapshot max threads is enabled, we fall back to the table per thread behavior. This provides
+            // a reasonable fallback for parallelism while the new chunked solution matures.
+            if (isUseNonChunkedSnapshots(snapshotMaxThreads)) {
+                createLegacyDataEvents(sourceContext, snapshotContext, connectionPool, snapshotSelectOverridesByTable, offsets, snapshotReceiver);
+            }
+            else {
+                createChunkedDataEvents(sourceContext, snapshotContext, connectionPool, snapshotSelectOverridesByTable, offsets, snapshotReceiver);
+            }
+        }
+        finally {
+            if (prefetchExecutor != null) {
+                prefetchExecutor.shutdownNow();
+                prefetchExecutor = null;
+            }
         }
 
         releaseDataSnapshotLocks(snapshotContext);
@@ -883,22 +900,22 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
 
         Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(jdbcConnection, offset, table.id());
 
-        try (Statement statement = readTableStatement(jdbcConnection, rowCount);
-                ResultSet rs = resultSetForDataEvents(selectStatement, statement)) {
+        final long readStart = System.nanoTime();
+        try (SnapshotRowReader reader = prefetching(table, openTableRowReader(jdbcConnection, table, selectStatement, rowCount))) {
 
-            ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
             long rows = 0;
             Timer logTimer = getTableScanLogTimer();
-            boolean hasNext = rs.next();
+            Object[] next = reader.next();
+            long fetchNanos = System.nanoTime() - readStart;
 
-            if (hasNext) {
-                while (hasNext) {
+            if (next != null) {
+                while (next != null) {
                     if (!sourceContext.isRunning()) {
                         throw new InterruptedException("Interrupted while snapshotting table " + table.id());
                     }
 
                     rows++;
-                    final Object[] row = jdbcConnection.rowToArray(table, rs, columnArray);
+                    final Object[] row = next;
 
                     if (logTimer.expired()) {
                         long stop = clock.currentTimeInMillis();
@@ -914,8 +931,10 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
                         logTimer = getTableScanLogTimer();
                     }
 
-                    hasNext = rs.next();
-                    setSnapshotMarker(offset, firstTable, lastTable, rows == 1, !hasNext);
+                    final long fetchStart = System.nanoTime();
+                    next = reader.next();
+                    fetchNanos += System.nanoTime() - fetchStart;
+                    setSnapshotMarker(offset, firstTable, lastTable, rows == 1, next == null);
 
                     dispatcher.dispatchSnapshotEvent(snapshotContext.partition, table.id(),
                             getChangeRecordEmitter(snapshotContext.partition, offset, table.id(), row, sourceTableSnapshotTimestamp), snapshotReceiver);
@@ -924,6 +943,7 @@ protected void doCreateDataEventsForTable(ChangeEventSourceContext sourceContext
             else {
                 setSnapshotMarker(offset, firstTable, lastTable, false, true);
             }
+            reportReadDurations(snapshotContext, table.id(), readStart, fetchNanos);
 
             LOGGER.info("\t Finished exporting {} records for table '{}' ({} of {} tables); total duration '{}'",
                     rows, table.id(), tableOrder, tableCount, Strings.duration(clock.currentTimeInMillis() - exportStart));
@@ -971,27 +991,24 @@ protected void doCreateDataEventsForChunk(ChangeEventSourceContext sourceContext
         // Get key columns for query building
         final List<Column> keyColumns = getKeyColumnsForChunking(table);
 
-        // Build chunk query using standalone SnapshotChunkQueryBuilder
-        final SnapshotChunkQueryBuilder queryBuilder = new SnapshotChunkQueryBuilder(jdbcConnection);
-        final String chunkQuery = queryBuilder.buildChunkQuery(chunk, keyColumns, chunk.getBaseSelectStatement());
         final Instant sourceTableSnapshotTimestamp = getSnapshotSourceTimestamp(jdbcConnection, offset, tableId);
 
-        try (PreparedStatement statement = queryBuilder.prepareChunkStatement(chunk, keyColumns, chunkQuery);
-                ResultSet rs = statement.executeQuery()) {
+        final long readStart = System.nanoTime();
+        try (SnapshotRowReader reader = prefetching(chunk.getTable(), openChunkRowReader(jdbcConnection, chunk, keyColumns))) {
 
-            final ColumnUtils.ColumnArray columnArray = ColumnUtils.toArray(rs, table);
             long rows = 0;
             Timer logTimer = getTableScanLogTimer();
-            boolean hasNext = rs.next();
+            Object[] next = reader.next();
+            long fetchNanos = System.nanoTime() - readStart;
 
-            if (hasNext) {
-                while (hasNext) {
+            if (next != null) {
+                while (next != null) {
                     if (!sourceContext.isRunning()) {
                         throw new InterruptedException("Interrupted while snapshotting chunk " + chunk.getChunkId());
                     }
 
                     rows++;
-                    final Object[] row = jdbcConnection.rowToArray(table, rs, columnArray);
+                    final Object[] row = next;
 
                     if (logTimer.expired()) {
                         exportTimer.stop();
@@ -1002,10 +1019,12 @@ protected void doCreateDataEventsForChunk(ChangeEventSourceContext sourceContext
                         logTimer = getTableScanLogTimer();
                     }
 
-                    hasNext = rs.next();
+                    final long fetchStart = System.nanoTime();
+                    next = reader.next();
+                    fetchNanos += System.nanoTime() - fetchStart;
 
                     final boolean isFirstRecord = (rows == 1);
-                    final boolean isLastRecord = !hasNext;
+                    final boolean isLastRecord = (next == null);
 
                     // Coordinate emission based on marker type
                     emitRecordWithCoordination(snapshotContext, offset, snapshotReceiver, chunk, progress,
@@ -1016,6 +1035,7 @@ protected void doCreateDataEventsForChunk(ChangeEventSourceContext sourceContext
                 // Empty chunk - handle coordination for empty first/last chunks
                 handleEmptyChunkCoordination(chunk, progress, snapshotProgress);
             }
+            reportReadDurations(snapshotContext, tableId, readStart, fetchNanos);
 
             // Update progress
             exportTimer.stop();
@@ -1068,6 +1088,71 @@ protected ResultSet resultSetForDataEvents(String selectStatement, Statement sta
         return CancellableResultSet.from(statement.executeQuery(selectStatement));
     }
 
+    /**
+     * Opens the reader of the rows of a table scanned by the snapshot. By default, the select statement is executed
+     * with the {@link #readTableStatement(JdbcConnection, OptionalLong) read statement} and its result set is read
+     * through {@link JdbcConnection#rowToArray(Table, ResultSet, ColumnUtils.ColumnArray)}.
+     */
+    protected SnapshotRowReader openTableRowReader(JdbcConnection jdbcConnection, Table table, String selectStatement, OptionalLong rowCount)
+            throws SQLException {
+        final Statement statement = readTableStatement(jdbcConnection, rowCount);
+        try {
+            return new ResultSetRowReader(jdbcConnection, table, statement, resultSetForDataEvents(selectStatement, statement));
+        }
+        catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the reader of the rows of a chunk of a table scanned by the snapshot. By default, the chunk query is
+     * executed as a prepared statement with the chunk boundaries bound as parameters.
+     */
+    protected SnapshotRowReader openChunkRowReader(JdbcConnection jdbcConnection, SnapshotChunk chunk, List<Column> keyColumns)
+            throws SQLException {
+        // the rows are only streamed with a fetch size hint while they are prefetched, as otherwise the memory use and
+        // the behavior of the chunk queries would change for connectors not using the prefetching
+        final int fetchSize = connectorConfig.getSnapshotPrefetchBatches() > 0 ? connectorConfig.getSnapshotFetchSize() : 0;
+        final SnapshotChunkQueryBuilder queryBuilder = new SnapshotChunkQueryBuilder(jdbcConnection, fetchSize);
+        final String chunkQuery = queryBuilder.buildChunkQuery(chunk, keyColumns, chunk.getBaseSelectStatement());
+        final PreparedStatement statement = queryBuilder.prepareChunkStatement(chunk, keyColumns, chunkQuery);
+        try {
+            return new ResultSetRowReader(jdbcConnection, chunk.getTable(), statement, statement.executeQuery());
+        }
+        catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches the rows of the given reader ahead of their conversion on a separate thread if
+     * {@code snapshot.prefetch.batches} is set and the values of the table do not need the connection when converted.
+     */
+    private SnapshotRowReader prefetching(Table table, SnapshotRowReader reader) {
+        final ExecutorService executor = prefetchExecutor;
+        if (executor == null) {
+            return reader;
+        }
+        if (!PrefetchingSnapshotRowReader.isSupported(table)) {
+            LOGGER.debug("Table '{}' has LOB, XML, array or structured columns, its rows are read on the snapshot thread", table.id());
+            return reader;
+        }
+        return new PrefetchingSnapshotRowReader(reader, executor, connectorConfig.getSnapshotPrefetchBatches(),
+                PrefetchingSnapshotRowReader.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Reports the time spent on reading the rows of a table or chunk, split into the time spent on waiting for the
+     * database to return the rows and the time spent on converting and dispatching them.
+     */
+    private void reportReadDurations(RelationalSnapshotContext<P, O> snapshotContext, TableId tableId, long readStart, long fetchNanos) {
+        final long readNanos = System.nanoTime() - readStart;
+        snapshotProgressListener.readDurations(snapshotContext.partition, tableId, Duration.ofNanos(fetchNanos),
+                Duration.ofNanos(Math.max(0, readNanos - fetchNanos)));
+    }
+
     private void setSnapshotMarker(OffsetContext offset, boolean firstTable, boolean lastTable, boolean firstRecordInTable,
                                    boolean lastRecordInTable) {
         final SnapshotRecord marker = SnapshotMarkerResolver.resolve(
@@ -1236,6 +1321,47 @@ private void rollbackTransaction(Connection connection) {
         }
     }
 
+    /**
+     * Reads the rows of a snapshot query from its JDBC result set, closing the statement along with the result set.
+     */
+    private static class ResultSetRowReader implements SnapshotRowReader {
+
+        private final JdbcConnection jdbcConnection;
+        private final Table table;
+        private final Statement statement;
+        private final ResultSet rs;
+        private final ColumnUtils.ColumnArray columnArray;
+
+        ResultSetRowReader(JdbcConnection jdbcConnection, Table table, Statement statement, ResultSet rs) throws SQLException {
+            this.jdbcConnection = jdbcConnection;
+            this.table = table;
+            this.statement = statement;
+            this.rs = rs;
+            try {
+                this.columnArray = ColumnUtils.toArray(rs, table);
+            }
+            catch (SQLException | RuntimeException e) {
+                rs.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public Object[] next() throws SQLException {
+            return rs.next() ? jdbcConnection.rowToArray(table, rs, columnArray) : null;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                rs.close();
+            }
+            finally {
+                statement.close();
+            }
+        }
+    }
+
     /**
      * Determines the appropriate SnapshotRecord marker based on record position.
      */
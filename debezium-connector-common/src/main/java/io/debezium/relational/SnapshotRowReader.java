@@ -0,0 +1,28 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import java.sql.SQLException;
+
+/**
+ * Reads the rows of a table, or of a chunk of a table, scanned by a snapshot.
+ * <p>
+ * Rows are returned as the column arrays expected by the snapshot change record emitters, i.e. with each value at the
+ * index given by the {@link Column#position() position} of its column minus one.
+ */
+public interface SnapshotRowReader extends AutoCloseable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the values of the next row, or {@code null} if all rows have been read
+     * @throws SQLException if the row cannot be read
+     */
+    Object[] next() throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A {@link StructGenerator} specialized for the fields of one table schema.
+ * <p>
+ * Everything that only depends on the schema, i.e. the row positions, converters and fields of the populated fields,
+ * is resolved into arrays when the generator is created, and the length of each row is checked once instead of for
+ * every field. The converted values are stored via {@link Struct#put(Field, Object)} and are validated and rejected
+ * exactly as by the generic generator.
+ *
+ * @see RelationalDatabaseConnectorConfig.StructGeneratorMode#SPECIALIZED
+ */
+@ThreadSafe
+final class SpecializedStructGenerator implements StructGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecializedStructGenerator.class);
+
+    /**
+     * Handles a failure to convert or store the value of the field at the given position of the generator's fields.
+     */
+    @FunctionalInterface
+    interface FailureHandler {
+        void handle(int position, Object[] row, RuntimeException e);
+    }
+
+    private final Schema schema;
+    private final TableId tableId;
+    private final int[] positions;
+    private final int[] recordIndexes;
+    private final ValueConverter[] converters;
+    private final Field[] fields;
+    private final int minRowLength;
+    private final FailureHandler conversionFailureHandler;
+    private final FailureHandler putFailureHandler;
+
+    /**
+     * @param schema the schema of the generated structs; may not be null
+     * @param tableId the table identifier, used in error messages; may not be null
+     * @param recordIndexes the row position of each field
+     * @param fields the fields to populate; an entry may be null if the field is unused
+     * @param converters the converter of each field; an entry may be null if the field is not populated
+     * @param conversionFailureHandler handles failures of converters; may be null if they are to be propagated
+     * @param putFailureHandler handles values rejected by the schema; may not be null
+     */
+    SpecializedStructGenerator(Schema schema, TableId tableId, int[] recordIndexes, Field[] fields, ValueConverter[] converters,
+                               FailureHandler conversionFailureHandler, FailureHandler putFailureHandler) {
+        if (converters.length < recordIndexes.length || fields.length < recordIndexes.length) {
+            throw new ConnectException("Too few converters or schema fields, internal schema representation is probably out of sync with real database schema");
+        }
+        this.schema = schema;
+        this.tableId = tableId;
+        this.conversionFailureHandler = conversionFailureHandler;
+        this.putFailureHandler = putFailureHandler;
+
+        // only fields with a converter are populated
+        int count = 0;
+        for (int i = 0; i < recordIndexes.length; i++) {
+            if (converters[i] != null) {
+                count++;
+            }
+        }
+        this.positions = new int[count];
+        this.recordIndexes = new int[count];
+        this.converters = new ValueConverter[count];
+        this.fields = new Field[count];
+
+        int maxRecordIndex = -1;
+        for (int i = 0, j = 0; i < recordIndexes.length; i++) {
+            maxRecordIndex = Math.max(maxRecordIndex, recordIndexes[i]);
+            if (converters[i] == null) {
+                LOGGER.trace("converter is null...");
+                continue;
+            }
+            this.positions[j] = i;
+            this.recordIndexes[j] = recordIndexes[i];
+            this.converters[j] = converters[i];
+            this.fields[j] = fields[i];
+            j++;
+        }
+        this.minRowLength = maxRecordIndex + 1;
+    }
+
+    @Override
+    public Struct generateValue(Object[] row) {
+        if (row.length < minRowLength) {
+            LOGGER.error("Error requesting a row value, row: {}, requested index: {} of {}", row.length, minRowLength - 1, tableId);
+            throw new ConnectException("Data row is smaller than a column index, internal schema representation is probably out of sync with real database schema");
+        }
+        final Struct result = new Struct(schema);
+
+        for (int i = 0; i < converters.length; i++) {
+            Object value;
+            try {
+                value = converters[i].convert(row[recordIndexes[i]]);
+            }
+            catch (RuntimeException e) {
+                if (conversionFailureHandler == null) {
+                    throw e;
+                }
+                conversionFailureHandler.handle(positions[i], row, e);
+                continue;
+            }
+
+            try {
+                result.put(fields[i], value);
+            }
+            catch (RuntimeException e) {
+                putFailureHandler.handle(positions[i], row, e);
+            }
+        }
+        return result;
+    }
+}
@@ -76,7 +76,8 @@ protected void add(Column defn) {
         if (defn != null) {
             Column existing = columnWithName(defn.name());
             int position = existing != null ? existing.position() : sortedColumns.size() + 1;
-            sortedColumns.put(defn.name().toLowerCase(), defn.edit().position(position).create());
+            // column definitions are immutable, so an unchanged one is shared with the previous table definition
+            sortedColumns.put(defn.name().toLowerCase(), defn instanceof ColumnImpl && defn.position() == position ? defn : defn.edit().position(position).create());
         }
         assert positionsAreValid();
     }
@@ -284,6 +285,10 @@ protected void updatePositions() {
         });
     }
 
+    private static boolean needsTableCharset(Column column) {
+        return column.typeUsesCharset() && (column.charsetName() == null || "DEFAULT".equalsIgnoreCase(column.charsetName()));
+    }
+
     protected boolean positionsAreValid() {
         AtomicInteger position = new AtomicInteger(1);
         return sortedColumns.values().stream().allMatch(defn -> defn.position() >= position.getAndSet(defn.position() + 1));
@@ -301,7 +306,9 @@ public Table create() {
         }
         List<Column> columns = new ArrayList<>();
         sortedColumns.values().forEach(column -> {
-            column = column.edit().charsetNameOfTable(defaultCharsetName).create();
+            if (!(column instanceof ColumnImpl) || needsTableCharset(column)) {
+                column = column.edit().charsetNameOfTable(defaultCharsetName).create();
+            }
             columns.add(column);
         });
         updatePrimaryKeys();
@@ -19,7 +19,7 @@ final class TableImpl implements Table {
     private final TableId id;
     private final List<Column> columnDefs;
     private final List<String> pkColumnNames;
-    private final Map<String, Column> columnsByLowercaseName;
+    private volatile Map<String, Column> columnsByLowercaseName;
     private final String defaultCharsetName;
     private final String comment;
     private final List<Attribute> attributes;
@@ -34,11 +34,6 @@ final class TableImpl implements Table {
         this.id = id;
         this.columnDefs = Collections.unmodifiableList(sortedColumns);
         this.pkColumnNames = pkColumnNames == null ? Collections.emptyList() : Collections.unmodifiableList(pkColumnNames);
-        Map<String, Column> defsByLowercaseName = new LinkedHashMap<>();
-        for (Column def : this.columnDefs) {
-            defsByLowercaseName.put(def.name().toLowerCase(), def);
-        }
-        this.columnsByLowercaseName = Collections.unmodifiableMap(defsByLowercaseName);
         this.defaultCharsetName = defaultCharsetName;
         this.comment = comment;
         this.attributes = attributes;
@@ -68,7 +63,17 @@ public List<String> retrieveColumnNames() {
 
     @Override
     public Column columnWithName(String name) {
-        return columnsByLowercaseName.get(name.toLowerCase());
+        Map<String, Column> columnsByName = columnsByLowercaseName;
+        if (columnsByName == null) {
+            // built on first use only, most table definitions are never looked up by column name
+            final Map<String, Column> defsByLowercaseName = new LinkedHashMap<>();
+            for (Column def : columnDefs) {
+                defsByLowercaseName.put(def.name().toLowerCase(), def);
+            }
+            columnsByName = Collections.unmodifiableMap(defsByLowercaseName);
+            columnsByLowercaseName = columnsByName;
+        }
+        return columnsByName.get(name.toLowerCase());
     }
 
     @Override
@@ -29,6 +29,7 @@
 import io.debezium.data.Envelope;
 import io.debezium.data.SchemaUtil;
 import io.debezium.relational.Key.KeyMapper;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.StructGeneratorMode;
 import io.debezium.relational.Tables.ColumnNameFilter;
 import io.debezium.relational.mapping.ColumnMapper;
 import io.debezium.relational.mapping.ColumnMappers;
@@ -66,6 +67,7 @@ public class TableSchemaBuilder {
     private final CustomConverterRegistry customConverterRegistry;
     private final boolean multiPartitionMode;
     private final EventConvertingFailureHandlingMode eventConvertingFailureHandlingMode;
+    private final StructGeneratorMode structGeneratorMode;
 
     /**
      * Create a new instance of the builder.
@@ -102,9 +104,31 @@ public TableSchemaBuilder(ValueConverterProvider valueConverterProvider,
                               FieldNamer<Column> fieldNamer,
                               boolean multiPartitionMode,
                               EventConvertingFailureHandlingMode eventConvertingFailureHandlingMode) {
+        this(valueConverterProvider, defaultValueConverter, schemaNameAdjuster, customConverterRegistry, sourceInfoSchema,
+                fieldNamer, multiPartitionMode, eventConvertingFailureHandlingMode, StructGeneratorMode.GENERIC);
+    }
+
+    /**
+     * Create a new instance of the builder.
+     *
+     * @param valueConverterProvider the provider for obtaining {@link ValueConverter}s and {@link SchemaBuilder}s; may not be
+     *            null
+     * @param schemaNameAdjuster the adjuster for schema names; may not be null
+     * @param structGeneratorMode how the key and value generators of the created table schemas populate their structs;
+     *            may be null to use the generic generators
+     */
+    public TableSchemaBuilder(ValueConverterProvider valueConverterProvider,
+                              DefaultValueConverter defaultValueConverter,
+                              SchemaNameAdjuster schemaNameAdjuster,
+                              CustomConverterRegistry customConverterRegistry,
+                              Schema sourceInfoSchema,
+                              FieldNamer<Column> fieldNamer,
+                              boolean multiPartitionMode,
+                              EventConvertingFailureHandlingMode eventConvertingFailureHandlingMode,
+                              StructGeneratorMode structGeneratorMode) {
         this(valueConverterProvider, defaultValueConverter, schemaNameAdjuster,
                 customConverterRegistry, sourceInfoSchema, SchemaFactory.get().transactionBlockSchema(),
-                fieldNamer, multiPartitionMode, eventConvertingFailureHandlingMode);
+                fieldNamer, multiPartitionMode, eventConvertingFailureHandlingMode, structGeneratorMode);
     }
 
     /**
@@ -125,6 +149,31 @@ public TableSchemaBuilder(ValueConverterProvider valueConverterProvider,
                               FieldNamer<Column> fieldNamer,
                               boolean multiPartitionMode,
                               EventConvertingFailureHandlingMode eventConvertingFailureHandlingMode) {
+        this(valueConverterProvider, defaultValueConverter, schemaNameAdjuster, customConverterRegistry, sourceInfoSchema,
+                transactionSchema, fieldNamer, multiPartitionMode, eventConvertingFailureHandlingMode, StructGeneratorMode.GENERIC);
+    }
+
+    /**
+     * Create a new instance of the builder.
+     *
+     * @param valueConverterProvider the provider for obtaining {@link ValueConverter}s and {@link SchemaBuilder}s; may not be
+     *            null
+     * @param defaultValueConverter is used to convert the default value literal to a Java type
+     *            recognized by value converters for a subset of types. may be null.
+     * @param schemaNameAdjuster the adjuster for schema names; may not be null
+     * @param structGeneratorMode how the key and value generators of the created table schemas populate their structs;
+     *            may be null to use the generic generators
+     */
+    public TableSchemaBuilder(ValueConverterProvider valueConverterProvider,
+                              DefaultValueConverter defaultValueConverter,
+                              SchemaNameAdjuster schemaNameAdjuster,
+                              CustomConverterRegistry customConverterRegistry,
+                              Schema sourceInfoSchema,
+                              Schema transactionSchema,
+                              FieldNamer<Column> fieldNamer,
+                              boolean multiPartitionMode,
+                              EventConvertingFailureHandlingMode eventConvertingFailureHandlingMode,
+                              StructGeneratorMode structGeneratorMode) {
         this.schemaNameAdjuster = schemaNameAdjuster;
         this.valueConverterProvider = valueConverterProvider;
         this.defaultValueConverter = Optional.ofNullable(defaultValueConverter)
@@ -135,6 +184,7 @@ public TableSchemaBuilder(ValueConverterProvider valueConverterProvider,
         this.customConverterRegistry = customConverterRegistry;
         this.multiPartitionMode = multiPartitionMode;
         this.eventConvertingFailureHandlingMode = eventConvertingFailureHandlingMode;
+        this.structGeneratorMode = structGeneratorMode == null ? StructGeneratorMode.GENERIC : structGeneratorMode;
     }
 
     /**
@@ -153,6 +203,25 @@ public TableSchemaBuilder(ValueConverterProvider valueConverterProvider,
      * @return the table schema that can be used for sending rows of data for this table to Kafka Connect; never null
      */
     public TableSchema create(TopicNamingStrategy topicNamingStrategy, Table table, ColumnNameFilter filter, ColumnMappers mappers, KeyMapper keysMapper) {
+        return create(topicNamingStrategy, table, filter, mappers, keysMapper, null);
+    }
+
+    /**
+     * Create a {@link TableSchema} from the given {@link Table table definition}, reusing the key, value and envelope
+     * schema instances of a previously created {@link TableSchema} of the table wherever they are equal to the schemas
+     * built for the given definition. Records of a table whose schema is rebuilt, e.g. after it has been evicted from a
+     * cache, then keep referring to the same schema instances, which keeps caches keyed by schema identity effective.
+     *
+     * @param topicNamingStrategy the topic naming strategy
+     * @param table the table definition; may not be null
+     * @param filter the filter that specifies whether columns in the table should be included; may be null if all columns
+     *            are to be included
+     * @param mappers the mapping functions for columns; may be null if none of the columns are to be mapped to different values
+     * @param previous a table schema previously created for the table; may be null
+     * @return the table schema that can be used for sending rows of data for this table to Kafka Connect; never null
+     */
+    public TableSchema create(TopicNamingStrategy topicNamingStrategy, Table table, ColumnNameFilter filter, ColumnMappers mappers, KeyMapper keysMapper,
+                              TableSchema previous) {
         // Build the schemas ...
         final TableId tableId = table.id();
         final String schemaNamePrefix = topicNamingStrategy.recordSchemaPrefix(tableId);
@@ -195,6 +264,16 @@ public TableSchema create(TopicNamingStrategy topicNamingStrategy, Table table,
                 .withTransaction(transactionSchema)
                 .build();
 
+        if (previous != null) {
+            if (keySchema != null && keySchema.equals(previous.keySchema())) {
+                keySchema = previous.keySchema();
+            }
+            if (valSchema.equals(previous.valueSchema()) && envelope.schema().equals(previous.getEnvelopeSchema().schema())) {
+                valSchema = previous.valueSchema();
+                envelope = previous.getEnvelopeSchema();
+            }
+        }
+
         // Create the generators ...
         StructGenerator keyGenerator = createKeyGenerator(keySchema, tableId, tableKey.keyColumns(), topicNamingStrategy);
         StructGenerator valueGenerator = createValueGenerator(valSchema, tableId, table.columns(), filter, mappers);
@@ -224,6 +303,24 @@ protected StructGenerator createKeyGenerator(Schema schema, TableId columnSetNam
             Field[] fields = fieldsForColumns(schema, columns);
             int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, columnSetName, columns, null);
+            if (structGeneratorMode == StructGeneratorMode.SPECIALIZED) {
+                StructGenerator generator = new SpecializedStructGenerator(schema, columnSetName, recordIndexes, fields, converters, null,
+                        (position, row, e) -> {
+                            if (!(e instanceof DataException)) {
+                                // as by the generic generator, only values rejected by the schema are logged and skipped
+                                throw e;
+                            }
+                            Column col = columns.get(position);
+                            Loggings.logErrorAndTraceRecord(LOGGER, row,
+                                    "Failed to properly convert key value for '{}.{}' of type {}", columnSetName,
+                                    col.name(), col.typeName(), e);
+                        });
+                return (row) -> {
+                    Struct result = generator.generateValue(row);
+                    topicNamingStrategy.keyValueAugment().augment(columnSetName, schema, result);
+                    return result;
+                };
+            }
             return (row) -> {
                 Struct result = new Struct(schema);
                 for (int i = 0; i != numFields; ++i) {
@@ -293,6 +390,11 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
             Field[] fields = fieldsForColumns(schema, columnsThatShouldBeAdded);
             int numFields = recordIndexes.length;
             ValueConverter[] converters = convertersForColumns(schema, tableId, columnsThatShouldBeAdded, mappers);
+            if (structGeneratorMode == StructGeneratorMode.SPECIALIZED) {
+                SpecializedStructGenerator.FailureHandler failureHandler = (position, row, e) -> handleValueConversionFailure(tableId,
+                        columnsThatShouldBeAdded.get(position), row, e);
+                return new SpecializedStructGenerator(schema, tableId, recordIndexes, fields, converters, failureHandler, failureHandler);
+            }
             return (row) -> {
                 Struct result = new Struct(schema);
                 for (int i = 0; i != numFields; ++i) {
@@ -308,21 +410,7 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
                             result.put(fields[i], value);
                         }
                         catch (final Exception e) {
-                            Column col = columnsThatShouldBeAdded.get(i);
-                            String message = "Failed to properly convert data value for '{}.{}' of type {}";
-                            switch (eventConvertingFailureHandlingMode) {
-                                case FAIL:
-                                    Loggings.logErrorAndTraceRecord(LOGGER, row, message, tableId,
-                                            col.name(), col.typeName(), e);
-                                    throw new DebeziumException("Failed to properly convert data value for '" +
-                                            tableId + "." + col.name() + "' of type " + col.typeName(), e.getCause());
-                                case WARN:
-                                    Loggings.logWarningAndTraceRecord(LOGGER, row, message, tableId,
-                                            col.name(), col.typeName(), e);
-                                case SKIP:
-                                    Loggings.logDebugAndTraceRecord(LOGGER, row, message, tableId,
-                                            col.name(), col.typeName(), e);
-                            }
+                            handleValueConversionFailure(tableId, columnsThatShouldBeAdded.get(i), row, e);
                         }
                     }
                     else {
@@ -335,6 +423,23 @@ protected StructGenerator createValueGenerator(Schema schema, TableId tableId, L
         return null;
     }
 
+    private void handleValueConversionFailure(TableId tableId, Column col, Object[] row, Exception e) {
+        String message = "Failed to properly convert data value for '{}.{}' of type {}";
+        switch (eventConvertingFailureHandlingMode) {
+            case FAIL:
+                Loggings.logErrorAndTraceRecord(LOGGER, row, message, tableId,
+                        col.name(), col.typeName(), e);
+                throw new DebeziumException("Failed to properly convert data value for '" +
+                        tableId + "." + col.name() + "' of type " + col.typeName(), e.getCause());
+            case WARN:
+                Loggings.logWarningAndTraceRecord(LOGGER, row, message, tableId,
+                        col.name(), col.typeName(), e);
+            case SKIP:
+                Loggings.logDebugAndTraceRecord(LOGGER, row, message, tableId,
+                        col.name(), col.typeName(), e);
+        }
+    }
+
     protected int[] indexesForColumns(List<Column> columns) {
         int[] recordIndexes = new int[columns.size()];
         AtomicInteger i = new AtomicInteger(0);
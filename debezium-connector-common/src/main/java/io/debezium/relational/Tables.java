@@ -7,7 +7,6 @@
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -167,8 +166,16 @@ public Tables() {
     }
 
     protected Tables(Tables other, boolean tableIdCaseInsensitive) {
-        this(tableIdCaseInsensitive);
-        this.tablesByTableId.putAll(other.tablesByTableId);
+        this.tableIdCaseInsensitive = tableIdCaseInsensitive;
+        this.changes = new TableIds(tableIdCaseInsensitive);
+        if (other.tableIdCaseInsensitive == tableIdCaseInsensitive) {
+            // share the table definitions until either side is modified
+            this.tablesByTableId = other.lock.write(() -> new TablesById(other.tablesByTableId));
+        }
+        else {
+            this.tablesByTableId = new TablesById(tableIdCaseInsensitive);
+            this.tablesByTableId.putAll(other.tablesByTableId);
+        }
     }
 
     public void clear() {
@@ -255,9 +262,7 @@ public void removeTablesForDatabase(String schemaName) {
 
     public void removeTablesForDatabase(String catalogName, String schemaName) {
         lock.write(() -> {
-            tablesByTableId.entrySet().removeIf(tableIdTableEntry -> {
-                TableId tableId = tableIdTableEntry.getKey();
-
+            tablesByTableId.removeIf(tableId -> {
                 boolean equalCatalog = Objects.equals(catalogName, tableId.catalog());
                 boolean equalSchema = Objects.equals(schemaName, tableId.schema());
 
@@ -442,17 +447,40 @@ public String toString() {
 
     /**
      * A map of tables by id. Table names are stored lower-case if required as per the config.
+     * <p>
+     * A copy shares the map of the original until either of them is modified, so that copying a large number
+     * of table definitions is cheap; the table definitions themselves are immutable and always shared. Access
+     * must be guarded by the lock of the owning {@link Tables}, and creating a copy by the lock of the original.
      */
     private static class TablesById {
 
         private final boolean tableIdCaseInsensitive;
-        private final ConcurrentMap<TableId, Table> values;
+        private ConcurrentMap<TableId, Table> values;
+        private boolean shared;
 
         TablesById(boolean tableIdCaseInsensitive) {
             this.tableIdCaseInsensitive = tableIdCaseInsensitive;
             this.values = new ConcurrentHashMap<>();
         }
 
+        TablesById(TablesById other) {
+            this.tableIdCaseInsensitive = other.tableIdCaseInsensitive;
+            this.values = other.values;
+            this.shared = true;
+            other.shared = true;
+        }
+
+        /**
+         * Returns the map for modification, copying it first if it is shared with another instance.
+         */
+        private ConcurrentMap<TableId, Table> writableValues() {
+            if (shared) {
+                values = new ConcurrentHashMap<>(values);
+                shared = false;
+            }
+            return values;
+        }
+
         public Set<TableId> ids() {
             return values.keySet();
         }
@@ -467,12 +495,12 @@ public void putAll(TablesById tablesByTableId) {
                         .forEach(e -> put(e.getKey().toLowercase(), e.getValue()));
             }
             else {
-                values.putAll(tablesByTableId.values);
+                writableValues().putAll(tablesByTableId.values);
             }
         }
 
         public Table remove(TableId tableId) {
-            return values.remove(toLowerCaseIfNeeded(tableId));
+            return writableValues().remove(toLowerCaseIfNeeded(tableId));
         }
 
         public Table get(TableId tableId) {
@@ -480,7 +508,7 @@ public Table get(TableId tableId) {
         }
 
         public Table put(TableId tableId, Table updated) {
-            return values.put(toLowerCaseIfNeeded(tableId), updated);
+            return writableValues().put(toLowerCaseIfNeeded(tableId), updated);
         }
 
         int size() {
@@ -491,12 +519,18 @@ void forEach(BiConsumer<? super TableId, ? super Table> action) {
             values.forEach(action);
         }
 
-        Set<Map.Entry<TableId, Table>> entrySet() {
-            return values.entrySet();
+        void removeIf(Predicate<TableId> filter) {
+            writableValues().keySet().removeIf(filter);
         }
 
         void clear() {
-            values.clear();
+            if (shared) {
+                values = new ConcurrentHashMap<>();
+                shared = false;
+            }
+            else {
+                values.clear();
+            }
         }
 
         private TableId toLowerCaseIfNeeded(TableId tableId) {
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import jakarta.ws.rs.GET;
@@ -25,6 +26,8 @@
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.apache.kafka.connect.connector.Connector;
 
@@ -71,6 +74,26 @@ default String getAttributeValue(String attribute, ObjectName objectName, String
         }
     }
 
+    /**
+     * Returns the pipeline stage latencies of a task, which the MXBean exposes as a {@link TabularData} of key/value rows.
+     */
+    default Map<String, Long> getLatencies(ObjectName objectName, String connectorName, MBeanServer mBeanServer) {
+        try {
+            final Map<String, Long> latencies = new TreeMap<>();
+            final Object value = mBeanServer.getAttribute(objectName, LATENCY_ATTRIBUTE);
+            if (value instanceof TabularData) {
+                for (Object row : ((TabularData) value).values()) {
+                    final CompositeData entry = (CompositeData) row;
+                    latencies.put((String) entry.get("key"), (Long) entry.get("value"));
+                }
+            }
+            return latencies;
+        }
+        catch (Exception e) {
+            throw new RuntimeException("Failed to get attribute " + LATENCY_ATTRIBUTE + " for connector " + connectorName + e);
+        }
+    }
+
     default MetricsDescriptor queryMetrics(Map<String, String> connectorConfig, String connectorName, String connector, String context)
             throws MalformedObjectNameException {
 
@@ -110,7 +133,7 @@ default MetricsDescriptor queryMetrics(Map<String, String> connectorConfig, Stri
                 connectorAttributes = getAttributes(getConnectorAttributes(), objectName, connectorName, mBeanServer);
                 namespacesPayload.add(new MetricsDescriptor.Namespace("", connectorAttributes));
             }
-            tasksPayload.add(new MetricsDescriptor.Task(task, namespacesPayload));
+            tasksPayload.add(new MetricsDescriptor.Task(task, namespacesPayload, getLatencies(objectName, connectorName, mBeanServer)));
         }
 
         return new MetricsDescriptor(connectorName, tasksMax, connectorPayload, tasksPayload);
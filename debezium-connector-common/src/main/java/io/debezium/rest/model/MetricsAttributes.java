@@ -13,6 +13,7 @@
 public interface MetricsAttributes {
     List<String> CONNECTION_ATTRIBUTES = List.of("Connected");
     List<String> CONNECTOR_ATTRIBUTES = List.of("MilliSecondsSinceLastEvent", "TotalNumberOfEventsSeen");
+    String LATENCY_ATTRIBUTE = "StageLatencyMicros";
 
     List<String> getConnectionAttributes();
 
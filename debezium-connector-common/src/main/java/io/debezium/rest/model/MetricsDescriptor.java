@@ -55,9 +55,17 @@ public static class Task {
         @JsonProperty("namespaces")
         private List<Namespace> namespaces;
 
+        @JsonProperty("latency")
+        private Map<String, Long> latency;
+
         public Task(int id, List<Namespace> namespaces) {
+            this(id, namespaces, null);
+        }
+
+        public Task(int id, List<Namespace> namespaces, Map<String, Long> latency) {
             this.id = id;
             this.namespaces = namespaces;
+            this.latency = latency;
         }
     }
 
@@ -7,14 +7,26 @@
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
+import org.apache.kafka.common.utils.Utils;
 import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
+/**
+ * Approximates the heap size of a change event record.
+ * <p>
+ * The size of a {@link Struct} is split into a fixed part, which only depends on its schema, and a variable part given
+ * by its strings, bytes and nested values. The fixed part and the positions of the variable fields are computed once
+ * per schema into a {@link StructSizeTemplate}, so that sizing a record only adds up the lengths of its variable fields,
+ * without walking the fixed-width fields and without allocating, strings being measured by their UTF-8 length
+ * instead of being encoded.
+ */
 public class ApproximateStructSizeCalculator {
 
     private static final int EMPTY_STRUCT_SIZE = 56;
@@ -25,6 +37,13 @@ public class ApproximateStructSizeCalculator {
     private static final int EMPTY_PRIMITIVE = 24;
     private static final int REFERENCE_SIZE = 8;
 
+    /**
+     * A direct-mapped cache of the templates by schema identity; a template evicted by a colliding schema is simply
+     * rebuilt, which bounds the number of retained schemas without any locking.
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+    private static final StructSizeTemplate[] TEMPLATES = new StructSizeTemplate[TEMPLATE_CACHE_SIZE];
+
     public static long getApproximateRecordSize(SourceRecord changeEvent) {
         // assuming 100 bytes per entry of partition / offset / header
         long value = changeEvent.sourcePartition().size() * 100L + changeEvent.sourceOffset().size() * 100L + changeEvent.headers().size() * 100L;
@@ -32,21 +51,39 @@ public static long getApproximateRecordSize(SourceRecord changeEvent) {
 
         // key and value, ignoring schemas, assuming they are constant, shared on the heap
         return value + getStructSize((Struct) changeEvent.key()) + getStructSize((Struct) changeEvent.value())
-                + changeEvent.topic().getBytes().length;
+                + Utils.utf8Length(changeEvent.topic());
     }
 
     private static long getStructSize(Struct struct) {
         if (struct == null) {
             return 0;
         }
-        long size = EMPTY_STRUCT_SIZE;
-        final Schema schema = struct.schema();
-        for (Field field : schema.fields()) {
-            // every field requires a separate reference
-            size += REFERENCE_SIZE;
-            size += getValueSize(field.schema(), struct.getWithoutDefault(field.name()));
+        return templateFor(struct.schema()).getSize(struct);
+    }
+
+    private static StructSizeTemplate templateFor(Schema schema) {
+        final int index = System.identityHashCode(schema) & (TEMPLATE_CACHE_SIZE - 1);
+        StructSizeTemplate template = TEMPLATES[index];
+        if (template == null || template.schema != schema) {
+            template = new StructSizeTemplate(schema);
+            TEMPLATES[index] = template;
+        }
+        return template;
+    }
+
+    private static boolean isFixedWidth(Schema.Type type) {
+        switch (type) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case FLOAT32:
+            case INT32:
+            case FLOAT64:
+            case INT64:
+                return true;
+            default:
+                return false;
         }
-        return size;
     }
 
     @SuppressWarnings("unchecked")
@@ -62,20 +99,12 @@ private static long getValueSize(Schema schema, Object value) {
                 return EMPTY_PRIMITIVE;
             case STRING:
                 final String s = (String) value;
-                return (s == null) ? 0 : EMPTY_STRING_SIZE + s.getBytes().length;
+                return (s == null) ? 0 : EMPTY_STRING_SIZE + Utils.utf8Length(s);
             case BYTES:
-                byte[] b;
-                if (value instanceof BigDecimal) {
-                    b = ((BigDecimal) value).unscaledValue().toByteArray();
-                }
-                else if (value instanceof ByteBuffer) {
-                    ByteBuffer buffer = (ByteBuffer) value;
-                    b = toArray(buffer, 0, buffer.remaining());
+                if (value == null) {
+                    return 0;
                 }
-                else {
-                    b = (byte[]) value;
-                }
-                return (b == null) ? 0 : EMPTY_BYTES_SIZE + b.length;
+                return EMPTY_BYTES_SIZE + getBytesLength(value);
             case STRUCT:
                 return getStructSize((Struct) value);
             case ARRAY:
@@ -86,14 +115,34 @@ else if (value instanceof ByteBuffer) {
         return 0L;
     }
 
+    private static int getBytesLength(Object value) {
+        if (value instanceof BigDecimal) {
+            // the length of the two's-complement representation of the unscaled value
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1;
+        }
+        else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).remaining();
+        }
+        return ((byte[]) value).length;
+    }
+
     private static long getArraySize(Schema elementSchema, List<Object> array) {
         if (array == null) {
             return 0L;
         }
-        long size = EMPTY_ARRAY_SIZE;
-        for (Object element : array) {
-            size += REFERENCE_SIZE;
-            size += getValueSize(elementSchema, element);
+        long size = EMPTY_ARRAY_SIZE + (long) REFERENCE_SIZE * array.size();
+        if (isFixedWidth(elementSchema.type())) {
+            return size + (long) EMPTY_PRIMITIVE * array.size();
+        }
+        if (array instanceof RandomAccess) {
+            for (int i = 0; i < array.size(); i++) {
+                size += getValueSize(elementSchema, array.get(i));
+            }
+        }
+        else {
+            for (Object element : array) {
+                size += getValueSize(elementSchema, element);
+            }
         }
         return size;
     }
@@ -111,17 +160,47 @@ private static long getMapSize(Schema keySchema, Schema valueSchema, Map<Object,
         return size;
     }
 
-    private static byte[] toArray(ByteBuffer buffer, int offset, int size) {
-        byte[] dest = new byte[size];
-        if (buffer.hasArray()) {
-            System.arraycopy(buffer.array(), buffer.position() + buffer.arrayOffset() + offset, dest, 0, size);
+    /**
+     * The precomputed size of the fixed part of the structs of a schema and the fields making up their variable part.
+     */
+    private static final class StructSizeTemplate {
+
+        private final Schema schema;
+        private final long fixedSize;
+        private final Field[] variableFields;
+        private final boolean[] variableFieldHasDefault;
+
+        StructSizeTemplate(Schema schema) {
+            this.schema = schema;
+            long size = EMPTY_STRUCT_SIZE;
+            final List<Field> variable = new ArrayList<>();
+            for (Field field : schema.fields()) {
+                // every field requires a separate reference
+                size += REFERENCE_SIZE;
+                if (isFixedWidth(field.schema().type())) {
+                    size += EMPTY_PRIMITIVE;
+                }
+                else {
+                    variable.add(field);
+                }
+            }
+            this.fixedSize = size;
+            this.variableFields = variable.toArray(new Field[0]);
+            this.variableFieldHasDefault = new boolean[variableFields.length];
+            for (int i = 0; i < variableFields.length; i++) {
+                variableFieldHasDefault[i] = variableFields[i].schema().defaultValue() != null;
+            }
         }
-        else {
-            int pos = buffer.position();
-            buffer.position(pos + offset);
-            buffer.get(dest);
-            buffer.position(pos);
+
+        long getSize(Struct struct) {
+            long size = fixedSize;
+            for (int i = 0; i < variableFields.length; i++) {
+                final Field field = variableFields[i];
+                // the positional access would substitute the default value for a null value
+                final Object value = variableFieldHasDefault[i] ? struct.getWithoutDefault(field.name()) : struct.get(field);
+                size += getValueSize(field.schema(), value);
+            }
+            return size;
         }
-        return dest;
     }
-}
\ No newline at end of file
+}
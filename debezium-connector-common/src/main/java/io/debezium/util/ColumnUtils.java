@@ -30,8 +30,10 @@ public static MappedColumns toMap(Table table) {
     }
 
     public static ColumnArray toArray(ResultSet resultSet, Table table) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
+        return toArray(resultSet.getMetaData(), table);
+    }
 
+    public static ColumnArray toArray(ResultSetMetaData metaData, Table table) throws SQLException {
         Column[] columns = new Column[metaData.getColumnCount()];
         int greatestColumnPosition = 0;
         for (int i = 0; i < columns.length; i++) {
@@ -5,9 +5,11 @@
  */
 package io.debezium.connector.base;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -16,10 +18,12 @@
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import io.debezium.config.CommonConnectorConfig.LatencyHistograms;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.util.LoggingContext;
 
@@ -90,6 +94,132 @@ void shouldQueueAndPollMessages(int noOfWriters, int noOfReaders, int noOfEvents
         }
     }
 
+    @Test
+    void shouldRecordQueueDwellTime() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .maxBatchSize(2)
+                .maxQueueSize(3)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .pollInterval(Duration.ofMillis(10))
+                .latencyHistograms(LatencyHistograms.STAGE)
+                .build();
+
+        // wrap around the enqueue time ring buffer a few times
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(EVENT);
+            queue.enqueue(EVENT);
+            assertEquals(2, queue.poll().size());
+        }
+
+        Map<String, Long> latencies = queue.latencyMeter().getStageLatencyMicros();
+        assertEquals(10L, latencies.get("queue.count"));
+        assertEquals(0L, latencies.get("commit.count"));
+    }
+
+    @Test
+    void shouldNotRecordLatenciesByDefault() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .maxBatchSize(2)
+                .maxQueueSize(3)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .pollInterval(Duration.ofMillis(10))
+                .build();
+
+        queue.enqueue(EVENT);
+        queue.poll();
+
+        assertEquals(0, queue.latencyMeter().getStageLatencyMicros().size());
+    }
+
+    @Test
+    void shouldConflateChangesOfTheSameKey() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = conflatingQueue(10, Duration.ofHours(1));
+        DataChangeEvent a1 = getDataChangeEvent("a1");
+        DataChangeEvent b1 = getDataChangeEvent("b1");
+        DataChangeEvent a2 = getDataChangeEvent("a2");
+
+        queue.enqueueConflated("a", a1, null);
+        queue.enqueueConflated("b", b1, null);
+        queue.enqueueConflated("a", a2, null);
+        // an event which is not conflated ends the window, preserving the order of the events
+        queue.enqueue(EVENT);
+
+        assertThat(queue.poll()).containsExactly(b1, a2, EVENT);
+        assertEquals(3L, queue.conflatableRecords());
+        assertEquals(1L, queue.conflatedRecords());
+    }
+
+    @Test
+    void shouldReplaceDeleteAlongWithItsTombstone() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = conflatingQueue(10, Duration.ofHours(1));
+        DataChangeEvent update = getDataChangeEvent("update");
+        DataChangeEvent delete = getDataChangeEvent("delete");
+        DataChangeEvent tombstone = getDataChangeEvent("tombstone");
+        DataChangeEvent create = getDataChangeEvent("create");
+
+        queue.enqueueConflated("a", update, null);
+        queue.enqueueConflated("a", delete, tombstone);
+        queue.enqueue(EVENT);
+        assertThat(queue.poll()).containsExactly(delete, tombstone, EVENT);
+
+        queue.enqueueConflated("a", delete, tombstone);
+        queue.enqueueConflated("a", create, null);
+        queue.enqueue(EVENT);
+        assertThat(queue.poll()).containsExactly(create, EVENT);
+
+        assertEquals(6L, queue.conflatableRecords());
+        assertEquals(3L, queue.conflatedRecords());
+    }
+
+    @Test
+    void shouldPollConflatedChangesOnceTheWindowEnded() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = conflatingQueue(10, Duration.ofMillis(200));
+        DataChangeEvent a1 = getDataChangeEvent("a1");
+        DataChangeEvent a2 = getDataChangeEvent("a2");
+
+        queue.enqueueConflated("a", a1, null);
+        queue.enqueueConflated("a", a2, null);
+        assertThat(queue.poll()).isEmpty();
+
+        Thread.sleep(300);
+        assertThat(queue.poll()).containsExactly(a2);
+    }
+
+    @Test
+    void shouldEndTheWindowOnceABatchIsConflated() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = conflatingQueue(2, Duration.ofHours(1));
+        DataChangeEvent a1 = getDataChangeEvent("a1");
+        DataChangeEvent b1 = getDataChangeEvent("b1");
+
+        queue.enqueueConflated("a", a1, null);
+        queue.enqueueConflated("b", b1, null);
+
+        assertThat(queue.poll()).containsExactly(a1, b1);
+    }
+
+    @Test
+    void shouldNotConflateByDefault() throws InterruptedException {
+        ChangeEventQueue<DataChangeEvent> queue = conflatingQueue(10, null);
+        DataChangeEvent a1 = getDataChangeEvent("a1");
+        DataChangeEvent a2 = getDataChangeEvent("a2");
+
+        queue.enqueueConflated("a", a1, null);
+        queue.enqueueConflated("a", a2, null);
+
+        assertThat(queue.poll()).containsExactly(a1, a2);
+        assertEquals(0L, queue.conflatableRecords());
+    }
+
+    private static ChangeEventQueue<DataChangeEvent> conflatingQueue(int maxBatchSize, Duration conflationWindow) {
+        return new ChangeEventQueue.Builder<DataChangeEvent>()
+                .maxBatchSize(maxBatchSize)
+                .maxQueueSize(maxBatchSize * 2)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .pollInterval(Duration.ofMillis(10))
+                .conflationWindow(conflationWindow)
+                .build();
+    }
+
     private static Thread getWriter(ChangeEventQueue<DataChangeEvent> queue, int noOfEvents) {
         return new Thread(() -> {
             for (int i = 0; i < noOfEvents; i++) {
@@ -117,9 +247,13 @@ private static Thread getReader(ChangeEventQueue<DataChangeEvent> queue, long to
     }
 
     private static DataChangeEvent getDataChangeEvent() {
+        return getDataChangeEvent("Change Data Capture Even via Debezium");
+    }
+
+    private static DataChangeEvent getDataChangeEvent(String value) {
         Schema valueSchema = SchemaBuilder.struct().field("cdc", Schema.STRING_SCHEMA).build();
         return new DataChangeEvent(new SourceRecord(java.util.Collections.emptyMap(), java.util.Collections.emptyMap(), "dummy",
-                valueSchema, new Struct(valueSchema).put("cdc", "Change Data Capture Even via Debezium")));
+                valueSchema, new Struct(valueSchema).put("cdc", value)));
     }
 
 }
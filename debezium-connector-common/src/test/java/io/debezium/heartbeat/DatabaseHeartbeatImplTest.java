@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.heartbeat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.DebeziumException;
+import io.debezium.config.CommonConnectorConfig;
+import io.debezium.jdbc.JdbcConnection;
+
+public class DatabaseHeartbeatImplTest {
+
+    private static final String QUERY = "UPDATE heartbeat SET ts = now()";
+
+    private JdbcConnection connection;
+    private HeartbeatMetrics metrics;
+
+    @BeforeEach
+    public void before() {
+        final CommonConnectorConfig connectorConfig = mock(CommonConnectorConfig.class);
+        when(connectorConfig.getContextName()).thenReturn("test");
+        when(connectorConfig.getLogicalName()).thenReturn("server");
+        when(connectorConfig.getTaskId()).thenReturn("0");
+        when(connectorConfig.getCustomMetricTags()).thenReturn(Map.of());
+
+        connection = mock(JdbcConnection.class);
+        metrics = new HeartbeatMetrics(connectorConfig);
+    }
+
+    @Test
+    public void shouldExecuteQueryWithEveryHeartbeat() throws Exception {
+        final DatabaseHeartbeatImpl heartbeat = new DatabaseHeartbeatImpl(connection, QUERY, null, metrics, null, null);
+        try {
+            heartbeat.forcedBeat(Map.of(), Map.of(), null);
+            heartbeat.forcedBeat(Map.of(), Map.of(), null);
+
+            verify(connection, times(2)).execute(QUERY);
+            assertThat(metrics.getActionQueryExecutions()).isEqualTo(2);
+            assertThat(metrics.getActionQueryFailures()).isZero();
+            assertThat(metrics.getMilliSecondsSinceLastSuccessfulActionQuery()).isNotNegative();
+        }
+        finally {
+            heartbeat.close();
+        }
+        verify(connection).close();
+    }
+
+    @Test
+    public void shouldRegisterMetricsOfTask() throws Exception {
+        final ObjectName name = new ObjectName("debezium.test:type=connector-metrics,server=server,task=0,context=heartbeat");
+        final DatabaseHeartbeatImpl heartbeat = new DatabaseHeartbeatImpl(connection, QUERY, null, metrics, null, null);
+        try {
+            assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isTrue();
+        }
+        finally {
+            heartbeat.close();
+        }
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+    }
+
+    @Test
+    public void shouldExecuteQueryOnExecutor() throws Exception {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        final DatabaseHeartbeatImpl heartbeat = new DatabaseHeartbeatImpl(connection, QUERY, null, metrics, executor, Duration.ofMillis(10));
+        try {
+            // the metrics are updated after the query has been executed
+            Awaitility.await()
+                    .atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(metrics.getActionQueryExecutions()).isGreaterThanOrEqualTo(2));
+            verify(connection, atLeast(2)).execute(QUERY);
+        }
+        finally {
+            heartbeat.close();
+        }
+        assertThat(executor.isTerminated()).isTrue();
+    }
+
+    @Test
+    public void shouldNotExecuteQueryWithHeartbeatWhenExecutedOnExecutor() throws Exception {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        final DatabaseHeartbeatImpl heartbeat = new DatabaseHeartbeatImpl(connection, QUERY, null, metrics, executor, Duration.ofHours(1));
+        try {
+            heartbeat.forcedBeat(Map.of(), Map.of(), null);
+            verify(connection, never()).execute(QUERY);
+        }
+        finally {
+            heartbeat.close();
+        }
+    }
+
+    @Test
+    public void shouldRethrowFailureOfExecutorWithNextHeartbeat() throws Exception {
+        when(connection.execute(QUERY)).thenThrow(new SQLException("denied", "42000"));
+        final HeartbeatErrorHandler errorHandler = e -> {
+            throw new DebeziumException("Could not execute heartbeat action query", e);
+        };
+
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        final DatabaseHeartbeatImpl heartbeat = new DatabaseHeartbeatImpl(connection, QUERY, errorHandler, metrics, executor, Duration.ofMillis(10));
+        try {
+            // the failure is handed over once the execution has completed
+            Awaitility.await()
+                    .atMost(5, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThatThrownBy(() -> heartbeat.forcedBeat(Map.of(), Map.of(), null))
+                            .isInstanceOf(DebeziumException.class)
+                            .hasCauseInstanceOf(SQLException.class));
+
+            // the failed execution is not rescheduled
+            verify(connection, times(1)).execute(QUERY);
+            assertThat(metrics.getActionQueryExecutions()).isEqualTo(1);
+            assertThat(metrics.getActionQueryFailures()).isEqualTo(1);
+            assertThat(metrics.getMilliSecondsSinceLastSuccessfulActionQuery()).isEqualTo(-1);
+        }
+        finally {
+            heartbeat.close();
+        }
+    }
+}
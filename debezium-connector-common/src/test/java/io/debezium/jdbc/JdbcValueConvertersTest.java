@@ -0,0 +1,78 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.apache.kafka.connect.data.Field;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.jdbc.JdbcValueConverters.DecimalMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.ValueConverter;
+
+public class JdbcValueConvertersTest {
+
+    @Test
+    public void shouldConvertValuesOfExpectedType() {
+        final JdbcValueConverters converters = new JdbcValueConverters();
+
+        final Integer integer = 42;
+        assertThat(converter(converters, Types.INTEGER, "INT", true).convert(integer)).isSameAs(integer);
+        assertThat(converter(converters, Types.INTEGER, "INT", true).convert(42L)).isEqualTo(42);
+        assertThat(converter(converters, Types.INTEGER, "INT", true).convert(null)).isNull();
+        assertThat(converter(converters, Types.INTEGER, "INT", false).convert(null)).isEqualTo(0);
+
+        final Long bigint = 42L;
+        assertThat(converter(converters, Types.BIGINT, "BIGINT", true).convert(bigint)).isSameAs(bigint);
+        assertThat(converter(converters, Types.BIGINT, "BIGINT", true).convert("42")).isEqualTo(42L);
+
+        final Double dbl = 4.2d;
+        assertThat(converter(converters, Types.DOUBLE, "DOUBLE", true).convert(dbl)).isSameAs(dbl);
+        assertThat(converter(converters, Types.DOUBLE, "DOUBLE", true).convert(4.5f)).isEqualTo(4.5d);
+
+        assertThat(converter(converters, Types.BOOLEAN, "BOOLEAN", true).convert(Boolean.TRUE)).isEqualTo(Boolean.TRUE);
+        assertThat(converter(converters, Types.BOOLEAN, "BOOLEAN", true).convert(0)).isEqualTo(Boolean.FALSE);
+    }
+
+    @Test
+    public void shouldConvertDecimalsInAllModes() {
+        final BigDecimal decimal = new BigDecimal("12.50");
+
+        assertThat(converter(new JdbcValueConverters(), Types.DECIMAL, "DECIMAL", true).convert(decimal)).isSameAs(decimal);
+        assertThat(converter(new JdbcValueConverters(DecimalMode.DOUBLE, TemporalPrecisionMode.ADAPTIVE, ZoneOffset.UTC, null, null, null),
+                Types.DECIMAL, "DECIMAL", true).convert(decimal)).isEqualTo(12.5d);
+        assertThat(converter(new JdbcValueConverters(DecimalMode.STRING, TemporalPrecisionMode.ADAPTIVE, ZoneOffset.UTC, null, null, null),
+                Types.DECIMAL, "DECIMAL", true).convert(decimal)).isEqualTo("12.50");
+        assertThat(converter(new JdbcValueConverters(DecimalMode.STRING, TemporalPrecisionMode.ADAPTIVE, ZoneOffset.UTC, null, null, null),
+                Types.DECIMAL, "DECIMAL", true).convert(12L)).isEqualTo("12");
+    }
+
+    @Test
+    public void shouldConvertTimestampsToEpochValues() {
+        final LocalDateTime dateTime = LocalDateTime.parse("2024-03-01T10:15:30.123456");
+        final java.sql.Timestamp timestamp = java.sql.Timestamp.valueOf(dateTime);
+        final long micros = dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 123_456L;
+
+        final JdbcValueConverters micro = new JdbcValueConverters(null, TemporalPrecisionMode.MICROSECONDS, ZoneOffset.UTC, null, null, null);
+        assertThat(converter(micro, Types.TIMESTAMP, "TIMESTAMP", true).convert(dateTime)).isEqualTo(micros);
+        assertThat(converter(micro, Types.TIMESTAMP, "TIMESTAMP", true).convert(timestamp)).isEqualTo(micros);
+        assertThat(converter(micro, Types.TIMESTAMP, "TIMESTAMP", false).convert(null)).isEqualTo(0L);
+
+        final JdbcValueConverters nano = new JdbcValueConverters(null, TemporalPrecisionMode.NANOSECONDS, ZoneOffset.UTC, null, null, null);
+        assertThat(converter(nano, Types.TIMESTAMP, "TIMESTAMP", true).convert(timestamp)).isEqualTo(micros * 1_000L);
+    }
+
+    private static ValueConverter converter(JdbcValueConverters converters, int jdbcType, String typeName, boolean optional) {
+        final Column column = Column.editor().name("c").type(typeName).jdbcType(jdbcType).length(10).scale(2).optional(optional).create();
+        return converters.converter(column, new Field(column.name(), 0, converters.schemaBuilder(column).build()));
+    }
+}
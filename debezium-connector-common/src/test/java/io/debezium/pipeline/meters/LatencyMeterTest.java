@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.pipeline.meters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.config.CommonConnectorConfig.LatencyHistograms;
+import io.debezium.relational.TableId;
+
+public class LatencyMeterTest {
+
+    private static final TableId CUSTOMERS = new TableId("inventory", null, "customers");
+
+    @Test
+    public void shouldComputePercentilesWithinBucketPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i);
+        }
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getTotalCount()).isEqualTo(10_000);
+        assertThat(snapshot.getMaxValue()).isEqualTo(10_000);
+        assertThat(snapshot.getValueAtPercentile(50.0)).isBetween(5_000L, 5_000L + 5_000L / 16);
+        assertThat(snapshot.getValueAtPercentile(99.0)).isBetween(9_900L, 10_000L);
+        assertThat(snapshot.getValueAtPercentile(100.0)).isEqualTo(10_000);
+    }
+
+    @Test
+    public void shouldRecordSmallValuesExactly() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(-5);
+
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(0);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(3);
+
+        histogram.reset();
+        assertThat(histogram.snapshot().getTotalCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(99.0)).isZero();
+    }
+
+    @Test
+    public void shouldMapEveryValueToTheBucketContainingIt() {
+        for (long value : new long[]{ 0, 15, 16, 31, 32, 33, 1_000, 65_535, 1_000_000_007L, LatencyHistogram.MAX_VALUE }) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.highestValueInBucket(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestValueInBucket(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void shouldRecordStagesAndTables() {
+        final LatencyMeter meter = new LatencyMeter(LatencyHistograms.TABLE);
+        meter.onSourceLag(CUSTOMERS, Duration.ofMillis(20));
+        meter.onDispatched(CUSTOMERS, meter.startNanos());
+        meter.onDequeued(0L, 5_000L);
+
+        meter.onBatchPolled(2);
+        meter.onRecordCommitted();
+        meter.onRecordCommitted();
+        // not part of any polled batch
+        meter.onRecordCommitted();
+
+        final Map<String, Long> stages = meter.getStageLatencyMicros();
+        assertThat(stages).containsEntry("source.count", 1L)
+                .containsEntry("dispatch.count", 1L)
+                .containsEntry("queue.count", 1L)
+                .containsEntry("queue.max", 5L)
+                .containsEntry("commit.count", 2L);
+        assertThat(stages.get("source.p99")).isBetween(20_000L, 20_000L + 20_000L / 16);
+
+        final Map<String, Long> tables = meter.getTableLatencyMicros();
+        assertThat(tables).containsEntry("inventory.customers.source.max", 20_000L)
+                .containsKey("inventory.customers.dispatch.p99")
+                .doesNotContainKey("inventory.customers.queue.p99");
+
+        meter.reset();
+        assertThat(meter.getStageLatencyMicros()).containsEntry("source.count", 0L);
+        assertThat(meter.getTableLatencyMicros()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotRecordTablesForStageMode() {
+        final LatencyMeter meter = new LatencyMeter(LatencyHistograms.STAGE);
+        meter.onSourceLag(CUSTOMERS, Duration.ofMillis(20));
+
+        assertThat(meter.getStageLatencyMicros()).containsEntry("source.count", 1L);
+        assertThat(meter.getTableLatencyMicros()).isEmpty();
+    }
+
+    @Test
+    public void shouldRecordNothingWhenDisabled() {
+        final LatencyMeter meter = LatencyMeter.NONE;
+        meter.onSourceLag(CUSTOMERS, Duration.ofMillis(20));
+        meter.onBatchPolled(1);
+        meter.onRecordCommitted();
+
+        assertThat(meter.startNanos()).isZero();
+        assertThat(meter.getStageLatencyMicros()).isEmpty();
+        assertThat(meter.getTableLatencyMicros()).isEmpty();
+    }
+}
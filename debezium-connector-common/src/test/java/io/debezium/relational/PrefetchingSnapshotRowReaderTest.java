@@ -0,0 +1,127 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingSnapshotRowReaderTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void before() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnAllRowsInOrder() throws Exception {
+        final CountingReader delegate = new CountingReader(1000, -1);
+        try (SnapshotRowReader reader = new PrefetchingSnapshotRowReader(delegate, executor, 2, 7)) {
+            for (int i = 0; i < 1000; i++) {
+                assertThat(reader.next()).containsExactly(i);
+            }
+            assertThat(reader.next()).isNull();
+            assertThat(reader.next()).isNull();
+        }
+        assertThat(delegate.closed).isTrue();
+    }
+
+    @Test
+    public void shouldNotSupportTablesWithLocatorColumns() {
+        final TableId id = new TableId("db", null, "t");
+        final Column key = Column.editor().name("id").type("INT").jdbcType(Types.INTEGER).create();
+
+        assertThat(PrefetchingSnapshotRowReader.isSupported(Table.editor().tableId(id)
+                .addColumn(key)
+                .addColumn(Column.editor().name("name").type("VARCHAR").jdbcType(Types.VARCHAR).create())
+                .create())).isTrue();
+        assertThat(PrefetchingSnapshotRowReader.isSupported(Table.editor().tableId(id)
+                .addColumn(key)
+                .addColumn(Column.editor().name("doc").type("CLOB").jdbcType(Types.CLOB).create())
+                .create())).isFalse();
+        assertThat(PrefetchingSnapshotRowReader.isSupported(Table.editor().tableId(id)
+                .addColumn(key)
+                .addColumn(Column.editor().name("data").type("XMLTYPE").jdbcType(Types.SQLXML).create())
+                .create())).isFalse();
+    }
+
+    @Test
+    public void shouldReturnNoRowsOfEmptyResult() throws Exception {
+        try (SnapshotRowReader reader = new PrefetchingSnapshotRowReader(new CountingReader(0, -1), executor, 2, 7)) {
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldRethrowFetchFailureAfterFetchedRows() throws Exception {
+        try (SnapshotRowReader reader = new PrefetchingSnapshotRowReader(new CountingReader(1000, 10), executor, 2, 4)) {
+            for (int i = 0; i < 10; i++) {
+                assertThat(reader.next()).containsExactly(i);
+            }
+            assertThatThrownBy(reader::next).isInstanceOf(SQLException.class).hasMessage("fetch failed");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldStopFetchingWhenClosedEarly() throws Exception {
+        final CountingReader delegate = new CountingReader(Integer.MAX_VALUE, -1);
+        try (SnapshotRowReader reader = new PrefetchingSnapshotRowReader(delegate, executor, 2, 4)) {
+            assertThat(reader.next()).containsExactly(0);
+        }
+        assertThat(delegate.closed).isTrue();
+        // the buffer holds at most two batches, the fetcher holds back the next one
+        assertThat(delegate.fetched.get()).isLessThanOrEqualTo(4 * 4);
+    }
+
+    private static class CountingReader implements SnapshotRowReader {
+
+        private final int rows;
+        private final int failAt;
+        private final AtomicInteger fetched = new AtomicInteger();
+        private volatile boolean closed;
+
+        CountingReader(int rows, int failAt) {
+            this.rows = rows;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public Object[] next() throws SQLException {
+            final int row = fetched.get();
+            if (row == failAt) {
+                throw new SQLException("fetch failed");
+            }
+            if (row == rows) {
+                return null;
+            }
+            fetched.incrementAndGet();
+            return new Object[]{ row };
+        }
+
+        @Override
+        public void close() {
+            assertThat(closed).isFalse();
+            closed = true;
+        }
+    }
+}
@@ -9,6 +9,7 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.Types;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -203,6 +204,22 @@ public void shouldRemoveColumnByName() {
         assertValidPositions(editor);
     }
 
+    @Test
+    void shouldShareUnchangedColumnsWithEditedTable() {
+        Column c1 = columnEditor.name("C1").type("VARCHAR").jdbcType(Types.VARCHAR).length(10).charsetName("utf8mb4").create();
+        Column c2 = columnEditor.name("C2").type("ENUM").jdbcType(Types.CHAR).charsetName("utf8mb4").enumValues(List.of("a", "b")).create();
+        table = editor.tableId(id).addColumns(c1, c2).create();
+
+        Table altered = table.edit().addColumn(Column.editor().name("C3").type("INT").jdbcType(Types.INTEGER).create()).create();
+        assertThat(altered.columnWithName("C1")).isSameAs(table.columnWithName("C1"));
+        assertThat(altered.columnWithName("C2")).isSameAs(table.columnWithName("C2"));
+        assertThat(altered.columnWithName("C3").position()).isEqualTo(3);
+
+        Column copy = c2.edit().name("C4").create();
+        assertThat(copy.enumValues()).isSameAs(c2.enumValues());
+        assertThat(copy.typeName()).isSameAs(c2.typeName());
+    }
+
     protected void assertValidPositions(TableEditor editor) {
         AtomicInteger position = new AtomicInteger(1);
         assertThat(editor.columns().stream().allMatch(defn -> defn.position() == position.getAndIncrement())).isTrue();
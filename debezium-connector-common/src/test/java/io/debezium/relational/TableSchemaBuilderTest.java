@@ -19,10 +19,12 @@
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.CommonConnectorConfig.EventConvertingFailureHandlingMode;
 import io.debezium.config.Configuration;
 import io.debezium.data.VerifyRecord;
@@ -32,6 +34,7 @@
 import io.debezium.junit.relational.TestRelationalDatabaseConfig;
 import io.debezium.relational.Key.CustomKeyMapper;
 import io.debezium.relational.Key.KeyMapper;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.StructGeneratorMode;
 import io.debezium.relational.mapping.ColumnMappers;
 import io.debezium.schema.DefaultTopicNamingStrategy;
 import io.debezium.schema.FieldNameSelector;
@@ -782,4 +785,50 @@ public void shouldLogMessageOrThrowExceptionWhenConversionIsFailed() {
         assertThat(logInterceptor.containsWarnMessage(errorMessage)).isFalse();
         logInterceptor.clear();
     }
+
+    @Test
+    public void shouldGenerateSameStructsWithSpecializedGenerator() {
+        final TableSchema generic = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), defaultFieldNamer, false, EventConvertingFailureHandlingMode.FAIL)
+                .create(topicNamingStrategy, table, null, null, null);
+        final TableSchema specialized = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), defaultFieldNamer, false, EventConvertingFailureHandlingMode.FAIL,
+                StructGeneratorMode.SPECIALIZED)
+                .create(topicNamingStrategy, table, null, null, null);
+
+        final Struct key = specialized.keyFromColumnData(data);
+        final Struct value = specialized.valueFromColumnData(data);
+        key.validate();
+        value.validate();
+        assertThat(key).isEqualTo(generic.keyFromColumnData(data));
+        assertThat(value).isEqualTo(generic.valueFromColumnData(data));
+
+        assertThrows(ConnectException.class, () -> specialized.valueFromColumnData(new Object[]{ "c1value", 3.142d }));
+    }
+
+    @Test
+    public void shouldHandleConversionFailureWithSpecializedGenerator() {
+        LogInterceptor logInterceptor = new LogInterceptor(TableSchemaBuilder.class);
+
+        Object[] data = new Object[]{ "c1value", 3.142d, null, "converting_failed_value", null, null, null,
+                null, null, null };
+        String errorMessage = "Failed to properly convert data value for 'catalog.schema.table.C4' of type COUNTER";
+
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), defaultFieldNamer, false, EventConvertingFailureHandlingMode.FAIL,
+                StructGeneratorMode.SPECIALIZED)
+                .create(topicNamingStrategy, table, null, null, null);
+        final TableSchema failing = schema;
+        assertThat(assertThrows(DebeziumException.class, () -> failing.valueFromColumnData(data)).getMessage()).contains(errorMessage);
+
+        schema = new TableSchemaBuilder(new JdbcValueConverters(), null, adjuster, customConverterRegistry,
+                SchemaBuilder.struct().build(), defaultFieldNamer, false, EventConvertingFailureHandlingMode.WARN,
+                StructGeneratorMode.SPECIALIZED)
+                .create(topicNamingStrategy, table, null, null, null);
+        final Struct value = schema.valueFromColumnData(data);
+
+        assertThat(value.get("C4")).isNull();
+        assertThat(value.get("C1")).isEqualTo("c1value");
+        assertThat(logInterceptor.containsWarnMessage(errorMessage)).isTrue();
+    }
 }
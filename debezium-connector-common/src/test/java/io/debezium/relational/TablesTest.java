@@ -0,0 +1,77 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TablesTest {
+
+    private final TableId t1 = new TableId("db", null, "t1");
+    private final TableId t2 = new TableId("db", null, "t2");
+    private Tables tables;
+
+    @BeforeEach
+    void beforeEach() {
+        tables = new Tables();
+        tables.overwriteTable(table(t1, "c1"));
+        tables.overwriteTable(table(t2, "c1"));
+    }
+
+    @Test
+    void shouldNotPropagateChangesOfCloneToOriginal() {
+        final Tables clone = tables.clone();
+        assertThat(clone).isEqualTo(tables);
+        assertThat(clone.forTable(t1)).isSameAs(tables.forTable(t1));
+
+        clone.overwriteTable(table(t1, "c2"));
+        clone.removeTable(t2);
+
+        assertThat(tables.forTable(t1).columnWithName("c2")).isNull();
+        assertThat(tables.forTable(t2)).isNotNull();
+        assertThat(clone.forTable(t1).columnWithName("c2")).isNotNull();
+        assertThat(clone.forTable(t2)).isNull();
+    }
+
+    @Test
+    void shouldNotPropagateChangesOfOriginalToClone() {
+        final Tables clone = tables.clone();
+
+        tables.overwriteTable(table(t1, "c2"));
+        tables.removeTablesForDatabase("db");
+
+        assertThat(tables.size()).isZero();
+        assertThat(clone.size()).isEqualTo(2);
+        assertThat(clone.forTable(t1).columnWithName("c2")).isNull();
+
+        tables.clear();
+        assertThat(clone.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCloneCaseInsensitiveTables() {
+        final Tables caseInsensitive = new Tables(true);
+        caseInsensitive.overwriteTable(table(new TableId("DB", null, "T1"), "c1"));
+
+        final Tables clone = caseInsensitive.clone();
+        clone.removeTable(t1);
+
+        assertThat(clone.forTable(t1)).isNull();
+        assertThat(caseInsensitive.forTable(t1)).isNotNull();
+    }
+
+    private static Table table(TableId id, String... columnNames) {
+        final TableEditor editor = Table.editor().tableId(id);
+        for (String columnName : columnNames) {
+            editor.addColumn(Column.editor().name(columnName).type("INT").jdbcType(Types.INTEGER).create());
+        }
+        return editor.create();
+    }
+}
@@ -10,6 +10,8 @@
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Schema;
@@ -39,4 +41,45 @@ public void testGetApproximateRecordSizeWithBytesStruct() {
         actual = ApproximateStructSizeCalculator.getApproximateRecordSize(sourceRecord);
         assertEquals(actual, 115);
     }
+
+    @Test
+    public void testGetApproximateRecordSizeWithVariableAndNestedFields() {
+        Schema addressSchema = SchemaBuilder.struct().field("zip", Schema.INT32_SCHEMA).field("city", Schema.OPTIONAL_STRING_SCHEMA).build();
+        Schema valueSchema = SchemaBuilder.struct()
+                .field("id", Schema.INT64_SCHEMA)
+                .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                .field("status", SchemaBuilder.string().optional().defaultValue("NEW").build())
+                .field("address", addressSchema)
+                .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                .field("scores", SchemaBuilder.array(Schema.INT32_SCHEMA).optional().build())
+                .field("attributes", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT64_SCHEMA).optional().build())
+                .build();
+
+        Struct value = new Struct(valueSchema)
+                .put("id", 1L)
+                .put("name", "äb")
+                .put("address", new Struct(addressSchema).put("zip", 12345).put("city", "Brno"))
+                .put("tags", List.of("a", "bc"))
+                .put("scores", List.of(1, 2, 3))
+                .put("attributes", Map.of("k", 7L));
+        SourceRecord sourceRecord = new SourceRecord(Collections.emptyMap(), Collections.emptyMap(), "dummy", valueSchema, value);
+
+        long struct = 56 + 7 * 8;
+        long id = 24;
+        long name = 56 + 3;
+        // a null value of a field with a default value is not sized as the default value
+        long status = 0;
+        long address = 56 + 2 * 8 + 24 + 56 + 4;
+        long tags = 64 + 2 * 8 + 56 + 1 + 56 + 2;
+        long scores = 64 + 3 * 8 + 3 * 24;
+        long attributes = 88 + 2 * 8 + 56 + 1 + 24;
+        long expected = 8 + struct + id + name + status + address + tags + scores + attributes + "dummy".length();
+
+        assertEquals(expected, ApproximateStructSizeCalculator.getApproximateRecordSize(sourceRecord));
+        // the second estimation uses the cached template of the schema
+        assertEquals(expected, ApproximateStructSizeCalculator.getApproximateRecordSize(sourceRecord));
+
+        value.put("name", null);
+        assertEquals(expected - name, ApproximateStructSizeCalculator.getApproximateRecordSize(sourceRecord));
+    }
 }
@@ -11,6 +11,7 @@
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +53,7 @@ public class JdbcChangeEventSink implements ChangeEventSink {
 
     private final RecordWriter recordWriter;
     private final ConnectorContext connectorContext;
+    private final Map<CollectionId, OutputDataset> outputDatasets = new HashMap<>();
 
     public JdbcChangeEventSink(JdbcSinkConnectorConfig config, StatelessSession session, DatabaseDialect dialect, RecordWriter recordWriter,
                                ConnectorContext connectorContext) {
@@ -232,13 +234,30 @@ private void flushBuffer(CollectionId collectionId, List<JdbcSinkRecord> toFlush
             recordWriter.write(table, toFlush);
             flushBufferStopwatch.stop();
 
-            DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING, List.of(extractDatasetMetadata(table)));
+            DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING, List.of(getDatasetMetadata(collectionId, table)));
 
             LOGGER.trace("[PERF] Flush buffer execution time {}", flushBufferStopwatch.durations());
             LOGGER.trace("[PERF] Table changes execution time {}", tableChangesStopwatch.durations());
         }
     }
 
+    /**
+     * Returns the lineage metadata of the given table, which is only extracted again once the table descriptor changes.
+     * When the new descriptor yields the same metadata, the cached instance is kept.
+     */
+    private DatasetMetadata getDatasetMetadata(CollectionId collectionId, TableDescriptor table) {
+        final OutputDataset dataset = outputDatasets.get(collectionId);
+        if (dataset != null && dataset.table() == table) {
+            return dataset.metadata();
+        }
+        DatasetMetadata metadata = extractDatasetMetadata(table);
+        if (dataset != null && dataset.metadata().equals(metadata)) {
+            metadata = dataset.metadata();
+        }
+        outputDatasets.put(collectionId, new OutputDataset(table, metadata));
+        return metadata;
+    }
+
     private DatasetMetadata extractDatasetMetadata(TableDescriptor tableDescriptor) {
 
         List<DatasetMetadata.FieldDefinition> fieldDefinitions = tableDescriptor.getColumns().stream()
@@ -263,6 +282,9 @@ public void close() {
         }
     }
 
+    private record OutputDataset(TableDescriptor table, DatasetMetadata metadata) {
+    }
+
     public CollectionId getCollectionId(String collectionName) {
         return dialect.getCollectionId(collectionName);
     }
@@ -6,6 +6,7 @@
 package io.debezium.connector.jdbc;
 
 import static io.debezium.config.ConfigurationNames.TASK_ID_PROPERTY_NAME;
+import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_RUNNING_EVENT_INTERVAL_MS;
 import static io.debezium.openlineage.dataset.DatasetMetadata.STREAM_DATASET_TYPE;
 import static io.debezium.openlineage.dataset.DatasetMetadata.DataStore.KAFKA;
 import static io.debezium.openlineage.dataset.DatasetMetadata.DatasetKind.INPUT;
@@ -15,6 +16,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +27,7 @@
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.runtime.InternalSinkRecord;
 import org.apache.kafka.connect.sink.SinkRecord;
@@ -62,8 +65,15 @@ public class JdbcSinkConnectorTask extends SinkTask {
     private static final Class[] EMPTY_CLASS_ARRAY = new Class[0];
     private static final DatasetDataExtractor DATASET_DATA_EXTRACTOR = new DatasetDataExtractor();
 
+    /**
+     * The sink reports its datasets with every batch, so unless configured otherwise it only emits lineage for
+     * unchanged datasets once a minute.
+     */
+    private static final String DEFAULT_LINEAGE_RUNNING_EVENT_INTERVAL_MS = "60000";
+
     private SessionFactory sessionFactory;
     private ConnectorContext connectorContext;
+    private final Map<String, InputDataset> inputDatasets = new HashMap<>();
 
     private enum State {
         RUNNING,
@@ -157,8 +167,7 @@ public void put(Collection<SinkRecord> records) {
 
         LOGGER.debug("Received {} changes.", records.size());
 
-        records.forEach(record -> DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING,
-                List.of(new DatasetMetadata(record.topic(), INPUT, STREAM_DATASET_TYPE, KAFKA, DATASET_DATA_EXTRACTOR.extract(record)))));
+        emitInputDatasets(records);
 
         try {
             executeStopWatch.start();
@@ -278,7 +287,30 @@ public Throwable getLastProcessingException() {
     }
 
     private Map<String, String> getMaskedConfigurationMap(Map<String, String> props) {
-        return Configuration.from(props).withMaskedPasswords().asMap();
+        final Map<String, String> config = new HashMap<>(Configuration.from(props).withMaskedPasswords().asMap());
+        config.putIfAbsent(OPEN_LINEAGE_INTEGRATION_RUNNING_EVENT_INTERVAL_MS, DEFAULT_LINEAGE_RUNNING_EVENT_INTERVAL_MS);
+        return config;
+    }
+
+    /**
+     * Emits the lineage of the topics of the given records, once per distinct topic and schema of the batch. The
+     * dataset metadata of a topic is only extracted again when a record arrives with a different value schema.
+     */
+    private void emitInputDatasets(Collection<SinkRecord> records) {
+        final Set<DatasetMetadata> datasets = new LinkedHashSet<>();
+        for (SinkRecord record : records) {
+            InputDataset dataset = inputDatasets.get(record.topic());
+            if (dataset == null || dataset.schema() != record.valueSchema()) {
+                dataset = new InputDataset(record.valueSchema(),
+                        new DatasetMetadata(record.topic(), INPUT, STREAM_DATASET_TYPE, KAFKA, DATASET_DATA_EXTRACTOR.extract(record)));
+                inputDatasets.put(record.topic(), dataset);
+            }
+            datasets.add(dataset.metadata());
+        }
+        datasets.forEach(dataset -> DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RUNNING, List.of(dataset)));
+    }
+
+    private record InputDataset(Schema schema, DatasetMetadata metadata) {
     }
 
     /**
@@ -211,6 +211,8 @@ protected ChangeEventSourceCoordinator<MariaDbPartition, MariaDbOffsetContext> s
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .latencyHistograms(connectorConfig.getLatencyHistograms())
+                .conflationWindow(connectorConfig.getConflationWindow())
                 .queueProvider(new DefaultQueueProvider<>(connectorConfig.getMaxQueueSize()))
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .buffering()
@@ -22,6 +22,7 @@
 import io.debezium.antlr.AntlrDdlParser;
 import io.debezium.antlr.AntlrDdlParserListener;
 import io.debezium.antlr.DataTypeResolver;
+import io.debezium.antlr.DdlStatementClassifier;
 import io.debezium.connector.binlog.charset.BinlogCharsetRegistry;
 import io.debezium.connector.binlog.jdbc.BinlogSystemVariables;
 import io.debezium.connector.mariadb.antlr.listener.MariaDbAntlrDdlParserListener;
@@ -45,6 +46,14 @@
  */
 public class MariaDbAntlrDdlParser extends AntlrDdlParser<MariaDBLexer, MariaDBParser> {
 
+    /**
+     * Statements which never change the table definitions and need not be parsed.
+     */
+    private static final DdlStatementClassifier STATEMENT_CLASSIFIER = new DdlStatementClassifier(true,
+            "GRANT", "REVOKE", "FLUSH", "ANALYZE", "OPTIMIZE", "CHECK", "CHECKSUM", "REPAIR",
+            "CREATE USER", "ALTER USER", "DROP USER", "RENAME USER", "CREATE ROLE", "DROP ROLE",
+            "SET PASSWORD", "SET ROLE", "SET DEFAULT ROLE", "INSTALL", "UNINSTALL");
+
     private final ConcurrentHashMap<String, String> charsetNameForDatabase = new ConcurrentHashMap<>();
     private final Tables.TableFilter tableFilter;
     private final BinlogCharsetRegistry charsetRegistry;
@@ -93,6 +102,11 @@ protected SystemVariables createNewSystemVariablesInstance() {
         return new BinlogSystemVariables();
     }
 
+    @Override
+    protected DdlStatementClassifier statementClassifier() {
+        return STATEMENT_CLASSIFIER;
+    }
+
     @Override
     protected boolean isGrammarInUpperCase() {
         return true;
@@ -0,0 +1,58 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import java.nio.ByteBuffer;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+/**
+ * A class responsible for serialization of message values to raw BSON bytes, the binary counterpart of
+ * {@link JsonSerialization} used when {@link MongoDbConnectorConfig#DOCUMENT_FORMAT} is set to {@code bson}.
+ */
+public class BsonSerialization {
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    public byte[] getDocumentValue(BsonDocument document) {
+        if (document == null) {
+            return null;
+        }
+        if (document instanceof RawBsonDocument) {
+            final ByteBuf buffer = ((RawBsonDocument) document).getByteBuffer();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            BSON_DOCUMENT_CODEC.encode(writer, document, ENCODER_CONTEXT);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes a document emitted in the {@code bson} document format.
+     *
+     * @param bytes the raw BSON bytes of the document; may not be null
+     * @return the mutable document
+     */
+    public static BsonDocument toDocument(byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return BSON_DOCUMENT_CODEC.decode(reader, DECODER_CONTEXT);
+        }
+    }
+}
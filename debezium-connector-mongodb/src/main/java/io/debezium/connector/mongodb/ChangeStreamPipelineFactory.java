@@ -45,12 +45,37 @@ class ChangeStreamPipelineFactory {
     }
 
     ChangeStreamPipeline create() {
+        return create(new ChangeStreamPipeline());
+    }
+
+    /**
+     * Creates one pipeline per collection group that restricts the change stream to the collections matching the group,
+     * followed by one pipeline for the collections that do not match any group.
+     *
+     * @param groups the collection groups, each a comma-separated list of regular expressions
+     * @return the pipelines, in the order of the groups
+     */
+    List<ChangeStreamPipeline> createForGroups(List<String> groups) {
+        var pipelines = new ArrayList<ChangeStreamPipeline>();
+        for (String group : groups) {
+            pipelines.add(create(new ChangeStreamPipeline(Aggregates.match(expr(namespaceRegexMatch(splitList(group)))))));
+        }
+
+        var allGroups = groups.stream()
+                .flatMap(group -> splitList(group).stream())
+                .collect(toList());
+        pipelines.add(create(new ChangeStreamPipeline(Aggregates.match(expr(negate(namespaceRegexMatch(allGroups)))))));
+        return pipelines;
+    }
+
+    private ChangeStreamPipeline create(ChangeStreamPipeline groupPipeline) {
         var sizePipeline = createSizePipeline();
         var splitPipeline = createSplitPipeline();
         var userAndInternalPipeline = createUserAndInternalPipeline();
 
-        // Resolve and combine pipelines serially
-        var effectivePipeline = sizePipeline
+        // Resolve and combine pipelines serially, the group is matched first as the other stages may reshape the event
+        var effectivePipeline = groupPipeline
+                .then(sizePipeline)
                 .then(userAndInternalPipeline)
                 .then(splitPipeline);
 
@@ -319,6 +344,17 @@ private static Bson lte(Object expr1, Object expr2) {
         return new BasicDBObject("$lte", List.of(expr1, expr2));
     }
 
+    private static Bson negate(Object expr) {
+        return new BasicDBObject("$not", List.of(expr));
+    }
+
+    private static Bson namespaceRegexMatch(List<String> patterns) {
+        return new BasicDBObject("$regexMatch", new BasicDBObject()
+                .append("input", concat("$ns.db", ".", "$ns.coll"))
+                .append("regex", "^(?:" + Strings.join("|", patterns) + ")$")
+                .append("options", "i"));
+    }
+
     private static Bson expr(Object expr) {
         return new BasicDBObject("$expr", expr);
     }
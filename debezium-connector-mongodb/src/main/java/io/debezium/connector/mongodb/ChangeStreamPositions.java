@@ -0,0 +1,122 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb;
+
+import static io.debezium.connector.mongodb.SourceInfo.LSID;
+import static io.debezium.connector.mongodb.SourceInfo.ORDER;
+import static io.debezium.connector.mongodb.SourceInfo.RESUME_TOKEN;
+import static io.debezium.connector.mongodb.SourceInfo.STREAM_GROUPS;
+import static io.debezium.connector.mongodb.SourceInfo.STREAM_RESUME_TOKEN_PREFIX;
+import static io.debezium.connector.mongodb.SourceInfo.TIMESTAMP;
+import static io.debezium.connector.mongodb.SourceInfo.TXN_NUMBER;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.bson.BsonTimestamp;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * The positions of the change streams the connector reads in parallel when {@link MongoDbConnectorConfig#CHANGE_STREAM_GROUPS}
+ * is configured. Each stream is resumed from its own resume token. The offset also records the lowest position of all
+ * streams as its regular position, so that a connector restarted with different groups or with a single change stream
+ * resumes from a position no stream has passed.
+ */
+@NotThreadSafe
+final class ChangeStreamPositions {
+
+    private final String groups;
+    private final String[] resumeTokens;
+    private final BsonTimestamp[] timestamps;
+
+    ChangeStreamPositions(String groups, int streams) {
+        this.groups = groups;
+        this.resumeTokens = new String[streams];
+        this.timestamps = new BsonTimestamp[streams];
+    }
+
+    /**
+     * Restores the positions of the change streams from an offset.
+     *
+     * @return the positions or {@code null} if the offset was not written by parallel change streams
+     */
+    static ChangeStreamPositions load(Map<String, ?> offset) {
+        final Object groups = offset.get(STREAM_GROUPS);
+        if (groups == null) {
+            return null;
+        }
+        int streams = 0;
+        for (String key : offset.keySet()) {
+            if (key.startsWith(STREAM_RESUME_TOKEN_PREFIX)) {
+                streams = Math.max(streams, Integer.parseInt(key.substring(STREAM_RESUME_TOKEN_PREFIX.length())) + 1);
+            }
+        }
+        final ChangeStreamPositions positions = new ChangeStreamPositions(groups.toString(), streams);
+        for (int i = 0; i < streams; i++) {
+            final Object resumeToken = offset.get(STREAM_RESUME_TOKEN_PREFIX + i);
+            if (resumeToken != null) {
+                positions.update(i, resumeToken.toString(), ResumeTokens.getTimestamp(ResumeTokens.fromBase64(resumeToken.toString())));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * @return whether these positions were recorded for the given change stream groups
+     */
+    boolean isFor(String groups) {
+        return Objects.equals(this.groups, groups);
+    }
+
+    String groups() {
+        return groups;
+    }
+
+    void update(int stream, String resumeToken, BsonTimestamp timestamp) {
+        resumeTokens[stream] = resumeToken;
+        timestamps[stream] = timestamp;
+    }
+
+    String resumeToken(int stream) {
+        return resumeTokens[stream];
+    }
+
+    BsonTimestamp timestamp(int stream) {
+        return timestamps[stream];
+    }
+
+    int size() {
+        return resumeTokens.length;
+    }
+
+    void store(Map<String, Object> offset) {
+        int lowest = -1;
+        for (int i = 0; i < timestamps.length; i++) {
+            if (resumeTokens[i] != null) {
+                offset.put(STREAM_RESUME_TOKEN_PREFIX + i, resumeTokens[i]);
+            }
+            if (timestamps[i] != null && (lowest == -1 || timestamps[i].compareTo(timestamps[lowest]) < 0)) {
+                lowest = i;
+            }
+        }
+        offset.put(STREAM_GROUPS, groups);
+
+        if (lowest != -1) {
+            // the session of the last event belongs to one stream only
+            offset.remove(LSID);
+            offset.remove(TXN_NUMBER);
+            offset.put(TIMESTAMP, timestamps[lowest].getTime());
+            offset.put(ORDER, timestamps[lowest].getInc());
+            if (resumeTokens[lowest] != null) {
+                offset.put(RESUME_TOKEN, resumeTokens[lowest]);
+            }
+            else {
+                offset.remove(RESUME_TOKEN);
+            }
+        }
+    }
+}
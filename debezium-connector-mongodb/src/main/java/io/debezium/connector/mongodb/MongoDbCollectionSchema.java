@@ -38,11 +38,23 @@ public class MongoDbCollectionSchema implements DataCollectionSchema {
     private final Envelope envelopeSchema;
     private final Schema valueSchema;
     private final Function<BsonDocument, Object> keyGenerator;
-    private final Function<BsonDocument, String> valueGenerator;
+    private final Function<BsonDocument, ?> valueGenerator;
+    private final Function<BsonDocument, ?> updatedFieldsGenerator;
 
     public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema,
                                    Function<BsonDocument, Object> keyGenerator, Envelope envelopeSchema, Schema valueSchema,
                                    Function<BsonDocument, String> valueGenerator) {
+        this(id, fieldFilter, keySchema, keyGenerator, envelopeSchema, valueSchema, valueGenerator, BsonDocument::toJson);
+    }
+
+    /**
+     * @param valueGenerator converts the full documents to the representation of the {@code before} and {@code after} fields
+     * @param updatedFieldsGenerator converts the updated fields of an update to the representation of the
+     *        {@code updateDescription.updatedFields} field
+     */
+    public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema keySchema,
+                                   Function<BsonDocument, Object> keyGenerator, Envelope envelopeSchema, Schema valueSchema,
+                                   Function<BsonDocument, ?> valueGenerator, Function<BsonDocument, ?> updatedFieldsGenerator) {
         this.id = id;
         this.fieldFilter = fieldFilter;
         this.keySchema = keySchema;
@@ -50,6 +62,7 @@ public MongoDbCollectionSchema(CollectionId id, FieldFilter fieldFilter, Schema
         this.valueSchema = valueSchema;
         this.keyGenerator = keyGenerator != null ? keyGenerator : (BsonDocument) -> null;
         this.valueGenerator = valueGenerator != null ? valueGenerator : (Document) -> null;
+        this.updatedFieldsGenerator = updatedFieldsGenerator;
     }
 
     @Override
@@ -79,8 +92,7 @@ public Struct valueFromDocumentSnapshot(BsonDocument document, Envelope.Operatio
         Struct value = new Struct(valueSchema);
         switch (operation) {
             case READ:
-                final String jsonStr = valueGenerator.apply(fieldFilter.apply(document));
-                value.put(FieldName.AFTER, jsonStr);
+                value.put(FieldName.AFTER, valueGenerator.apply(fieldFilter.apply(document)));
                 break;
         }
         return value;
@@ -104,7 +116,7 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
                 }
 
                 if (document.getUpdateDescription() != null) {
-                    final Struct updateDescription = new Struct(MongoDbSchema.UPDATED_DESCRIPTION_SCHEMA);
+                    final Struct updateDescription = new Struct(valueSchema.field(MongoDbFieldName.UPDATE_DESCRIPTION).schema());
                     List<String> removedFields = document.getUpdateDescription().getRemovedFields();
                     if (removedFields != null && !removedFields.isEmpty()) {
                         removedFields = removedFields.stream()
@@ -118,7 +130,7 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
 
                     final BsonDocument updatedFields = document.getUpdateDescription().getUpdatedFields();
                     if (updatedFields != null) {
-                        updateDescription.put(MongoDbFieldName.UPDATED_FIELDS, fieldFilter.applyChange(updatedFields).toJson());
+                        updateDescription.put(MongoDbFieldName.UPDATED_FIELDS, updatedFieldsGenerator.apply(fieldFilter.applyChange(updatedFields)));
                     }
 
                     // TODO Test filters for truncated arrays
@@ -152,13 +164,11 @@ public Struct valueFromDocumentChangeStream(ChangeStreamDocument<BsonDocument> d
     }
 
     private void extractFullDocument(ChangeStreamDocument<BsonDocument> document, Struct value) {
-        final String fullDocStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocument()));
-        value.put(FieldName.AFTER, fullDocStr);
+        value.put(FieldName.AFTER, valueGenerator.apply(fieldFilter.apply(document.getFullDocument())));
     }
 
     private void extractFullDocumentBeforeChange(ChangeStreamDocument<BsonDocument> document, Struct value) {
-        final String fullDocBeforeChangeStr = valueGenerator.apply(fieldFilter.apply(document.getFullDocumentBeforeChange()));
-        value.put(FieldName.BEFORE, fullDocBeforeChangeStr);
+        value.put(FieldName.BEFORE, valueGenerator.apply(fieldFilter.apply(document.getFullDocumentBeforeChange())));
     }
 
     @Override
@@ -8,12 +8,16 @@
 import static java.util.function.Predicate.not;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
@@ -607,6 +611,70 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined DocumentFormat options or aliases.
+     */
+    public enum DocumentFormat implements EnumeratedValue {
+        /**
+         * Documents are emitted as extended JSON strings
+         */
+        JSON("json"),
+
+        /**
+         * Documents are emitted as raw BSON bytes
+         */
+        BSON("bson");
+
+        private String value;
+
+        DocumentFormat(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static DocumentFormat parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+
+            for (DocumentFormat option : DocumentFormat.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static DocumentFormat parse(String value, String defaultValue) {
+            DocumentFormat format = parse(value);
+
+            if (format == null && defaultValue != null) {
+                format = parse(defaultValue);
+            }
+
+            return format;
+        }
+    }
+
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 0;
 
     public static final Field ALLOW_OFFSET_INVALIDATION = Field.createInternal("mongodb.allow.offset.invalidation")
@@ -1004,6 +1072,33 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
                     + "This includes both, the size before and after database operation, "
                     + "more specifically this limits the size of fullDocument and fullDocumentBeforeChange filed of MongoDB change events.");
 
+    public static final Field DOCUMENT_FORMAT = Field.create("document.format")
+            .withDisplayName("Document format")
+            .withEnum(DocumentFormat.class, DocumentFormat.JSON)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 10))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The format of the 'before', 'after' and 'updateDescription.updatedFields' documents in change events. "
+                    + "Options include: "
+                    + "'json' (the default) documents are emitted as MongoDB extended JSON strings; "
+                    + "'bson' documents are emitted as raw BSON bytes, which avoids serializing each document to JSON "
+                    + "and parsing it again in transformations such as ExtractNewDocumentState.");
+
+    public static final Field CHANGE_STREAM_GROUPS = Field.create("change.stream.groups")
+            .withDisplayName("Change stream collection groups")
+            .withType(Type.STRING)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 11))
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withValidation(MongoDbConnectorConfig::validateChangeStreamGroups)
+            .withDescription("A semicolon-separated list of collection groups, each a comma-separated list of regular expressions "
+                    + "that match fully-qualified collection names (databaseName.collectionName). "
+                    + "When set, the connector opens a separate change stream for each group and one more change stream for all "
+                    + "collections that do not match any group, each consumed by its own fetcher thread and resumed from its own position. "
+                    + "Events of a collection are always read from the same change stream and therefore keep their order; "
+                    + "events of collections in different groups are not ordered with respect to each other. "
+                    + "Not supported when the capture scope is a single collection.");
+
     public static final Field TOPIC_NAMING_STRATEGY = Field.create("topic.naming.strategy")
             .withDisplayName("Topic naming strategy class")
             .withType(Type.CLASS)
@@ -1045,6 +1140,7 @@ public static OversizeHandlingMode parse(String value, String defaultValue) {
             .connector(
                     SNAPSHOT_MODE,
                     CAPTURE_MODE,
+                    DOCUMENT_FORMAT,
                     SCHEMA_NAME_ADJUSTMENT_MODE)
             .create();
 
@@ -1087,6 +1183,8 @@ public static ConfigDef configDef() {
     private final OversizeHandlingMode oversizeHandlingMode;
     private final FiltersMatchMode filtersMatchMode;
     private final int oversizeSkipThreshold;
+    private final DocumentFormat documentFormat;
+    private final List<String> changeStreamGroups;
 
     public MongoDbConnectorConfig(Configuration config) {
         super(config, DEFAULT_SNAPSHOT_FETCH_SIZE);
@@ -1135,6 +1233,10 @@ public MongoDbConnectorConfig(Configuration config) {
         this.oversizeHandlingMode = OversizeHandlingMode.parse(oversizeHandlingModeValue, MongoDbConnectorConfig.CURSOR_OVERSIZE_HANDLING_MODE.defaultValueAsString());
         this.oversizeSkipThreshold = config.getInteger(CURSOR_OVERSIZE_SKIP_THRESHOLD);
 
+        String documentFormatValue = config.getString(MongoDbConnectorConfig.DOCUMENT_FORMAT);
+        this.documentFormat = DocumentFormat.parse(documentFormatValue, MongoDbConnectorConfig.DOCUMENT_FORMAT.defaultValueAsString());
+        this.changeStreamGroups = parseChangeStreamGroups(config.getString(MongoDbConnectorConfig.CHANGE_STREAM_GROUPS));
+
         String filterMatchModeValue = config.getString(MongoDbConnectorConfig.FILTERS_MATCH_MODE);
         this.filtersMatchMode = FiltersMatchMode.parse(filterMatchModeValue, MongoDbConnectorConfig.FILTERS_MATCH_MODE.defaultValueAsString());
 
@@ -1155,6 +1257,38 @@ private static int validateChangeStreamPipeline(Configuration config, Field fiel
         return 0;
     }
 
+    private static int validateChangeStreamGroups(Configuration config, Field field, ValidationOutput problems) {
+        final String value = config.getString(field);
+
+        int errors = 0;
+        for (String group : parseChangeStreamGroups(value)) {
+            for (String pattern : group.split(ChangeStreamPipelineFactory.LIST_DELIMITER)) {
+                try {
+                    Pattern.compile(pattern.trim());
+                }
+                catch (PatternSyntaxException e) {
+                    problems.accept(field, value, "The change stream group pattern '" + pattern.trim() + "' is not a valid regular expression: " + e.getMessage());
+                    errors++;
+                }
+            }
+        }
+        if (errors == 0 && !parseChangeStreamGroups(value).isEmpty() && CaptureScope.parse(config.getString(CAPTURE_SCOPE)) == CaptureScope.COLLECTION) {
+            problems.accept(field, value, "Change stream groups cannot be used when the capture scope is a single collection");
+            errors++;
+        }
+        return errors;
+    }
+
+    private static List<String> parseChangeStreamGroups(String value) {
+        if (Strings.isNullOrBlank(value)) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(";"))
+                .map(String::trim)
+                .filter(group -> !group.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     private static int validateOversizeSkipThreshold(Configuration config, Field field, ValidationOutput problems) {
         String mode = config.getString(CURSOR_OVERSIZE_HANDLING_MODE);
         int value = config.getInteger(CURSOR_OVERSIZE_SKIP_THRESHOLD);
@@ -1387,6 +1521,17 @@ public int getOversizeSkipThreshold() {
         return oversizeSkipThreshold;
     }
 
+    /**
+     * @return the collection groups that are each read by a separate change stream; empty if a single change stream is used
+     */
+    public List<String> getChangeStreamGroups() {
+        return changeStreamGroups;
+    }
+
+    public DocumentFormat getDocumentFormat() {
+        return documentFormat;
+    }
+
     public FiltersMatchMode getFiltersMatchMode() {
         return filtersMatchMode;
     }
@@ -116,6 +116,8 @@ public ChangeEventSourceCoordinator<MongoDbPartition, MongoDbOffsetContext> star
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .latencyHistograms(connectorConfig.getLatencyHistograms())
+                    .conflationWindow(connectorConfig.getConflationWindow())
                     .queueProvider(new DefaultQueueProvider<>(connectorConfig.getMaxQueueSize()))
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
@@ -49,6 +49,8 @@ public class MongoDbOffsetContext extends CommonOffsetContext<SourceInfo> {
 
     private final TransactionContext transactionContext;
     private final IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext;
+    private ChangeStreamPositions restoredStreamPositions;
+    private ChangeStreamPositions streamPositions;
 
     public MongoDbOffsetContext(SourceInfo sourceInfo, TransactionContext transactionContext,
                                 IncrementalSnapshotContext<CollectionId> incrementalSnapshotContext) {
@@ -77,6 +79,9 @@ void stopInitialSnapshot() {
 
         addSessionTxnIdToOffset(position, offset);
         addResumeTokenToOffset(position, offset);
+        if (streamPositions != null && !isInitialSnapshotRunning()) {
+            streamPositions.store(offset);
+        }
 
         return isInitialSnapshotRunning() ? offset : incrementalSnapshotContext.store(transactionContext.store(offset));
     }
@@ -157,6 +162,61 @@ public void changeStreamEvent(ChangeStreamDocument<BsonDocument> changeStreamEve
         sourceInfo.changeStreamEvent(changeStreamEvent);
     }
 
+    /**
+     * Prepares tracking the positions of the change streams read in parallel, one per collection group.
+     * Streams resume from the positions stored for the same groups; if the groups changed, or a stream has no stored
+     * position, the stream resumes from the lowest position of the previous streams.
+     *
+     * @param groups the configured change stream groups
+     * @param streams the number of change streams
+     */
+    public void startChangeStreams(String groups, int streams) {
+        final ChangeStreamPositions restored = streamPositions != null ? streamPositions : restoredStreamPositions;
+        if (restored != null && !restored.isFor(groups)) {
+            LOGGER.info("Change stream groups changed from '{}' to '{}', all change streams resume from the lowest stored position",
+                    restored.groups(), groups);
+        }
+
+        streamPositions = new ChangeStreamPositions(groups, streams);
+        final String resumeToken = lastResumeToken();
+        final BsonTimestamp timestamp = resumeToken != null ? ResumeTokens.getTimestamp(lastResumeTokenDoc()) : lastTimestamp();
+        for (int i = 0; i < streams; i++) {
+            if (restored != null && restored.isFor(groups) && i < restored.size() && restored.resumeToken(i) != null) {
+                streamPositions.update(i, restored.resumeToken(i), restored.timestamp(i));
+            }
+            else if (timestamp != null) {
+                streamPositions.update(i, resumeToken, timestamp);
+            }
+        }
+    }
+
+    /**
+     * @param stream the index of a change stream started by {@link #startChangeStreams(String, int)}
+     * @return the resume token the change stream resumes after or {@code null} if the stream starts from an operation time
+     */
+    public BsonDocument lastResumeTokenDoc(int stream) {
+        final String resumeToken = streamPositions.resumeToken(stream);
+        return resumeToken != null ? ResumeTokens.fromBase64(resumeToken) : null;
+    }
+
+    /**
+     * @param stream the index of a change stream started by {@link #startChangeStreams(String, int)}
+     * @return the operation time the change stream starts at or {@code null} if there is no position for the stream
+     */
+    public BsonTimestamp lastTimestamp(int stream) {
+        return streamPositions.timestamp(stream);
+    }
+
+    public void changeStreamEvent(int stream, ChangeStreamDocument<BsonDocument> changeStreamEvent) {
+        changeStreamEvent(changeStreamEvent);
+        streamPositions.update(stream, ResumeTokens.toBase64(changeStreamEvent.getResumeToken()), changeStreamEvent.getClusterTime());
+    }
+
+    public void noEvent(int stream, BufferingChangeStreamCursor.ResumableChangeStreamEvent<BsonDocument> event) {
+        noEvent(event);
+        streamPositions.update(stream, ResumeTokens.toBase64(event.resumeToken), ResumeTokens.getTimestamp(event.resumeToken));
+    }
+
     public String lastResumeToken() {
         return sourceInfo.lastResumeToken();
     }
@@ -232,10 +292,12 @@ public MongoDbOffsetContext load(Map<String, ?> offset) {
                 sourceInfo.setPosition(position);
             }
 
-            return new MongoDbOffsetContext(
+            var offsetContext = new MongoDbOffsetContext(
                     sourceInfo,
                     new TransactionContext(),
                     MongoDbIncrementalSnapshotContext.load(offset, false));
+            offsetContext.restoredStreamPositions = ChangeStreamPositions.load(offset);
+            return offsetContext;
         }
 
         private SourceInfo.Position positionFromOffset(Map<String, ?> offset) {
@@ -21,6 +21,7 @@
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.connector.common.DebeziumTaskState;
 import io.debezium.connector.mongodb.FieldSelector.FieldFilter;
+import io.debezium.connector.mongodb.MongoDbConnectorConfig.DocumentFormat;
 import io.debezium.data.Envelope;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Json;
@@ -43,11 +44,17 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
     // Change Streams schemas
     public static final String SCHEMA_NAME_UPDATED_DESCRIPTION = "io.debezium.connector.mongodb.changestream.updatedescription";
     public static final String SCHEMA_NAME_TRUNCATED_ARRAY = "io.debezium.connector.mongodb.changestream.truncatedarray";
+    public static final String SCHEMA_NAME_UPDATED_DESCRIPTION_BSON = "io.debezium.connector.mongodb.changestream.updatedescription.bson";
+    public static final String SCHEMA_NAME_BSON_DOCUMENT = "io.debezium.connector.mongodb.Bson";
 
     public static final Schema TRUNCATED_ARRAY_SCHEMA = MongoDbSchemaFactory.get().truncatedArraySchema();
 
     public static final Schema UPDATED_DESCRIPTION_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionSchema();
 
+    public static final Schema UPDATED_DESCRIPTION_BSON_SCHEMA = MongoDbSchemaFactory.get().updatedDescriptionBsonSchema();
+
+    public static final Schema BSON_DOCUMENT_SCHEMA = MongoDbSchemaFactory.get().bsonDocumentSchema();
+
     private final MongoDbConnectorConfig config;
     private final Filters filters;
     private final TopicNamingStrategy<CollectionId> topicNamingStrategy;
@@ -55,6 +62,7 @@ public class MongoDbSchema implements DatabaseSchema<CollectionId> {
     private final SchemaNameAdjuster adjuster;
     private final ConcurrentMap<CollectionId, MongoDbCollectionSchema> collections = new ConcurrentHashMap<>();
     private final JsonSerialization serialization = new JsonSerialization();
+    private final BsonSerialization bsonSerialization = new BsonSerialization();
     private final MongoDbTaskContext taskContext;
 
     public MongoDbSchema(MongoDbConnectorConfig config, MongoDbTaskContext taskContext, TopicNamingStrategy<CollectionId> topicNamingStrategy, Schema sourceSchema,
@@ -82,12 +90,15 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     .field("id", Schema.STRING_SCHEMA)
                     .build();
 
+            final boolean bson = config.getDocumentFormat() == DocumentFormat.BSON;
+            final Schema documentSchema = bson ? BSON_DOCUMENT_SCHEMA : Json.builder().optional().build();
+
             final Schema valueSchema = SchemaBuilder.struct()
                     .name(adjuster.adjust(Envelope.schemaName(topicName)))
-                    .field(FieldName.BEFORE, Json.builder().optional().build())
-                    .field(FieldName.AFTER, Json.builder().optional().build())
+                    .field(FieldName.BEFORE, documentSchema)
+                    .field(FieldName.AFTER, documentSchema)
                     // Change Streams field
-                    .field(MongoDbFieldName.UPDATE_DESCRIPTION, UPDATED_DESCRIPTION_SCHEMA)
+                    .field(MongoDbFieldName.UPDATE_DESCRIPTION, bson ? UPDATED_DESCRIPTION_BSON_SCHEMA : UPDATED_DESCRIPTION_SCHEMA)
                     .field(FieldName.SOURCE, sourceSchema)
                     .field(FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
                     .field(FieldName.TIMESTAMP, Schema.OPTIONAL_INT64_SCHEMA)
@@ -102,6 +113,17 @@ public DataCollectionSchema schemaFor(CollectionId collectionId) {
                     DebeziumTaskState.RUNNING,
                     List.of(new DatasetMetadata(collectionId.identifier(), INPUT, DatasetMetadata.TABLE_DATASET_TYPE, DATABASE, List.of())));
 
+            if (bson) {
+                return new MongoDbCollectionSchema(
+                        id,
+                        fieldFilter,
+                        keySchema,
+                        serialization::getDocumentId,
+                        envelope,
+                        valueSchema,
+                        bsonSerialization::getDocumentValue,
+                        bsonSerialization::getDocumentValue);
+            }
             return new MongoDbCollectionSchema(
                     id,
                     fieldFilter,
@@ -28,6 +28,7 @@ public static MongoDbSchemaFactory get() {
      */
     private static final int MONGODB_TRUNCATED_ARRAY_SCHEMA_VERSION = 1;
     private static final int MONGODB_UPDATED_DESCRIPTION_SCHEMA_VERSION = 1;
+    private static final int MONGODB_BSON_DOCUMENT_SCHEMA_VERSION = 1;
 
     public Schema truncatedArraySchema() {
         return SchemaBuilder.struct()
@@ -39,14 +40,32 @@ public Schema truncatedArraySchema() {
     }
 
     public Schema updatedDescriptionSchema() {
+        return updatedDescriptionSchema(MongoDbSchema.SCHEMA_NAME_UPDATED_DESCRIPTION, Json.builder().optional().build());
+    }
+
+    public Schema updatedDescriptionBsonSchema() {
+        return updatedDescriptionSchema(MongoDbSchema.SCHEMA_NAME_UPDATED_DESCRIPTION_BSON, bsonDocumentSchema());
+    }
+
+    /**
+     * Schema of a document emitted as raw BSON bytes.
+     */
+    public Schema bsonDocumentSchema() {
+        return SchemaBuilder.bytes()
+                .optional()
+                .name(MongoDbSchema.SCHEMA_NAME_BSON_DOCUMENT)
+                .version(MONGODB_BSON_DOCUMENT_SCHEMA_VERSION)
+                .build();
+    }
+
+    private Schema updatedDescriptionSchema(String name, Schema updatedFieldsSchema) {
         return SchemaBuilder.struct()
                 .optional()
-                .name(MongoDbSchema.SCHEMA_NAME_UPDATED_DESCRIPTION)
+                .name(name)
                 .version(MONGODB_UPDATED_DESCRIPTION_SCHEMA_VERSION)
                 .field(MongoDbFieldName.REMOVED_FIELDS,
                         SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
-                .field(MongoDbFieldName.UPDATED_FIELDS,
-                        Json.builder().optional().build())
+                .field(MongoDbFieldName.UPDATED_FIELDS, updatedFieldsSchema)
                 .field(MongoDbFieldName.TRUNCATED_ARRAYS,
                         SchemaBuilder.array(MongoDbSchema.TRUNCATED_ARRAY_SCHEMA).optional().build())
                 .build();
@@ -5,9 +5,13 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +35,7 @@
 import io.debezium.pipeline.source.spi.StreamingChangeEventSource;
 import io.debezium.snapshot.SnapshotterService;
 import io.debezium.util.Clock;
+import io.debezium.util.DelayStrategy;
 
 /**
  * @author Chris Cranford
@@ -39,6 +44,9 @@ public class MongoDbStreamingChangeEventSource implements StreamingChangeEventSo
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbStreamingChangeEventSource.class);
 
+    private static final int SINGLE_STREAM = -1;
+    private static final String REMAINDER_STREAM_NAME = "<other collections>";
+
     private final MongoDbConnectorConfig connectorConfig;
     private final EventDispatcher<MongoDbPartition, CollectionId> dispatcher;
     private final ErrorHandler errorHandler;
@@ -83,7 +91,12 @@ public void execute(ChangeEventSourceContext context, MongoDbPartition partition
 
         try (MongoDbConnection mongo = MongoDbConnections.create(taskContext.getRawConfig(), dispatcher, partition)) {
             mongo.execute("Reading change stream", client -> {
-                readChangeStream(client, context, partition);
+                if (connectorConfig.getChangeStreamGroups().isEmpty()) {
+                    readChangeStream(client, context, partition);
+                }
+                else {
+                    readChangeStreams(client, context, partition);
+                }
             });
         }
         catch (Throwable t) {
@@ -125,14 +138,84 @@ private void readChangeStream(MongoClient client, ChangeEventSourceContext conte
         }
     }
 
-    private void waitWhenStreamingPaused(ChangeEventSourceContext context, BufferingChangeStreamCursor cursor) {
+    /**
+     * Reads one change stream per configured collection group plus one for the remaining collections. Each stream is
+     * buffered by its own fetcher thread and the buffered events are dispatched in turns, one event per stream.
+     */
+    private void readChangeStreams(MongoClient client, ChangeEventSourceContext context, MongoDbPartition partition) {
+        final List<String> groups = connectorConfig.getChangeStreamGroups();
+        final List<ChangeStreamIterable<BsonDocument>> streams = MongoUtils.openChangeStreams(client, taskContext);
+        LOGGER.info("Reading {} change streams for collection groups {}", streams.size(), groups);
+
+        effectiveOffset.startChangeStreams(String.join(";", groups), streams.size());
+
+        final List<BufferingChangeStreamCursor<BsonDocument>> cursors = new ArrayList<>();
+        final List<SplitEventHandler<BsonDocument>> splitHandlers = new ArrayList<>();
+        final DelayStrategy idleDelay = DelayStrategy.exponential(Duration.ofMillis(1), connectorConfig.getPollInterval());
+        try {
+            for (int i = 0; i < streams.size(); i++) {
+                configureChangeStream(streams.get(i), effectiveOffset.lastResumeTokenDoc(i), effectiveOffset.lastTimestamp(i));
+                cursors.add(BufferingChangeStreamCursor.fromIterable(streams.get(i), taskContext, streamingMetrics, clock, "replicator-fetcher-" + i).start());
+                splitHandlers.add(new SplitEventHandler<>());
+            }
+
+            while (context.isRunning()) {
+                waitWhenStreamingPaused(context, cursors);
+                boolean dispatched = false;
+                for (int i = 0; i < cursors.size(); i++) {
+                    final int stream = i;
+                    var resumableEvent = cursors.get(stream).poll();
+                    if (resumableEvent == null) {
+                        continue;
+                    }
+                    dispatched = true;
+
+                    final String streamName = stream < groups.size() ? groups.get(stream) : REMAINDER_STREAM_NAME;
+                    var result = resumableEvent.document
+                            .map(doc -> {
+                                streamingMetrics.onChangeStreamPosition(streamName, sourceTime(doc));
+                                return processChangeStreamDocument(stream, doc, splitHandlers.get(stream), partition, effectiveOffset);
+                            })
+                            .orElseGet(() -> {
+                                streamingMetrics.onChangeStreamPosition(streamName, ResumeTokens.getTimestamp(resumableEvent.resumeToken).getTime() * 1000L);
+                                return errorHandled(() -> dispatchHeartbeatEvent(stream, resumableEvent, partition, effectiveOffset));
+                            });
+
+                    if (result == StreamStatus.ERROR) {
+                        return;
+                    }
+                }
+                idleDelay.sleepWhen(!dispatched);
+            }
+        }
+        catch (MongoException e) {
+            LOGGER.error("Error while reading change streams", e);
+            errorHandler.setProducerThrowable(e);
+        }
+        finally {
+            cursors.forEach(BufferingChangeStreamCursor::close);
+        }
+    }
+
+    private static long sourceTime(ChangeStreamDocument<BsonDocument> document) {
+        if (document.getWallTime() != null) {
+            return document.getWallTime().getValue();
+        }
+        return document.getClusterTime() != null ? document.getClusterTime().getTime() * 1000L : 0L;
+    }
+
+    private void waitWhenStreamingPaused(ChangeEventSourceContext context, BufferingChangeStreamCursor<?> cursor) {
+        waitWhenStreamingPaused(context, List.of(cursor));
+    }
+
+    private void waitWhenStreamingPaused(ChangeEventSourceContext context, List<? extends BufferingChangeStreamCursor<?>> cursors) {
         if (context.isPaused()) {
             errorHandled(() -> {
                 LOGGER.info("Streaming will now pause");
-                cursor.pause();
+                cursors.forEach(BufferingChangeStreamCursor::pause);
                 context.streamingPaused();
                 context.waitSnapshotCompletion();
-                cursor.resume();
+                cursors.forEach(BufferingChangeStreamCursor::resume);
                 LOGGER.info("Streaming resumed");
             });
         }
@@ -143,14 +226,24 @@ private StreamStatus processChangeStreamDocument(
                                                      SplitEventHandler<BsonDocument> splitHandler,
                                                      MongoDbPartition partition,
                                                      MongoDbOffsetContext offsetContext) {
+        return processChangeStreamDocument(SINGLE_STREAM, document, splitHandler, partition, offsetContext);
+    }
+
+    private StreamStatus processChangeStreamDocument(
+                                                     int stream,
+                                                     ChangeStreamDocument<BsonDocument> document,
+                                                     SplitEventHandler<BsonDocument> splitHandler,
+                                                     MongoDbPartition partition,
+                                                     MongoDbOffsetContext offsetContext) {
         LOGGER.trace("Arrived Change Stream event: {}", document);
         return splitHandler
                 .handle(document)
-                .map(event -> errorHandled(() -> dispatchChangeEvent(event, partition, offsetContext)))
+                .map(event -> errorHandled(() -> dispatchChangeEvent(stream, event, partition, offsetContext)))
                 .orElse(StreamStatus.NEXT);
     }
 
     private void dispatchChangeEvent(
+                                     int stream,
                                      ChangeStreamDocument<BsonDocument> event,
                                      MongoDbPartition partition,
                                      MongoDbOffsetContext offsetContext)
@@ -160,7 +253,12 @@ private void dispatchChangeEvent(
                 event.getNamespace().getCollectionName());
 
         var emitter = new MongoDbChangeRecordEmitter(partition, offsetContext, clock, event, connectorConfig);
-        offsetContext.changeStreamEvent(event);
+        if (stream == SINGLE_STREAM) {
+            offsetContext.changeStreamEvent(event);
+        }
+        else {
+            offsetContext.changeStreamEvent(stream, event);
+        }
         dispatcher.dispatchDataChangeEvent(partition, collectionId, emitter);
     }
 
@@ -169,8 +267,22 @@ private void dispatchHeartbeatEvent(
                                         MongoDbPartition partition,
                                         MongoDbOffsetContext offsetContext)
             throws InterruptedException {
+        dispatchHeartbeatEvent(SINGLE_STREAM, event, partition, offsetContext);
+    }
+
+    private void dispatchHeartbeatEvent(
+                                        int stream,
+                                        ResumableChangeStreamEvent<BsonDocument> event,
+                                        MongoDbPartition partition,
+                                        MongoDbOffsetContext offsetContext)
+            throws InterruptedException {
         LOGGER.trace("No Change Stream event arrived");
-        offsetContext.noEvent(event);
+        if (stream == SINGLE_STREAM) {
+            offsetContext.noEvent(event);
+        }
+        else {
+            offsetContext.noEvent(stream, event);
+        }
         dispatcher.dispatchHeartbeatEvent(partition, offsetContext);
     }
 
@@ -192,7 +304,11 @@ private StreamStatus errorHandled(BlockingRunnable action) {
 
     protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client, MongoDbOffsetContext offsetContext) {
         final ChangeStreamIterable<BsonDocument> stream = MongoUtils.openChangeStream(client, taskContext);
+        configureChangeStream(stream, offsetContext.lastResumeTokenDoc(), offsetContext.lastTimestamp());
+        return stream;
+    }
 
+    private void configureChangeStream(ChangeStreamIterable<BsonDocument> stream, BsonDocument resumeToken, BsonTimestamp timestamp) {
         if (connectorConfig.getCaptureMode().isFullUpdate()) {
             if (connectorConfig.getCaptureModeFullUpdateType().isPostImage()) {
                 stream.fullDocument(FullDocument.WHEN_AVAILABLE);
@@ -204,24 +320,22 @@ protected ChangeStreamIterable<BsonDocument> initChangeStream(MongoClient client
         if (connectorConfig.getCaptureMode().isIncludePreImage()) {
             stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
         }
-        if (offsetContext.lastResumeToken() != null) {
-            LOGGER.info("Resuming streaming from token '{}'", offsetContext.lastResumeToken());
-            stream.resumeAfter(offsetContext.lastResumeTokenDoc());
+        if (resumeToken != null) {
+            LOGGER.info("Resuming streaming from token '{}'", resumeToken);
+            stream.resumeAfter(resumeToken);
         }
-        else if (offsetContext.lastTimestamp() != null) {
-            LOGGER.info("Resuming streaming from operation time '{}'", offsetContext.lastTimestamp());
-            stream.startAtOperationTime(offsetContext.lastTimestamp());
+        else if (timestamp != null) {
+            LOGGER.info("Resuming streaming from operation time '{}'", timestamp);
+            stream.startAtOperationTime(timestamp);
         }
         else if (connectorConfig.startAtOperationTime().isPresent()) {
-            LOGGER.info("Resuming streaming from explicit operation time '{}'", offsetContext.lastTimestamp());
+            LOGGER.info("Resuming streaming from explicit operation time '{}'", connectorConfig.startAtOperationTime().get());
             stream.startAtOperationTime(connectorConfig.startAtOperationTime().get());
         }
 
         if (connectorConfig.getCursorMaxAwaitTime() > 0) {
             stream.maxAwaitTime(connectorConfig.getCursorMaxAwaitTime(), TimeUnit.MILLISECONDS);
         }
-
-        return stream;
     }
 
     protected MongoDbOffsetContext emptyOffsets(MongoDbConnectorConfig connectorConfig) {
@@ -5,10 +5,12 @@
  */
 package io.debezium.connector.mongodb;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
@@ -213,6 +215,24 @@ public static Optional<String> replicaSetName(ClusterDescription clusterDescript
     public static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient client, MongoDbTaskContext taskContext) {
         var config = taskContext.getConfig();
         final ChangeStreamPipeline pipeline = new ChangeStreamPipelineFactory(config, taskContext.getFilters().getConfig()).create();
+        return openChangeStream(client, taskContext, pipeline);
+    }
+
+    /**
+     * Opens one change stream per collection group configured by {@link MongoDbConnectorConfig#CHANGE_STREAM_GROUPS}
+     * followed by the change stream for the remaining collections.
+     */
+    public static List<ChangeStreamIterable<BsonDocument>> openChangeStreams(MongoClient client, MongoDbTaskContext taskContext) {
+        var config = taskContext.getConfig();
+        return new ChangeStreamPipelineFactory(config, taskContext.getFilters().getConfig())
+                .createForGroups(config.getChangeStreamGroups())
+                .stream()
+                .map(pipeline -> openChangeStream(client, taskContext, pipeline))
+                .collect(Collectors.toList());
+    }
+
+    private static ChangeStreamIterable<BsonDocument> openChangeStream(MongoClient client, MongoDbTaskContext taskContext, ChangeStreamPipeline pipeline) {
+        var config = taskContext.getConfig();
 
         // capture scope is database
         if (config.getCaptureScope() == MongoDbConnectorConfig.CaptureScope.DATABASE) {
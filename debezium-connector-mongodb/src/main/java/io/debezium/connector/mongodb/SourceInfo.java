@@ -64,6 +64,8 @@
 public final class SourceInfo extends BaseSourceInfo {
 
     public static final String RESUME_TOKEN = "resume_token";
+    public static final String STREAM_RESUME_TOKEN_PREFIX = "resume_token_";
+    public static final String STREAM_GROUPS = "stream_groups";
     public static final String TIMESTAMP = "sec";
     public static final String ORDER = "ord";
     public static final String INITIAL_SYNC = "initsync";
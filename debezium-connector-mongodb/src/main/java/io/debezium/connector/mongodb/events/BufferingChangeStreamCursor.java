@@ -338,11 +338,20 @@ public static <TResult> BufferingChangeStreamCursor<TResult> fromIterable(
                                                                               MongoDbTaskContext taskContext,
                                                                               MongoDbStreamingChangeEventSourceMetrics metrics,
                                                                               Clock clock) {
+        return fromIterable(stream, taskContext, metrics, clock, "replicator-fetcher");
+    }
+
+    public static <TResult> BufferingChangeStreamCursor<TResult> fromIterable(
+                                                                              ChangeStreamIterable<TResult> stream,
+                                                                              MongoDbTaskContext taskContext,
+                                                                              MongoDbStreamingChangeEventSourceMetrics metrics,
+                                                                              Clock clock,
+                                                                              String fetcherName) {
         var config = taskContext.getConfig();
 
         return new BufferingChangeStreamCursor<>(
                 new EventFetcher<>(stream, config.getMaxBatchSize(), metrics, clock, config.getPollInterval()),
-                Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.getServerName(), "replicator-fetcher", 1),
+                Threads.newFixedThreadPool(MongoDbConnector.class, taskContext.getServerName(), fetcherName, 1),
                 config.getPollInterval());
     }
 
@@ -378,6 +387,19 @@ public ResumableChangeStreamEvent<TResult> tryNext() {
         return event;
     }
 
+    /**
+     * Returns the next buffered event without waiting for one to arrive.
+     *
+     * @return event or null if none is buffered
+     */
+    public ResumableChangeStreamEvent<TResult> poll() {
+        var event = fetcher.poll();
+        if (event != null) {
+            lastResumeToken = event.resumeToken;
+        }
+        return event;
+    }
+
     /**
      * Returns next event in buffer.
      * Not that unlike other Mongo implementation this method does not block
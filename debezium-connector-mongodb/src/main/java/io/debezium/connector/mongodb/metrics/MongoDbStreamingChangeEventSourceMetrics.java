@@ -7,6 +7,9 @@
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
@@ -37,6 +40,8 @@ public class MongoDbStreamingChangeEventSourceMetrics extends DefaultStreamingCh
     private final AtomicLong lastEmptyPollTime = new AtomicLong();
     private final AtomicLong numberOfSourceEvents = new AtomicLong();
     private final AtomicLong numberOfEmptyPolls = new AtomicLong();
+    private final Map<String, Long> changeStreamSourceTimes = new ConcurrentHashMap<>();
+    private final Clock clock;
 
     public <T extends CdcSourceTaskContext> MongoDbStreamingChangeEventSourceMetrics(T taskContext, ChangeEventQueueMetrics changeEventQueueMetrics,
                                                                                      EventMetadataProvider eventMetadataProvider,
@@ -45,6 +50,7 @@ public <T extends CdcSourceTaskContext> MongoDbStreamingChangeEventSourceMetrics
                 "context", "streaming",
                 "server", taskContext.getConnectorLogicalName(),
                 "task", taskContext.getTaskId()), capturedTablesSupplier);
+        this.clock = taskContext.getClock();
     }
 
     @Override
@@ -72,6 +78,24 @@ public long getNumberOfEmptyPolls() {
         return numberOfEmptyPolls.get();
     }
 
+    @Override
+    public Map<String, Long> getChangeStreamMilliSecondsBehindSource() {
+        final long now = clock.currentTimeInMillis();
+        final Map<String, Long> lags = new HashMap<>();
+        changeStreamSourceTimes.forEach((stream, sourceTime) -> lags.put(stream, Math.max(now - sourceTime, 0)));
+        return lags;
+    }
+
+    /**
+     * Records the position of a change stream when the connector reads multiple change streams in parallel.
+     *
+     * @param stream the name of the change stream
+     * @param sourceTime the time in milliseconds at which the last event of the stream was written to the oplog
+     */
+    public void onChangeStreamPosition(String stream, long sourceTime) {
+        changeStreamSourceTimes.put(stream, sourceTime);
+    }
+
     public void onSourceEventPolled(ChangeStreamDocument<?> event, Clock clock, Instant prePollTimestamp) {
         var now = clock.currentTimeAsInstant();
         var duration = Duration.between(prePollTimestamp, now).toMillis();
@@ -100,5 +124,6 @@ public void reset() {
         super.reset();
         this.numberOfPrimaryElections.set(0);
         this.numberOfDisconnects.set(0);
+        this.changeStreamSourceTimes.clear();
     }
 }
@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.mongodb.metrics;
 
+import java.util.Map;
+
 import io.debezium.pipeline.metrics.StreamingChangeEventSourceMetricsMXBean;
 
 /**
@@ -23,4 +25,10 @@ public interface MongoDbStreamingChangeEventSourceMetricsMXBean extends Streamin
     long getLastEmptyPollTime();
 
     long getNumberOfEmptyPolls();
+
+    /**
+     * @return the time in milliseconds between the last event of each change stream and the time it was processed,
+     *         when the connector reads multiple change streams in parallel
+     */
+    Map<String, Long> getChangeStreamMilliSecondsBehindSource();
 }
@@ -10,9 +10,14 @@
 import static io.debezium.openlineage.dataset.DatasetMetadata.DataStore.DATABASE;
 import static io.debezium.openlineage.dataset.DatasetMetadata.DatasetKind.OUTPUT;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.connect.connector.ConnectRecord;
@@ -29,6 +34,8 @@
 
 import io.debezium.DebeziumException;
 import io.debezium.connector.common.DebeziumTaskState;
+import io.debezium.connector.mongodb.MongoDbSinkConnector;
+import io.debezium.connector.mongodb.sink.MongoDbSinkConnectorConfig.BulkWriteMode;
 import io.debezium.connector.mongodb.sink.converters.SinkDocument;
 import io.debezium.connector.mongodb.sink.eventhandler.relational.RelationalEventHandler;
 import io.debezium.dlq.ErrorReporter;
@@ -38,6 +45,7 @@
 import io.debezium.openlineage.dataset.DatasetMetadata;
 import io.debezium.sink.DebeziumSinkRecord;
 import io.debezium.sink.spi.ChangeEventSink;
+import io.debezium.util.Threads;
 
 final class MongoDbChangeEventSink implements ChangeEventSink, AutoCloseable {
 
@@ -45,6 +53,7 @@ final class MongoDbChangeEventSink implements ChangeEventSink, AutoCloseable {
     private final MongoClient mongoClient;
     private final ErrorReporter errorReporter;
     private final ConnectorContext connectorContext;
+    private final ExecutorService bulkWriteExecutor;
 
     MongoDbChangeEventSink(
                            final MongoDbSinkConnectorConfig sinkConfig,
@@ -54,11 +63,17 @@ final class MongoDbChangeEventSink implements ChangeEventSink, AutoCloseable {
         this.mongoClient = mongoClient;
         this.errorReporter = errorReporter;
         this.connectorContext = connectorContext;
+        this.bulkWriteExecutor = sinkConfig.getBulkWriteMode() == BulkWriteMode.NAMESPACE && sinkConfig.getBulkWriteParallelism() > 1
+                ? Threads.newFixedThreadPool(MongoDbSinkConnector.class, connectorContext.connectorName(), "bulk-write", sinkConfig.getBulkWriteParallelism())
+                : null;
     }
 
     @SuppressWarnings("try")
     @Override
     public void close() {
+        if (bulkWriteExecutor != null) {
+            bulkWriteExecutor.shutdownNow();
+        }
         try (MongoClient autoCloseable = mongoClient) {
             // just using try-with-resources to ensure they all get closed, even in the case of
             // exceptions
@@ -75,6 +90,9 @@ public void execute(final Collection<SinkRecord> records) {
             if (records.isEmpty()) {
                 LOGGER.debug("No sink records to process for current poll operation");
             }
+            else if (sinkConfig.getBulkWriteMode() == BulkWriteMode.NAMESPACE) {
+                bulkWriteNamespaces(MongoSinkRecordProcessor.groupByNamespace(records, sinkConfig, errorReporter));
+            }
             else {
                 List<List<MongoProcessedSinkRecordData>> batches = MongoSinkRecordProcessor.orderedGroupByTopicAndNamespace(
                         records, sinkConfig, errorReporter);
@@ -96,6 +114,54 @@ private void trackLatestRecordTimestampOffset(final Collection<SinkRecord> recor
                 .max();
     }
 
+    /**
+     * Writes the records of each namespace in bulk writes of at most {@code batch.size} documents, with the namespaces
+     * written concurrently. Returns only once all namespaces are written, so that the offsets of the poll are only
+     * committed if all of them succeeded.
+     */
+    private void bulkWriteNamespaces(final Map<MongoNamespace, List<MongoProcessedSinkRecordData>> writesByNamespace) throws Exception {
+        if (bulkWriteExecutor == null || writesByNamespace.size() == 1) {
+            writesByNamespace.values().forEach(this::bulkWriteNamespace);
+            return;
+        }
+
+        final List<Future<?>> writes = new ArrayList<>(writesByNamespace.size());
+        for (List<MongoProcessedSinkRecordData> namespaceWrites : writesByNamespace.values()) {
+            writes.add(bulkWriteExecutor.submit(() -> bulkWriteNamespace(namespaceWrites)));
+        }
+
+        Exception failure = null;
+        for (Future<?> write : writes) {
+            try {
+                write.get();
+            }
+            catch (ExecutionException e) {
+                final Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                }
+                else {
+                    failure.addSuppressed(cause);
+                }
+            }
+            catch (InterruptedException e) {
+                writes.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void bulkWriteNamespace(final List<MongoProcessedSinkRecordData> namespaceWrites) {
+        final int batchSize = sinkConfig.getBatchSize() > 0 ? sinkConfig.getBatchSize() : namespaceWrites.size();
+        for (int i = 0; i < namespaceWrites.size(); i += batchSize) {
+            bulkWriteBatch(namespaceWrites.subList(i, Math.min(i + batchSize, namespaceWrites.size())));
+        }
+    }
+
     private void bulkWriteBatch(final List<MongoProcessedSinkRecordData> batch) {
         if (batch.isEmpty()) {
             return;
@@ -149,7 +215,10 @@ private void handleTolerableWriteException(
                 log(batch, e);
             }
             if (tolerateErrors) {
-                batch.forEach(record -> errorReporter.report(record, e));
+                // namespaces may be written concurrently
+                synchronized (errorReporter) {
+                    batch.forEach(record -> errorReporter.report(record, e));
+                }
             }
             else {
                 throw new DataException(e);
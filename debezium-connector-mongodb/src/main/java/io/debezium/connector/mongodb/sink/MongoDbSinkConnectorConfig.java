@@ -17,6 +17,7 @@
 
 import io.debezium.config.ConfigDefinition;
 import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.connector.mongodb.shared.SharedMongoDbConnectorConfig;
 import io.debezium.sink.SinkConnectorConfig;
@@ -37,6 +38,45 @@ public class MongoDbSinkConnectorConfig implements SharedMongoDbConnectorConfig,
     public static final String COLUMN_NAMING_STRATEGY = "column.naming.strategy";
     public static final String FIELD_INCLUDE_LIST = "field.include.list";
     public static final String FIELD_EXCLUDE_LIST = "field.exclude.list";
+    public static final String BULK_WRITE_MODE = "bulk.write.mode";
+    public static final String BULK_WRITE_PARALLELISM = "bulk.write.parallelism";
+
+    /**
+     * The possible values for {@link #BULK_WRITE_MODE_FIELD}.
+     */
+    public enum BulkWriteMode implements EnumeratedValue {
+        /**
+         * The records are written in the order of the poll, with a bulk write for each run of records of the same
+         * topic and namespace.
+         */
+        ORDERED("ordered"),
+
+        /**
+         * The records of the poll are grouped per namespace, keeping only the last write of each document, and the
+         * namespaces are written concurrently.
+         */
+        NAMESPACE("namespace");
+
+        private final String value;
+
+        BulkWriteMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        public static BulkWriteMode parse(String value) {
+            for (BulkWriteMode option : BulkWriteMode.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return ORDERED;
+        }
+    }
 
     public static final Field SINK_DATABASE_NAME = Field.create(SINK_DATABASE)
             .withDisplayName("The sink MongoDB database name.")
@@ -56,6 +96,27 @@ public class MongoDbSinkConnectorConfig implements SharedMongoDbConnectorConfig,
             .withDefault(DefaultColumnNamingStrategy.class.getName())
             .withDescription("The fully qualified name of the class that provide the column naming strategy. It must implement the ColumnNamingStrategy interface.");
 
+    public static final Field BULK_WRITE_MODE_FIELD = Field.create(BULK_WRITE_MODE)
+            .withDisplayName("Bulk write mode")
+            .withEnum(BulkWriteMode.class, BulkWriteMode.ORDERED)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 5))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDescription("How the records of a poll are written. "
+                    + "'ordered' (the default) writes them in the order of the poll, with a bulk write for each run of records of the same topic and namespace; "
+                    + "'namespace' groups the records of the whole poll per namespace, writes only the last change of each document "
+                    + "and writes the namespaces concurrently.");
+
+    public static final Field BULK_WRITE_PARALLELISM_FIELD = Field.create(BULK_WRITE_PARALLELISM)
+            .withDisplayName("Bulk write parallelism")
+            .withType(ConfigDef.Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 6))
+            .withWidth(ConfigDef.Width.SHORT)
+            .withImportance(ConfigDef.Importance.LOW)
+            .withDefault(4)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of namespaces written concurrently when '" + BULK_WRITE_MODE + "' is 'namespace'.");
+
     protected static final ConfigDefinition CONFIG_DEFINITION = ConfigDefinition.editor()
             .connector(
                     SINK_DATABASE_NAME,
@@ -63,7 +124,9 @@ public class MongoDbSinkConnectorConfig implements SharedMongoDbConnectorConfig,
                     COLLECTION_NAMING_STRATEGY_FIELD,
                     COLLECTION_NAME_FORMAT_FIELD,
                     COLUMN_NAMING_STRATEGY_FIELD,
-                    BATCH_SIZE_FIELD)
+                    BATCH_SIZE_FIELD,
+                    BULK_WRITE_MODE_FIELD,
+                    BULK_WRITE_PARALLELISM_FIELD)
             .create();
 
     /**
@@ -89,6 +152,8 @@ public WriteModelStrategy getDeleteWriteModelStrategy() {
     private final ColumnNamingStrategy columnNamingStrategy;
     private FieldFilterFactory.FieldNameFilter fieldsFilter;
     private final int batchSize;
+    private final BulkWriteMode bulkWriteMode;
+    private final int bulkWriteParallelism;
     private final boolean truncateEnabled;
     private final boolean deleteEnabled;
     private final String cloudEventsSchemaNamePattern;
@@ -108,6 +173,8 @@ public MongoDbSinkConnectorConfig(Configuration config) {
         this.truncateEnabled = config.getBoolean(SinkConnectorConfig.TRUNCATE_ENABLED_FIELD);
         this.deleteEnabled = config.getBoolean(DELETE_ENABLED_FIELD);
         this.batchSize = config.getInteger(BATCH_SIZE_FIELD);
+        this.bulkWriteMode = BulkWriteMode.parse(config.getString(BULK_WRITE_MODE_FIELD));
+        this.bulkWriteParallelism = config.getInteger(BULK_WRITE_PARALLELISM_FIELD);
         this.cloudEventsSchemaNamePattern = config.getString(CLOUDEVENTS_SCHEMA_NAME_PATTERN_FIELD);
     }
 
@@ -144,6 +211,14 @@ public int getBatchSize() {
         return batchSize;
     }
 
+    public BulkWriteMode getBulkWriteMode() {
+        return bulkWriteMode;
+    }
+
+    public int getBulkWriteParallelism() {
+        return bulkWriteParallelism;
+    }
+
     @Override
     public CollectionNamingStrategy getCollectionNamingStrategy() {
         return collectionNamingStrategy;
@@ -114,6 +114,8 @@ public void put(final Collection<SinkRecord> records) {
         }
         catch (Exception e) {
             DebeziumOpenLineageEmitter.emit(connectorContext, DebeziumTaskState.RESTARTING, e);
+            // the offsets of the records must not be committed unless all of them were written
+            throw new ConnectException("Failed to write the records into MongoDB", e);
         }
     }
 
@@ -7,12 +7,20 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.kafka.connect.sink.SinkRecord;
+import org.bson.BsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+
 import io.debezium.bindings.kafka.KafkaDebeziumSinkRecord;
 import io.debezium.dlq.ErrorReporter;
 import io.debezium.sink.DebeziumSinkRecord;
@@ -23,6 +31,77 @@ final class MongoSinkRecordProcessor {
     private MongoSinkRecordProcessor() {
     }
 
+    /**
+     * Groups the records of a poll per namespace, keeping the order of the records within each namespace. Of several
+     * writes to the same document, identified by an {@code _id} filter, only the last one is kept: it is either an
+     * upserting replace or a delete of the whole document, so it does not depend on the writes before it. Writes with
+     * any other filter, e.g. the before image of a record without a key, are all kept.
+     */
+    static Map<MongoNamespace, List<MongoProcessedSinkRecordData>> groupByNamespace(
+                                                                                    final Collection<SinkRecord> records,
+                                                                                    final MongoDbSinkConnectorConfig sinkConfig,
+                                                                                    final ErrorReporter errorReporter) {
+        LOGGER.debug("Number of sink records to process: {}", records.size());
+
+        final Map<MongoNamespace, Map<Object, MongoProcessedSinkRecordData>> writesByNamespace = new LinkedHashMap<>();
+        int collapsed = 0;
+
+        for (SinkRecord kafkaSinkRecord : records) {
+            DebeziumSinkRecord record = new KafkaDebeziumSinkRecord(kafkaSinkRecord, sinkConfig.cloudEventsSchemaNamePattern());
+            MongoProcessedSinkRecordData processedData = new MongoProcessedSinkRecordData(record, sinkConfig);
+
+            if (processedData.getException() != null) {
+                errorReporter.report(processedData.getSinkRecord(), processedData.getException());
+                continue;
+            }
+            else if (processedData.getNamespace() == null || processedData.getWriteModel() == null) {
+                // Some CDC events can be Noops (eg tombstone events)
+                continue;
+            }
+
+            final Map<Object, MongoProcessedSinkRecordData> writes = writesByNamespace.computeIfAbsent(processedData.getNamespace(),
+                    namespace -> new LinkedHashMap<>());
+            final BsonDocument documentId = documentIdOf(processedData.getWriteModel());
+            if (documentId == null) {
+                writes.put(new Object(), processedData);
+            }
+            // the replaced write is removed, so that the last write takes its place in the order of the namespace
+            else if (writes.remove(documentId) != null) {
+                writes.put(documentId, processedData);
+                collapsed++;
+            }
+            else {
+                writes.put(documentId, processedData);
+            }
+        }
+
+        LOGGER.debug("Collapsed {} writes superseded by later writes to the same document", collapsed);
+
+        final Map<MongoNamespace, List<MongoProcessedSinkRecordData>> batches = new LinkedHashMap<>();
+        writesByNamespace.forEach((namespace, writes) -> batches.put(namespace, new ArrayList<>(writes.values())));
+        return batches;
+    }
+
+    /**
+     * Returns the {@code _id} filter of a write which replaces or deletes a whole document, {@code null} otherwise.
+     */
+    private static BsonDocument documentIdOf(WriteModel<BsonDocument> writeModel) {
+        final Object filter;
+        if (writeModel instanceof ReplaceOneModel<BsonDocument> replace && replace.getReplaceOptions().isUpsert()) {
+            filter = replace.getFilter();
+        }
+        else if (writeModel instanceof DeleteOneModel<BsonDocument> delete) {
+            filter = delete.getFilter();
+        }
+        else {
+            return null;
+        }
+        if (filter instanceof BsonDocument document && document.size() == 1 && document.containsKey(MongoDbSinkConnectorConfig.ID_FIELD)) {
+            return document;
+        }
+        return null;
+    }
+
     static List<List<MongoProcessedSinkRecordData>> orderedGroupByTopicAndNamespace(
                                                                                     final Collection<SinkRecord> records,
                                                                                     final MongoDbSinkConnectorConfig sinkConfig,
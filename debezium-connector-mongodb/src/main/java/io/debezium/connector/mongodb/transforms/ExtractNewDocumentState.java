@@ -33,6 +33,7 @@
 import io.debezium.config.CommonConnectorConfig.FieldNameAdjustmentMode;
 import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
+import io.debezium.connector.mongodb.BsonSerialization;
 import io.debezium.connector.mongodb.MongoDbFieldName;
 import io.debezium.data.Envelope;
 import io.debezium.metadata.ConfigDescriptor;
@@ -44,7 +45,8 @@
 /**
  * Debezium Mongo Connector generates the CDC records in String format. Sink connectors usually are not able to parse
  * the string and insert the document as it is represented in the Source. so a user use this SMT to parse the String
- * and insert the MongoDB document in the JSON format.
+ * and insert the MongoDB document in the JSON format. Documents emitted as raw BSON bytes are decoded directly,
+ * without a JSON round trip.
  *
  * @param <R> the subtype of {@link ConnectRecord} on which this transformation will operate
  * @author Sairam Polavarapu
@@ -329,15 +331,15 @@ private BsonDocument getPartialUpdateDocument(R beforeRecord, R updateDescriptio
 
         Struct updateDescription = requireStruct(updateDescriptionRecord.value(), MongoDbFieldName.UPDATE_DESCRIPTION);
 
-        String updated = updateDescription.getString(MongoDbFieldName.UPDATED_FIELDS);
+        Object updated = updateDescription.get(MongoDbFieldName.UPDATED_FIELDS);
         List<String> removed = updateDescription.getArray(MongoDbFieldName.REMOVED_FIELDS);
 
         if (beforeRecord.value() != null) {
-            valueDocument = BsonDocument.parse(beforeRecord.value().toString());
+            valueDocument = toDocument(beforeRecord.value());
         }
 
         if (updated != null) {
-            BsonDocument updatedBson = BsonDocument.parse(updated);
+            BsonDocument updatedBson = toDocument(updated);
             for (Entry<String, BsonValue> valueEntry : updatedBson.entrySet()) {
                 valueDocument.append(valueEntry.getKey(), valueEntry.getValue());
             }
@@ -363,7 +365,17 @@ private BsonDocument getPartialUpdateDocument(R beforeRecord, R updateDescriptio
     }
 
     private BsonDocument getFullDocument(R record, BsonDocument key) {
-        return BsonDocument.parse(record.value().toString());
+        return toDocument(record.value());
+    }
+
+    /**
+     * Converts a document of a change event, emitted either as raw BSON bytes or as a JSON string, into a mutable document.
+     */
+    private BsonDocument toDocument(Object value) {
+        if (value instanceof byte[]) {
+            return BsonSerialization.toDocument((byte[]) value);
+        }
+        return BsonDocument.parse(value.toString());
     }
 
     @Override
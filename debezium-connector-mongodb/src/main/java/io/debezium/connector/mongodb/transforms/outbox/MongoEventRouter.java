@@ -28,6 +28,7 @@
 import io.debezium.annotation.VisibleForTesting;
 import io.debezium.common.annotation.Incubating;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.BsonSerialization;
 import io.debezium.connector.mongodb.Module;
 import io.debezium.connector.mongodb.transforms.ExtractNewDocumentState;
 import io.debezium.connector.mongodb.transforms.MongoDataConverter;
@@ -120,14 +121,20 @@ private R expandAfterField(R originalRecord) throws IllegalStateException {
         // Convert 'after' field format from JSON String to Struct
         Object after = afterRecord.value();
 
-        if (!(after instanceof String)) {
-            throw new IllegalStateException("Unable to expand non-String after field: " + after.getClass());
+        final BsonDocument afterBsonDocument;
+        if (after instanceof String) {
+            afterBsonDocument = BsonDocument.parse((String) after);
+        }
+        else if (after instanceof byte[]) {
+            afterBsonDocument = BsonSerialization.toDocument((byte[]) after);
+        }
+        else {
+            throw new IllegalStateException("Unable to expand after field that is neither a String nor BSON bytes: " + after.getClass());
         }
 
         Schema originalValueSchema = originalRecord.valueSchema();
 
         String afterSchemaName = afterRecord.valueSchema().name();
-        BsonDocument afterBsonDocument = BsonDocument.parse((String) after);
 
         Schema newAfterSchema = buildNewAfterSchema(afterSchemaName, afterBsonDocument);
         Struct newAfterStruct = buildNewAfterStruct(newAfterSchema, afterBsonDocument);
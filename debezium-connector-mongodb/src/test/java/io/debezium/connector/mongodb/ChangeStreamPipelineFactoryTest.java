@@ -181,6 +181,29 @@ void testCollectionIncludeListTrimsWhitespace() {
         assertThat(pipelineJson).contains("db.col1|db.col2");
     }
 
+    @Test
+    void testCreateForGroupsMatchesGroupsAndRemainder() {
+        // Given:
+        given(connectorConfig.getCursorPipelineOrder())
+                .willReturn(CursorPipelineOrder.INTERNAL_FIRST);
+        given(connectorConfig.getSkippedOperations())
+                .willReturn(EnumSet.of(Envelope.Operation.TRUNCATE));
+        given(filterConfig.isLiteralsMatchMode())
+                .willReturn(false);
+        given(filterConfig.getUserPipeline())
+                .willReturn(new ChangeStreamPipeline("[]"));
+
+        // When:
+        var pipelines = sut.createForGroups(List.of("db1.orders, db1.items", "db2.*"));
+
+        // Then:
+        assertThat(pipelines).hasSize(3);
+        assertThat(pipelineToString(pipelines.get(0))).contains("\"$regexMatch\"").contains("^(?:db1.orders|db1.items)$");
+        assertThat(pipelineToString(pipelines.get(1))).contains("^(?:db2.*)$");
+        assertThat(pipelineToString(pipelines.get(2))).contains("\"$not\"").contains("^(?:db1.orders|db1.items|db2.*)$");
+        assertThat(pipelines.get(0).getStages().get(0).toBsonDocument().containsKey("$match")).isTrue();
+    }
+
     @Test
     void testCollectionIncludeListTrimsAllWhitespace() {
         // Given:
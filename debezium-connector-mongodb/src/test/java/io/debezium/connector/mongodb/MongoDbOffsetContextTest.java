@@ -18,6 +18,7 @@
 
 import io.debezium.config.CommonConnectorConfig;
 import io.debezium.config.Configuration;
+import io.debezium.connector.mongodb.events.BufferingChangeStreamCursor.ResumableChangeStreamEvent;
 
 /**
  * Unit tests for {@link MongoDbOffsetContext} and its {@link MongoDbOffsetContext.Loader}.
@@ -196,4 +197,70 @@ public void initsyncOffsetShouldHaveNullResumeToken() {
                 .as("Incomplete snapshot offset should have null resume token doc")
                 .isNull();
     }
+
+    @Test
+    public void shouldStoreLowestChangeStreamPositionAsOffset() {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put(SourceInfo.TIMESTAMP, 100);
+        offset.put(SourceInfo.ORDER, 1);
+        offset.put(SourceInfo.RESUME_TOKEN, resumeToken(100));
+
+        MongoDbOffsetContext context = loader.load(offset);
+        context.startChangeStreams("db1.a;db1.b", 3);
+        context.noEvent(0, new ResumableChangeStreamEvent<>(ResumeTokens.fromBase64(resumeToken(300))));
+        context.noEvent(1, new ResumableChangeStreamEvent<>(ResumeTokens.fromBase64(resumeToken(200))));
+        context.noEvent(2, new ResumableChangeStreamEvent<>(ResumeTokens.fromBase64(resumeToken(250))));
+
+        Map<String, ?> stored = context.getOffset();
+        assertThat(stored.get(SourceInfo.RESUME_TOKEN)).isEqualTo(resumeToken(200));
+        assertThat(stored.get(SourceInfo.TIMESTAMP)).isEqualTo(200);
+        assertThat(stored.get(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "0")).isEqualTo(resumeToken(300));
+        assertThat(stored.get(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "1")).isEqualTo(resumeToken(200));
+        assertThat(stored.get(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "2")).isEqualTo(resumeToken(250));
+        assertThat(stored.get(SourceInfo.STREAM_GROUPS)).isEqualTo("db1.a;db1.b");
+    }
+
+    @Test
+    public void shouldResumeChangeStreamsFromTheirOwnPositions() {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put(SourceInfo.TIMESTAMP, 200);
+        offset.put(SourceInfo.ORDER, 1);
+        offset.put(SourceInfo.RESUME_TOKEN, resumeToken(200));
+        offset.put(SourceInfo.STREAM_GROUPS, "db1.a;db1.b");
+        offset.put(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "0", resumeToken(300));
+        offset.put(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "1", resumeToken(200));
+        offset.put(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "2", resumeToken(250));
+
+        MongoDbOffsetContext context = loader.load(offset);
+        context.startChangeStreams("db1.a;db1.b", 3);
+        assertThat(context.lastResumeTokenDoc(0)).isEqualTo(ResumeTokens.fromBase64(resumeToken(300)));
+        assertThat(context.lastResumeTokenDoc(2)).isEqualTo(ResumeTokens.fromBase64(resumeToken(250)));
+
+        // changed groups resume from the lowest position
+        context = loader.load(offset);
+        context.startChangeStreams("db1.a", 2);
+        assertThat(context.lastResumeTokenDoc(0)).isEqualTo(ResumeTokens.fromBase64(resumeToken(200)));
+        assertThat(context.lastResumeTokenDoc(1)).isEqualTo(ResumeTokens.fromBase64(resumeToken(200)));
+    }
+
+    @Test
+    public void shouldIgnoreStoredChangeStreamPositionsWithSingleChangeStream() {
+        Map<String, Object> offset = new HashMap<>();
+        offset.put(SourceInfo.TIMESTAMP, 200);
+        offset.put(SourceInfo.ORDER, 1);
+        offset.put(SourceInfo.RESUME_TOKEN, resumeToken(200));
+        offset.put(SourceInfo.STREAM_GROUPS, "db1.a");
+        offset.put(SourceInfo.STREAM_RESUME_TOKEN_PREFIX + "0", resumeToken(300));
+
+        MongoDbOffsetContext context = loader.load(offset);
+        context.noEvent(new ResumableChangeStreamEvent<>(ResumeTokens.fromBase64(resumeToken(400))));
+
+        Map<String, ?> stored = context.getOffset();
+        assertThat(stored.get(SourceInfo.RESUME_TOKEN)).isEqualTo(resumeToken(400));
+        assertThat(stored.containsKey(SourceInfo.STREAM_GROUPS)).isFalse();
+    }
+
+    private static String resumeToken(int seconds) {
+        return ResumeTokens.toBase64(ResumeTokens.fromData(String.format("82%08X%08X04", seconds, 1)));
+    }
 }
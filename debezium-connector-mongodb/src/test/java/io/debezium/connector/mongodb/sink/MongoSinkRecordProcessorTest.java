@@ -0,0 +1,80 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.mongodb.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+
+import io.debezium.config.Configuration;
+import io.debezium.dlq.ErrorReporter;
+
+public class MongoSinkRecordProcessorTest {
+
+    private static final ErrorReporter FAILING_REPORTER = (record, e) -> {
+        throw new AssertionError("Unexpected error for " + record, e);
+    };
+
+    private final MongoDbSinkConnectorConfig config = new MongoDbSinkConnectorConfig(Configuration.create()
+            .with("mongodb.connection.string", "mongodb://localhost:27017")
+            .with(MongoDbSinkConnectorConfig.SINK_DATABASE, "sink")
+            .with(MongoDbSinkConnectorConfig.BULK_WRITE_MODE, "namespace")
+            .build());
+
+    private final List<SinkRecord> records = new ArrayList<>();
+
+    @Test
+    public void shouldKeepOnlyLastWriteOfEachDocumentPerNamespace() {
+        upsert("a", 1, "c");
+        upsert("a", 2, "c");
+        upsert("b", 1, "c");
+        upsert("a", 1, "u");
+        delete("a", 2);
+        upsert("b", 2, "c");
+
+        final Map<MongoNamespace, List<MongoProcessedSinkRecordData>> writes = MongoSinkRecordProcessor.groupByNamespace(records, config, FAILING_REPORTER);
+
+        assertThat(writes.keySet()).containsExactly(new MongoNamespace("sink", "a"), new MongoNamespace("sink", "b"));
+        assertThat(offsets(writes.get(new MongoNamespace("sink", "a")))).containsExactly(3L, 4L);
+        assertThat(offsets(writes.get(new MongoNamespace("sink", "b")))).containsExactly(2L, 5L);
+
+        assertThat(writes.get(new MongoNamespace("sink", "a")).get(0).getWriteModel()).isInstanceOf(ReplaceOneModel.class);
+        assertThat(writes.get(new MongoNamespace("sink", "a")).get(1).getWriteModel()).isInstanceOf(DeleteOneModel.class);
+    }
+
+    @Test
+    public void shouldKeepAllWritesOfRecordsWithoutKey() {
+        records.add(new SinkRecord("a", 0, null, null, null, "{\"op\": \"c\", \"after\": {\"name\": \"x\"}}", records.size()));
+        records.add(new SinkRecord("a", 0, null, null, null, "{\"op\": \"c\", \"after\": {\"name\": \"x\"}}", records.size()));
+
+        final Map<MongoNamespace, List<MongoProcessedSinkRecordData>> writes = MongoSinkRecordProcessor.groupByNamespace(records, config, FAILING_REPORTER);
+
+        assertThat(offsets(writes.get(new MongoNamespace("sink", "a")))).containsExactly(0L, 1L);
+    }
+
+    private void upsert(String topic, int id, String op) {
+        records.add(new SinkRecord(topic, 0, null, "{\"id\": " + id + "}", null,
+                "{\"op\": \"" + op + "\", \"after\": {\"id\": " + id + ", \"name\": \"" + op + records.size() + "\"}}", records.size()));
+    }
+
+    private void delete(String topic, int id) {
+        records.add(new SinkRecord(topic, 0, null, "{\"id\": " + id + "}", null,
+                "{\"op\": \"d\", \"before\": {\"id\": " + id + "}}", records.size()));
+    }
+
+    private static List<Long> offsets(List<MongoProcessedSinkRecordData> writes) {
+        return writes.stream().map(write -> write.getSinkRecord().offset()).toList();
+    }
+}
@@ -12,16 +12,24 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashMap;
+import java.util.List;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.connector.mongodb.BsonSerialization;
+import io.debezium.connector.mongodb.MongoDbFieldName;
+import io.debezium.connector.mongodb.MongoDbSchema;
+import io.debezium.data.Envelope;
 import io.debezium.doc.FixFor;
 import io.debezium.junit.SkipWhenKafkaVersion;
 import io.debezium.util.Collect;
@@ -236,4 +244,65 @@ public void shouldFailWhenTheSchemaLooksValidButDoesNotHaveTheCorrectFieldsPostK
         // when
         assertThrows(IllegalArgumentException.class, () -> transformation.apply(eventRecord));
     }
+
+    @Test
+    public void shouldExtractDocumentEmittedAsBson() {
+        final BsonDocument document = new BsonDocument("_id", new BsonInt32(1))
+                .append("name", new BsonString("Sally"))
+                .append("address", new BsonDocument("city", new BsonString("Prague")));
+
+        final Struct value = new Struct(BSON_ENVELOPE_SCHEMA)
+                .put(Envelope.FieldName.AFTER, new BsonSerialization().getDocumentValue(document))
+                .put(Envelope.FieldName.OPERATION, Envelope.Operation.CREATE.code());
+
+        final SourceRecord transformed = transformation.apply(bsonRecord(value));
+
+        final Struct transformedValue = (Struct) transformed.value();
+        assertThat(transformed.valueSchema().name()).isEqualTo("dbserver1.inventory.customers");
+        assertThat(transformedValue.get("_id")).isEqualTo(1);
+        assertThat(transformedValue.get("name")).isEqualTo("Sally");
+        assertThat(transformedValue.getStruct("address").get("city")).isEqualTo("Prague");
+    }
+
+    @Test
+    public void shouldApplyPartialUpdateEmittedAsBson() {
+        final Struct updateDescription = new Struct(MongoDbSchema.UPDATED_DESCRIPTION_BSON_SCHEMA)
+                .put(MongoDbFieldName.UPDATED_FIELDS, new BsonSerialization().getDocumentValue(new BsonDocument("name", new BsonString("Sue"))))
+                .put(MongoDbFieldName.REMOVED_FIELDS, List.of("address"));
+
+        final Struct value = new Struct(BSON_ENVELOPE_SCHEMA)
+                .put(MongoDbFieldName.UPDATE_DESCRIPTION, updateDescription)
+                .put(Envelope.FieldName.OPERATION, Envelope.Operation.UPDATE.code());
+
+        final SourceRecord transformed = transformation.apply(bsonRecord(value));
+
+        final Struct transformedValue = (Struct) transformed.value();
+        assertThat(transformedValue.get("_id")).isEqualTo(1);
+        assertThat(transformedValue.get("name")).isEqualTo("Sue");
+        assertThat(transformedValue.schema().field("address")).isNull();
+    }
+
+    private static final Schema BSON_ENVELOPE_SCHEMA = SchemaBuilder.struct()
+            .name("dbserver1.inventory.customers.Envelope")
+            .field(Envelope.FieldName.BEFORE, MongoDbSchema.BSON_DOCUMENT_SCHEMA)
+            .field(Envelope.FieldName.AFTER, MongoDbSchema.BSON_DOCUMENT_SCHEMA)
+            .field(MongoDbFieldName.UPDATE_DESCRIPTION, MongoDbSchema.UPDATED_DESCRIPTION_BSON_SCHEMA)
+            .field(Envelope.FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
+            .build();
+
+    private static SourceRecord bsonRecord(Struct value) {
+        final Schema keySchema = SchemaBuilder.struct()
+                .name("dbserver1.inventory.customers.Key")
+                .field("id", Schema.STRING_SCHEMA)
+                .build();
+
+        return new SourceRecord(
+                new HashMap<>(),
+                new HashMap<>(),
+                "dbserver1.inventory.customers",
+                keySchema,
+                new Struct(keySchema).put("id", "1"),
+                value.schema(),
+                value);
+    }
 }
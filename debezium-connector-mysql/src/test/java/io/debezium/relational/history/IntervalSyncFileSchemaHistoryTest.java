@@ -0,0 +1,49 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.config.Configuration;
+import io.debezium.storage.file.history.FileSchemaHistory;
+
+/**
+ * Syncs the records periodically, in the background, while they are written and recovered.
+ */
+public class IntervalSyncFileSchemaHistoryTest extends FileSchemaHistoryTest {
+
+    @Override
+    protected Configuration.Builder configure(Configuration.Builder config) {
+        return config
+                .with(FileSchemaHistory.SYNC_POLICY, FileSchemaHistory.SyncPolicy.INTERVAL.getValue())
+                .with(FileSchemaHistory.SYNC_INTERVAL_MS, 1);
+    }
+
+    @Test
+    void shouldKeepRecordingWhenRecordingThreadIsInterrupted() throws InterruptedException {
+        record(01, 0, "CREATE TABLE foo ( first VARCHAR(22) NOT NULL );", all, t0);
+
+        Thread.currentThread().interrupt();
+        try {
+            record(23, 1, "CREATE TABLE\nperson ( name VARCHAR(22) NOT NULL );", all);
+        }
+        finally {
+            // clears the interrupt flag
+            Thread.interrupted();
+        }
+        record(30, 2, "CREATE TABLE address\n( street VARCHAR(22) NOT NULL );", all);
+
+        assertThat(recover(01, 0)).isEqualTo(t0);
+        assertThat(recover(33, 0)).isEqualTo(all);
+
+        // the records are synced on stop and recovered by a new history
+        history.stop();
+        history = createHistory();
+        assertThat(recover(33, 0)).isEqualTo(all);
+    }
+}
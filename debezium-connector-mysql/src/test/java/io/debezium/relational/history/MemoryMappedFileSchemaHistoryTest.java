@@ -0,0 +1,22 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.relational.history;
+
+import io.debezium.config.Configuration;
+import io.debezium.storage.file.history.FileSchemaHistory;
+
+/**
+ * Recovers the history through a memory-mapped buffer, with each record synced when it is written.
+ */
+public class MemoryMappedFileSchemaHistoryTest extends FileSchemaHistoryTest {
+
+    @Override
+    protected Configuration.Builder configure(Configuration.Builder config) {
+        return config
+                .with(FileSchemaHistory.RECOVERY_MEMORY_MAPPED, true)
+                .with(FileSchemaHistory.SYNC_POLICY, FileSchemaHistory.SyncPolicy.ALWAYS.getValue());
+    }
+}
@@ -74,6 +74,8 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
     protected final static Duration MIN_SLEEP_TIME = Duration.ZERO;
     protected final static Duration SLEEP_TIME_INCREMENT = Duration.ofMillis(200);
 
+    protected final static Duration DEFAULT_ADAPTIVE_BATCH_TARGET_DURATION = Duration.ofMillis(3_000);
+
     protected final static Duration ARCHIVE_LOG_ONLY_POLL_TIME = Duration.ofMillis(10_000);
 
     protected final static long DEFAULT_RESUME_POSITION_INTERVAL = 10_000L;
@@ -292,6 +294,41 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription(
                     "The maximum amount of time that the connector will use to tune the optimal sleep time when reading data from LogMiner. Value is in milliseconds.");
 
+    public static final Field LOG_MINING_BATCH_SIZE_ADAPTIVE = Field.create("log.mining.batch.size.adaptive")
+            .withDisplayName("Adaptive batch size for reading redo/archive logs.")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 34))
+            .withDefault(false)
+            .withDescription("When enabled, the SCN interval of the next mining session is sized from the observed duration of the LogMiner query, "
+                    + "the rows processed per second, the rate at which the database generates redo and the PGA memory of the mining session, "
+                    + "targeting the session duration given by 'log.mining.batch.size.adaptive.target.ms'. "
+                    + "The interval is kept between 'log.mining.batch.size.min' and 'log.mining.batch.size.max'. "
+                    + "When disabled, the interval is changed by 'log.mining.batch.size.increment'.");
+
+    public static final Field LOG_MINING_BATCH_SIZE_ADAPTIVE_TARGET_MS = Field.create("log.mining.batch.size.adaptive.target.ms")
+            .withDisplayName("Target duration of a mining session in milliseconds for adaptive batch sizing.")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 35))
+            .withDefault(DEFAULT_ADAPTIVE_BATCH_TARGET_DURATION.toMillis())
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The duration of a mining session, including the LogMiner query and the processing of its rows, "
+                    + "that the adaptive batch sizing aims for. Value is in milliseconds.");
+
+    public static final Field LOG_MINING_BATCH_SIZE_ADAPTIVE_PGA_MAX_BYTES = Field.create("log.mining.batch.size.adaptive.pga.max.bytes")
+            .withDisplayName("Maximum PGA memory of the mining session for adaptive batch sizing.")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED, 36))
+            .withDefault(0L)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("When the PGA memory of the mining session exceeds this number of bytes, the adaptive batch sizing "
+                    + "halves the SCN interval of the next mining session. The default value of '0' disables this limit.");
+
     public static final Field LOG_MINING_ARCHIVE_LOG_ONLY_MODE = Field.create("log.mining.archive.log.only.mode")
             .withDisplayName("Specifies whether log mining should only target archive logs or both archive and redo logs")
             .withType(Type.BOOLEAN)
@@ -337,6 +374,19 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("When set to 'false', the default, LOB fields will not be captured nor emitted. When set to 'true', the connector " +
                     "will capture LOB fields and emit changes for those fields like any other column type.");
 
+    public static final Field LOB_SPILL_THRESHOLD_BYTES = Field.create("lob.spill.threshold.bytes")
+            .withDisplayName("Memory threshold of a transaction's LOB values before they are spilled to disk")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 22))
+            .withDefault(64L * 1024 * 1024)
+            .withValidation(Field::isNonNegativeLong)
+            .withDescription("When LOB support is enabled, the number of bytes of LOB, XML and extended string fragments of a transaction "
+                    + "that the connector keeps in memory while assembling the column values at commit time. "
+                    + "Once a transaction exceeds this threshold, the fragments of the value being assembled are written to a temporary file. "
+                    + "A value of '0' disables spilling fragments to disk.");
+
     public static final Field LOG_MINING_USERNAME_INCLUDE_LIST = Field.create("log.mining.username.include.list")
             .withDisplayName("List of users to include from LogMiner query")
             .withType(Type.STRING)
@@ -868,9 +918,13 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_SLEEP_TIME_MIN_MS,
                     LOG_MINING_SLEEP_TIME_MAX_MS,
                     LOG_MINING_SLEEP_TIME_INCREMENT_MS,
+                    LOG_MINING_BATCH_SIZE_ADAPTIVE,
+                    LOG_MINING_BATCH_SIZE_ADAPTIVE_TARGET_MS,
+                    LOG_MINING_BATCH_SIZE_ADAPTIVE_PGA_MAX_BYTES,
                     LOG_MINING_TRANSACTION_RETENTION_MS,
                     LOG_MINING_ARCHIVE_LOG_ONLY_MODE,
                     LOB_ENABLED,
+                    LOB_SPILL_THRESHOLD_BYTES,
                     LOG_MINING_USERNAME_INCLUDE_LIST,
                     LOG_MINING_USERNAME_EXCLUDE_LIST,
                     ARCHIVE_DESTINATION_NAME,
@@ -973,10 +1027,14 @@ public static ConfigDef configDef() {
     private final Duration logMiningSleepTimeMax;
     private final Duration logMiningSleepTimeDefault;
     private final Duration logMiningSleepTimeIncrement;
+    private final boolean logMiningBatchSizeAdaptive;
+    private final Duration logMiningBatchSizeAdaptiveTarget;
+    private final long logMiningBatchSizeAdaptivePgaMaxBytes;
     private final Duration logMiningTransactionRetention;
     private final boolean archiveLogOnlyMode;
     private final Duration archiveLogOnlyScnPollTime;
     private final boolean lobEnabled;
+    private final long lobSpillThresholdBytes;
     private final Set<String> logMiningUsernameIncludes;
     private final Set<String> logMiningUsernameExcludes;
     private final LogMiningBufferType logMiningBufferType;
@@ -1037,6 +1095,7 @@ public OracleConnectorConfig(Configuration config) {
         this.connectorAdapter = ConnectorAdapter.parse(config.getString(CONNECTOR_ADAPTER));
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
         this.lobEnabled = config.getBoolean(LOB_ENABLED);
+        this.lobSpillThresholdBytes = config.getLong(LOB_SPILL_THRESHOLD_BYTES);
         this.objectIdToTableIdCacheSize = config.getInteger(OBJECT_ID_CACHE_SIZE);
         this.legacyDecimalHandlingStrategy = config.getBoolean(LEGACY_DECIMAL_HANDLING_STRATEGY);
 
@@ -1060,6 +1119,9 @@ public OracleConnectorConfig(Configuration config) {
         this.logMiningSleepTimeMax = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_MAX_MS));
         this.logMiningSleepTimeDefault = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_DEFAULT_MS));
         this.logMiningSleepTimeIncrement = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_INCREMENT_MS));
+        this.logMiningBatchSizeAdaptive = config.getBoolean(LOG_MINING_BATCH_SIZE_ADAPTIVE);
+        this.logMiningBatchSizeAdaptiveTarget = Duration.ofMillis(config.getLong(LOG_MINING_BATCH_SIZE_ADAPTIVE_TARGET_MS));
+        this.logMiningBatchSizeAdaptivePgaMaxBytes = config.getLong(LOG_MINING_BATCH_SIZE_ADAPTIVE_PGA_MAX_BYTES);
         this.logMiningTransactionRetention = config.getDuration(LOG_MINING_TRANSACTION_RETENTION_MS, ChronoUnit.MILLIS);
         this.archiveLogOnlyMode = config.getBoolean(LOG_MINING_ARCHIVE_LOG_ONLY_MODE);
         this.logMiningUsernameIncludes = Strings.setOfTrimmed(config.getString(LOG_MINING_USERNAME_INCLUDE_LIST), String::new);
@@ -1947,6 +2009,27 @@ public Duration getLogMiningSleepTimeIncrement() {
         return logMiningSleepTimeIncrement;
     }
 
+    /**
+     * @return whether the mining session SCN interval is sized from observed mining throughput
+     */
+    public boolean isLogMiningBatchSizeAdaptive() {
+        return logMiningBatchSizeAdaptive;
+    }
+
+    /**
+     * @return the mining session duration that the adaptive batch sizing aims for
+     */
+    public Duration getLogMiningBatchSizeAdaptiveTarget() {
+        return logMiningBatchSizeAdaptiveTarget;
+    }
+
+    /**
+     * @return the mining session PGA memory above which the adaptive batch sizing shrinks the interval, {@code 0} if unlimited
+     */
+    public long getLogMiningBatchSizeAdaptivePgaMaxBytes() {
+        return logMiningBatchSizeAdaptivePgaMaxBytes;
+    }
+
     /**
      * @return the duration for which long running transactions are permitted in the transaction buffer between log switches
      */
@@ -1975,6 +2058,14 @@ public boolean isLobEnabled() {
         return lobEnabled;
     }
 
+    /**
+     * @return the number of bytes of LOB fragments a transaction keeps in memory before spilling them to disk,
+     * {@code 0} if the fragments are never spilled
+     */
+    public long getLobSpillThresholdBytes() {
+        return lobSpillThresholdBytes;
+    }
+
     /**
      * @return User names to include from the LogMiner query
      */
@@ -167,6 +167,8 @@ public ChangeEventSourceCoordinator<OraclePartition, OracleOffsetContext> start(
                 .maxBatchSize(connectorConfig.getMaxBatchSize())
                 .maxQueueSize(connectorConfig.getMaxQueueSize())
                 .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                .latencyHistograms(connectorConfig.getLatencyHistograms())
+                .conflationWindow(connectorConfig.getConflationWindow())
                 .queueProvider(new DefaultQueueProvider<>(connectorConfig.getMaxQueueSize()))
                 .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                 .build();
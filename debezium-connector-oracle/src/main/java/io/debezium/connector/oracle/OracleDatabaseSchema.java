@@ -73,7 +73,8 @@ public OracleDatabaseSchema(OracleConnectorConfig connectorConfig, OracleValueCo
                         connectorConfig.getSourceInfoStructMaker().schema(),
                         connectorConfig.getFieldNamer(),
                         false,
-                        connectorConfig.getEventConvertingFailureHandlingMode()),
+                        connectorConfig.getEventConvertingFailureHandlingMode(),
+                        connectorConfig.getStructGeneratorMode()),
                 TableNameCaseSensitivity.INSENSITIVE.equals(tableNameCaseSensitivity),
                 connectorConfig.getKeyMapper(), taskContext);
 
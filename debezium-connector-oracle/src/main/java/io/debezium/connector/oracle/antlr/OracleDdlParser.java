@@ -17,6 +17,7 @@
 import io.debezium.antlr.AntlrDdlParserListener;
 import io.debezium.antlr.DataTypeResolver;
 import io.debezium.antlr.DataTypeResolver.DataTypeEntry;
+import io.debezium.antlr.DdlStatementClassifier;
 import io.debezium.connector.oracle.OracleValueConverters;
 import io.debezium.connector.oracle.antlr.listener.OracleDdlParserListener;
 import io.debezium.ddl.parser.oracle.generated.PlSqlLexer;
@@ -36,6 +37,13 @@
  */
 public class OracleDdlParser extends AntlrDdlParser<PlSqlLexer, PlSqlParser> {
 
+    /**
+     * Statements which never change the table definitions and need not be parsed.
+     */
+    private static final DdlStatementClassifier STATEMENT_CLASSIFIER = new DdlStatementClassifier(false,
+            "GRANT", "REVOKE", "AUDIT", "NOAUDIT", "ANALYZE",
+            "CREATE USER", "ALTER USER", "DROP USER", "CREATE ROLE", "ALTER ROLE", "DROP ROLE");
+
     private final TableFilter tableFilter;
     private final OracleValueConverters converters;
     private final DataTypeResolver dataTypeResolver = initializeDataTypeResolver();
@@ -95,6 +103,11 @@ protected PlSqlParser createNewParserInstance(CommonTokenStream commonTokenStrea
         return new PlSqlParser(commonTokenStream);
     }
 
+    @Override
+    protected DdlStatementClassifier statementClassifier() {
+        return STATEMENT_CLASSIFIER;
+    }
+
     @Override
     protected boolean isGrammarInUpperCase() {
         return true;
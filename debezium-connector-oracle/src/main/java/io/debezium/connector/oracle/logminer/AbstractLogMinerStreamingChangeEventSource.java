@@ -130,6 +130,7 @@
     private int currentBatchSize;
     private long currentSleepTime;
     private OffsetActivityMonitor offsetActivityMonitor;
+    private final LogMinerBatchSizeController batchSizeController;
 
     public AbstractLogMinerStreamingChangeEventSource(OracleConnectorConfig connectorConfig,
                                                       OracleConnection jdbcConnection,
@@ -159,6 +160,8 @@ public AbstractLogMinerStreamingChangeEventSource(OracleConnectorConfig connecto
         this.tableFilter = connectorConfig.getTableFilters().dataCollectionFilter();
         this.archiveDestinationNames = connectorConfig.getArchiveDestinationNameResolver().getDestinationNames(jdbcConnection);
 
+        this.batchSizeController = connectorConfig.isLogMiningBatchSizeAdaptive() ? new LogMinerBatchSizeController(connectorConfig) : null;
+
         metrics.setBatchSize(connectorConfig.getLogMiningBatchSizeDefault());
         metrics.setSleepTime(connectorConfig.getLogMiningSleepTimeDefault().toMillis());
     }
@@ -401,17 +404,24 @@ else if (sequenceUnavailable) {
     protected void executeAndProcessQuery(PreparedStatement statement) throws SQLException, InterruptedException {
         final Instant queryStartTime = Instant.now();
         try (ResultSet resultSet = statement.executeQuery()) {
-            getMetrics().setLastDurationOfFetchQuery(Duration.between(queryStartTime, Instant.now()));
+            final Duration queryDuration = Duration.between(queryStartTime, Instant.now());
+            getMetrics().setLastDurationOfFetchQuery(queryDuration);
 
             final Instant startProcessTime = Instant.now();
 
+            long rows = 0;
             while (getContext().isRunning() && hasNextWithMetricsUpdate(resultSet)) {
                 getBatchMetrics().rowObserved();
+                rows++;
 
                 final LogMinerEventRow event = LogMinerEventRow.fromResultSet(resultSet, schema, getConfig());
                 processEvent(event);
             }
 
+            if (batchSizeController != null) {
+                batchSizeController.recordSession(rows, queryDuration, Duration.between(queryStartTime, Instant.now()));
+            }
+
             getBatchMetrics().updateStreamingMetrics();
 
             if (getBatchMetrics().hasProcessedAnyTransactions()) {
@@ -879,6 +889,22 @@ protected LogWriterFlushStrategy resolveFlushStrategy() {
      * @throws SQLException if a database exception is thrown
      */
     protected Scn calculateUpperBounds(Scn lowerBoundsScn, Scn previousUpperBounds, Scn currentScn) throws SQLException {
+        final Scn result = calculateUpperBoundsForBatchSize(lowerBoundsScn, previousUpperBounds, currentScn);
+        if (batchSizeController != null && !result.isNull()) {
+            batchSizeController.recordSessionBounds(lowerBoundsScn, result);
+        }
+        return result;
+    }
+
+    private Scn calculateUpperBoundsForBatchSize(Scn lowerBoundsScn, Scn previousUpperBounds, Scn currentScn) throws SQLException {
+        if (batchSizeController != null) {
+            batchSizeController.recordCurrentScn(currentScn, clock.currentTimeAsInstant());
+            currentBatchSize = batchSizeController.nextBatchSize();
+            metrics.setBatchSize(currentBatchSize);
+            metrics.setBatchSizeDecision(batchSizeController.getDecision().name(), batchSizeController.getMiningScnPerSecond(),
+                    batchSizeController.getRedoScnPerSecond());
+        }
+
         final Scn maximumScn = getConfig().isArchiveLogOnlyMode() ? getMaximumArchiveLogsScn(lowerBoundsScn) : currentScn;
 
         final Scn maximumBatchScn = lowerBoundsScn.add(Scn.valueOf(metrics.getBatchSize()));
@@ -1310,6 +1336,10 @@ protected void captureJdbcSessionMemoryStatistics() throws SQLException {
         long sessionProcessGlobalAreaMaxMemory = jdbcConnection.getSessionStatisticByName("session pga memory max");
         metrics.setProcessGlobalAreaMemory(sessionProcessGlobalAreaMemory, sessionProcessGlobalAreaMaxMemory);
 
+        if (batchSizeController != null) {
+            batchSizeController.recordProcessGlobalAreaMemory(sessionProcessGlobalAreaMemory);
+        }
+
         if (LOGGER.isDebugEnabled()) {
             final DecimalFormat format = new DecimalFormat("#.##");
             LOGGER.debug("Oracle Session UGA {}MB (max = {}MB), PGA {}MB (max = {}MB)",
@@ -2158,6 +2188,10 @@ private Optional<Scn> getDeviatedMaxScn(Scn upperboundsScn, Duration deviation)
      * Increments the mining batch size.
      */
     private void incrementBatchSize() {
+        if (batchSizeController != null) {
+            // the batch size is sized by the adaptive controller
+            return;
+        }
         int batchSizeMax = connectorConfig.getLogMiningBatchSizeMax();
         int batchSizeIncrement = connectorConfig.getLogMiningBatchSizeIncrement();
         if (currentBatchSize < batchSizeMax) {
@@ -2198,6 +2232,10 @@ private void incrementSleepTime() {
      * Decrements the mining batch size.
      */
     private void decrementBatchSize() {
+        if (batchSizeController != null) {
+            // the batch size is sized by the adaptive controller
+            return;
+        }
         int batchSizeMin = connectorConfig.getLogMiningBatchSizeMin();
         int batchSizeIncrement = connectorConfig.getLogMiningBatchSizeIncrement();
         if (currentBatchSize > batchSizeMin) {
@@ -0,0 +1,337 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+
+/**
+ * An append-only buffer that assembles a LOB, XML or extended string column value from its fragments.
+ * <p>
+ * The fragments are kept on the heap as they are, without copying them, as long as the fragments of all values of the
+ * transaction fit into the threshold of its {@link Memory}. Once the threshold is exceeded, the buffer appending the
+ * next fragment moves its fragments to a temporary file and appends all further fragments to that file. The column
+ * value is assembled only once, by {@link #toValue()}, which also releases the fragments.
+ *
+ * @see TransactionCommitConsumer
+ */
+class LobBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LobBuffer.class);
+
+    /**
+     * The largest array the JVM is able to allocate.
+     */
+    private static final long MAX_VALUE_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final boolean binary;
+    private final Memory memory;
+    private final List<Object> chunks = new ArrayList<>();
+
+    private long length;
+    private long heapBytes;
+    private Path file;
+    private OutputStream output;
+    private Writer writer;
+    private Object value;
+
+    LobBuffer(boolean binary, Memory memory) {
+        this.binary = binary;
+        this.memory = memory;
+    }
+
+    /**
+     * @return the length of the value in characters for text values, or bytes for binary values
+     */
+    long length() {
+        return length;
+    }
+
+    void append(String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        checkNotAssembled();
+        length += text.length();
+        final long bytes = (long) text.length() * Character.BYTES;
+        if (file == null) {
+            chunks.add(text);
+            reserve(bytes);
+        }
+        else {
+            write(text);
+            memory.spilled(bytes);
+        }
+    }
+
+    void append(byte[] bytes) {
+        if (bytes.length == 0) {
+            return;
+        }
+        checkNotAssembled();
+        length += bytes.length;
+        if (file == null) {
+            chunks.add(bytes);
+            reserve(bytes.length);
+        }
+        else {
+            write(bytes);
+            memory.spilled(bytes.length);
+        }
+    }
+
+    /**
+     * Appends the given number of spaces for text values, or zero bytes for binary values, as the database does for
+     * the unwritten parts of a LOB.
+     */
+    void pad(int count) {
+        if (count > 0) {
+            if (binary) {
+                append(new byte[count]);
+            }
+            else {
+                append(" ".repeat(count));
+            }
+        }
+    }
+
+    /**
+     * Assembles the column value, a {@code String} for text values or a {@code byte[]} for binary values, and
+     * releases the fragments. Further invocations return the same value.
+     */
+    Object toValue() {
+        if (value == null) {
+            if (length > MAX_VALUE_LENGTH) {
+                release();
+                throw new DebeziumException("Cannot assemble a LOB value of " + length + (binary ? " bytes" : " characters"));
+            }
+            try {
+                value = file == null ? assembleFromHeap() : assembleFromFile();
+            }
+            finally {
+                release();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Releases the fragments of a value that is not going to be assembled.
+     */
+    void release() {
+        memory.release(heapBytes);
+        heapBytes = 0;
+        chunks.clear();
+        if (file != null) {
+            try {
+                if (output != null) {
+                    output.close();
+                }
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+            catch (IOException e) {
+                LOGGER.debug("Failed to close LOB spill file '{}'", file, e);
+            }
+            try {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete LOB spill file '{}'", file, e);
+            }
+            file = null;
+            output = null;
+            writer = null;
+        }
+    }
+
+    private Object assembleFromHeap() {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        if (binary) {
+            final byte[] bytes = new byte[(int) length];
+            int position = 0;
+            for (Object chunk : chunks) {
+                final byte[] chunkBytes = (byte[]) chunk;
+                System.arraycopy(chunkBytes, 0, bytes, position, chunkBytes.length);
+                position += chunkBytes.length;
+            }
+            return bytes;
+        }
+        final StringBuilder builder = new StringBuilder((int) length);
+        for (Object chunk : chunks) {
+            builder.append((String) chunk);
+        }
+        return builder.toString();
+    }
+
+    private Object assembleFromFile() {
+        try {
+            if (binary) {
+                output.close();
+                return Files.readAllBytes(file);
+            }
+            writer.close();
+            final char[] chars = new char[(int) length];
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_16BE)) {
+                int position = 0;
+                while (position < chars.length) {
+                    final int read = reader.read(chars, position, chars.length - position);
+                    if (read == -1) {
+                        throw new DebeziumException("LOB spill file '" + file + "' is truncated");
+                    }
+                    position += read;
+                }
+            }
+            return new String(chars);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to read LOB spill file '" + file + "'", e);
+        }
+    }
+
+    private void reserve(long bytes) {
+        heapBytes += bytes;
+        memory.allocate(bytes);
+        if (memory.isExceeded()) {
+            spill();
+        }
+    }
+
+    private void spill() {
+        try {
+            file = Files.createTempFile("debezium-lob-", ".tmp");
+            LOGGER.debug("LOB fragments of the transaction exceed {} bytes, spilling {} bytes to '{}'", memory.threshold, heapBytes, file);
+            if (binary) {
+                output = new BufferedOutputStream(Files.newOutputStream(file));
+                for (Object chunk : chunks) {
+                    output.write((byte[]) chunk);
+                }
+            }
+            else {
+                // UTF-16 keeps the size of the file proportional to the length and never splits a surrogate pair
+                writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_16BE));
+                for (Object chunk : chunks) {
+                    writer.write((String) chunk);
+                }
+            }
+        }
+        catch (IOException e) {
+            release();
+            throw new DebeziumException("Failed to spill LOB fragments to disk", e);
+        }
+        memory.spilled(heapBytes);
+        memory.release(heapBytes);
+        heapBytes = 0;
+        chunks.clear();
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+        }
+        catch (IOException e) {
+            release();
+            throw new DebeziumException("Failed to spill LOB fragments to disk", e);
+        }
+    }
+
+    private void write(byte[] bytes) {
+        try {
+            output.write(bytes);
+        }
+        catch (IOException e) {
+            release();
+            throw new DebeziumException("Failed to spill LOB fragments to disk", e);
+        }
+    }
+
+    private void checkNotAssembled() {
+        if (value != null) {
+            throw new IllegalStateException("Cannot append to an assembled LOB value");
+        }
+    }
+
+    /**
+     * Tracks the memory used by the LOB fragments of a transaction.
+     */
+    static class Memory {
+
+        private final long threshold;
+
+        private long used;
+        private long peak;
+        private long spilled;
+
+        /**
+         * @param threshold the number of bytes above which fragments are spilled to disk, {@code 0} to never spill
+         */
+        Memory(long threshold) {
+            this.threshold = threshold;
+        }
+
+        void allocate(long bytes) {
+            used += bytes;
+            peak = Math.max(peak, used);
+        }
+
+        void release(long bytes) {
+            used -= bytes;
+        }
+
+        void spilled(long bytes) {
+            spilled += bytes;
+        }
+
+        boolean isExceeded() {
+            return threshold > 0 && used > threshold;
+        }
+
+        /**
+         * @return the number of bytes of fragments currently held on the heap
+         */
+        long getUsed() {
+            return used;
+        }
+
+        /**
+         * @return the largest number of bytes of fragments held on the heap at once
+         */
+        long getPeak() {
+            return peak;
+        }
+
+        /**
+         * @return the number of bytes of fragments written to disk
+         */
+        long getSpilled() {
+            return spilled;
+        }
+
+        void reset() {
+            used = 0;
+            peak = 0;
+            spilled = 0;
+        }
+    }
+}
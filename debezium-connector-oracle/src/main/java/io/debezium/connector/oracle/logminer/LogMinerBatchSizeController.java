@@ -0,0 +1,233 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.Scn;
+
+/**
+ * Sizes the SCN interval of the next mining session from what was observed during the previous sessions,
+ * rather than growing or shrinking it by a fixed increment.
+ *
+ * The interval is chosen so that a session, i.e. the LogMiner query and the processing of its rows, takes about
+ * the configured target duration. The rows per SCN and rows per second observed in the last session give the
+ * interval that can be processed within the target, after deducting the query latency which is mostly a fixed
+ * overhead of a session. That interval is raised to at least what the database generates during a session so
+ * that the connector does not fall behind, and it is halved when the PGA memory of the session exceeds the
+ * configured limit.
+ */
+public class LogMinerBatchSizeController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerBatchSizeController.class);
+
+    /**
+     * Weight of a new estimate against the current interval, dampens oscillation on bursty workloads.
+     */
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    /**
+     * The minimum share of the target duration that is left for processing rows when the query alone takes longer.
+     */
+    private static final double MIN_PROCESSING_BUDGET = 0.1;
+
+    /**
+     * The reason for the last sizing decision.
+     */
+    public enum Decision {
+        /**
+         * No session has been observed yet.
+         */
+        INITIAL,
+        /**
+         * The interval is sized to process a session within the target duration.
+         */
+        LATENCY_TARGET,
+        /**
+         * The interval is sized to keep up with the redo generated by the database.
+         */
+        REDO_RATE,
+        /**
+         * The interval is shrunk because the session exceeded the PGA memory limit.
+         */
+        MEMORY_PRESSURE,
+        /**
+         * The interval is grown because the last session returned no rows.
+         */
+        IDLE
+    }
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final Duration targetDuration;
+    private final long maxProcessGlobalAreaMemory;
+
+    private double batchSize;
+    private Decision decision = Decision.INITIAL;
+
+    private long sessionScnInterval;
+    private long sessionRows;
+    private Duration sessionQueryDuration;
+    private Duration sessionDuration;
+    private long processGlobalAreaMemory;
+
+    private Scn lastCurrentScn = Scn.NULL;
+    private Instant lastCurrentScnTime;
+    private double redoScnPerSecond;
+    private double miningScnPerSecond;
+
+    public LogMinerBatchSizeController(OracleConnectorConfig connectorConfig) {
+        this(connectorConfig.getLogMiningBatchSizeMin(), connectorConfig.getLogMiningBatchSizeMax(), connectorConfig.getLogMiningBatchSizeDefault(),
+                connectorConfig.getLogMiningBatchSizeAdaptiveTarget(), connectorConfig.getLogMiningBatchSizeAdaptivePgaMaxBytes());
+    }
+
+    LogMinerBatchSizeController(int minBatchSize, int maxBatchSize, int initialBatchSize, Duration targetDuration, long maxProcessGlobalAreaMemory) {
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetDuration = targetDuration;
+        this.maxProcessGlobalAreaMemory = maxProcessGlobalAreaMemory;
+        this.batchSize = initialBatchSize;
+    }
+
+    /**
+     * Records the database's current write position, used to derive the rate at which redo is generated.
+     *
+     * @param currentScn the database current system change number
+     * @param time the time at which the current system change number was read
+     */
+    public void recordCurrentScn(Scn currentScn, Instant time) {
+        if (!lastCurrentScn.isNull() && lastCurrentScnTime != null && currentScn.compareTo(lastCurrentScn) >= 0) {
+            final long millis = Duration.between(lastCurrentScnTime, time).toMillis();
+            if (millis > 0) {
+                final double rate = currentScn.subtract(lastCurrentScn).longValue() * 1000d / millis;
+                redoScnPerSecond = redoScnPerSecond == 0 ? rate : SMOOTHING_FACTOR * rate + (1 - SMOOTHING_FACTOR) * redoScnPerSecond;
+            }
+        }
+        lastCurrentScn = currentScn;
+        lastCurrentScnTime = time;
+    }
+
+    /**
+     * Records the SCN interval of the mining session that is about to be queried.
+     *
+     * @param lowerBoundsScn the session's lower boundary
+     * @param upperBoundsScn the session's upper boundary
+     */
+    public void recordSessionBounds(Scn lowerBoundsScn, Scn upperBoundsScn) {
+        sessionScnInterval = Math.max(upperBoundsScn.subtract(lowerBoundsScn).longValue(), 0);
+    }
+
+    /**
+     * Records the outcome of the last mining session's query.
+     *
+     * @param rows the number of rows returned by the query
+     * @param queryDuration the time until the query returned its result set
+     * @param totalDuration the time until all rows of the result set were processed
+     */
+    public void recordSession(long rows, Duration queryDuration, Duration totalDuration) {
+        this.sessionRows = rows;
+        this.sessionQueryDuration = queryDuration;
+        this.sessionDuration = totalDuration;
+    }
+
+    /**
+     * Records the PGA memory of the mining session after its query was processed.
+     *
+     * @param memory the session PGA memory in bytes
+     */
+    public void recordProcessGlobalAreaMemory(long memory) {
+        this.processGlobalAreaMemory = memory;
+    }
+
+    /**
+     * Calculates the SCN interval for the next mining session from the recorded observations.
+     *
+     * @return the batch size to use for the next mining session
+     */
+    public int nextBatchSize() {
+        if (sessionDuration == null || sessionScnInterval == 0) {
+            // nothing was mined since the last decision
+            return getBatchSize();
+        }
+
+        final double sessionSeconds = Math.max(sessionDuration.toNanos() / 1e9, 0.001);
+        miningScnPerSecond = sessionScnInterval / sessionSeconds;
+
+        double estimate;
+        if (maxProcessGlobalAreaMemory > 0 && processGlobalAreaMemory > maxProcessGlobalAreaMemory) {
+            // shrink right away, smoothing would keep the session above the memory limit
+            decision = Decision.MEMORY_PRESSURE;
+            batchSize = clamp(batchSize / 2);
+            return completeDecision();
+        }
+        else if (sessionRows == 0) {
+            decision = Decision.IDLE;
+            estimate = batchSize * 2;
+        }
+        else {
+            final double targetSeconds = targetDuration.toNanos() / 1e9;
+            final double querySeconds = sessionQueryDuration.toNanos() / 1e9;
+            final double processingSeconds = Math.max(sessionSeconds - querySeconds, 0.001);
+
+            final double rowsPerSecond = sessionRows / processingSeconds;
+            final double rowsPerScn = (double) sessionRows / sessionScnInterval;
+            final double budgetSeconds = Math.max(targetSeconds - querySeconds, targetSeconds * MIN_PROCESSING_BUDGET);
+
+            estimate = budgetSeconds * rowsPerSecond / rowsPerScn;
+            decision = Decision.LATENCY_TARGET;
+
+            // mining less than the database generates during a session would make the connector fall behind
+            final double redoPerSession = redoScnPerSecond * sessionSeconds;
+            if (redoPerSession > estimate) {
+                estimate = redoPerSession;
+                decision = Decision.REDO_RATE;
+            }
+        }
+
+        batchSize = clamp(SMOOTHING_FACTOR * estimate + (1 - SMOOTHING_FACTOR) * batchSize);
+        return completeDecision();
+    }
+
+    private int completeDecision() {
+        LOGGER.debug("Adaptive batch size {} ({}), session {} SCNs with {} rows in {}, mined {} SCN/s, redo {} SCN/s, PGA {} bytes.",
+                getBatchSize(), decision, sessionScnInterval, sessionRows, sessionDuration, (long) miningScnPerSecond, (long) redoScnPerSecond,
+                processGlobalAreaMemory);
+        sessionDuration = null;
+        sessionScnInterval = 0;
+        return getBatchSize();
+    }
+
+    private double clamp(double value) {
+        return Math.min(Math.max(value, minBatchSize), maxBatchSize);
+    }
+
+    public int getBatchSize() {
+        return (int) Math.round(batchSize);
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    /**
+     * @return the SCN interval mined per second in the last session
+     */
+    public long getMiningScnPerSecond() {
+        return (long) miningScnPerSecond;
+    }
+
+    /**
+     * @return the SCN interval generated by the database per second
+     */
+    public long getRedoScnPerSecond() {
+        return (long) redoScnPerSecond;
+    }
+}
@@ -72,6 +72,9 @@
     private final AtomicInteger jdbcRows = new AtomicInteger();
 
     private final AtomicLong sleepTime = new AtomicLong();
+    private final AtomicReference<String> batchSizeDecision = new AtomicReference<>("");
+    private final AtomicLong miningScnPerSecond = new AtomicLong();
+    private final AtomicLong redoScnPerSecond = new AtomicLong();
     private final AtomicLong minimumLogsMined = new AtomicLong();
     private final AtomicLong maximumLogsMined = new AtomicLong();
     private final AtomicLong maxBatchProcessingThroughput = new AtomicLong();
@@ -96,6 +99,8 @@
 
     private final MaxLongValueMetric userGlobalAreaMemory = new MaxLongValueMetric();
     private final MaxLongValueMetric processGlobalAreaMemory = new MaxLongValueMetric();
+    private final MaxLongValueMetric lobMemory = new MaxLongValueMetric();
+    private final AtomicLong lobSpilledBytes = new AtomicLong();
 
     private final LRUSet<String> abandonedTransactionIds = new LRUSet<>(TRANSACTION_ID_SET_SIZE);
     private final LRUSet<String> rolledBackTransactionIds = new LRUSet<>(TRANSACTION_ID_SET_SIZE);
@@ -146,6 +151,8 @@ public void reset() {
         miningSessionStartupDuration.reset();
         userGlobalAreaMemory.reset();
         processGlobalAreaMemory.reset();
+        lobMemory.reset();
+        lobSpilledBytes.set(0);
         lagFromSourceDuration.reset();
         commitDuration.reset();
 
@@ -208,6 +215,21 @@ public int getBatchSize() {
         return batchSize.get();
     }
 
+    @Override
+    public String getBatchSizeDecision() {
+        return batchSizeDecision.get();
+    }
+
+    @Override
+    public long getMiningScnPerSecond() {
+        return miningScnPerSecond.get();
+    }
+
+    @Override
+    public long getRedoScnPerSecond() {
+        return redoScnPerSecond.get();
+    }
+
     @Override
     public long getMinimumMinedLogCount() {
         return minimumLogsMined.get();
@@ -417,6 +439,21 @@ public long getMiningSessionProcessGlobalAreaMaxMemoryInBytes() {
         return processGlobalAreaMemory.getMax();
     }
 
+    @Override
+    public long getLobMemoryInBytes() {
+        return lobMemory.getValue();
+    }
+
+    @Override
+    public long getLobMaxMemoryInBytes() {
+        return lobMemory.getMax();
+    }
+
+    @Override
+    public long getLobSpilledBytes() {
+        return lobSpilledBytes.get();
+    }
+
     @Override
     public Set<String> getAbandonedTransactionIds() {
         return abandonedTransactionIds.getAll();
@@ -458,6 +495,19 @@ public void setBatchSize(int batchSize) {
         this.batchSize.set(batchSize);
     }
 
+    /**
+     * Set the reason and the observed rates behind the batch size chosen by the adaptive batch sizing.
+     *
+     * @param decision the reason for the currently used batch size
+     * @param miningScnPerSecond the number of SCNs mined per second in the last mining session
+     * @param redoScnPerSecond the number of SCNs generated by the database per second
+     */
+    public void setBatchSizeDecision(String decision, long miningScnPerSecond, long redoScnPerSecond) {
+        this.batchSizeDecision.set(decision);
+        this.miningScnPerSecond.set(miningScnPerSecond);
+        this.redoScnPerSecond.set(redoScnPerSecond);
+    }
+
     /**
      * Set the connector's currently used sleep/pause time between LogMiner queries.
      *
@@ -746,6 +796,17 @@ public void setProcessGlobalAreaMemory(long memory, long maxMemory) {
         processGlobalAreaMemory.setMax(maxMemory);
     }
 
+    /**
+     * Sets the LOB memory statistics of the last committed transaction.
+     *
+     * @param memory the largest number of bytes of LOB fragments the transaction held in memory at once
+     * @param spilledBytes the number of bytes of LOB fragments the transaction spilled to disk
+     */
+    public void setLastTransactionLobMemory(long memory, long spilledBytes) {
+        lobMemory.setValueAndCalculateMax(memory);
+        lobSpilledBytes.addAndGet(spilledBytes);
+    }
+
     /**
      * Add a transaction to the recently tracked abandoned transactions metric.
      *
@@ -839,6 +900,8 @@ public String toString() {
                 ", resultSetNextDuration=" + resultSetNextDuration +
                 ", userGlobalAreaMemory=" + userGlobalAreaMemory +
                 ", processGlobalAreaMemory=" + processGlobalAreaMemory +
+                ", lobMemory=" + lobMemory +
+                ", lobSpilledBytes=" + lobSpilledBytes +
                 ", abandonedTransactionIds=" + abandonedTransactionIds +
                 ", rolledBackTransactionIds=" + rolledBackTransactionIds +
                 ", lastMiningSessionScnRange=" + miningSessionScnRange.get() +
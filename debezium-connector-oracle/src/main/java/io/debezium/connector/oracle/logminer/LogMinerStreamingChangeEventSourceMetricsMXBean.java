@@ -84,6 +84,24 @@
      */
     int getBatchSize();
 
+    /**
+     * Provides the reason for the current batch size when the batch size is sized adaptively, such as
+     * {@code LATENCY_TARGET}, {@code REDO_RATE}, {@code MEMORY_PRESSURE} or {@code IDLE}.
+     *
+     * @return the reason for the current batch size, empty if adaptive batch sizing is disabled
+     */
+    String getBatchSizeDecision();
+
+    /**
+     * @return the number of SCNs mined per second in the last mining session, when the batch size is sized adaptively
+     */
+    long getMiningScnPerSecond();
+
+    /**
+     * @return the number of SCNs generated by the database per second, when the batch size is sized adaptively
+     */
+    long getRedoScnPerSecond();
+
     /**
      * @return the minimum number of logs used by a mining session
      */
@@ -299,6 +317,23 @@
      */
     long getMiningSessionProcessGlobalAreaMaxMemoryInBytes();
 
+    /**
+     * @return the largest number of bytes of LOB, XML and extended string fragments that the last committed
+     * transaction held in memory at once.
+     */
+    long getLobMemoryInBytes();
+
+    /**
+     * @return the largest number of bytes of LOB, XML and extended string fragments that any committed transaction
+     * held in memory at once.
+     */
+    long getLobMaxMemoryInBytes();
+
+    /**
+     * @return the total number of bytes of LOB, XML and extended string fragments spilled to disk.
+     */
+    long getLobSpilledBytes();
+
     /**
      * @return most recent transaction identifiers that were abandoned
      */
@@ -73,6 +73,10 @@
  * When LOB support isn't enabled, events are simply passed through to the delegate and no event
  * inspection, merging, or buffering occurs.
  *
+ * The fragments of LOB, XML and extended string values are collected in {@link LobBuffer}s, which spill them
+ * to disk once the fragments of the transaction exceed {@link OracleConnectorConfig#getLobSpillThresholdBytes()},
+ * and the column values are only assembled when the event is dispatched.
+ *
  * @author Chris Cranford
  */
 public class TransactionCommitConsumer implements AutoCloseable {
@@ -85,6 +89,8 @@ public class TransactionCommitConsumer implements AutoCloseable {
     private final Handler<LogMinerEvent> delegate;
     private final OracleConnectorConfig connectorConfig;
     private final OracleDatabaseSchema schema;
+    private final LogMinerStreamingChangeEventSourceMetrics metrics;
+    private final LobBuffer.Memory lobMemory;
     private final Map<String, RowState> rows = new HashMap<>();
     private final ConstructionDetails currentLobDetails = new ConstructionDetails();
     private final ConstructionDetails currentExtendedStringDetails = new ConstructionDetails();
@@ -95,19 +101,36 @@ public class TransactionCommitConsumer implements AutoCloseable {
     private int totalEvents = 0;
 
     public TransactionCommitConsumer(Handler<LogMinerEvent> delegate, OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema) {
+        this(delegate, connectorConfig, schema, null);
+    }
+
+    public TransactionCommitConsumer(Handler<LogMinerEvent> delegate, OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema,
+                                     LogMinerStreamingChangeEventSourceMetrics metrics) {
         this.delegate = delegate;
         this.connectorConfig = connectorConfig;
         this.schema = schema;
+        this.metrics = metrics;
+        this.lobMemory = new LobBuffer.Memory(connectorConfig.getLobSpillThresholdBytes());
     }
 
     @Override
     public void close() throws InterruptedException {
-        // Dispatch any of the existing events in the order they were received
-        List<RowState> pending = new ArrayList<>(rows.values());
-        pending.sort(Comparator.comparingLong(x -> x.transactionIndex));
+        try {
+            // Dispatch any of the existing events in the order they were received
+            List<RowState> pending = new ArrayList<>(rows.values());
+            pending.sort(Comparator.comparingLong(x -> x.transactionIndex));
 
-        for (final RowState rowState : pending) {
-            prepareAndDispatch(rowState);
+            for (final RowState rowState : pending) {
+                prepareAndDispatch(rowState);
+            }
+        }
+        finally {
+            // Values that were not dispatched still hold fragments, possibly in temporary files
+            rows.values().forEach(rowState -> releaseConstructables(newValues(rowState.event)));
+            if (metrics != null && connectorConfig.isLobEnabled()) {
+                metrics.setLastTransactionLobMemory(lobMemory.getPeak(), lobMemory.getSpilled());
+            }
+            lobMemory.reset();
         }
 
         // For situations where the consumer instance is reused, reset internal state
@@ -191,15 +214,18 @@ else if (rowId.equals(currentXmlDetails.rowId)) {
 
         if (EventType.SELECT_LOB_LOCATOR == event.getEventType()) {
             final String columnName = ((SelectLobLocatorEvent) event).getColumnName();
-            initConstructable(currentLobDetails, rowId, columnName, table, accumulatorEvent, LobUnderConstruction::fromInitialValue);
+            initConstructable(currentLobDetails, rowId, columnName, table, accumulatorEvent,
+                    value -> LobUnderConstruction.fromInitialValue(value, lobMemory));
         }
         else if (EventType.EXTENDED_STRING_BEGIN == event.getEventType()) {
             final String columnName = ((ExtendedStringBeginEvent) event).getColumnName();
-            initConstructable(currentExtendedStringDetails, rowId, columnName, table, accumulatorEvent, ExtendedStringUnderConstruction::fromInitialValue);
+            initConstructable(currentExtendedStringDetails, rowId, columnName, table, accumulatorEvent,
+                    value -> ExtendedStringUnderConstruction.fromInitialValue(value, lobMemory));
         }
         else if (EventType.XML_BEGIN == event.getEventType()) {
             final String columnName = ((XmlBeginEvent) event).getColumnName();
-            initConstructable(currentXmlDetails, rowId, columnName, table, accumulatorEvent, XmlUnderConstruction::fromInitialValue);
+            initConstructable(currentXmlDetails, rowId, columnName, table, accumulatorEvent,
+                    value -> XmlUnderConstruction.fromInitialValue(value, lobMemory));
         }
     }
 
@@ -311,6 +337,12 @@ private void prepareAndDispatch(RowState rowState) throws InterruptedException {
         }
         final DmlEvent event = rowState.event;
         Object[] values = newValues(event);
+        if (rowState.rolledBack) {
+            // the event is not dispatched, so there is no need to assemble its values
+            releaseConstructables(values);
+            dispatchChangeEvent(event, true, rowState.transactionId, rowState.transactionSequence);
+            return;
+        }
         for (int i = 0; i < values.length; i++) {
             if (values[i] instanceof AbstractUnderConstruction) {
                 values[i] = ((AbstractUnderConstruction<?>) values[i]).merge();
@@ -406,6 +438,9 @@ private void mergeEvents(DmlEvent into, DmlEvent from) {
         for (int i = 0; i < intoVals.length; i++) {
             if (!OracleValueConverters.UNAVAILABLE_VALUE.equals(fromVals[i])) {
                 LOGGER.trace("\t\tMerge column {}: replacing {} with {}.", i, intoVals[i], fromVals[i]);
+                if (intoVals[i] instanceof AbstractUnderConstruction<?> constructable && intoVals[i] != fromVals[i]) {
+                    constructable.release();
+                }
                 intoVals[i] = fromVals[i];
             }
         }
@@ -553,11 +588,20 @@ private void discardCurrentMergeState(ConstructionDetails details) {
         final RowState state = rows.get(details.rowId);
         if (state != null) {
             LOGGER.trace("Discarding merge state for row id {}", details.rowId);
+            releaseConstructables(newValues(state.event));
             rows.remove(details.rowId);
             details.reset();
         }
     }
 
+    private void releaseConstructables(Object[] values) {
+        for (Object value : values) {
+            if (value instanceof AbstractUnderConstruction<?> constructable) {
+                constructable.release();
+            }
+        }
+    }
+
     private boolean hasRowId(DmlEvent event) {
         return event.getRowId() != null && event.getRowId() != RowIdCodec.EMPTY_ROW_ID;
     }
@@ -591,8 +635,16 @@ void add(T fragment) {
             doAdd(fragment);
         }
 
+        /**
+         * Assembles the column value, releasing the fragments.
+         */
         abstract Object merge();
 
+        /**
+         * Releases the fragments of a value that is not going to be merged.
+         */
+        abstract void release();
+
         protected void doAdd(T fragment) {
             fragments.add(fragment);
         }
@@ -626,6 +678,24 @@ static class LobFragment extends Fragment {
             this.offset = 0;
         }
 
+        private LobFragment() {
+        }
+
+        /**
+         * Creates a fragment at offset 0 from an assembled value.
+         */
+        static LobFragment fromValue(Object value) {
+            final LobFragment fragment = new LobFragment();
+            if (value instanceof byte[] bytes) {
+                fragment.binary = true;
+                fragment.bytes = bytes;
+            }
+            else {
+                fragment.data = (String) value;
+            }
+            return fragment;
+        }
+
         private void initializeFromData(String data) {
             this.binary = data.startsWith(OracleValueConverters.HEXTORAW_FUNCTION_START)
                     && data.endsWith(OracleValueConverters.HEXTORAW_FUNCTION_END);
@@ -724,19 +794,35 @@ static String spaces(int length) {
     }
 
     static class LobUnderConstruction extends AbstractUnderConstruction<LobFragment> {
+        final LobBuffer.Memory memory;
+
         int start = 0;
         int end = 0;
         boolean binary = false;
 
         int middleInserts = 0;
 
+        // holds the fragments as long as they are written sequentially, replaced by the fragment list otherwise
+        LobBuffer buffer;
+
+        LobUnderConstruction() {
+            this(new LobBuffer.Memory(0));
+        }
+
+        LobUnderConstruction(LobBuffer.Memory memory) {
+            this.memory = memory;
+        }
+
         @Override
         protected void doAdd(LobFragment fragment) {
-            if (fragments.isEmpty()) { // first fragment to be added
-                fragments.add(fragment);
+            if (fragments.isEmpty() && buffer == null) { // first fragment to be added
                 start = fragment.offset;
                 end = fragment.end();
                 binary = fragment.binary;
+                buffer = new LobBuffer(binary, memory);
+                // the unwritten start of the LOB is padded just like the holes between fragments
+                buffer.pad(fragment.offset);
+                appendToBuffer(fragment);
                 return;
             }
 
@@ -745,12 +831,22 @@ protected void doAdd(LobFragment fragment) {
             }
 
             if (fragment.offset >= end) { // the expected case
-                fragments.add(fragment);
+                if (buffer != null) {
+                    buffer.pad(fragment.offset - end);
+                    appendToBuffer(fragment);
+                }
+                else {
+                    fragments.add(fragment);
+                }
                 end = fragment.end();
                 return;
             }
 
-            // the uncommon case: writing somewhere in the middle
+            // the uncommon case: writing somewhere in the middle, which requires the fragment list
+            if (buffer != null) {
+                fragments.add(LobFragment.fromValue(buffer.toValue()));
+                buffer = null;
+            }
             middleInserts++;
             if (middleInserts % 10 == 0) {
                 compact(); // try to keep the linear search time within reasonable bounds
@@ -833,15 +929,21 @@ void compact() {
         @Override
         Object merge() {
             if (isNull) {
+                release();
                 return null;
             }
             if (end == 0) {
+                release();
                 if (binary) {
                     return OracleValueConverters.EMPTY_BLOB_FUNCTION;
                 }
                 return OracleValueConverters.EMPTY_CLOB_FUNCTION;
             }
 
+            if (buffer != null) {
+                return buffer.toValue();
+            }
+
             if (binary) {
                 byte[] buffer = new byte[end];
                 ListIterator<LobFragment> iter = fragments.listIterator();
@@ -852,7 +954,7 @@ Object merge() {
                 return buffer;
             }
             else {
-                StringBuilder builder = new StringBuilder();
+                StringBuilder builder = new StringBuilder(end);
                 int offset = 0;
                 ListIterator<LobFragment> iter = fragments.listIterator();
                 while (iter.hasNext()) {
@@ -870,27 +972,49 @@ Object merge() {
             }
         }
 
+        @Override
+        void release() {
+            if (buffer != null) {
+                buffer.release();
+                buffer = null;
+            }
+        }
+
+        private void appendToBuffer(LobFragment fragment) {
+            if (fragment.binary) {
+                buffer.append(fragment.bytes);
+            }
+            else {
+                buffer.append(fragment.data);
+            }
+        }
+
         public String toString() {
             return "LobUnderConstruction{" +
                     "binary = " + binary +
                     ", start = " + start +
                     ", end = " + end +
                     ", #fragments = " + fragments.size() +
+                    ", buffered = " + (buffer != null) +
                     "}";
         }
 
+        static LobUnderConstruction fromInitialValue(Object value) {
+            return fromInitialValue(value, new LobBuffer.Memory(0));
+        }
+
         // Creates a LobUnderConstruction instance from the initial value stored in the
         // parent event's column.
-        static LobUnderConstruction fromInitialValue(Object value) {
+        static LobUnderConstruction fromInitialValue(Object value, LobBuffer.Memory memory) {
             if (null == value) {
-                return new LobUnderConstruction();
+                return new LobUnderConstruction(memory);
             }
             if (value instanceof LobUnderConstruction) {
                 return (LobUnderConstruction) value;
             }
             if (value instanceof String) {
                 String strval = (String) value;
-                LobUnderConstruction lob = new LobUnderConstruction();
+                LobUnderConstruction lob = new LobUnderConstruction(memory);
                 if (OracleValueConverters.EMPTY_BLOB_FUNCTION.equals(strval)) {
                     lob.binary = true;
                     lob.isNull = false; // lob must be emitted
@@ -906,7 +1030,7 @@ else if (OracleValueConverters.EMPTY_CLOB_FUNCTION.equals(strval)) {
             }
 
             LOGGER.trace("Don't know how to construct an initial LOB value from {}.", value);
-            return new LobUnderConstruction();
+            return new LobUnderConstruction(memory);
         }
     }
 
@@ -924,34 +1048,53 @@ static class XmlFragment extends Fragment {
     }
 
     static class XmlUnderConstruction extends AbstractUnderConstruction<XmlFragment> {
+        private final LobBuffer buffer;
+
+        XmlUnderConstruction(LobBuffer.Memory memory) {
+            this.buffer = new LobBuffer(false, memory);
+        }
 
         static XmlUnderConstruction fromInitialValue(Object value) {
+            return fromInitialValue(value, new LobBuffer.Memory(0));
+        }
+
+        static XmlUnderConstruction fromInitialValue(Object value, LobBuffer.Memory memory) {
             if (null == value) {
-                return new XmlUnderConstruction();
+                return new XmlUnderConstruction(memory);
             }
             if (value instanceof XmlUnderConstruction) {
                 return (XmlUnderConstruction) value;
             }
             if (value instanceof String) {
-                XmlUnderConstruction lob = new XmlUnderConstruction();
+                XmlUnderConstruction lob = new XmlUnderConstruction(memory);
                 lob.add(new XmlFragment((String) value));
                 return lob;
             }
 
             LOGGER.trace("Don't know how to construct an initial XML value from {}.", value);
-            return new XmlUnderConstruction();
+            return new XmlUnderConstruction(memory);
+        }
+
+        @Override
+        protected void doAdd(XmlFragment fragment) {
+            if (fragment.data != null) {
+                buffer.append(fragment.data);
+            }
         }
 
         @Override
         Object merge() {
             if (isNull) {
+                release();
                 return null;
             }
-            final StringBuilder builder = new StringBuilder();
-            fragments.forEach(fragment -> builder.append(fragment.data));
-            return builder.toString();
+            return buffer.toValue();
         }
 
+        @Override
+        void release() {
+            buffer.release();
+        }
     }
 
     static class ExtendedStringFragment extends Fragment {
@@ -970,16 +1113,26 @@ static class ExtendedStringFragment extends Fragment {
     }
 
     static class ExtendedStringUnderConstruction extends AbstractUnderConstruction<ExtendedStringFragment> {
+        private final LobBuffer buffer;
+
+        ExtendedStringUnderConstruction(LobBuffer.Memory memory) {
+            this.buffer = new LobBuffer(false, memory);
+        }
+
         static ExtendedStringUnderConstruction fromInitialValue(Object value) {
+            return fromInitialValue(value, new LobBuffer.Memory(0));
+        }
+
+        static ExtendedStringUnderConstruction fromInitialValue(Object value, LobBuffer.Memory memory) {
             if (null == value) {
-                return new ExtendedStringUnderConstruction();
+                return new ExtendedStringUnderConstruction(memory);
             }
             if (value instanceof ExtendedStringUnderConstruction) {
                 return (ExtendedStringUnderConstruction) value;
             }
             if (value instanceof String) {
                 final String strval = (String) value;
-                ExtendedStringUnderConstruction lob = new ExtendedStringUnderConstruction();
+                ExtendedStringUnderConstruction lob = new ExtendedStringUnderConstruction(memory);
                 if (!OracleValueConverters.EMPTY_EXTENDED_STRING.equals(strval)) {
                     lob.add(new ExtendedStringFragment((String) value));
                 }
@@ -987,17 +1140,28 @@ static ExtendedStringUnderConstruction fromInitialValue(Object value) {
             }
 
             LOGGER.trace("Don't know how to construct an initial extended string value from {}.", value);
-            return new ExtendedStringUnderConstruction();
+            return new ExtendedStringUnderConstruction(memory);
+        }
+
+        @Override
+        protected void doAdd(ExtendedStringFragment fragment) {
+            if (fragment.data != null) {
+                buffer.append(fragment.data);
+            }
         }
 
         @Override
         Object merge() {
             if (isNull) {
+                release();
                 return null;
             }
-            final StringBuilder builder = new StringBuilder();
-            fragments.forEach(fragment -> builder.append(fragment.data));
-            return builder.toString();
+            return buffer.toValue();
+        }
+
+        @Override
+        void release() {
+            buffer.release();
         }
     }
 
@@ -524,7 +524,7 @@ protected void handleCommitEvent(LogMinerEventRow row) throws InterruptedExcepti
                 // Clear redo SQL
                 getOffsetContext().setRedoSql(null);
             };
-            try (TransactionCommitConsumer commitConsumer = new TransactionCommitConsumer(delegate, getConfig(), getSchema())) {
+            try (TransactionCommitConsumer commitConsumer = new TransactionCommitConsumer(delegate, getConfig(), getSchema(), getMetrics())) {
                 getTransactionCache().forEachEvent(transaction, (event, rolledBack) -> {
                     if (!getContext().isRunning()) {
                         return false;
@@ -80,7 +80,7 @@ public UnbufferedLogMinerStreamingChangeEventSource(OracleConnectorConfig connec
         super(connectorConfig, jdbcConnection, dispatcher, errorHandler, clock, schema, jdbcConfig, metrics);
         this.miningQuery = new UnbufferedLogMinerQueryBuilder(connectorConfig).getQuery();
         this.includeSql = connectorConfig.isLogMiningIncludeRedoSql();
-        this.accumulator = new TransactionCommitConsumer(this::dispatchEvent, connectorConfig, schema);
+        this.accumulator = new TransactionCommitConsumer(this::dispatchEvent, connectorConfig, schema, metrics);
         this.resumePositionProvider = new ResumePositionProvider(connectorConfig, getJdbcConfiguration());
     }
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.LobFragment;
+import static io.debezium.connector.oracle.logminer.TransactionCommitConsumer.LobUnderConstruction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LobBufferTest {
+
+    @Test
+    void shouldAssembleTextValueOnHeap() {
+        final LobBuffer.Memory memory = new LobBuffer.Memory(0);
+        final LobBuffer buffer = new LobBuffer(false, memory);
+        buffer.append("0123");
+        buffer.pad(2);
+        buffer.append("456789");
+
+        assertThat(buffer.length()).isEqualTo(12);
+        assertThat(memory.getUsed()).isEqualTo(24);
+
+        assertThat(buffer.toValue()).isEqualTo("0123  456789");
+        assertThat(buffer.toValue()).isEqualTo("0123  456789");
+        assertThat(memory.getUsed()).isZero();
+        assertThat(memory.getPeak()).isEqualTo(24);
+        assertThat(memory.getSpilled()).isZero();
+    }
+
+    @Test
+    void shouldSpillTextValueExceedingThreshold() {
+        final LobBuffer.Memory memory = new LobBuffer.Memory(1024);
+        final LobBuffer buffer = new LobBuffer(false, memory);
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            // includes characters outside the basic multilingual plane
+            final String fragment = "fragment " + i + " 😀 é;";
+            expected.append(fragment);
+            buffer.append(fragment);
+        }
+
+        assertThat(memory.getUsed()).isZero();
+        assertThat(memory.getPeak()).isGreaterThan(1024).isLessThan(2048);
+        assertThat(memory.getSpilled()).isEqualTo(expected.length() * 2L);
+        assertThat(buffer.toValue()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void shouldSpillBinaryValueExceedingThreshold() {
+        final byte[] expected = new byte[10_000];
+        new Random().nextBytes(expected);
+
+        final LobBuffer.Memory memory = new LobBuffer.Memory(1000);
+        final LobBuffer buffer = new LobBuffer(true, memory);
+        for (int i = 0; i < expected.length; i += 100) {
+            final byte[] fragment = new byte[100];
+            System.arraycopy(expected, i, fragment, 0, 100);
+            buffer.append(fragment);
+        }
+
+        assertThat(memory.getSpilled()).isEqualTo(expected.length);
+        assertThat(buffer.toValue()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldShareThresholdBetweenValuesOfTransaction() {
+        final LobBuffer.Memory memory = new LobBuffer.Memory(100);
+        final LobBuffer first = new LobBuffer(false, memory);
+        final LobBuffer second = new LobBuffer(false, memory);
+        first.append("x".repeat(40));
+        second.append("y".repeat(40));
+
+        // the second value exceeds the threshold of the transaction and is spilled
+        assertThat(memory.getUsed()).isEqualTo(80);
+        assertThat(memory.getSpilled()).isEqualTo(80);
+
+        second.release();
+        assertThat(first.toValue()).isEqualTo("x".repeat(40));
+        assertThat(memory.getUsed()).isZero();
+    }
+
+    @Test
+    void shouldAssembleSequentiallyWrittenLobThroughSpilledBuffer() {
+        final String contents = "x".repeat(1000) + "y".repeat(1000);
+        final LobBuffer.Memory memory = new LobBuffer.Memory(100);
+
+        final LobUnderConstruction lob = LobUnderConstruction.fromInitialValue("EMPTY_CLOB()", memory);
+        for (int offset = 0; offset < contents.length(); offset += 100) {
+            final LobFragment fragment = new LobFragment(contents.substring(offset, offset + 100));
+            fragment.offset = offset;
+            lob.add(fragment);
+        }
+
+        assertThat(lob.fragments).isEmpty();
+        assertThat(memory.getSpilled()).isEqualTo(contents.length() * 2L);
+        assertThat(lob.merge()).isEqualTo(contents);
+    }
+
+    @Test
+    void shouldFallBackToFragmentsWhenWritingIntoSpilledLob() {
+        final LobBuffer.Memory memory = new LobBuffer.Memory(100);
+
+        final LobUnderConstruction lob = LobUnderConstruction.fromInitialValue("EMPTY_CLOB()", memory);
+        final LobFragment first = new LobFragment("x".repeat(200));
+        first.offset = 10;
+        lob.add(first);
+        final LobFragment second = new LobFragment("y".repeat(20));
+        second.offset = 100;
+        lob.add(second);
+
+        assertThat(lob.merge()).isEqualTo(" ".repeat(10) + "x".repeat(90) + "y".repeat(20) + "x".repeat(90));
+        assertThat(memory.getUsed()).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.oracle.Scn;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+
+/**
+ * Unit tests for the {@link LogMinerBatchSizeController} class.
+ */
+@SkipWhenAdapterNameIsNot(value = SkipWhenAdapterNameIsNot.AdapterName.ANY_LOGMINER)
+public class LogMinerBatchSizeControllerTest {
+
+    private static final int MIN = 1_000;
+    private static final int MAX = 1_000_000;
+
+    @Test
+    void shouldKeepInitialBatchSizeBeforeFirstSession() {
+        final LogMinerBatchSizeController controller = new LogMinerBatchSizeController(MIN, MAX, 20_000, Duration.ofSeconds(2), 0);
+        assertThat(controller.nextBatchSize()).isEqualTo(20_000);
+        assertThat(controller.getDecision()).isEqualTo(LogMinerBatchSizeController.Decision.INITIAL);
+    }
+
+    @Test
+    void shouldSizeBatchTowardsTargetDuration() {
+        final LogMinerBatchSizeController controller = new LogMinerBatchSizeController(MIN, MAX, 20_000, Duration.ofSeconds(2), 0);
+
+        // 20,000 SCNs with 10,000 rows, query took 500 ms and processing 500 ms (20,000 rows/s)
+        controller.recordSessionBounds(Scn.valueOf(100_000), Scn.valueOf(120_000));
+        controller.recordSession(10_000, Duration.ofMillis(500), Duration.ofMillis(1_000));
+
+        // 1.5 s processing budget * 20,000 rows/s / 0.5 rows per SCN = 60,000 SCNs, smoothed with 20,000
+        assertThat(controller.nextBatchSize()).isEqualTo(40_000);
+        assertThat(controller.getDecision()).isEqualTo(LogMinerBatchSizeController.Decision.LATENCY_TARGET);
+        assertThat(controller.getMiningScnPerSecond()).isEqualTo(20_000);
+    }
+
+    @Test
+    void shouldShrinkBatchWhenSessionIsTooSlow() {
+        final LogMinerBatchSizeController controller = new LogMinerBatchSizeController(MIN, MAX, 100_000, Duration.ofSeconds(1), 0);
+
+        // 100,000 SCNs with 100,000 rows took 10 s
+        controller.recordSessionBounds(Scn.valueOf(100_000), Scn.valueOf(200_000));
+        controller.recordSession(100_000, Duration.ofMillis(200), Duration.ofSeconds(10));
+
+        assertThat(controller.nextBatchSize()).isLessThan(100_000);
+        assertThat(controller.getDecision()).isEqualTo(LogMinerBatchSizeController.Decision.LATENCY_TARGET);
+    }
+
+    @Test
+    void shouldKeepUpWithRedoGeneration() {
+        final LogMinerBatchSizeController controller = new LogMinerBatchSizeController(MIN, MAX, 100_000, Duration.ofSeconds(1), 0);
+
+        final Instant now = Instant.now();
+        controller.recordCurrentScn(Scn.valueOf(1_000_000), now);
+        controller.recordCurrentScn(Scn.valueOf(1_500_000), now.plusSeconds(1));
+        assertThat(controller.getRedoScnPerSecond()).isEqualTo(500_000);
+
+        // 100,000 SCNs with 100,000 rows took 10 s, the database generated 5,000,000 SCNs meanwhile
+        controller.recordSessionBounds(Scn.valueOf(100_000), Scn.valueOf(200_000));
+        controller.recordSession(100_000, Duration.ofMillis(200), Duration.ofSeconds(10));
+
+        assertThat(controller.nextBatchSize()).isEqualTo(MAX);
+        assertThat(controller.getDecision()).isEqualTo(LogMinerBatchSizeController.Decision.REDO_RATE);
+    }
+
+    @Test
+    void shouldHalveBatchOnMemoryPressure() {
+        final LogMinerBatchSizeController controller = new LogMinerBatchSizeController(MIN, MAX, 100_000, Duration.ofSeconds(2), 512L * 1024 * 1024);
+
+        controller.recordSessionBounds(Scn.valueOf(100_000), Scn.valueOf(200_000));
+        controller.recordSession(1_000, Duration.ofMillis(100), Duration.ofMillis(200));
+        controller.recordProcessGlobalAreaMemory(1024L * 1024 * 1024);
+
+        assertThat(controller.nextBatchSize()).isEqualTo(50_000);
+        assertThat(controller.getDecision()).isEqualTo(LogMinerBatchSizeController.Decision.MEMORY_PRESSURE);
+    }
+
+    @Test
+    void shouldGrowBatchWhenSessionReturnedNoRows() {
+        final LogMinerBatchSizeController controller = new LogMinerBatchSizeController(MIN, MAX, 20_000, Duration.ofSeconds(2), 0);
+
+        controller.recordSessionBounds(Scn.valueOf(100_000), Scn.valueOf(120_000));
+        controller.recordSession(0, Duration.ofMillis(100), Duration.ofMillis(100));
+
+        assertThat(controller.nextBatchSize()).isEqualTo(30_000);
+        assertThat(controller.getDecision()).isEqualTo(LogMinerBatchSizeController.Decision.IDLE);
+    }
+}
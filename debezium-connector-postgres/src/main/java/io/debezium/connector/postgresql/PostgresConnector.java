@@ -6,8 +6,11 @@
 
 package io.debezium.connector.postgresql;
 
+import static io.debezium.config.ConfigurationNames.TASK_ID_PROPERTY_NAME;
+
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -69,8 +72,29 @@ public void start(Map<String, String> props) {
 
     @Override
     public List<Map<String, String>> taskConfigs(int maxTasks) {
-        // this will always have just one task with the given list of properties
-        return props == null ? Collections.emptyList() : Collections.singletonList(new HashMap<>(props));
+        if (props == null) {
+            return Collections.emptyList();
+        }
+
+        final int slotCount = Configuration.from(props).getInteger(PostgresConnectorConfig.SLOT_COUNT);
+        if (slotCount <= 1) {
+            // this will always have just one task with the given list of properties
+            return Collections.singletonList(new HashMap<>(props));
+        }
+
+        // one task per replication slot, each streaming its share of the captured tables
+        if (maxTasks < slotCount) {
+            throw new IllegalArgumentException("The connector is configured with " + slotCount + " replication slots ('"
+                    + PostgresConnectorConfig.SLOT_COUNT.name() + "') but only " + maxTasks + " tasks are allowed ('tasks.max')");
+        }
+        final List<Map<String, String>> taskConfigs = new ArrayList<>(slotCount);
+        for (int slotIndex = 0; slotIndex < slotCount; slotIndex++) {
+            final Map<String, String> taskProperties = new HashMap<>(props);
+            taskProperties.put(PostgresConnectorConfig.SLOT_INDEX.name(), String.valueOf(slotIndex));
+            taskProperties.put(TASK_ID_PROPERTY_NAME, String.valueOf(slotIndex));
+            taskConfigs.add(Collections.unmodifiableMap(taskProperties));
+        }
+        return taskConfigs;
     }
 
     @Override
@@ -329,6 +329,68 @@ public static SnapshotIsolationMode parse(String value, String defaultValue) {
         }
     }
 
+    /**
+     * The set of predefined options for how the rows of the tables are read during a snapshot.
+     */
+    public enum SnapshotReadMethod implements EnumeratedValue {
+
+        /**
+         * Rows are read by executing the snapshot query through the text protocol of the JDBC driver.
+         */
+        SELECT("select"),
+
+        /**
+         * Rows are read by wrapping the snapshot query into {@code COPY ... TO STDOUT (FORMAT binary)} and decoding
+         * the binary stream directly, falling back to {@link #SELECT} for tables with columns of unsupported types.
+         */
+        COPY_BINARY("copy_binary");
+
+        private final String value;
+
+        SnapshotReadMethod(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value the configuration property value; may not be null
+         * @return the matching option, or null if no match is found
+         */
+        public static SnapshotReadMethod parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (SnapshotReadMethod option : SnapshotReadMethod.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Determine if the supplied value is one of the predefined options.
+         *
+         * @param value        the configuration property value; may not be null
+         * @param defaultValue the default value; may be null
+         * @return the matching option, or null if no match is found and the non-null default is invalid
+         */
+        public static SnapshotReadMethod parse(String value, String defaultValue) {
+            SnapshotReadMethod method = parse(value);
+            if (method == null && defaultValue != null) {
+                method = parse(defaultValue);
+            }
+            return method;
+        }
+    }
+
     /**
      * The set of predefined SecureConnectionMode options or aliases.
      */
@@ -611,6 +673,7 @@ public static SnapshotLockingMode parse(String value, String defaultValue) {
     protected static final int DEFAULT_PORT = 5_432;
     protected static final int DEFAULT_SNAPSHOT_FETCH_SIZE = 10_240;
     protected static final int DEFAULT_MAX_RETRIES = 6;
+    private static final String SLOT_METRIC_TAG = "slot";
 
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
@@ -638,6 +701,70 @@ public static SnapshotLockingMode parse(String value, String defaultValue) {
             .withDescription("The name of the Postgres logical decoding slot created for streaming changes from a plugin. " +
                     "Defaults to 'debezium");
 
+    public static final Field PGOUTPUT_BINARY = Field.create("pgoutput.binary")
+            .withDisplayName("Use binary format for pgoutput")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 16))
+            .withDefault(false)
+            .withImportance(Importance.LOW)
+            .withDescription("Applies only when streaming changes using pgoutput on PostgreSQL 14 or newer. " +
+                    "When enabled, the connector requests column values in their binary format instead of text, " +
+                    "which avoids re-parsing numeric, temporal and UUID values and halves the size of bytea values on the wire. " +
+                    "The binary format is only requested when all columns of the captured tables have a type the connector can decode in binary form; " +
+                    "otherwise the text format is used. Defaults to 'false'.");
+
+    public static final Field PGOUTPUT_STREAMING = Field.create("pgoutput.streaming")
+            .withDisplayName("Stream in-progress transactions")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 17))
+            .withDefault(false)
+            .withImportance(Importance.LOW)
+            .withDescription("Applies only when streaming changes using pgoutput on PostgreSQL 14 or newer. " +
+                    "When enabled, the server streams large transactions to the connector while they are still in progress, " +
+                    "instead of spilling them to disk on the database server until they commit. " +
+                    "The connector buffers the changes of such a transaction and emits them once the transaction commits, " +
+                    "or discards them if it is rolled back. Defaults to 'false'.");
+
+    public static final Field PGOUTPUT_STREAMING_BUFFER_MEMORY_BYTES = Field.create("pgoutput.streaming.buffer.memory.bytes")
+            .withDisplayName("In-memory buffer size for streamed transactions")
+            .withType(Type.LONG)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 18))
+            .withDefault(16L * 1024 * 1024)
+            .withImportance(Importance.LOW)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The maximum number of bytes of all streamed in-progress transactions that the connector keeps in memory. " +
+                    "Once the transactions exceed this size, the changes of the largest transactions are written to temporary files until they complete. " +
+                    "Applies only when 'pgoutput.streaming' is enabled. Defaults to 16 MiB.");
+
+    public static final Field SLOT_COUNT = Field.create("slot.count")
+            .withDisplayName("Number of replication slots")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 14))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(1)
+            .withValidation(Field::isPositiveInteger, PostgresConnectorConfig::validateSlotCount)
+            .withDescription("The number of replication slots and publications the captured tables are split into. " +
+                    "When greater than 1, the connector starts one task per slot, each task streaming the changes of its share of the tables " +
+                    "from the slot '<slot.name>_<index>' and the publication '<publication.name>_<index>', with its own offsets. " +
+                    "Changes of a single table are always streamed by the same task, so per-table ordering is preserved. " +
+                    "Each publication is restricted to the tables of its slot, so every slot only ships the changes of its own tables. " +
+                    "Requires 'tasks.max' to be at least this value and 'publication.autocreate.mode' to be 'filtered', " +
+                    "and cannot be combined with 'provide.transaction.metadata'. " +
+                    "Changing this value re-assigns tables to slots and therefore requires new slots and a new snapshot. Defaults to 1.");
+
+    /**
+     * The index of the replication slot streamed by a task, assigned by the connector when {@link #SLOT_COUNT} is greater than 1.
+     */
+    public static final Field SLOT_INDEX = Field.createInternal("slot.index")
+            .withDisplayName("Replication slot index")
+            .withType(Type.INT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTION_ADVANCED_REPLICATION, 15))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(0)
+            .withDescription("The index of the replication slot streamed by this task; assigned by the connector.");
+
     public static final Field DROP_SLOT_ON_STOP = Field.create("slot.drop.on.stop")
             .withDisplayName("Drop slot on stop")
             .withType(Type.BOOLEAN)
@@ -934,6 +1061,21 @@ public static AutoCreateMode parse(String value, String defaultValue) {
                     + "In '" + SnapshotIsolationMode.READ_UNCOMMITTED.getValue()
                     + "' is specified, connector runs the initial snapshot in READ UNCOMMITTED isolation level.");
 
+    public static final Field SNAPSHOT_READ_METHOD = Field.create("snapshot.read.method")
+            .withDisplayName("Snapshot read method")
+            .withEnum(SnapshotReadMethod.class, SnapshotReadMethod.SELECT)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_SNAPSHOT, 22))
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Controls how the connector reads the rows of the tables during a snapshot. "
+                    + "The default is '" + SnapshotReadMethod.SELECT.getValue()
+                    + "', which means that the snapshot query is executed and its result set is read through the JDBC driver. "
+                    + "When '" + SnapshotReadMethod.COPY_BINARY.getValue()
+                    + "' is specified, the snapshot query is executed as 'COPY (...) TO STDOUT (FORMAT binary)' and the rows are decoded "
+                    + "from the binary stream, which avoids the parsing of the text representation of the values; "
+                    + "tables with columns of types that cannot be decoded from the binary format are read with '"
+                    + SnapshotReadMethod.SELECT.getValue() + "'.");
+
     public static final Field SNAPSHOT_LOCKING_MODE = Field.create("snapshot.locking.mode")
             .withDisplayName("Snapshot locking mode")
             .withEnum(SnapshotLockingMode.class, SnapshotLockingMode.NONE)
@@ -1113,6 +1255,18 @@ public static LsnFlushTimeoutAction parse(String value, String defaultValue) {
                     + "'false' (the default) omits the fields; "
                     + "'true' converts the field into an implementation dependent binary representation.");
 
+    public static final Field TYPE_METADATA_CACHE_SHARED = Field.create("type.metadata.cache.shared")
+            .withDisplayName("Share type metadata between connectors")
+            .withType(Type.BOOLEAN)
+            .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 2))
+            .withDefault(false)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("Specify whether the type metadata read from the database catalog at startup is shared by all connectors " +
+                    "in the same JVM that capture the same database as the same user. When 'true', only the first connector reads the type metadata " +
+                    "from the catalog, the others reuse it as long as the types of the database remain unchanged. " +
+                    "Table schemas are not shared. Defaults to 'false'.");
+
     public static final Field SCHEMA_REFRESH_MODE = Field.create("schema.refresh.mode")
             .withDisplayName("Schema refresh mode")
             .withGroup(Field.createGroupEntry(Field.Group.CONNECTOR_ADVANCED, 0))
@@ -1381,6 +1535,7 @@ public static LsnFlushMode parse(String value, String defaultValue) {
     private final SnapshotMode snapshotMode;
     private final SnapshotIsolationMode snapshotIsolationMode;
     private final SnapshotLockingMode snapshotLockingMode;
+    private final SnapshotReadMethod snapshotReadMethod;
     private final boolean readOnlyConnection;
     private final boolean publishViaPartitionRoot;
     private final OffsetSlotMismatchStrategy offsetSlotMismatchStrategy;
@@ -1388,7 +1543,7 @@ public static LsnFlushMode parse(String value, String defaultValue) {
     public PostgresConnectorConfig(Configuration config) {
         super(
                 config,
-                new SystemTablesPredicate(),
+                capturedTablesPredicate(config),
                 x -> x.schema() + "." + x.table(),
                 DEFAULT_SNAPSHOT_FETCH_SIZE,
                 ColumnFilterMode.SCHEMA,
@@ -1406,6 +1561,7 @@ public PostgresConnectorConfig(Configuration config) {
         this.snapshotMode = SnapshotMode.parse(config.getString(SNAPSHOT_MODE), SNAPSHOT_MODE.defaultValueAsString());
         this.snapshotIsolationMode = SnapshotIsolationMode.parse(config.getString(SNAPSHOT_ISOLATION_MODE), SNAPSHOT_ISOLATION_MODE.defaultValueAsString());
         this.snapshotLockingMode = SnapshotLockingMode.parse(config.getString(SNAPSHOT_LOCKING_MODE), SNAPSHOT_LOCKING_MODE.defaultValueAsString());
+        this.snapshotReadMethod = SnapshotReadMethod.parse(config.getString(SNAPSHOT_READ_METHOD), SNAPSHOT_READ_METHOD.defaultValueAsString());
         this.readOnlyConnection = config.getBoolean(READ_ONLY_CONNECTION);
         this.publishViaPartitionRoot = config.getBoolean(PUBLISH_VIA_PARTITION_ROOT);
         this.lsnFlushTimeoutAction = LsnFlushTimeoutAction.parse(config.getString(LSN_FLUSH_TIMEOUT_ACTION));
@@ -1429,7 +1585,32 @@ public LogicalDecoder plugin() {
     }
 
     public String slotName() {
-        return getConfig().getString(SLOT_NAME);
+        return slotScopedName(getConfig().getString(SLOT_NAME));
+    }
+
+    /**
+     * @return the number of replication slots the captured tables are split into
+     */
+    public int slotCount() {
+        return getConfig().getInteger(SLOT_COUNT);
+    }
+
+    /**
+     * @return the index of the replication slot streamed by this task
+     */
+    public int slotIndex() {
+        return getConfig().getInteger(SLOT_INDEX);
+    }
+
+    /**
+     * @return whether the captured tables are split across multiple replication slots
+     */
+    public boolean isMultiSlot() {
+        return slotCount() > 1;
+    }
+
+    private String slotScopedName(String name) {
+        return isMultiSlot() ? name + "_" + slotIndex() : name;
     }
 
     protected boolean dropSlotOnStop() {
@@ -1453,7 +1634,23 @@ public long createSlotCommandTimeout() {
     }
 
     public String publicationName() {
-        return getConfig().getString(PUBLICATION_NAME);
+        return slotScopedName(getConfig().getString(PUBLICATION_NAME));
+    }
+
+    public boolean isTypeMetadataCacheShared() {
+        return getConfig().getBoolean(TYPE_METADATA_CACHE_SHARED);
+    }
+
+    public boolean isPgOutputBinary() {
+        return getConfig().getBoolean(PGOUTPUT_BINARY);
+    }
+
+    public boolean isPgOutputStreaming() {
+        return getConfig().getBoolean(PGOUTPUT_STREAMING);
+    }
+
+    public long pgOutputStreamingBufferMemoryBytes() {
+        return getConfig().getLong(PGOUTPUT_STREAMING_BUFFER_MEMORY_BYTES);
     }
 
     protected AutoCreateMode publicationAutocreateMode() {
@@ -1546,6 +1743,10 @@ public SnapshotIsolationMode getSnapshotIsolationMode() {
         return this.snapshotIsolationMode;
     }
 
+    public SnapshotReadMethod getSnapshotReadMethod() {
+        return this.snapshotReadMethod;
+    }
+
     @Override
     public Optional<SnapshotLockingMode> getSnapshotLockingMode() {
         return Optional.of(this.snapshotLockingMode);
@@ -1581,6 +1782,11 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     SLOT_NAME,
                     PUBLICATION_NAME,
                     PUBLICATION_AUTOCREATE_MODE,
+                    SLOT_COUNT,
+                    SLOT_INDEX,
+                    PGOUTPUT_BINARY,
+                    PGOUTPUT_STREAMING,
+                    PGOUTPUT_STREAMING_BUFFER_MEMORY_BYTES,
                     REPLICA_IDENTITY_AUTOSET_VALUES,
                     DROP_SLOT_ON_STOP,
                     CREATE_FAIL_OVER_SLOT,
@@ -1613,11 +1819,13 @@ protected SourceInfoStructMaker<? extends AbstractSourceInfo> getSourceInfoStruc
                     SNAPSHOT_QUERY_MODE_CUSTOM_NAME,
                     SNAPSHOT_LOCKING_MODE_CUSTOM_NAME,
                     SNAPSHOT_LOCKING_MODE,
+                    SNAPSHOT_READ_METHOD,
                     HSTORE_HANDLING_MODE,
                     BINARY_HANDLING_MODE,
                     SCHEMA_NAME_ADJUSTMENT_MODE,
                     INTERVAL_HANDLING_MODE,
                     SCHEMA_REFRESH_MODE,
+                    TYPE_METADATA_CACHE_SHARED,
                     INCREMENTAL_SNAPSHOT_CHUNK_SIZE,
                     UNAVAILABLE_VALUE_PLACEHOLDER,
                     LOGICAL_DECODING_MESSAGE_PREFIX_INCLUDE_LIST,
@@ -1648,6 +1856,62 @@ private static int validateReplicationSlotName(Configuration config, Field field
         return errors;
     }
 
+    private static int validateSlotCount(Configuration config, Field field, Field.ValidationOutput problems) {
+        final Integer slotCount = config.getInteger(field);
+        if (slotCount == null || slotCount <= 1) {
+            return 0;
+        }
+        int errors = 0;
+        // only publications created by the connector are guaranteed to contain just the tables of their slot
+        if (AutoCreateMode.parse(config.getString(PUBLICATION_AUTOCREATE_MODE), PUBLICATION_AUTOCREATE_MODE.defaultValueAsString()) != AutoCreateMode.FILTERED) {
+            problems.accept(field, slotCount, "Multiple replication slots require '" + PUBLICATION_AUTOCREATE_MODE.name() + "' to be 'filtered'");
+            ++errors;
+        }
+        if (!config.getBoolean(TABLE_IGNORE_BUILTIN)) {
+            problems.accept(field, slotCount, "Multiple replication slots require '" + TABLE_IGNORE_BUILTIN.name() + "' to be enabled");
+            ++errors;
+        }
+        if (config.getBoolean(PROVIDE_TRANSACTION_METADATA)) {
+            // each slot would emit its own BEGIN and END events, with the event counts of its own tables only
+            problems.accept(field, slotCount, "Multiple replication slots cannot be combined with '" + PROVIDE_TRANSACTION_METADATA.name() + "'");
+            ++errors;
+        }
+        final String slotName = config.getString(SLOT_NAME);
+        final String publicationName = config.getString(PUBLICATION_NAME);
+        for (int slotIndex = 0; slotIndex < slotCount; slotIndex++) {
+            final String derivedSlotName = slotName + "_" + slotIndex;
+            if (slotName != null && !derivedSlotName.matches("[a-z0-9_]{1,63}")) {
+                problems.accept(field, slotCount, "The replication slot name '" + derivedSlotName + "' derived from '" + SLOT_NAME.name()
+                        + "' must contain only digits, lowercase characters and underscores with length <= 63");
+                ++errors;
+                break;
+            }
+            final String derivedPublicationName = publicationName + "_" + slotIndex;
+            if (publicationName != null && derivedPublicationName.length() > 63) {
+                problems.accept(field, slotCount, "The publication name '" + derivedPublicationName + "' derived from '" + PUBLICATION_NAME.name()
+                        + "' exceeds 63 characters");
+                ++errors;
+                break;
+            }
+        }
+        return errors;
+    }
+
+    @Override
+    public Map<String, String> createCustomMetricTags(Configuration config) {
+        final Map<String, String> tags = super.createCustomMetricTags(config);
+        if (config.getInteger(SLOT_COUNT) > 1) {
+            // Tasks of a multi-slot connector share the server name, so the slot distinguishes their metrics
+            tags.put(SLOT_METRIC_TAG, String.valueOf(config.getInteger(SLOT_INDEX)));
+        }
+        return tags;
+    }
+
+    private static TableFilter capturedTablesPredicate(Configuration config) {
+        final int slotCount = config.getInteger(SLOT_COUNT);
+        return slotCount > 1 ? new SlotTablesPredicate(slotCount, config.getInteger(SLOT_INDEX)) : new SystemTablesPredicate();
+    }
+
     private static int validateLogicalDecodingMessageExcludeList(Configuration config, Field field, Field.ValidationOutput problems) {
         String includeList = config.getString(LOGICAL_DECODING_MESSAGE_PREFIX_INCLUDE_LIST);
         String excludeList = config.getString(LOGICAL_DECODING_MESSAGE_PREFIX_EXCLUDE_LIST);
@@ -1774,4 +2038,23 @@ public boolean isIncluded(TableId t) {
                     !t.schema().startsWith(TEMP_TABLE_SCHEMA_PREFIX);
         }
     }
+
+    /**
+     * Restricts the captured tables to those assigned to the replication slot of this task. A table is always assigned
+     * to the same slot for a given slot count, so all its changes flow through a single replication stream.
+     */
+    private static class SlotTablesPredicate extends SystemTablesPredicate {
+        private final int slotCount;
+        private final int slotIndex;
+
+        SlotTablesPredicate(int slotCount, int slotIndex) {
+            this.slotCount = slotCount;
+            this.slotIndex = slotIndex;
+        }
+
+        @Override
+        public boolean isIncluded(TableId t) {
+            return super.isIncluded(t) && Math.floorMod((t.schema() + "." + t.table()).hashCode(), slotCount) == slotIndex;
+        }
+    }
 }
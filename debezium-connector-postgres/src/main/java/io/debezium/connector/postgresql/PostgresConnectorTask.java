@@ -119,7 +119,8 @@ public ChangeEventSourceCoordinator<PostgresPartition, PostgresOffsetContext> st
                 typeRegistry);
 
         MainConnectionProvidingConnectionFactory<PostgresConnection> connectionFactory = new DefaultMainConnectionProvidingConnectionFactory<>(
-                () -> new PostgresConnection(connectorConfig.getJdbcConfig(), valueConverterBuilder, PostgresConnection.CONNECTION_GENERAL));
+                () -> new PostgresConnection(connectorConfig.getJdbcConfig(), valueConverterBuilder, PostgresConnection.CONNECTION_GENERAL,
+                        connectorConfig.isTypeMetadataCacheShared()));
         // Global JDBC connection used both for snapshotting and streaming.
         // Must be able to resolve datatypes.
         jdbcConnection = connectionFactory.mainConnection();
@@ -205,6 +206,8 @@ public ChangeEventSourceCoordinator<PostgresPartition, PostgresOffsetContext> st
                     .maxBatchSize(connectorConfig.getMaxBatchSize())
                     .maxQueueSize(connectorConfig.getMaxQueueSize())
                     .maxQueueSizeInBytes(connectorConfig.getMaxQueueSizeInBytes())
+                    .latencyHistograms(connectorConfig.getLatencyHistograms())
+                    .conflationWindow(connectorConfig.getConflationWindow())
                     .queueProvider(new DefaultQueueProvider<>(connectorConfig.getMaxQueueSize()))
                     .loggingContextSupplier(() -> taskContext.configureLoggingContext(CONTEXT_NAME))
                     .build();
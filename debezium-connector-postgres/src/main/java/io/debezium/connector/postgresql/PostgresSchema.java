@@ -75,7 +75,7 @@ private static TableSchemaBuilder getTableSchemaBuilder(PostgresConnectorConfig
                                                             PostgresDefaultValueConverter defaultValueConverter, CustomConverterRegistry customConverterRegistry) {
         return new TableSchemaBuilder(valueConverter, defaultValueConverter, config.schemaNameAdjuster(),
                 customConverterRegistry, config.getSourceInfoStructMaker().schema(),
-                config.getFieldNamer(), false, config.getEventConvertingFailureHandlingMode());
+                config.getFieldNamer(), false, config.getEventConvertingFailureHandlingMode(), config.getStructGeneratorMode());
     }
 
     /**
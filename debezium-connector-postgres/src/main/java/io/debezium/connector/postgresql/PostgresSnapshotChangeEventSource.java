@@ -10,23 +10,30 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.connector.postgresql.PostgresConnectorConfig.SnapshotReadMethod;
 import io.debezium.connector.postgresql.PostgresOffsetContext.Loader;
 import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.PostgresBinaryCopyRowReader;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
 import io.debezium.connector.postgresql.spi.SlotCreationResult;
 import io.debezium.connector.postgresql.spi.SlotState;
+import io.debezium.jdbc.JdbcConnection;
 import io.debezium.jdbc.MainConnectionProvidingConnectionFactory;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.notification.NotificationService;
 import io.debezium.pipeline.source.SnapshottingTask;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
 import io.debezium.pipeline.source.spi.SnapshotProgressListener;
+import io.debezium.relational.Column;
 import io.debezium.relational.RelationalSnapshotChangeEventSource;
+import io.debezium.relational.SnapshotRowReader;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 import io.debezium.relational.Tables;
@@ -264,6 +271,30 @@ protected Optional<String> getSnapshotSelect(RelationalSnapshotContext<PostgresP
         return snapshotterService.getSnapshotQuery().snapshotQuery(tableId.toDoubleQuotedString(), columns);
     }
 
+    @Override
+    protected SnapshotRowReader openTableRowReader(JdbcConnection jdbcConnection, Table table, String selectStatement, OptionalLong rowCount)
+            throws SQLException {
+        if (connectorConfig.getSnapshotReadMethod() == SnapshotReadMethod.COPY_BINARY) {
+            final SnapshotRowReader reader = PostgresBinaryCopyRowReader.open((PostgresConnection) jdbcConnection, table, selectStatement);
+            if (reader != null) {
+                return reader;
+            }
+        }
+        return super.openTableRowReader(jdbcConnection, table, selectStatement, rowCount);
+    }
+
+    @Override
+    protected SnapshotRowReader openChunkRowReader(JdbcConnection jdbcConnection, SnapshotChunk chunk, List<Column> keyColumns)
+            throws SQLException {
+        if (connectorConfig.getSnapshotReadMethod() == SnapshotReadMethod.COPY_BINARY) {
+            final SnapshotRowReader reader = PostgresBinaryCopyRowReader.open((PostgresConnection) jdbcConnection, chunk, keyColumns);
+            if (reader != null) {
+                return reader;
+            }
+        }
+        return super.openChunkRowReader(jdbcConnection, chunk, keyColumns);
+    }
+
     protected void setSnapshotTransactionIsolationLevel(boolean isOnDemand) throws SQLException {
         LOGGER.info("Setting isolation level");
         String transactionStatement = snapshotTransactionIsolationLevelStatement(slotCreatedInfo, isOnDemand);
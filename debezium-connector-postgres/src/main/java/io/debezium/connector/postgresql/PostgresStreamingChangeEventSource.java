@@ -33,6 +33,7 @@
 import io.debezium.connector.postgresql.connection.ReplicationMessage;
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
 import io.debezium.connector.postgresql.connection.ReplicationStream;
+import io.debezium.connector.postgresql.connection.ReplicationStreamRestartException;
 import io.debezium.connector.postgresql.connection.WalPositionLocator;
 import io.debezium.heartbeat.Heartbeat;
 import io.debezium.pipeline.ErrorHandler;
@@ -163,53 +164,24 @@ public void execute(ChangeEventSourceContext context, PostgresPartition partitio
         boolean hasStartLsnStoredInContext = offsetContext != null;
 
         try {
-            final WalPositionLocator walPosition;
-
-            if (hasStartLsnStoredInContext) {
-                // start streaming from the last recorded position in the offset
-                final Lsn lsn = this.effectiveOffset.hasCompletelyProcessedPosition() ? this.effectiveOffset.lastCompletelyProcessedLsn()
-                        : this.effectiveOffset.lsn();
-                final Operation lastProcessedMessageType = this.effectiveOffset.lastProcessedMessageType();
-                LOGGER.info("Retrieved latest position from stored offset '{}'", lsn);
-                walPosition = new WalPositionLocator(this.effectiveOffset.lastCommitLsn(), lsn, lastProcessedMessageType);
-                replicationStream.compareAndSet(null, replicationConnection.startStreaming(lsn, walPosition));
-            }
-            else {
-                LOGGER.info("No previous LSN found in Kafka, streaming from the latest xlogpos or flushed LSN...");
-                walPosition = new WalPositionLocator();
-                replicationStream.compareAndSet(null, replicationConnection.startStreaming(walPosition));
-            }
-
-            // Start keep alive thread to prevent connection timeout during time-consuming operations the DB side.
-            ReplicationStream stream = this.replicationStream.get();
-            stream.startKeepAlive(Threads.newSingleThreadExecutor(PostgresConnector.class, connectorConfig.getLogicalName(), KEEP_ALIVE_THREAD_NAME));
-
-            // If we need to do a pre-snapshot streaming catch up, we should allow the snapshot transaction to persist
-            // but normally we want to start streaming without any open transactions.
-            if (!isInPreSnapshotCatchUpStreaming(this.effectiveOffset)) {
-                connection.commit();
-            }
-
-            this.lastCompletelyProcessedLsn = replicationStream.get().startLsn();
-
-            if (walPosition.searchingEnabled() && this.effectiveOffset.hasCompletelyProcessedPosition()) {
-                searchWalPosition(context, partition, this.effectiveOffset, stream, walPosition);
+            ReplicationStream stream = startStreaming(context, partition, hasStartLsnStoredInContext);
+            while (true) {
                 try {
+                    processMessages(context, partition, this.effectiveOffset, stream);
+                    break;
+                }
+                catch (ReplicationStreamRestartException e) {
+                    // e.g. a column was added whose values cannot be decoded with the options the stream was started with
+                    LOGGER.info("Restarting the replication stream from the last processed position: {}", e.getMessage());
+                    stream.stopKeepAlive();
                     if (!isInPreSnapshotCatchUpStreaming(this.effectiveOffset)) {
                         connection.commit();
                     }
+                    replicationConnection.reconnect();
+                    replicationStream.set(null);
+                    stream = startStreaming(context, partition, true);
                 }
-                catch (Exception e) {
-                    LOGGER.info("Commit failed while preparing for reconnect", e);
-                }
-                walPosition.enableFiltering();
-                stream.stopKeepAlive();
-                replicationConnection.reconnect();
-                replicationStream.set(replicationConnection.startStreaming(walPosition.getLastEventStoredLsn(), walPosition));
-                stream = this.replicationStream.get();
-                stream.startKeepAlive(Threads.newSingleThreadExecutor(PostgresConnector.class, connectorConfig.getLogicalName(), KEEP_ALIVE_THREAD_NAME));
             }
-            processMessages(context, partition, this.effectiveOffset, stream);
         }
         catch (Throwable e) {
             errorHandler.setProducerThrowable(e);
@@ -219,6 +191,61 @@ public void execute(ChangeEventSourceContext context, PostgresPartition partitio
         }
     }
 
+    /**
+     * Starts the replication stream, from the position of the effective offset if {@code fromStoredPosition} is set,
+     * and skips the events that were already processed before the stream was started.
+     */
+    private ReplicationStream startStreaming(ChangeEventSourceContext context, PostgresPartition partition, boolean fromStoredPosition)
+            throws SQLException, InterruptedException {
+        final WalPositionLocator walPosition;
+
+        if (fromStoredPosition) {
+            // start streaming from the last recorded position in the offset
+            final Lsn lsn = this.effectiveOffset.hasCompletelyProcessedPosition() ? this.effectiveOffset.lastCompletelyProcessedLsn()
+                    : this.effectiveOffset.lsn();
+            final Operation lastProcessedMessageType = this.effectiveOffset.lastProcessedMessageType();
+            LOGGER.info("Retrieved latest position from stored offset '{}'", lsn);
+            walPosition = new WalPositionLocator(this.effectiveOffset.lastCommitLsn(), lsn, lastProcessedMessageType);
+            replicationStream.compareAndSet(null, replicationConnection.startStreaming(lsn, walPosition));
+        }
+        else {
+            LOGGER.info("No previous LSN found in Kafka, streaming from the latest xlogpos or flushed LSN...");
+            walPosition = new WalPositionLocator();
+            replicationStream.compareAndSet(null, replicationConnection.startStreaming(walPosition));
+        }
+
+        // Start keep alive thread to prevent connection timeout during time-consuming operations the DB side.
+        ReplicationStream stream = this.replicationStream.get();
+        stream.startKeepAlive(Threads.newSingleThreadExecutor(PostgresConnector.class, connectorConfig.getLogicalName(), KEEP_ALIVE_THREAD_NAME));
+
+        // If we need to do a pre-snapshot streaming catch up, we should allow the snapshot transaction to persist
+        // but normally we want to start streaming without any open transactions.
+        if (!isInPreSnapshotCatchUpStreaming(this.effectiveOffset)) {
+            connection.commit();
+        }
+
+        this.lastCompletelyProcessedLsn = replicationStream.get().startLsn();
+
+        if (walPosition.searchingEnabled() && this.effectiveOffset.hasCompletelyProcessedPosition()) {
+            searchWalPosition(context, partition, this.effectiveOffset, stream, walPosition);
+            try {
+                if (!isInPreSnapshotCatchUpStreaming(this.effectiveOffset)) {
+                    connection.commit();
+                }
+            }
+            catch (Exception e) {
+                LOGGER.info("Commit failed while preparing for reconnect", e);
+            }
+            walPosition.enableFiltering();
+            stream.stopKeepAlive();
+            replicationConnection.reconnect();
+            replicationStream.set(replicationConnection.startStreaming(walPosition.getLastEventStoredLsn(), walPosition));
+            stream = this.replicationStream.get();
+            stream.startKeepAlive(Threads.newSingleThreadExecutor(PostgresConnector.class, connectorConfig.getLogicalName(), KEEP_ALIVE_THREAD_NAME));
+        }
+        return stream;
+    }
+
     private void cleanUpStreamingOnStop(PostgresOffsetContext offsetContext) {
         if (replicationConnection != null) {
             LOGGER.debug("stopping streaming...");
@@ -20,6 +20,6 @@
 public class PostgresTaskContext extends CdcSourceTaskContext<PostgresConnectorConfig> {
 
     protected PostgresTaskContext(Configuration rawConfig, PostgresConnectorConfig config) {
-        super(rawConfig, config, config.getCustomMetricTags());
+        super(rawConfig, config, config.isMultiSlot() ? String.valueOf(config.slotIndex()) : "0", config.getCustomMetricTags());
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * A JVM-wide cache of the type metadata read from the catalog of a database, shared by the {@link TypeRegistry}
+ * instances of all connectors capturing that database.
+ * <p>
+ * The metadata is cached per database and user, and tagged with the catalog version it was read at. A registry
+ * requesting the metadata of a different catalog version, e.g. after a type was created, reloads and replaces the
+ * cached metadata. Only the connection independent metadata is shared, each registry builds its own
+ * {@link PostgresType} instances and each connector its own table schemas.
+ *
+ * @see PostgresConnectorConfig#TYPE_METADATA_CACHE_SHARED
+ */
+@ThreadSafe
+public class TypeMetadataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypeMetadataCache.class);
+
+    /**
+     * The cache shared by all connectors of the JVM.
+     */
+    public static final TypeMetadataCache SHARED = new TypeMetadataCache();
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The catalog metadata of a single type, independent of the connection it was read through.
+     */
+    public record TypeMetadata(int oid, String name, int sqlType, int modifiers, String category, List<String> enumValues, int elementOid, int parentOid) {
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        List<TypeMetadata> load() throws SQLException;
+    }
+
+    /**
+     * Returns the type metadata of the given database, loading it if the metadata is not cached yet or was cached at
+     * a different catalog version. Concurrent requests for the same database load the metadata only once.
+     *
+     * @param database the identity of the database, including its server and the user reading it
+     * @param catalogVersion the current version of the type catalog of the database
+     * @param loader reads the type metadata from the catalog
+     * @return the type metadata, never {@code null}
+     */
+    public List<TypeMetadata> get(String database, String catalogVersion, Loader loader) throws SQLException {
+        return entries.computeIfAbsent(database, k -> new Entry()).get(database, catalogVersion, loader);
+    }
+
+    /**
+     * Drops the cached type metadata of the given database, e.g. when a type unknown to the cached metadata was
+     * encountered.
+     */
+    public void invalidate(String database) {
+        if (entries.remove(database) != null) {
+            LOGGER.debug("Invalidated shared type metadata of '{}'", database);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static class Entry {
+
+        private String catalogVersion;
+        private List<TypeMetadata> types;
+
+        synchronized List<TypeMetadata> get(String database, String catalogVersion, Loader loader) throws SQLException {
+            if (types == null || !Objects.equals(this.catalogVersion, catalogVersion)) {
+                LOGGER.debug("Loading type metadata of '{}' at catalog version {}", database, catalogVersion);
+                types = List.copyOf(loader.load());
+                this.catalogVersion = catalogVersion;
+            }
+            else {
+                LOGGER.debug("Reusing shared type metadata of '{}' at catalog version {}", database, catalogVersion);
+            }
+            return types;
+        }
+    }
+}
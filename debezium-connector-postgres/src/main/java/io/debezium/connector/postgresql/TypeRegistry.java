@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.postgresql;
 
+import java.sql.Array;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -14,6 +15,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +30,7 @@
 import io.debezium.DebeziumException;
 import io.debezium.annotation.Immutable;
 import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.util.Collect;
 
 /**
@@ -80,6 +83,21 @@ public class TypeRegistry {
 
     private static final String SQL_OID_LOOKUP = SQL_TYPES + " AND t.oid = ?";
 
+    /**
+     * A fingerprint of the type catalog and of the search path, which determines the resolution of type names in
+     * multiple schemas. Creating, altering or dropping a type or an enum value inserts, updates or deletes a row of
+     * {@code pg_type} or {@code pg_enum}, which changes the set of row OIDs and transaction ids the fingerprint is
+     * hashed from. The query scans both catalogs on every start of a registry sharing the type metadata, but unlike
+     * priming the registry it neither joins nor transfers their rows.
+     */
+    private static final String SQL_CATALOG_VERSION = "SELECT current_schemas(false)::text || '/' || "
+            + "(SELECT md5(COALESCE(string_agg(t.oid::text || ':' || t.xmin::text, ',' ORDER BY t.oid), '')) FROM pg_catalog.pg_type t) || '/' || "
+            + "(SELECT md5(COALESCE(string_agg(e.oid::text || ':' || e.xmin::text, ',' ORDER BY e.oid), '')) FROM pg_catalog.pg_enum e)";
+
+    private static final String SQL_USER_DEFINED_TYPE_LOOKUP = "SELECT t.typbasetype AS parentoid, t.typtypmod AS modifiers, "
+            + "(SELECT array_agg(e.enumlabel) FROM pg_catalog.pg_enum e WHERE e.enumtypid = t.oid) AS enum_values "
+            + "FROM pg_catalog.pg_type t WHERE t.oid = ?";
+
     private static final Map<String, String> LONG_TYPE_NAMES = Collections.unmodifiableMap(getLongTypeNames());
 
     private static Map<String, String> getLongTypeNames() {
@@ -106,7 +124,8 @@ private static Map<String, String> getLongTypeNames() {
     private final Map<Integer, PostgresType> oidToType = new HashMap<>();
 
     private final PostgresConnection connection;
-    private final SqlTypeMapper sqlTypeMapper;
+    private final String sharedCacheKey;
+    private SqlTypeMapper sqlTypeMapper;
 
     private int geometryOid = Integer.MIN_VALUE;
     private int geographyOid = Integer.MIN_VALUE;
@@ -127,9 +146,17 @@ private static Map<String, String> getLongTypeNames() {
     private int tsVectorOid = Integer.MIN_VALUE;
 
     public TypeRegistry(PostgresConnection connection) {
+        this(connection, false);
+    }
+
+    /**
+     * @param connection the connection to read the type catalog through
+     * @param shared whether the type metadata is shared through the {@link TypeMetadataCache#SHARED JVM-wide cache}
+     */
+    public TypeRegistry(PostgresConnection connection, boolean shared) {
         try {
             this.connection = connection;
-            sqlTypeMapper = new SqlTypeMapper(this.connection);
+            this.sharedCacheKey = shared ? sharedCacheKey(connection) : null;
 
             prime();
         }
@@ -381,33 +408,45 @@ public static String normalizeTypeName(String typeName) {
      * Prime the {@link TypeRegistry} with all existing database types
      */
     private void prime() throws SQLException {
-        try (Statement statement = connection.connection().createStatement();
-                ResultSet rs = statement.executeQuery(SQL_TYPES)) {
-            final List<PostgresType.Builder> delayResolvedBuilders = new ArrayList<>();
-            while (rs.next()) {
-                PostgresType.Builder builder = createTypeBuilderFromResultSet(rs);
+        final List<TypeMetadataCache.TypeMetadata> types = sharedCacheKey != null
+                ? TypeMetadataCache.SHARED.get(sharedCacheKey, catalogVersion(), this::readTypes)
+                : readTypes();
 
-                // If the type has neither a base type nor an element type,
-                // we can build and add it immediately.
-                if (!builder.hasParentType() && !builder.hasElementType()) {
-                    addType(builder.build());
-                    continue;
-                }
+        final List<PostgresType.Builder> delayResolvedBuilders = new ArrayList<>();
+        for (TypeMetadataCache.TypeMetadata type : types) {
+            PostgresType.Builder builder = createTypeBuilder(type);
 
-                // For types with base or element type mappings, they need to be delayed.
-                // Otherwise their base/element types has not yet be registered,
-                // which triggers additional SQL_OID_LOOKUP queries to PostgreSQL.
-                delayResolvedBuilders.add(builder);
+            // If the type has neither a base type nor an element type,
+            // we can build and add it immediately.
+            if (!builder.hasParentType() && !builder.hasElementType()) {
+                addType(builder.build());
+                continue;
             }
 
-            // Resolve delayed builders
-            for (PostgresType.Builder builder : delayResolvedBuilders) {
-                addType(builder.build());
+            // For types with base or element type mappings, they need to be delayed.
+            // Otherwise their base/element types has not yet be registered,
+            // which triggers additional SQL_OID_LOOKUP queries to PostgreSQL.
+            delayResolvedBuilders.add(builder);
+        }
+
+        // Resolve delayed builders
+        for (PostgresType.Builder builder : delayResolvedBuilders) {
+            addType(builder.build());
+        }
+    }
+
+    private List<TypeMetadataCache.TypeMetadata> readTypes() throws SQLException {
+        try (Statement statement = connection.connection().createStatement();
+                ResultSet rs = statement.executeQuery(SQL_TYPES)) {
+            final List<TypeMetadataCache.TypeMetadata> types = new ArrayList<>();
+            while (rs.next()) {
+                types.add(readType(rs));
             }
+            return types;
         }
     }
 
-    private PostgresType.Builder createTypeBuilderFromResultSet(ResultSet rs) throws SQLException {
+    private TypeMetadataCache.TypeMetadata readType(ResultSet rs) throws SQLException {
         // Coerce long to int so large unsigned values are represented as signed
         // Same technique is used in TypeInfoCache
         final int oid = (int) rs.getLong("oid");
@@ -416,22 +455,107 @@ private PostgresType.Builder createTypeBuilderFromResultSet(ResultSet rs) throws
         String typeName = rs.getString("name");
         String category = rs.getString("category");
 
+        List<String> enumValues = null;
+        int elementTypeOid = 0;
+        if (CATEGORY_ENUM.equals(category)) {
+            enumValues = Arrays.asList((String[]) rs.getArray("enum_values").getArray());
+        }
+        else if (CATEGORY_ARRAY.equals(category)) {
+            elementTypeOid = (int) rs.getLong("element");
+        }
+        return new TypeMetadataCache.TypeMetadata(oid, typeName, sqlTypeMapper().getSqlType(typeName), modifiers, category, enumValues, elementTypeOid,
+                parentTypeOid);
+    }
+
+    private PostgresType.Builder createTypeBuilder(TypeMetadataCache.TypeMetadata type) throws SQLException {
         PostgresType.Builder builder = new PostgresType.Builder(
                 this,
-                typeName,
-                oid,
-                sqlTypeMapper.getSqlType(typeName),
-                modifiers,
+                type.name(),
+                type.oid(),
+                type.sqlType(),
+                type.modifiers(),
                 getTypeInfo(connection));
 
-        if (CATEGORY_ENUM.equals(category)) {
-            String[] enumValues = (String[]) rs.getArray("enum_values").getArray();
-            builder = builder.enumValues(Arrays.asList(enumValues));
+        if (CATEGORY_ENUM.equals(type.category())) {
+            builder = builder.enumValues(type.enumValues());
         }
-        else if (CATEGORY_ARRAY.equals(category)) {
-            builder = builder.elementType((int) rs.getLong("element"));
+        else if (CATEGORY_ARRAY.equals(type.category())) {
+            builder = builder.elementType(type.elementOid());
+        }
+        return builder.parentType(type.parentOid());
+    }
+
+    private SqlTypeMapper sqlTypeMapper() throws SQLException {
+        // Created on demand, as a registry primed from the shared cache may never need to map a type
+        if (sqlTypeMapper == null) {
+            sqlTypeMapper = new SqlTypeMapper(connection);
+        }
+        return sqlTypeMapper;
+    }
+
+    private String catalogVersion() throws SQLException {
+        try (Statement statement = connection.connection().createStatement();
+                ResultSet rs = statement.executeQuery(SQL_CATALOG_VERSION)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private static String sharedCacheKey(PostgresConnection connection) {
+        // the types visible to connectors of different users may differ, e.g. due to privileges or the search path
+        final JdbcConfiguration config = connection.config();
+        return config.getUser() + "@" + config.getHostname() + ":" + config.getPort() + "/" + config.getDatabase();
+    }
+
+    /**
+     * Re-reads the catalog metadata of the given enum or domain type, e.g. for a column announced by a relation
+     * message, and replaces the registered type if its enum values or its base type changed since it was registered.
+     * A changed type also invalidates the shared type metadata, so that other connectors reload it.
+     * <p>
+     * Only registries sharing the type metadata re-read types, any other registry keeps the types it was primed with.
+     * Types referring to the replaced type, e.g. arrays of an enum, are not replaced.
+     *
+     * @param oid the OID of the type
+     */
+    public void revalidate(int oid) {
+        if (sharedCacheKey == null) {
+            return;
+        }
+        final PostgresType type = oidToType.get(oid);
+        if (type == null || (!type.isEnumType() && type.getJdbcId() != DOMAIN_TYPE)) {
+            return;
+        }
+        try (PreparedStatement statement = connection.connection().prepareStatement(SQL_USER_DEFINED_TYPE_LOOKUP)) {
+            statement.setInt(1, oid);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return;
+                }
+                final int parentTypeOid = (int) rs.getLong("parentoid");
+                final int modifiers = rs.getInt("modifiers");
+                final Array enumValuesArray = rs.getArray("enum_values");
+                final List<String> enumValues = enumValuesArray != null ? Arrays.asList((String[]) enumValuesArray.getArray()) : null;
+
+                final int registeredParentTypeOid = type.isRootType() ? 0 : type.getParentType().getOid();
+                // enum values are aggregated in no particular order
+                final boolean enumValuesChanged = type.isEnumType()
+                        && (enumValues == null || !new HashSet<>(type.getEnumValues()).equals(new HashSet<>(enumValues)));
+                if (!enumValuesChanged && parentTypeOid == registeredParentTypeOid) {
+                    return;
+                }
+
+                LOGGER.info("Type '{}' was altered, reloading it", type.getName());
+                final PostgresType changed = new PostgresType.Builder(this, type.getName(), oid, type.getJdbcId(), modifiers, type.getTypeInfo())
+                        .enumValues(type.isEnumType() ? enumValues : null)
+                        .parentType(parentTypeOid)
+                        .build();
+                oidToType.put(oid, changed);
+                nameToType.computeIfPresent(type.getName(), (name, registered) -> registered.getOid() == oid ? changed : registered);
+                TypeMetadataCache.SHARED.invalidate(sharedCacheKey);
+            }
+        }
+        catch (SQLException e) {
+            throw new ConnectException("Database connection failed during revalidating type " + type.getName(), e);
         }
-        return builder.parentType(parentTypeOid);
     }
 
     private PostgresType resolveUnknownType(String name) {
@@ -465,8 +589,12 @@ private PostgresType resolveUnknownType(int lookupOid) {
     private PostgresType loadType(PreparedStatement statement) throws SQLException {
         try (ResultSet rs = statement.executeQuery()) {
             while (rs.next()) {
-                PostgresType result = createTypeBuilderFromResultSet(rs).build();
+                PostgresType result = createTypeBuilder(readType(rs)).build();
                 addType(result);
+                if (sharedCacheKey != null) {
+                    // the type was created after the shared metadata was read, e.g. as announced by a relation message
+                    TypeMetadataCache.SHARED.invalidate(sharedCacheKey);
+                }
                 return result;
             }
         }
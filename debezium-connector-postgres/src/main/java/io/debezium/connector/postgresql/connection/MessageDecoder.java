@@ -54,6 +54,18 @@ public interface MessageDecoder {
      */
     boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Lsn startLsn, WalPositionLocator walPosition);
 
+    /**
+     * Decoders that buffer messages and pass them to the processor later, e.g. the messages of a streamed
+     * transaction that are replayed on its commit, report the LSN at which the message being passed was
+     * originally received.
+     *
+     * @return the LSN of the message being passed to the processor, or {@code null} if it is the LSN of the
+     *         replication stream message currently being processed
+     */
+    default Lsn getReplayedMessageLsn() {
+        return null;
+    }
+
     /**
      * Closes this decoder, freeing and/or closing all resources it may potentially hold.
      */
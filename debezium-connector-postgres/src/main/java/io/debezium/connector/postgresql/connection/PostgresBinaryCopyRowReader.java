@@ -0,0 +1,544 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.pipeline.source.snapshot.CascadingOrBoundaryConditions;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunk;
+import io.debezium.pipeline.source.snapshot.chunked.SnapshotChunkQueryBuilder;
+import io.debezium.relational.Column;
+import io.debezium.relational.SnapshotRowReader;
+import io.debezium.relational.Table;
+import io.debezium.util.ColumnUtils;
+
+/**
+ * Reads the rows of a snapshot query executed as {@code COPY (...) TO STDOUT (FORMAT binary)}, decoding the values
+ * directly from the binary copy stream.
+ * <p>
+ * The values are decoded into the same Java types as returned for the query result set by
+ * {@link PostgresConnection#getColumnValue}, so that they are converted by the value converters the same way.
+ * Only columns of the types for which this holds can be decoded, see {@link #open(PostgresConnection, Table, String)}.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4">Binary Format</a>
+ */
+public class PostgresBinaryCopyRowReader implements SnapshotRowReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresBinaryCopyRowReader.class);
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final long POSTGRES_EPOCH_SECOND = 946_684_800L;
+    private static final long POSTGRES_EPOCH_DAY = 10_957L;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long GREGORIAN_CUTOVER_SECOND = new GregorianCalendar().getGregorianChange().getTime() / 1_000L;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final int NUMERIC_POSITIVE = 0x0000;
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    private static final int NUMERIC_POSITIVE_INFINITY = 0xD000;
+    private static final int NUMERIC_NEGATIVE_INFINITY = 0xF000;
+    private static final BigInteger NUMERIC_BASE = BigInteger.valueOf(10_000);
+
+    /**
+     * Decodes a non-null value of a field from its binary representation.
+     */
+    @FunctionalInterface
+    interface ValueDecoder {
+        Object decode(byte[] data, int offset, int length);
+    }
+
+    private final InputStream input;
+    private final Column[] columns;
+    private final ValueDecoder[] decoders;
+    private final int rowLength;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean headerRead;
+    private boolean completed;
+
+    PostgresBinaryCopyRowReader(InputStream input, ColumnUtils.ColumnArray columnArray, ValueDecoder[] decoders) {
+        this.input = input;
+        this.columns = columnArray.getColumns();
+        this.rowLength = columnArray.getGreatestColumnPosition();
+        this.decoders = decoders;
+    }
+
+    /**
+     * Opens a reader of the rows of the given query, if all of its columns can be decoded from the binary format.
+     *
+     * @param connection the connection to execute the {@code COPY} on
+     * @param table the table the rows of which are read
+     * @param query the query, which may not have any parameters as {@code COPY} does not accept them
+     * @return the reader, or {@code null} if the query has to be read through its result set
+     */
+    public static PostgresBinaryCopyRowReader open(PostgresConnection connection, Table table, String query) throws SQLException {
+        final PGConnection pgConnection = connection.connection().unwrap(PGConnection.class);
+        if (!"on".equals(pgConnection.getParameterStatus("integer_datetimes"))
+                || !"UTF8".equalsIgnoreCase(pgConnection.getParameterStatus("client_encoding"))) {
+            LOGGER.debug("Binary copy is not supported with the settings of the connection, reading table '{}' through its result set", table.id());
+            return null;
+        }
+
+        final ValueDecoder[] decoders;
+        final ColumnUtils.ColumnArray columnArray;
+        // the query is only described to find the types of its result columns
+        try (PreparedStatement statement = connection.connection().prepareStatement(query)) {
+            final ResultSetMetaData metaData = statement.getMetaData();
+            decoders = new ValueDecoder[metaData.getColumnCount()];
+            for (int i = 0; i < decoders.length; i++) {
+                final PostgresType type = connection.getTypeRegistry().get(metaData.getColumnTypeName(i + 1));
+                decoders[i] = (type == null || type.isArrayType()) ? null : decoderFor(type.getOid());
+                if (decoders[i] == null) {
+                    LOGGER.debug("Column '{}' of type '{}' cannot be decoded from the binary format, reading table '{}' through its result set",
+                            metaData.getColumnName(i + 1), metaData.getColumnTypeName(i + 1), table.id());
+                    return null;
+                }
+            }
+            columnArray = ColumnUtils.toArray(metaData, table);
+        }
+
+        final String copy = "COPY (" + stripTrailingSemicolon(query) + ") TO STDOUT (FORMAT binary)";
+        LOGGER.debug("Reading table '{}' with '{}'", table.id(), copy);
+        return new PostgresBinaryCopyRowReader(new PGCopyInputStream(pgConnection, copy), columnArray, decoders);
+    }
+
+    /**
+     * Opens a reader of the rows of the given snapshot chunk, if all of its columns can be decoded from the binary
+     * format and its boundary values can be rendered as literals, {@code COPY} not accepting any parameters.
+     *
+     * @param connection the connection to execute the {@code COPY} on
+     * @param chunk the chunk the rows of which are read
+     * @param keyColumns the key columns the chunk boundaries refer to
+     * @return the reader, or {@code null} if the chunk has to be read through the result set of its query
+     */
+    public static PostgresBinaryCopyRowReader open(PostgresConnection connection, SnapshotChunk chunk, List<Column> keyColumns) throws SQLException {
+        final List<String> lowerBounds = chunk.hasLowerBound() ? toLiterals(connection, chunk.getLowerBounds()) : List.of();
+        final List<String> upperBounds = chunk.hasUpperBound() ? toLiterals(connection, chunk.getUpperBounds()) : List.of();
+        if (lowerBounds == null || upperBounds == null) {
+            LOGGER.debug("The boundaries of a chunk of table '{}' cannot be rendered as literals, reading the chunk through its result set",
+                    chunk.getTable().id());
+            return null;
+        }
+        final String query = new LiteralBoundaryChunkQueryBuilder(connection, lowerBounds, upperBounds)
+                .buildChunkQuery(chunk, keyColumns, chunk.getBaseSelectStatement());
+        return open(connection, chunk.getTable(), query);
+    }
+
+    /**
+     * Renders the given boundary values as string literals, which the database casts to the type of the key column
+     * they are compared with.
+     *
+     * @return the literals, or {@code null} if one of the values cannot be rendered
+     */
+    static List<String> toLiterals(PostgresConnection connection, Object[] values) throws SQLException {
+        // without standard conforming strings, backslashes in literals would be escape characters
+        if (!"on".equals(connection.connection().unwrap(PGConnection.class).getParameterStatus("standard_conforming_strings"))) {
+            return null;
+        }
+        final List<String> literals = new ArrayList<>(values.length);
+        for (Object value : values) {
+            final String text;
+            if (value instanceof String || value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                    || value instanceof BigInteger || value instanceof UUID || value instanceof Boolean) {
+                text = value.toString();
+            }
+            else if (value instanceof BigDecimal) {
+                text = ((BigDecimal) value).toPlainString();
+            }
+            else {
+                // e.g. temporal values, the text of which would depend on the session time zone and calendar
+                return null;
+            }
+            literals.add("'" + text.replace("'", "''") + "'");
+        }
+        return literals;
+    }
+
+    /**
+     * Builds the query of a snapshot chunk comparing the key columns with literals of the boundary values instead
+     * of parameters.
+     */
+    private static class LiteralBoundaryChunkQueryBuilder extends SnapshotChunkQueryBuilder {
+
+        private final PostgresConnection connection;
+        private final List<String> lowerBounds;
+        private final List<String> upperBounds;
+
+        LiteralBoundaryChunkQueryBuilder(PostgresConnection connection, List<String> lowerBounds, List<String> upperBounds) {
+            super(connection);
+            this.connection = connection;
+            this.lowerBounds = lowerBounds;
+            this.upperBounds = upperBounds;
+        }
+
+        @Override
+        protected void addLowerBound(List<Column> keyColumns, StringBuilder sql) {
+            CascadingOrBoundaryConditions.buildLowerBound(quote(keyColumns), lowerBounds, sql, true);
+        }
+
+        @Override
+        protected void addUpperBound(List<Column> keyColumns, StringBuilder sql, boolean inclusive) {
+            CascadingOrBoundaryConditions.buildUpperBound(quote(keyColumns), upperBounds, sql, inclusive);
+        }
+
+        private List<String> quote(List<Column> keyColumns) {
+            return keyColumns.stream().map(c -> connection.quoteIdentifier(c.name())).toList();
+        }
+    }
+
+    /**
+     * Returns the decoder of the binary representation of the given type into the Java type returned for it by the
+     * JDBC driver, or {@code null} if there is none.
+     */
+    static ValueDecoder decoderFor(int oid) {
+        switch (oid) {
+            case PgOid.BOOL:
+                return (data, offset, length) -> data[offset] != 0;
+            case PgOid.INT2:
+                return (data, offset, length) -> (int) getShort(data, offset);
+            case PgOid.INT4:
+                return (data, offset, length) -> getInt(data, offset);
+            case PgOid.INT8:
+                return (data, offset, length) -> getLong(data, offset);
+            case PgOid.FLOAT4:
+                return (data, offset, length) -> Float.intBitsToFloat(getInt(data, offset));
+            case PgOid.FLOAT8:
+                return (data, offset, length) -> Double.longBitsToDouble(getLong(data, offset));
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.NAME:
+                return (data, offset, length) -> new String(data, offset, length, StandardCharsets.UTF_8);
+            case PgOid.BYTEA:
+                return (data, offset, length) -> Arrays.copyOfRange(data, offset, offset + length);
+            case PgOid.UUID:
+                return (data, offset, length) -> new UUID(getLong(data, offset), getLong(data, offset + 8));
+            case PgOid.DATE:
+                return (data, offset, length) -> decodeDate(getInt(data, offset));
+            case PgOid.TIMESTAMP:
+                return (data, offset, length) -> decodeTimestamp(getLong(data, offset));
+            case PgOid.TIMESTAMPTZ:
+                return (data, offset, length) -> decodeTimestampTz(getLong(data, offset));
+            case PgOid.TIME:
+                return (data, offset, length) -> decodeTime(getLong(data, offset));
+            case PgOid.NUMERIC:
+                return PostgresBinaryCopyRowReader::decodeNumeric;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Object[] next() throws SQLException {
+        if (completed) {
+            return null;
+        }
+        try {
+            if (!headerRead) {
+                readHeader();
+                headerRead = true;
+            }
+            ensure(2);
+            final short fieldCount = getShort(buffer, position);
+            position += 2;
+            if (fieldCount == -1) {
+                completed = true;
+                // consume the end of the copy so that the connection can be used for further statements
+                while (input.read(buffer) != -1) {
+                }
+                return null;
+            }
+            if (fieldCount != decoders.length) {
+                throw new SQLException("Expected " + decoders.length + " fields in binary copy row but got " + fieldCount);
+            }
+
+            final Object[] row = new Object[rowLength];
+            for (int i = 0; i < decoders.length; i++) {
+                row[columns[i].position() - 1] = readField(decoders[i]);
+            }
+            return row;
+        }
+        catch (IOException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Failed to read binary copy stream", e);
+        }
+    }
+
+    private void readHeader() throws IOException, SQLException {
+        ensure(SIGNATURE.length + 8);
+        if (!Arrays.equals(buffer, position, position + SIGNATURE.length, SIGNATURE, 0, SIGNATURE.length)) {
+            throw new SQLException("Unexpected binary copy signature");
+        }
+        position += SIGNATURE.length;
+        // flags, with only the bit indicating OIDs in the data defined, which are never requested
+        position += 4;
+        final int extensionLength = getInt(buffer, position);
+        position += 4;
+        skip(extensionLength);
+    }
+
+    private Object readField(ValueDecoder decoder) throws IOException {
+        ensure(4);
+        final int length = getInt(buffer, position);
+        position += 4;
+        if (length == -1) {
+            return null;
+        }
+        if (length > BUFFER_SIZE) {
+            final byte[] data = new byte[length];
+            final int buffered = limit - position;
+            System.arraycopy(buffer, position, data, 0, buffered);
+            position = limit;
+            readFully(data, buffered, length - buffered);
+            return decoder.decode(data, 0, length);
+        }
+        ensure(length);
+        final Object value = decoder.decode(buffer, position, length);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Makes sure that at least the given number of bytes, at most {@link #BUFFER_SIZE}, are available in the buffer.
+     */
+    private void ensure(int count) throws IOException {
+        if (limit - position >= count) {
+            return;
+        }
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        limit -= position;
+        position = 0;
+        while (limit < count) {
+            final int read = input.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of binary copy stream");
+            }
+            limit += read;
+        }
+    }
+
+    private void readFully(byte[] data, int offset, int count) throws IOException {
+        while (count > 0) {
+            final int read = input.read(data, offset, count);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of binary copy stream");
+            }
+            offset += read;
+            count -= read;
+        }
+    }
+
+    private void skip(int count) throws IOException {
+        while (count > 0) {
+            final int skipped = Math.min(count, BUFFER_SIZE);
+            ensure(skipped);
+            position += skipped;
+            count -= skipped;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            // cancels the copy if it has not been read to its end
+            input.close();
+        }
+        catch (IOException e) {
+            throw new SQLException("Failed to close binary copy stream", e);
+        }
+    }
+
+    private static String stripTrailingSemicolon(String query) {
+        int end = query.length();
+        while (end > 0 && (query.charAt(end - 1) == ';' || Character.isWhitespace(query.charAt(end - 1)))) {
+            end--;
+        }
+        return query.substring(0, end);
+    }
+
+    private static short getShort(byte[] data, int offset) {
+        return (short) (((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff));
+    }
+
+    private static int getInt(byte[] data, int offset) {
+        return ((data[offset] & 0xff) << 24) | ((data[offset + 1] & 0xff) << 16) | ((data[offset + 2] & 0xff) << 8) | (data[offset + 3] & 0xff);
+    }
+
+    private static long getLong(byte[] data, int offset) {
+        return ((long) getInt(data, offset) << 32) | (getInt(data, offset + 4) & 0xffffffffL);
+    }
+
+    private static Date decodeDate(int days) {
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_DATE;
+        }
+        // like the driver, interpreting the date in the default time zone
+        return Date.valueOf(LocalDate.ofEpochDay(POSTGRES_EPOCH_DAY + days));
+    }
+
+    private static Timestamp decodeTimestamp(long micros) {
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_TIMESTAMP;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_TIMESTAMP;
+        }
+        // like the driver, interpreting the timestamp in the default time zone
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(POSTGRES_EPOCH_SECOND + Math.floorDiv(micros, MICROS_PER_SECOND),
+                (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC));
+    }
+
+    private static Timestamp decodeTimestampTz(long micros) {
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_TIMESTAMP;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_TIMESTAMP;
+        }
+        final long epochSecond = POSTGRES_EPOCH_SECOND + Math.floorDiv(micros, MICROS_PER_SECOND);
+        final int nanos = (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000;
+        if (epochSecond >= GREGORIAN_CUTOVER_SECOND) {
+            return Timestamp.from(Instant.ofEpochSecond(epochSecond, nanos));
+        }
+        // like the driver, which interprets the date and time the database outputs for values before the Gregorian
+        // cutover with the Julian calendar
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+        final GregorianCalendar calendar = new GregorianCalendar(UTC);
+        calendar.clear();
+        if (dateTime.getYear() <= 0) {
+            calendar.set(GregorianCalendar.ERA, GregorianCalendar.BC);
+            calendar.set(GregorianCalendar.YEAR, 1 - dateTime.getYear());
+        }
+        else {
+            calendar.set(GregorianCalendar.YEAR, dateTime.getYear());
+        }
+        calendar.set(GregorianCalendar.MONTH, dateTime.getMonthValue() - 1);
+        calendar.set(GregorianCalendar.DAY_OF_MONTH, dateTime.getDayOfMonth());
+        calendar.set(GregorianCalendar.HOUR_OF_DAY, dateTime.getHour());
+        calendar.set(GregorianCalendar.MINUTE, dateTime.getMinute());
+        calendar.set(GregorianCalendar.SECOND, dateTime.getSecond());
+        final Timestamp timestamp = new Timestamp(calendar.getTimeInMillis());
+        timestamp.setNanos(nanos);
+        return timestamp;
+    }
+
+    /**
+     * Formats a time like the text output of the database, as the connector reads time columns as strings to support
+     * {@code 24:00:00}.
+     */
+    private static String decodeTime(long micros) {
+        final long seconds = micros / MICROS_PER_SECOND;
+        final int fraction = (int) (micros % MICROS_PER_SECOND);
+        final StringBuilder time = new StringBuilder(15);
+        appendTwoDigits(time, seconds / 3600).append(':');
+        appendTwoDigits(time, (seconds / 60) % 60).append(':');
+        appendTwoDigits(time, seconds % 60);
+        if (fraction != 0) {
+            final String digits = Integer.toString(fraction + 1_000_000);
+            int end = digits.length();
+            while (digits.charAt(end - 1) == '0') {
+                end--;
+            }
+            time.append('.').append(digits, 1, end);
+        }
+        return time.toString();
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, long value) {
+        if (value < 10) {
+            builder.append('0');
+        }
+        return builder.append(value);
+    }
+
+    /**
+     * Decodes a numeric, sent as its number of base 10000 digits, the weight of the first digit, its sign, its display
+     * scale and the digits.
+     */
+    private static Object decodeNumeric(byte[] data, int offset, int length) {
+        final int digitCount = getShort(data, offset);
+        final int weight = getShort(data, offset + 2);
+        final int sign = getShort(data, offset + 4) & 0xffff;
+        final int scale = getShort(data, offset + 6);
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_POSITIVE_INFINITY:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NEGATIVE_INFINITY:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            case NUMERIC_POSITIVE:
+            case NUMERIC_NEGATIVE:
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected sign " + Integer.toHexString(sign) + " of binary numeric");
+        }
+        if (digitCount == 0) {
+            return new SpecialValueDecimal(BigDecimal.valueOf(0, scale));
+        }
+
+        BigDecimal value;
+        final int digitsScale = (digitCount - 1 - weight) * 4;
+        if (digitCount <= 4) {
+            long unscaled = 0;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled * 10_000 + getShort(data, offset + 8 + i * 2);
+            }
+            value = BigDecimal.valueOf(unscaled, digitsScale);
+        }
+        else {
+            BigInteger unscaled = BigInteger.ZERO;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled.multiply(NUMERIC_BASE).add(BigInteger.valueOf(getShort(data, offset + 8 + i * 2)));
+            }
+            value = new BigDecimal(unscaled, digitsScale);
+        }
+        if (sign == NUMERIC_NEGATIVE) {
+            value = value.negate();
+        }
+        // the digits beyond the display scale are zeros
+        return new SpecialValueDecimal(value.setScale(scale));
+    }
+}
@@ -973,9 +973,15 @@ public boolean readPending(ReplicationMessageProcessor processor) throws SQLExce
             }
 
             private void deserializeMessages(ByteBuffer buffer, ReplicationMessageProcessor processor) throws SQLException, InterruptedException {
-                lastReceivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
+                final Lsn receivedLsn = Lsn.valueOf(stream.getLastReceiveLSN());
+                lastReceivedLsn = receivedLsn;
                 LOGGER.trace("Received message at LSN {}", lastReceivedLsn);
-                messageDecoder.processMessage(buffer, processor, typeRegistry);
+                messageDecoder.processMessage(buffer, message -> {
+                    // messages of a streamed transaction are replayed on its commit with their original LSN
+                    final Lsn replayedLsn = messageDecoder.getReplayedMessageLsn();
+                    lastReceivedLsn = replayedLsn != null ? replayedLsn : receivedLsn;
+                    processor.process(message);
+                }, typeRegistry);
             }
 
             @Override
@@ -0,0 +1,22 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import io.debezium.DebeziumException;
+
+/**
+ * Thrown by a {@link MessageDecoder} that cannot decode a message with the options the replication stream was started
+ * with, e.g. a column value sent in a binary format the decoder does not support. The streaming source restarts the
+ * replication stream from the last processed position, and the decoder then requests options it can decode.
+ */
+public class ReplicationStreamRestartException extends DebeziumException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ReplicationStreamRestartException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.connection.AbstractColumnValue;
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * A column value sent by the pgoutput plug-in in the binary format of the column type, i.e. the
+ * format produced by the type's {@code send} function. Only the built-in types listed in
+ * {@link #isSupported(PostgresType)} can be decoded.
+ */
+class PgOutputBinaryColumnValue extends AbstractColumnValue<byte[]> {
+
+    private static final LocalDate PG_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final Instant PG_EPOCH = PG_EPOCH_DATE.atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    private static final short NUMERIC_POS = 0x0000;
+    private static final short NUMERIC_NEG = 0x4000;
+    private static final short NUMERIC_NAN = (short) 0xC000;
+    private static final short NUMERIC_PINF = (short) 0xD000;
+    private static final short NUMERIC_NINF = (short) 0xF000;
+    private static final BigInteger NBASE = BigInteger.valueOf(10_000);
+
+    private static final Set<Integer> SUPPORTED_TYPES = Set.of(
+            PgOid.BOOL,
+            PgOid.BYTEA,
+            PgOid.INT2,
+            PgOid.INT4,
+            PgOid.INT8,
+            PgOid.OID,
+            PgOid.FLOAT4,
+            PgOid.FLOAT8,
+            PgOid.NUMERIC,
+            PgOid.TEXT,
+            PgOid.VARCHAR,
+            PgOid.BPCHAR,
+            PgOid.JSON,
+            PgOid.JSONB_OID,
+            PgOid.UUID,
+            PgOid.DATE,
+            PgOid.TIMESTAMP,
+            PgOid.TIMESTAMPTZ);
+
+    private final byte[] value;
+    private final int typeOid;
+    private final boolean enumType;
+
+    PgOutputBinaryColumnValue(byte[] value, PostgresType type) {
+        this.value = value;
+        this.typeOid = type.getRootType().getOid();
+        this.enumType = type.getRootType().isEnumType();
+    }
+
+    /**
+     * @return whether values of the given type can be decoded from the binary format
+     */
+    static boolean isSupported(PostgresType type) {
+        final PostgresType rootType = type.getRootType();
+        return !rootType.isArrayType() && (rootType.isEnumType() || SUPPORTED_TYPES.contains(rootType.getOid()));
+    }
+
+    @Override
+    public byte[] getRawValue() {
+        return value;
+    }
+
+    @Override
+    public boolean isNull() {
+        return value == null;
+    }
+
+    @Override
+    public String asString() {
+        if (enumType) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        switch (typeOid) {
+            case PgOid.TEXT:
+            case PgOid.VARCHAR:
+            case PgOid.BPCHAR:
+            case PgOid.JSON:
+                return new String(value, StandardCharsets.UTF_8);
+            case PgOid.JSONB_OID:
+                // the first byte is the jsonb format version followed by the textual representation
+                return new String(value, 1, value.length - 1, StandardCharsets.UTF_8);
+            case PgOid.UUID:
+                final ByteBuffer buffer = ByteBuffer.wrap(value);
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            default:
+                throw unsupported("string");
+        }
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return value[0] != 0;
+    }
+
+    @Override
+    public Integer asInteger() {
+        switch (typeOid) {
+            case PgOid.INT2:
+                return (int) ByteBuffer.wrap(value).getShort();
+            case PgOid.INT4:
+                return ByteBuffer.wrap(value).getInt();
+            default:
+                throw unsupported("integer");
+        }
+    }
+
+    @Override
+    public Long asLong() {
+        switch (typeOid) {
+            case PgOid.INT8:
+                return ByteBuffer.wrap(value).getLong();
+            case PgOid.OID:
+                return Integer.toUnsignedLong(ByteBuffer.wrap(value).getInt());
+            default:
+                throw unsupported("long");
+        }
+    }
+
+    @Override
+    public Float asFloat() {
+        return ByteBuffer.wrap(value).getFloat();
+    }
+
+    @Override
+    public Double asDouble() {
+        return ByteBuffer.wrap(value).getDouble();
+    }
+
+    @Override
+    public SpecialValueDecimal asDecimal() {
+        final ByteBuffer buffer = ByteBuffer.wrap(value);
+        final short digitCount = buffer.getShort();
+        final short weight = buffer.getShort();
+        final short sign = buffer.getShort();
+        final short displayScale = buffer.getShort();
+
+        switch (sign) {
+            case NUMERIC_NAN:
+                return SpecialValueDecimal.NOT_A_NUMBER;
+            case NUMERIC_PINF:
+                return SpecialValueDecimal.POSITIVE_INF;
+            case NUMERIC_NINF:
+                return SpecialValueDecimal.NEGATIVE_INF;
+            case NUMERIC_POS:
+            case NUMERIC_NEG:
+                break;
+            default:
+                throw new DebeziumException("Invalid sign 0x" + Integer.toHexString(sign & 0xFFFF) + " of a binary numeric value");
+        }
+
+        // the digits are base 10000 and the first one has the given weight
+        BigInteger unscaled = BigInteger.ZERO;
+        for (int i = 0; i < digitCount; i++) {
+            unscaled = unscaled.multiply(NBASE).add(BigInteger.valueOf(buffer.getShort()));
+        }
+        BigDecimal decimal = new BigDecimal(unscaled, -4 * (weight - digitCount + 1));
+        decimal = decimal.setScale(displayScale, RoundingMode.UNNECESSARY);
+        return new SpecialValueDecimal(sign == NUMERIC_NEG ? decimal.negate() : decimal);
+    }
+
+    @Override
+    public LocalDate asLocalDate() {
+        final int days = ByteBuffer.wrap(value).getInt();
+        if (days == Integer.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_LOCAL_DATE;
+        }
+        else if (days == Integer.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_LOCAL_DATE;
+        }
+        return PG_EPOCH_DATE.plusDays(days);
+    }
+
+    @Override
+    public Instant asInstant() {
+        final long micros = ByteBuffer.wrap(value).getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_INSTANT;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_INSTANT;
+        }
+        return PG_EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    @Override
+    public OffsetDateTime asOffsetDateTimeAtUtc() {
+        final long micros = ByteBuffer.wrap(value).getLong();
+        if (micros == Long.MAX_VALUE) {
+            return PostgresValueConverter.POSITIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        else if (micros == Long.MIN_VALUE) {
+            return PostgresValueConverter.NEGATIVE_INFINITY_OFFSET_DATE_TIME;
+        }
+        return PG_EPOCH.plus(micros, ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return value;
+    }
+
+    private DebeziumException unsupported(String target) {
+        return new DebeziumException("Cannot decode a binary value of type OID " + typeOid + " as " + target);
+    }
+}
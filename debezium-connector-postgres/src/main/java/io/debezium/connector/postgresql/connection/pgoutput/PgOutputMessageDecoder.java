@@ -20,6 +20,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,7 @@
 import io.debezium.connector.postgresql.connection.ReplicationMessage.NoopMessage;
 import io.debezium.connector.postgresql.connection.ReplicationMessage.Operation;
 import io.debezium.connector.postgresql.connection.ReplicationStream.ReplicationMessageProcessor;
+import io.debezium.connector.postgresql.connection.ReplicationStreamRestartException;
 import io.debezium.connector.postgresql.connection.TransactionMessage;
 import io.debezium.connector.postgresql.connection.WalPositionLocator;
 import io.debezium.data.Envelope;
@@ -80,6 +82,44 @@ public class PgOutputMessageDecoder extends AbstractMessageDecoder {
      */
     private Long transactionId;
 
+    /**
+     * The in-progress transactions streamed by the server, keyed by their transaction id
+     */
+    private final Map<Long, StreamedTransactionBuffer> streamedTransactions = new HashMap<>();
+
+    /**
+     * The number of bytes of the messages of all streamed transactions that are kept in memory
+     */
+    private long streamedTransactionsMemoryBytes;
+
+    /**
+     * The transaction id of the current stream block, null outside of a stream block
+     */
+    private Long streamingTransactionId;
+
+    /**
+     * The LSN of the buffered message currently being replayed, null when no streamed transaction is replayed
+     */
+    private Lsn replayedMessageLsn;
+
+    /**
+     * The LSN and the WAL position locator of the message currently being processed, as supplied to
+     * {@link #shouldMessageBeSkipped(ByteBuffer, Lsn, Lsn, WalPositionLocator)}
+     */
+    private Lsn lastReceivedLsn;
+    private WalPositionLocator walPosition;
+
+    /**
+     * Whether the replication stream was started with column values in binary format
+     */
+    private volatile boolean binaryFormat;
+
+    /**
+     * Set once a column of a type that cannot be decoded from binary format was received while the replication stream
+     * sends values in binary format, so that the stream is restarted with text format
+     */
+    private volatile boolean binaryFormatDisabled;
+
     public enum MessageType {
         RELATION,
         BEGIN,
@@ -90,7 +130,11 @@ public enum MessageType {
         TYPE,
         ORIGIN,
         TRUNCATE,
-        LOGICAL_DECODING_MESSAGE;
+        LOGICAL_DECODING_MESSAGE,
+        STREAM_START,
+        STREAM_STOP,
+        STREAM_COMMIT,
+        STREAM_ABORT;
 
         public static MessageType forType(char type) {
             switch (type) {
@@ -114,6 +158,14 @@ public static MessageType forType(char type) {
                     return TRUNCATE;
                 case 'M':
                     return LOGICAL_DECODING_MESSAGE;
+                case 'S':
+                    return STREAM_START;
+                case 'E':
+                    return STREAM_STOP;
+                case 'c':
+                    return STREAM_COMMIT;
+                case 'A':
+                    return STREAM_ABORT;
                 default:
                     throw new IllegalArgumentException("Unsupported message type: " + type);
             }
@@ -130,6 +182,8 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
         // Cache position as we're going to peak at the first byte to determine message type
         // We need to reprocess all BEGIN/COMMIT messages regardless.
         int position = buffer.position();
+        this.lastReceivedLsn = lastReceivedLsn;
+        this.walPosition = walPosition;
         try {
             MessageType type = MessageType.forType((char) buffer.get());
             LOGGER.trace("Message Type: {}", type);
@@ -145,9 +199,21 @@ public boolean shouldMessageBeSkipped(ByteBuffer buffer, Lsn lastReceivedLsn, Ls
                     }
                     // else delegate to super.shouldMessageBeSkipped
                     break;
+                case STREAM_START:
+                case STREAM_STOP:
+                case STREAM_COMMIT:
+                case STREAM_ABORT:
+                    // These messages delimit the chunks of streamed in-progress transactions
+                    LOGGER.trace("{} messages are always processed", type);
+                    return false;
                 default:
                     // call super.shouldMessageBeSkipped for rest of the types
             }
+            if (streamingTransactionId != null) {
+                // Messages of a streamed transaction are buffered and checked when the transaction is replayed
+                // on commit, so that they are filtered in the same order in which they are emitted
+                return false;
+            }
             final boolean candidateForSkipping = super.shouldMessageBeSkipped(buffer, lastReceivedLsn, startLsn, walPosition);
             switch (type) {
                 case COMMIT:
@@ -199,6 +265,31 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
         }
 
         final MessageType messageType = MessageType.forType((char) buffer.get());
+        if (streamingTransactionId != null && isStreamedTransactionMessage(messageType)) {
+            bufferStreamedMessage(messageType, buffer);
+            return;
+        }
+        switch (messageType) {
+            case STREAM_START:
+                handleStreamStartMessage(buffer);
+                break;
+            case STREAM_STOP:
+                handleStreamStopMessage();
+                break;
+            case STREAM_COMMIT:
+                handleStreamCommitMessage(buffer, processor, typeRegistry);
+                break;
+            case STREAM_ABORT:
+                handleStreamAbortMessage(buffer);
+                break;
+            default:
+                handleMessage(messageType, buffer, processor, typeRegistry);
+                break;
+        }
+    }
+
+    private void handleMessage(MessageType messageType, ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
         switch (messageType) {
             case BEGIN:
                 handleBeginMessage(buffer, processor);
@@ -238,19 +329,143 @@ public void processNotEmptyMessage(ByteBuffer buffer, ReplicationMessageProcesso
         }
     }
 
+    @Override
+    public Lsn getReplayedMessageLsn() {
+        return replayedMessageLsn;
+    }
+
     @Override
     public ChainedLogicalStreamBuilder defaultOptions(ChainedLogicalStreamBuilder builder, Function<Integer, Boolean> hasMinimumServerVersion) {
-        builder = builder.withSlotOption("proto_version", 1)
+        // the server streams in-progress transactions from their first segment again after the stream is (re)started
+        resetStreamedTransactions();
+        binaryFormat = false;
+
+        final boolean streaming = decoderContext.getConfig().isPgOutputStreaming() && hasMinimumServerVersion.apply(140000);
+        if (decoderContext.getConfig().isPgOutputStreaming() && !streaming) {
+            LOGGER.warn("Streaming of in-progress transactions requires PostgreSQL 14 or later, transactions are received on commit");
+        }
+
+        // protocol version 2 is required for streaming of in-progress transactions
+        builder = builder.withSlotOption("proto_version", streaming ? 2 : 1)
                 .withSlotOption("publication_names", decoderContext.getConfig().publicationName());
 
         // DBZ-4374 Use enum once the driver got updated
         if (hasMinimumServerVersion.apply(140000)) {
             builder = builder.withSlotOption("messages", true);
+
+            if (streaming) {
+                LOGGER.info("Requesting streaming of in-progress transactions");
+                builder = builder.withSlotOption("streaming", true);
+            }
+
+            if (decoderContext.getConfig().isPgOutputBinary()) {
+                if (binaryFormatDisabled) {
+                    LOGGER.info("Binary format requested but a captured column cannot be decoded from binary format, using text format");
+                }
+                else if (isBinaryFormatSupportedForCapturedTables()) {
+                    LOGGER.info("Requesting column values in binary format");
+                    builder = builder.withSlotOption("binary", true);
+                    binaryFormat = true;
+                }
+                else {
+                    LOGGER.info("Binary format requested but not supported for all captured columns, using text format");
+                }
+            }
         }
 
         return builder;
     }
 
+    /**
+     * Makes the replication stream restart with column values in text format.
+     */
+    private void disableBinaryFormat(TableId tableId, String columnName, String typeName) {
+        binaryFormatDisabled = true;
+        throw new ReplicationStreamRestartException("Column '" + columnName + "' of table '" + tableId + "' has type '" + typeName
+                + "' that cannot be decoded from binary format");
+    }
+
+    private void resetStreamedTransactions() {
+        streamedTransactions.values().forEach(StreamedTransactionBuffer::close);
+        streamedTransactions.clear();
+        streamedTransactionsMemoryBytes = 0;
+        streamingTransactionId = null;
+    }
+
+    /**
+     * Removes the buffer of the given streamed transaction, the caller is responsible for closing it.
+     *
+     * @return the buffer of the transaction or {@code null} if no messages of the transaction have been received
+     */
+    private StreamedTransactionBuffer removeStreamedTransaction(long xid) {
+        final StreamedTransactionBuffer transaction = streamedTransactions.remove(xid);
+        if (transaction != null) {
+            streamedTransactionsMemoryBytes -= transaction.getMemoryBytes();
+        }
+        return transaction;
+    }
+
+    /**
+     * Spills the buffers of the streamed transactions that use the most memory until the messages of all streamed
+     * transactions kept in memory fit the configured buffer size.
+     */
+    private void spillStreamedTransactions() {
+        final long maxMemoryBytes = decoderContext.getConfig().pgOutputStreamingBufferMemoryBytes();
+        while (streamedTransactionsMemoryBytes > maxMemoryBytes) {
+            StreamedTransactionBuffer largest = null;
+            for (StreamedTransactionBuffer transaction : streamedTransactions.values()) {
+                if (largest == null || transaction.getMemoryBytes() > largest.getMemoryBytes()) {
+                    largest = transaction;
+                }
+            }
+            if (largest == null || largest.getMemoryBytes() == 0) {
+                break;
+            }
+            streamedTransactionsMemoryBytes -= largest.spill();
+        }
+    }
+
+    /**
+     * The server sends all columns in binary format once requested, so binary format can only be used if the
+     * connector is able to decode the type of every captured column.
+     */
+    private boolean isBinaryFormatSupportedForCapturedTables() {
+        if (connection == null) {
+            return false;
+        }
+        final TypeRegistry typeRegistry = connection.getTypeRegistry();
+        for (TableId tableId : decoderContext.getSchema().tableIds()) {
+            final Table table = decoderContext.getSchema().tableFor(tableId);
+            if (table == null) {
+                continue;
+            }
+            for (io.debezium.relational.Column column : table.columns()) {
+                final PostgresType type = typeRegistry.get(column.typeName());
+                if (!PgOutputBinaryColumnValue.isSupported(type)) {
+                    LOGGER.info("Column '{}' of table '{}' has type '{}' that cannot be decoded from binary format", column.name(), tableId, column.typeName());
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStreamedTransactionMessage(MessageType messageType) {
+        switch (messageType) {
+            case RELATION:
+            case TYPE:
+            case ORIGIN:
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+            case TRUNCATE:
+            case LOGICAL_DECODING_MESSAGE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private boolean isTruncateEventsIncluded() {
         return !decoderContext.getConfig().getSkippedOperations().contains(Envelope.Operation.TRUNCATE);
     }
@@ -293,6 +508,164 @@ private void handleCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor
         processor.process(new TransactionMessage(Operation.COMMIT, transactionId, commitTimestamp));
     }
 
+    /**
+     * Callback handler for the 'S' stream start message, which starts a block of messages of the in-progress
+     * transaction that is being streamed.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamStartMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final boolean firstSegment = buffer.get() == 1;
+
+        LOGGER.trace("Event: {}", MessageType.STREAM_START);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("First segment: {}", firstSegment);
+
+        if (firstSegment) {
+            // the transaction is streamed from its beginning again, e.g. after a reconnect
+            final StreamedTransactionBuffer previous = removeStreamedTransaction(xid);
+            if (previous != null) {
+                previous.close();
+            }
+            streamedTransactions.put(xid, new StreamedTransactionBuffer(xid));
+        }
+        else if (!streamedTransactions.containsKey(xid)) {
+            throw new DebeziumException("Received a subsequent stream segment of transaction " + xid + " whose first segment has not been received");
+        }
+        streamingTransactionId = xid;
+    }
+
+    /**
+     * Callback handler for the 'E' stream stop message, which ends a block of messages of a streamed transaction.
+     */
+    private void handleStreamStopMessage() {
+        LOGGER.trace("Event: {}", MessageType.STREAM_STOP);
+        LOGGER.trace("XID of transaction: {}", streamingTransactionId);
+        streamingTransactionId = null;
+    }
+
+    /**
+     * Buffers a message received within a stream block until its transaction completes.
+     * Such messages carry the id of the (sub-)transaction right after the message type; it is not stored
+     * so that the buffered message has the same layout as a message of a transaction that is not streamed.
+     *
+     * @param messageType The type of the message
+     * @param buffer The replication stream buffer, positioned after the message type
+     */
+    private void bufferStreamedMessage(MessageType messageType, ByteBuffer buffer) {
+        final byte type = buffer.get(buffer.position() - 1);
+        // origin messages are sent at the beginning of the stream and do not carry a transaction id
+        final long subXid = messageType == MessageType.ORIGIN ? streamingTransactionId : Integer.toUnsignedLong(buffer.getInt());
+        if (messageType == MessageType.TYPE) {
+            LOGGER.trace("Message Type {} skipped, not processed.", messageType);
+            return;
+        }
+
+        final byte[] message = new byte[buffer.remaining() + 1];
+        message[0] = type;
+        buffer.get(message, 1, buffer.remaining());
+
+        LOGGER.trace("Buffering {} message of (sub-)transaction {} of streamed transaction {}", messageType, subXid, streamingTransactionId);
+        streamedTransactionsMemoryBytes += streamedTransactions.get(streamingTransactionId).add(lastReceivedLsn, subXid, message);
+        spillStreamedTransactions();
+    }
+
+    /**
+     * Callback handler for the 'c' stream commit message. The buffered messages of the transaction are
+     * replayed as if the transaction had been received on commit.
+     *
+     * @param buffer The replication stream buffer
+     * @param processor The replication message processor
+     * @param typeRegistry The postgres type registry
+     */
+    private void handleStreamCommitMessage(ByteBuffer buffer, ReplicationMessageProcessor processor, TypeRegistry typeRegistry)
+            throws SQLException, InterruptedException {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        int flags = buffer.get(); // flags, currently unused
+        final Lsn lsn = Lsn.valueOf(buffer.getLong()); // LSN of the commit
+        final Lsn endLsn = Lsn.valueOf(buffer.getLong()); // End LSN of the transaction
+        final Instant commitTimestamp = PG_EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+
+        LOGGER.trace("Event: {}", MessageType.STREAM_COMMIT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("Flags: {} (currently unused and most likely 0)", flags);
+        LOGGER.trace("Commit LSN: {}", lsn);
+        LOGGER.trace("End LSN of transaction: {}", endLsn);
+        LOGGER.trace("Commit timestamp of transaction: {}", commitTimestamp);
+
+        this.transactionId = xid;
+        this.commitTimestamp = commitTimestamp;
+
+        final StreamedTransactionBuffer transaction = removeStreamedTransaction(xid);
+        if (transaction == null) {
+            LOGGER.warn("Received commit of streamed transaction {} without any of its messages", xid);
+            processor.process(new TransactionMessage(Operation.BEGIN, xid, commitTimestamp));
+        }
+        else {
+            LOGGER.debug("Replaying {} messages of streamed transaction {}{}", transaction.getMessageCount(), xid,
+                    transaction.isSpilled() ? " from spill file" : "");
+            try {
+                replayedMessageLsn = transaction.getFirstLsn();
+                processor.process(new TransactionMessage(Operation.BEGIN, xid, commitTimestamp));
+                transaction.replay((messageLsn, message) -> {
+                    replayedMessageLsn = messageLsn;
+                    final ByteBuffer messageBuffer = ByteBuffer.wrap(message);
+                    final MessageType messageType = MessageType.forType((char) messageBuffer.get());
+                    if (isReplayedMessageSkipped(messageType, messageLsn)) {
+                        return;
+                    }
+                    handleMessage(messageType, messageBuffer, processor, typeRegistry);
+                });
+            }
+            finally {
+                replayedMessageLsn = null;
+                transaction.close();
+            }
+        }
+        processor.process(new TransactionMessage(Operation.COMMIT, xid, commitTimestamp));
+    }
+
+    /**
+     * Applies the filtering of {@link #shouldMessageBeSkipped(ByteBuffer, Lsn, Lsn, WalPositionLocator)} to a
+     * replayed message of a streamed transaction.
+     */
+    private boolean isReplayedMessageSkipped(MessageType messageType, Lsn messageLsn) {
+        if (messageType == MessageType.RELATION || messageType == MessageType.ORIGIN) {
+            return false;
+        }
+        return walPosition != null && walPosition.skipMessage(messageLsn);
+    }
+
+    /**
+     * Callback handler for the 'A' stream abort message, which discards either the whole streamed transaction
+     * or one of its sub-transactions.
+     *
+     * @param buffer The replication stream buffer
+     */
+    private void handleStreamAbortMessage(ByteBuffer buffer) {
+        final long xid = Integer.toUnsignedLong(buffer.getInt());
+        final long subXid = Integer.toUnsignedLong(buffer.getInt());
+
+        LOGGER.trace("Event: {}", MessageType.STREAM_ABORT);
+        LOGGER.trace("XID of transaction: {}", xid);
+        LOGGER.trace("XID of aborted sub-transaction: {}", subXid);
+
+        if (xid == subXid) {
+            final StreamedTransactionBuffer transaction = removeStreamedTransaction(xid);
+            if (transaction != null) {
+                LOGGER.debug("Discarding {} messages of aborted streamed transaction {}", transaction.getMessageCount(), xid);
+                transaction.close();
+            }
+        }
+        else {
+            final StreamedTransactionBuffer transaction = streamedTransactions.get(xid);
+            if (transaction != null) {
+                transaction.abortSubTransaction(subXid);
+            }
+        }
+    }
+
     /**
      * Callback handler for the 'O' origin replication message.
      * The origin message indicates that the transaction originated from another server
@@ -372,7 +745,13 @@ private void handleRelationMessage(ByteBuffer buffer, TypeRegistry typeRegistry)
                                 tableId, columnName));
             }
 
+            // an enum or domain type may have been altered since it was registered, e.g. by adding an enum value
+            typeRegistry.revalidate(columnType);
             final PostgresType postgresType = typeRegistry.get(columnType);
+            if (binaryFormat && !PgOutputBinaryColumnValue.isSupported(postgresType)) {
+                // e.g. a column added after the stream was started; the server sends the values of all columns in binary format
+                disableBinaryFormat(tableId, columnName, postgresType.getName());
+            }
             boolean key = isColumnInPrimaryKey(schemaName, tableName, columnName, primaryKeyColumns);
 
             Boolean optional = columnOptionality.get(columnName);
@@ -739,10 +1118,20 @@ private static String readString(ByteBuffer buffer) {
      * @return the column value as a string read from the replication stream
      */
     private static String readColumnValueAsString(ByteBuffer buffer) {
+        return new String(readColumnValueAsBytes(buffer), Charset.forName("UTF-8"));
+    }
+
+    /**
+     * Reads the replication stream where the column stream specifies a length followed by the value.
+     *
+     * @param buffer The replication stream buffer
+     * @return the raw column value read from the replication stream
+     */
+    private static byte[] readColumnValueAsBytes(ByteBuffer buffer) {
         int length = buffer.getInt();
         byte[] value = new byte[length];
         buffer.get(value, 0, length);
-        return new String(value, Charset.forName("UTF-8"));
+        return value;
     }
 
     /**
@@ -753,7 +1142,7 @@ private static String readColumnValueAsString(ByteBuffer buffer) {
      * @param table The database table
      * @return list of replication message columns
      */
-    private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
+    private List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer, TypeRegistry typeRegistry, Table table) {
         // Read number of the columns
         short numberOfColumns = buffer.getShort();
 
@@ -771,6 +1160,7 @@ private static List<Column> resolveColumnsFromStreamTupleData(ByteBuffer buffer,
 
             // Read the sub-message type
             // 't' : Value is represented as text
+            // 'b' : Value is represented in binary format
             // 'u' : An unchanged TOAST-ed value, actual value is not sent.
             // 'n' : Value is null.
             char type = (char) buffer.get();
@@ -789,6 +1179,24 @@ public String toString() {
                     }
                 };
             }
+            else if (type == 'b') {
+                if (!PgOutputBinaryColumnValue.isSupported(columnType)) {
+                    disableBinaryFormat(table.id(), columnName, typeExpression);
+                }
+                final byte[] value = readColumnValueAsBytes(buffer);
+                replicationMessageColumn = new AbstractReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
+                    @Override
+                    public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDatatypes) {
+                        return PgOutputReplicationMessage.getBinaryValue(columnName, columnType, typeExpression, value, connection, includeUnknownDatatypes,
+                                typeRegistry);
+                    }
+
+                    @Override
+                    public String toString() {
+                        return columnName + "(" + typeExpression + ")=<binary " + value.length + " bytes>";
+                    }
+                };
+            }
             else if (type == 'u') {
                 replicationMessageColumn = new UnchangedToastedReplicationMessageColumn(columnName, columnType, typeExpression, optional) {
                     @Override
@@ -821,6 +1229,7 @@ public Object getValue(PgConnectionSupplier connection, boolean includeUnknownDa
 
     @Override
     public void close() {
+        resetStreamedTransactions();
         if (connection != null) {
             connection.close();
         }
@@ -0,0 +1,217 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * Buffers the messages of an in-progress transaction that is streamed by the pgoutput plug-in until the
+ * transaction is either committed or aborted. Messages are kept in memory until the buffer is {@link #spill() spilled};
+ * after that all messages of the transaction are written to a temporary file.
+ */
+class StreamedTransactionBuffer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamedTransactionBuffer.class);
+
+    private final long transactionId;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<Long> abortedSubTransactions = new HashSet<>();
+
+    private long memoryBytes;
+    private long messageCount;
+    private Lsn firstLsn;
+    private Path spillFile;
+    private DataOutputStream spillOutput;
+
+    StreamedTransactionBuffer(long transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    /**
+     * Consumer of the buffered messages of a committed transaction.
+     */
+    @FunctionalInterface
+    interface MessageConsumer {
+        void accept(Lsn lsn, byte[] message) throws SQLException, InterruptedException;
+    }
+
+    /**
+     * Adds a message of the transaction or of one of its sub-transactions.
+     *
+     * @param lsn the LSN at which the message was received
+     * @param subTransactionId the (sub-)transaction the message belongs to
+     * @param message the message content, starting with the message type
+     * @return the number of bytes by which the memory used by the buffer has grown
+     */
+    long add(Lsn lsn, long subTransactionId, byte[] message) {
+        if (firstLsn == null) {
+            firstLsn = lsn;
+        }
+        messageCount++;
+
+        if (spillOutput == null) {
+            entries.add(new Entry(lsn, subTransactionId, message));
+            memoryBytes += message.length;
+            return message.length;
+        }
+        write(lsn, subTransactionId, message);
+        return 0;
+    }
+
+    /**
+     * Discards all messages of the given sub-transaction that have been or will be added.
+     */
+    void abortSubTransaction(long subTransactionId) {
+        abortedSubTransactions.add(subTransactionId);
+    }
+
+    /**
+     * Passes all messages that do not belong to an aborted sub-transaction to the consumer, in the order they
+     * have been added.
+     */
+    void replay(MessageConsumer consumer) throws SQLException, InterruptedException {
+        if (spillOutput != null) {
+            try {
+                spillOutput.flush();
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to write to spill file '" + spillFile + "' of streamed transaction " + transactionId, e);
+            }
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)))) {
+                while (true) {
+                    final long lsn;
+                    try {
+                        lsn = input.readLong();
+                    }
+                    catch (EOFException e) {
+                        break;
+                    }
+                    final long subTransactionId = input.readLong();
+                    final byte[] message = new byte[input.readInt()];
+                    input.readFully(message);
+                    if (!abortedSubTransactions.contains(subTransactionId)) {
+                        consumer.accept(Lsn.valueOf(lsn), message);
+                    }
+                }
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to read spill file '" + spillFile + "' of streamed transaction " + transactionId, e);
+            }
+        }
+        for (Entry entry : entries) {
+            if (!abortedSubTransactions.contains(entry.subTransactionId)) {
+                consumer.accept(entry.lsn, entry.message);
+            }
+        }
+    }
+
+    /**
+     * @return the LSN of the first message of the transaction or {@code null} if no message has been added
+     */
+    Lsn getFirstLsn() {
+        return firstLsn;
+    }
+
+    long getMessageCount() {
+        return messageCount;
+    }
+
+    boolean isSpilled() {
+        return spillOutput != null;
+    }
+
+    /**
+     * @return the number of bytes of the messages kept in memory
+     */
+    long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * Writes the messages kept in memory, and all messages added later, to a temporary file.
+     *
+     * @return the number of bytes of memory released
+     */
+    long spill() {
+        if (spillOutput != null) {
+            return 0;
+        }
+        try {
+            spillFile = Files.createTempFile("debezium-pgoutput-" + transactionId + "-", ".bin");
+            spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to create spill file for streamed transaction " + transactionId, e);
+        }
+        LOGGER.debug("Spilling {} bytes of streamed transaction {} to '{}'", memoryBytes, transactionId, spillFile);
+
+        for (Entry entry : entries) {
+            write(entry.lsn, entry.subTransactionId, entry.message);
+        }
+        entries.clear();
+        final long released = memoryBytes;
+        memoryBytes = 0;
+        return released;
+    }
+
+    private void write(Lsn lsn, long subTransactionId, byte[] message) {
+        try {
+            spillOutput.writeLong(lsn.asLong());
+            spillOutput.writeLong(subTransactionId);
+            spillOutput.writeInt(message.length);
+            spillOutput.write(message);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to write to spill file '" + spillFile + "' of streamed transaction " + transactionId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        entries.clear();
+        memoryBytes = 0;
+        if (spillOutput != null) {
+            try {
+                spillOutput.close();
+                Files.deleteIfExists(spillFile);
+            }
+            catch (IOException e) {
+                LOGGER.warn("Failed to delete spill file '{}' of streamed transaction {}", spillFile, transactionId, e);
+            }
+            spillOutput = null;
+        }
+    }
+
+    private static class Entry {
+        private final Lsn lsn;
+        private final long subTransactionId;
+        private final byte[] message;
+
+        Entry(Lsn lsn, long subTransactionId, byte[] message) {
+            this.lsn = lsn;
+            this.subTransactionId = subTransactionId;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.postgresql.PostgresConnectorConfig.SnapshotReadMethod;
+
+/**
+ * PostgreSQL chunked table snapshot integration tests, reading the chunks with binary {@code COPY}.
+ */
+public class PostgresBinaryCopyChunkedSnapshotIT extends PostgresChunkedSnapshotIT {
+
+    @Override
+    protected Configuration.Builder getConfig() {
+        return super.getConfig().with(PostgresConnectorConfig.SNAPSHOT_READ_METHOD, SnapshotReadMethod.COPY_BINARY);
+    }
+}
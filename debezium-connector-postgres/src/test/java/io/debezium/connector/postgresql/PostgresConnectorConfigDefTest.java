@@ -6,11 +6,17 @@
 package io.debezium.connector.postgresql;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import io.debezium.config.ConfigDefinitionMetadataTest;
 import io.debezium.config.Configuration;
+import io.debezium.config.ConfigurationNames;
+import io.debezium.relational.TableId;
 
 public class PostgresConnectorConfigDefTest extends ConfigDefinitionMetadataTest {
 
@@ -53,4 +59,110 @@ void shouldSetReplicaAutoSetRegExValue() {
 
         assertThat((problemCount == 0)).isTrue();
     }
+
+    @Test
+    void shouldDeriveSlotAndPublicationNamesForMultipleSlots() {
+        final PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SLOT_NAME, "dbz")
+                .with(PostgresConnectorConfig.PUBLICATION_NAME, "dbz_pub")
+                .with(PostgresConnectorConfig.SLOT_COUNT, 4)
+                .with(PostgresConnectorConfig.SLOT_INDEX, 2)
+                .build());
+
+        assertThat(config.isMultiSlot()).isTrue();
+        assertThat(config.slotName()).isEqualTo("dbz_2");
+        assertThat(config.publicationName()).isEqualTo("dbz_pub_2");
+    }
+
+    @Test
+    void shouldAssignEachTableToExactlyOneSlot() {
+        final int slotCount = 3;
+        final List<TableId> tableIds = List.of(
+                new TableId(null, "public", "a"),
+                new TableId(null, "public", "b"),
+                new TableId(null, "s1", "orders"),
+                new TableId(null, "s2", "customers"),
+                new TableId(null, "s2", "products"));
+
+        for (TableId tableId : tableIds) {
+            int assignments = 0;
+            for (int slotIndex = 0; slotIndex < slotCount; slotIndex++) {
+                final PostgresConnectorConfig config = new PostgresConnectorConfig(TestHelper.defaultConfig()
+                        .with(PostgresConnectorConfig.SLOT_COUNT, slotCount)
+                        .with(PostgresConnectorConfig.SLOT_INDEX, slotIndex)
+                        .build());
+                if (config.getTableFilters().dataCollectionFilter().isIncluded(tableId)) {
+                    assignments++;
+                }
+            }
+            assertThat(assignments).describedAs("Slot assignments of " + tableId).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldRejectMultipleSlotsWithAllTablesPublication() {
+        final Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SLOT_COUNT, 2)
+                .with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.ALL_TABLES)
+                .build();
+
+        assertThat(config.validate(PostgresConnectorConfig.ALL_FIELDS).get(PostgresConnectorConfig.SLOT_COUNT.name()).errorMessages()).isNotEmpty();
+    }
+
+    @Test
+    void shouldRejectMultipleSlotsWithoutFilteredPublicationOrWithTransactionMetadata() {
+        final Configuration.Builder filtered = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SLOT_COUNT, 2)
+                .with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.FILTERED);
+        assertThat(filtered.build().validate(PostgresConnectorConfig.ALL_FIELDS).get(PostgresConnectorConfig.SLOT_COUNT.name()).errorMessages()).isEmpty();
+
+        final Configuration disabled = filtered.with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.DISABLED).build();
+        assertThat(disabled.validate(PostgresConnectorConfig.ALL_FIELDS).get(PostgresConnectorConfig.SLOT_COUNT.name()).errorMessages()).hasSize(1);
+
+        final Configuration transactionMetadata = filtered.with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.FILTERED)
+                .with(PostgresConnectorConfig.PROVIDE_TRANSACTION_METADATA, true)
+                .build();
+        assertThat(transactionMetadata.validate(PostgresConnectorConfig.ALL_FIELDS).get(PostgresConnectorConfig.SLOT_COUNT.name()).errorMessages()).hasSize(1);
+    }
+
+    @Test
+    void shouldValidateAllDerivedSlotNames() {
+        // the names of slots 0 to 9 are valid, but the name of slot 10 exceeds the maximum length of 63 characters
+        final Configuration config = TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SLOT_NAME, "s".repeat(61))
+                .with(PostgresConnectorConfig.SLOT_COUNT, 11)
+                .with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.FILTERED)
+                .build();
+
+        assertThat(config.validate(PostgresConnectorConfig.ALL_FIELDS).get(PostgresConnectorConfig.SLOT_COUNT.name()).errorMessages())
+                .singleElement().asString().contains("s".repeat(61) + "_10");
+    }
+
+    @Test
+    void shouldStartOneTaskPerSlot() {
+        final PostgresConnector connector = new PostgresConnector();
+        connector.start(TestHelper.defaultConfig()
+                .with(PostgresConnectorConfig.SLOT_NAME, "dbz")
+                .with(PostgresConnectorConfig.PUBLICATION_NAME, "dbz_pub")
+                .with(PostgresConnectorConfig.SLOT_COUNT, 3)
+                .with(PostgresConnectorConfig.PUBLICATION_AUTOCREATE_MODE, PostgresConnectorConfig.AutoCreateMode.FILTERED)
+                .build()
+                .asMap());
+
+        final List<Map<String, String>> taskConfigs = connector.taskConfigs(4);
+        assertThat(taskConfigs).hasSize(3);
+        for (int slotIndex = 0; slotIndex < 3; slotIndex++) {
+            final PostgresConnectorConfig config = new PostgresConnectorConfig(Configuration.from(taskConfigs.get(slotIndex)));
+            assertThat(config.slotIndex()).isEqualTo(slotIndex);
+            assertThat(config.slotName()).isEqualTo("dbz_" + slotIndex);
+            assertThat(config.publicationName()).isEqualTo("dbz_pub_" + slotIndex);
+            assertThat(taskConfigs.get(slotIndex).get(ConfigurationNames.TASK_ID_PROPERTY_NAME)).isEqualTo(String.valueOf(slotIndex));
+        }
+
+        assertThatThrownBy(() -> connector.taskConfigs(2)).isInstanceOf(IllegalArgumentException.class);
+
+        connector.start(TestHelper.defaultConfig().build().asMap());
+        assertThat(connector.taskConfigs(4)).hasSize(1);
+    }
+
 }
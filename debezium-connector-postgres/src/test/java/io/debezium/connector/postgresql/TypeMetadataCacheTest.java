@@ -0,0 +1,56 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TypeMetadataCacheTest {
+
+    private final TypeMetadataCache cache = new TypeMetadataCache();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldLoadTypesOnlyOncePerCatalogVersion() throws Exception {
+        final List<TypeMetadataCache.TypeMetadata> first = cache.get("localhost:5432/tenant", "v1", this::load);
+        final List<TypeMetadataCache.TypeMetadata> second = cache.get("localhost:5432/tenant", "v1", this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.get("localhost:5432/other", "v1", this::load);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReloadTypesOfChangedCatalogVersion() throws Exception {
+        final List<TypeMetadataCache.TypeMetadata> first = cache.get("localhost:5432/tenant", "v1", this::load);
+        final List<TypeMetadataCache.TypeMetadata> second = cache.get("localhost:5432/tenant", "v2", this::load);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.get("localhost:5432/tenant", "v2", this::load)).isSameAs(second);
+    }
+
+    @Test
+    void shouldReloadTypesAfterInvalidation() throws Exception {
+        cache.get("localhost:5432/tenant", "v1", this::load);
+        cache.invalidate("localhost:5432/tenant");
+        cache.get("localhost:5432/tenant", "v1", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private List<TypeMetadataCache.TypeMetadata> load() {
+        loads.incrementAndGet();
+        return List.of(new TypeMetadataCache.TypeMetadata(23, "int4", Types.INTEGER, -1, "N", null, 0, 0));
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.relational.Column;
+import io.debezium.util.ColumnUtils;
+
+public class PostgresBinaryCopyRowReaderTest {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0 };
+
+    @Test
+    public void shouldDecodeRowsIntoColumnPositions() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        final UUID uuid = UUID.randomUUID();
+
+        out.writeShort(4);
+        field(out, 8).writeLong(1001L);
+        text(out, "Sally Thomas é");
+        field(out, 16).writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+        out.writeInt(-1);
+
+        out.writeShort(4);
+        field(out, 8).writeLong(1002L);
+        out.writeInt(-1);
+        out.writeInt(-1);
+        field(out, 1).writeByte(1);
+        out.writeShort(-1);
+
+        // the result set order differs from the table order
+        final ColumnUtils.ColumnArray columns = new ColumnUtils.ColumnArray(new Column[]{
+                column("id", 2), column("name", 1), column("token", 4), column("active", 3) }, 4);
+        try (PostgresBinaryCopyRowReader reader = reader(bytes, columns, PgOid.INT8, PgOid.VARCHAR, PgOid.UUID, PgOid.BOOL)) {
+            assertThat(reader.next()).containsExactly("Sally Thomas é", 1001L, null, uuid);
+            assertThat(reader.next()).containsExactly(null, 1002L, true, null);
+            assertThat(reader.next()).isNull();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldDecodeTemporalValuesLikeTheDriver() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+
+        // 2024-02-29 and 2024-02-29 13:45:30.000123, relative to 2000-01-01
+        final long days = LocalDate.of(2024, 2, 29).toEpochDay() - LocalDate.of(2000, 1, 1).toEpochDay();
+        final long micros = days * 86_400_000_000L + ((13 * 60 + 45) * 60 + 30) * 1_000_000L + 123;
+        out.writeShort(5);
+        field(out, 4).writeInt((int) days);
+        field(out, 8).writeLong(micros);
+        field(out, 8).writeLong(((13 * 60 + 45) * 60 + 30) * 1_000_000L + 500_000);
+        field(out, 8).writeLong(86_400_000_000L);
+        field(out, 8).writeLong(-1L);
+
+        out.writeShort(5);
+        field(out, 4).writeInt(Integer.MAX_VALUE);
+        field(out, 8).writeLong(Long.MIN_VALUE);
+        field(out, 8).writeLong(0L);
+        field(out, 8).writeLong(1L);
+        field(out, 8).writeLong(Long.MAX_VALUE);
+        out.writeShort(-1);
+
+        try (PostgresBinaryCopyRowReader reader = reader(bytes, PgOid.DATE, PgOid.TIMESTAMP, PgOid.TIME, PgOid.TIME, PgOid.TIMESTAMPTZ)) {
+            final Timestamp timestamp = Timestamp.valueOf(LocalDateTime.of(2024, 2, 29, 13, 45, 30, 123_000));
+            assertThat(reader.next()).containsExactly(Date.valueOf(LocalDate.of(2024, 2, 29)), timestamp, "13:45:30.5", "24:00:00",
+                    Timestamp.from(Instant.parse("1999-12-31T23:59:59.999999Z")));
+            assertThat(reader.next()).containsExactly(PostgresValueConverter.POSITIVE_INFINITY_DATE, PostgresValueConverter.NEGATIVE_INFINITY_TIMESTAMP,
+                    "00:00:00", "00:00:00.000001", PostgresValueConverter.POSITIVE_INFINITY_TIMESTAMP);
+        }
+    }
+
+    @Test
+    public void shouldDecodeNumerics() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+
+        out.writeShort(5);
+        // 12345678.9012 as digits 1234 5678 9012 with a weight of 1 and a scale of 4
+        numeric(out, 1, 0x0000, 4, 1234, 5678, 9012);
+        // -0.05 as digit 500 with a weight of -1 and a scale of 2
+        numeric(out, -1, 0x4000, 2, 500);
+        // 0.000
+        numeric(out, 0, 0x0000, 3);
+        // 10000000000000000000000 as digits 1 0000 ... with a weight of 5
+        numeric(out, 5, 0x0000, 0, 1, 0, 0, 0, 0, 0);
+        numeric(out, 0, 0xC000, 0);
+        out.writeShort(-1);
+
+        try (PostgresBinaryCopyRowReader reader = reader(bytes, PgOid.NUMERIC, PgOid.NUMERIC, PgOid.NUMERIC, PgOid.NUMERIC, PgOid.NUMERIC)) {
+            final Object[] row = reader.next();
+            assertThat(((SpecialValueDecimal) row[0]).getDecimalValue()).contains(new BigDecimal("12345678.9012"));
+            assertThat(((SpecialValueDecimal) row[1]).getDecimalValue()).contains(new BigDecimal("-0.05"));
+            assertThat(((SpecialValueDecimal) row[2]).getDecimalValue()).contains(new BigDecimal("0.000"));
+            assertThat(((SpecialValueDecimal) row[3]).getDecimalValue()).contains(new BigDecimal("10000000000000000000000"));
+            assertThat(row[4]).isSameAs(SpecialValueDecimal.NOT_A_NUMBER);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldReadValuesLargerThanTheBuffer() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        final String large = "x".repeat(200_000);
+
+        for (int i = 0; i < 3; i++) {
+            out.writeShort(2);
+            field(out, 4).writeInt(i);
+            text(out, large);
+        }
+        out.writeShort(-1);
+
+        try (PostgresBinaryCopyRowReader reader = reader(bytes, PgOid.INT4, PgOid.TEXT)) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(reader.next()).containsExactly(i, large);
+            }
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    public void shouldFailOnTruncatedStream() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+        out.writeShort(1);
+        out.writeInt(8);
+        out.writeInt(42);
+
+        try (PostgresBinaryCopyRowReader reader = reader(bytes, PgOid.INT8)) {
+            assertThatThrownBy(reader::next).isInstanceOf(SQLException.class);
+        }
+    }
+
+    @Test
+    public void shouldDecodeTimestampsWithTimeZoneBeforeGregorianCutoverLikeTheDriver() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = header(bytes);
+
+        out.writeShort(1);
+        field(out, 8).writeLong((Instant.parse("1500-03-01T12:00:00Z").getEpochSecond() - 946_684_800L) * 1_000_000L + 250);
+        out.writeShort(-1);
+
+        try (PostgresBinaryCopyRowReader reader = reader(bytes, PgOid.TIMESTAMPTZ)) {
+            // the driver reads the date and time output by the database with the Julian calendar
+            final Timestamp expected = Timestamp.from(Instant.parse("1500-03-11T12:00:00Z"));
+            expected.setNanos(250_000);
+            assertThat(reader.next()).containsExactly(expected);
+        }
+    }
+
+    @Test
+    public void shouldRenderChunkBoundariesAsLiterals() throws Exception {
+        final UUID uuid = UUID.randomUUID();
+        assertThat(PostgresBinaryCopyRowReader.toLiterals(connection("on"), new Object[]{ 5L, "O'Brien", new BigDecimal("1.50"), uuid }))
+                .containsExactly("'5'", "'O''Brien'", "'1.50'", "'" + uuid + "'");
+        assertThat(PostgresBinaryCopyRowReader.toLiterals(connection("on"), new Object[]{ 5L, Timestamp.from(Instant.EPOCH) })).isNull();
+        assertThat(PostgresBinaryCopyRowReader.toLiterals(connection("off"), new Object[]{ 5L })).isNull();
+    }
+
+    @Test
+    public void shouldOnlyDecodeTypesReadLikeTheDriver() {
+        assertThat(PostgresBinaryCopyRowReader.decoderFor(PgOid.INT4)).isNotNull();
+        assertThat(PostgresBinaryCopyRowReader.decoderFor(PgOid.MONEY)).isNull();
+        assertThat(PostgresBinaryCopyRowReader.decoderFor(PgOid.JSONB_OID)).isNull();
+        assertThat(PostgresBinaryCopyRowReader.decoderFor(PgOid.INT4_ARRAY)).isNull();
+    }
+
+    private static PostgresBinaryCopyRowReader reader(ByteArrayOutputStream bytes, int... oids) {
+        final Column[] columns = new Column[oids.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = column("c" + i, i + 1);
+        }
+        return reader(bytes, new ColumnUtils.ColumnArray(columns, columns.length), oids);
+    }
+
+    private static PostgresBinaryCopyRowReader reader(ByteArrayOutputStream bytes, ColumnUtils.ColumnArray columns, int... oids) {
+        final PostgresBinaryCopyRowReader.ValueDecoder[] decoders = new PostgresBinaryCopyRowReader.ValueDecoder[oids.length];
+        for (int i = 0; i < oids.length; i++) {
+            decoders[i] = PostgresBinaryCopyRowReader.decoderFor(oids[i]);
+        }
+        return new PostgresBinaryCopyRowReader(new ByteArrayInputStream(bytes.toByteArray()), columns, decoders);
+    }
+
+    private static PostgresConnection connection(String standardConformingStrings) throws SQLException {
+        final PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getParameterStatus("standard_conforming_strings")).thenReturn(standardConformingStrings);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        final PostgresConnection connection = mock(PostgresConnection.class);
+        when(connection.connection()).thenReturn(jdbcConnection);
+        return connection;
+    }
+
+    private static Column column(String name, int position) {
+        return Column.editor().name(name).position(position).create();
+    }
+
+    private static DataOutputStream header(ByteArrayOutputStream bytes) throws IOException {
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.write(SIGNATURE);
+        out.writeInt(0);
+        // a header extension, which is to be skipped
+        out.writeInt(3);
+        out.write(new byte[]{ 1, 2, 3 });
+        return out;
+    }
+
+    private static DataOutputStream field(DataOutputStream out, int length) throws IOException {
+        out.writeInt(length);
+        return out;
+    }
+
+    private static void text(DataOutputStream out, String value) throws IOException {
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static void numeric(DataOutputStream out, int weight, int sign, int scale, int... digits) throws IOException {
+        out.writeInt(8 + digits.length * 2);
+        out.writeShort(digits.length);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(scale);
+        for (int digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+}
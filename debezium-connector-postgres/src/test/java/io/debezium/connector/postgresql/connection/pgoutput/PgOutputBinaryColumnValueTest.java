@@ -0,0 +1,96 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.PostgresValueConverter;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.data.SpecialValueDecimal;
+
+/**
+ * Tests for decoding of binary-format column values in {@link PgOutputBinaryColumnValue}.
+ */
+public class PgOutputBinaryColumnValueTest {
+
+    private static PostgresType type(String name, int oid, int jdbcId) {
+        return new PostgresType.Builder(null, name, oid, jdbcId, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+
+    private static PgOutputBinaryColumnValue value(byte[] bytes, String name, int oid, int jdbcId) {
+        return new PgOutputBinaryColumnValue(bytes, type(name, oid, jdbcId));
+    }
+
+    private static byte[] numeric(int weight, int sign, int displayScale, int... digits) {
+        final ByteBuffer buffer = ByteBuffer.allocate(8 + 2 * digits.length)
+                .putShort((short) digits.length)
+                .putShort((short) weight)
+                .putShort((short) sign)
+                .putShort((short) displayScale);
+        for (int digit : digits) {
+            buffer.putShort((short) digit);
+        }
+        return buffer.array();
+    }
+
+    @Test
+    public void shouldDecodeIntegralTypes() {
+        assertThat(value(ByteBuffer.allocate(2).putShort((short) -12).array(), "int2", PgOid.INT2, Types.SMALLINT).asInteger()).isEqualTo(-12);
+        assertThat(value(ByteBuffer.allocate(4).putInt(123456).array(), "int4", PgOid.INT4, Types.INTEGER).asInteger()).isEqualTo(123456);
+        assertThat(value(ByteBuffer.allocate(8).putLong(Long.MIN_VALUE + 1).array(), "int8", PgOid.INT8, Types.BIGINT).asLong()).isEqualTo(Long.MIN_VALUE + 1);
+        assertThat(value(ByteBuffer.allocate(4).putInt(-1).array(), "oid", PgOid.OID, Types.BIGINT).asLong()).isEqualTo(4294967295L);
+    }
+
+    @Test
+    public void shouldDecodeNumeric() {
+        assertThat(value(numeric(1, 0x0000, 4, 1, 2345, 6789), "numeric", PgOid.NUMERIC, Types.NUMERIC).asDecimal().getDecimalValue())
+                .contains(new BigDecimal("12345.6789"));
+        assertThat(value(numeric(-1, 0x4000, 2, 500), "numeric", PgOid.NUMERIC, Types.NUMERIC).asDecimal().getDecimalValue())
+                .contains(new BigDecimal("-0.05"));
+        assertThat(value(numeric(1, 0x0000, 0, 1), "numeric", PgOid.NUMERIC, Types.NUMERIC).asDecimal().getDecimalValue())
+                .contains(new BigDecimal("10000"));
+        assertThat(value(numeric(0, 0xC000, 0), "numeric", PgOid.NUMERIC, Types.NUMERIC).asDecimal())
+                .isEqualTo(SpecialValueDecimal.NOT_A_NUMBER);
+    }
+
+    @Test
+    public void shouldDecodeTemporalTypes() {
+        assertThat(value(ByteBuffer.allocate(4).putInt(31).array(), "date", PgOid.DATE, Types.DATE).asLocalDate())
+                .isEqualTo(LocalDate.of(2000, 2, 1));
+        assertThat(value(ByteBuffer.allocate(8).putLong(-1_000_000L).array(), "timestamptz", PgOid.TIMESTAMPTZ, Types.TIMESTAMP_WITH_TIMEZONE)
+                .asOffsetDateTimeAtUtc())
+                .isEqualTo(OffsetDateTime.of(1999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC));
+        assertThat(value(ByteBuffer.allocate(8).putLong(Long.MAX_VALUE).array(), "timestamp", PgOid.TIMESTAMP, Types.TIMESTAMP).asInstant())
+                .isEqualTo(PostgresValueConverter.POSITIVE_INFINITY_INSTANT);
+    }
+
+    @Test
+    public void shouldDecodeTextualTypes() {
+        final byte[] jsonb = "\u0001{\"a\": 1}".getBytes(StandardCharsets.UTF_8);
+        assertThat(value(jsonb, "jsonb", PgOid.JSONB_OID, Types.OTHER).asString()).isEqualTo("{\"a\": 1}");
+        assertThat(value(ByteBuffer.allocate(16).putLong(0x123e4567e89b12d3L).putLong(0xa456426614174000L).array(), "uuid", PgOid.UUID, Types.OTHER).asString())
+                .isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(value("żółw".getBytes(StandardCharsets.UTF_8), "text", PgOid.TEXT, Types.VARCHAR).asString()).isEqualTo("żółw");
+    }
+
+    @Test
+    public void shouldReportSupportedTypes() {
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("int4", PgOid.INT4, Types.INTEGER))).isTrue();
+        assertThat(PgOutputBinaryColumnValue.isSupported(type("interval", PgOid.INTERVAL, Types.OTHER))).isFalse();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Types;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationStreamRestartException;
+
+/**
+ * Tests for the fallback of {@link PgOutputMessageDecoder} to text format when a column cannot be decoded from
+ * binary format.
+ */
+public class PgOutputMessageDecoderBinaryFormatTest {
+
+    private TypeRegistry typeRegistry;
+    private PgOutputMessageDecoder decoder;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        final PostgresConnectorConfig config = mock(PostgresConnectorConfig.class);
+        when(config.isPgOutputBinary()).thenReturn(true);
+        when(config.publicationName()).thenReturn("dbz_publication");
+
+        typeRegistry = mock(TypeRegistry.class);
+        final PostgresConnection connection = mock(PostgresConnection.class);
+        when(connection.getTypeRegistry()).thenReturn(typeRegistry);
+        when(connection.connection()).thenReturn(mock(Connection.class));
+
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, mock(PostgresSchema.class)), connection);
+    }
+
+    private static PostgresType type(String name, int oid, int jdbcId) {
+        return new PostgresType.Builder(null, name, oid, jdbcId, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+
+    private static ByteBuffer relationMessage(int relationId, String schema, String table, String column, int typeOid) {
+        final ByteBuffer buffer = ByteBuffer.allocate(256)
+                .put((byte) 'R')
+                .putInt(relationId);
+        putString(buffer, schema);
+        putString(buffer, table);
+        buffer.put((byte) 'd')
+                .putShort((short) 1)
+                .put((byte) 0);
+        putString(buffer, column);
+        buffer.putInt(typeOid)
+                .putInt(-1);
+        return buffer.flip();
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+
+    @Test
+    public void shouldRestartInTextFormatForRelationWithUnsupportedType() throws Exception {
+        when(typeRegistry.get(anyInt())).thenReturn(type("tsvector", PgOid.TSVECTOR_OID, Types.OTHER));
+
+        final ChainedLogicalStreamBuilder binaryBuilder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+        decoder.defaultOptions(binaryBuilder, version -> true);
+        verify(binaryBuilder).withSlotOption("binary", true);
+
+        assertThatThrownBy(() -> decoder.processNotEmptyMessage(relationMessage(1, "s1", "a", "doc", PgOid.TSVECTOR_OID), null, typeRegistry))
+                .isInstanceOf(ReplicationStreamRestartException.class)
+                .hasMessageContaining("doc")
+                .hasMessageContaining("tsvector");
+
+        final ChainedLogicalStreamBuilder textBuilder = mock(ChainedLogicalStreamBuilder.class, RETURNS_SELF);
+        decoder.defaultOptions(textBuilder, version -> true);
+        verify(textBuilder, never()).withSlotOption("binary", true);
+    }
+}
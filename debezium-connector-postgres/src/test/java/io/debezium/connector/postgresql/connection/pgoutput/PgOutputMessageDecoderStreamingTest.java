@@ -0,0 +1,182 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.PostgresConnectorConfig;
+import io.debezium.connector.postgresql.PostgresSchema;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.LogicalDecodingMessage;
+import io.debezium.connector.postgresql.connection.Lsn;
+import io.debezium.connector.postgresql.connection.MessageDecoderContext;
+import io.debezium.connector.postgresql.connection.PostgresConnection;
+import io.debezium.connector.postgresql.connection.ReplicationMessage;
+import io.debezium.connector.postgresql.connection.WalPositionLocator;
+
+/**
+ * Tests for decoding of in-progress transactions streamed by the pgoutput plug-in in {@link PgOutputMessageDecoder}.
+ */
+public class PgOutputMessageDecoderStreamingTest {
+
+    private PostgresConnectorConfig config;
+    private WalPositionLocator walPosition;
+    private PgOutputMessageDecoder decoder;
+    private final List<String> emitted = new ArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        config = mock(PostgresConnectorConfig.class);
+        when(config.isPgOutputStreaming()).thenReturn(true);
+        when(config.pgOutputStreamingBufferMemoryBytes()).thenReturn(1024L);
+
+        walPosition = mock(WalPositionLocator.class);
+        decoder = new PgOutputMessageDecoder(new MessageDecoderContext(config, mock(PostgresSchema.class)), mock(PostgresConnection.class));
+    }
+
+    private void receive(long lsn, ByteBuffer message) throws Exception {
+        if (!decoder.shouldMessageBeSkipped(message, Lsn.valueOf(lsn), Lsn.valueOf(1L), walPosition)) {
+            decoder.processNotEmptyMessage(message, this::emit, mock(TypeRegistry.class));
+        }
+    }
+
+    private void emit(ReplicationMessage message) {
+        final StringBuilder event = new StringBuilder(message.getOperation().name())
+                .append(' ')
+                .append(message.getTransactionId().getAsLong());
+        if (message instanceof LogicalDecodingMessage) {
+            event.append(' ').append(new String(((LogicalDecodingMessage) message).getContent(), StandardCharsets.UTF_8));
+        }
+        emitted.add(event.toString());
+    }
+
+    private static ByteBuffer streamStart(int xid, boolean firstSegment) {
+        return ByteBuffer.allocate(6).put((byte) 'S').putInt(xid).put((byte) (firstSegment ? 1 : 0)).flip();
+    }
+
+    private static ByteBuffer streamStop() {
+        return ByteBuffer.allocate(1).put((byte) 'E').flip();
+    }
+
+    private static ByteBuffer streamCommit(int xid, long lsn) {
+        return ByteBuffer.allocate(30).put((byte) 'c').putInt(xid).put((byte) 0).putLong(lsn).putLong(lsn + 1).putLong(0L).flip();
+    }
+
+    private static ByteBuffer streamAbort(int xid, int subXid) {
+        return ByteBuffer.allocate(9).put((byte) 'A').putInt(xid).putInt(subXid).flip();
+    }
+
+    /**
+     * A transactional logical decoding message of the given (sub-)transaction, as sent within a stream block.
+     */
+    private static ByteBuffer message(int subXid, long lsn, String content) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(22 + bytes.length)
+                .put((byte) 'M')
+                .putInt(subXid)
+                .put((byte) 1)
+                .putLong(lsn)
+                .put((byte) 'p').put((byte) 0)
+                .putInt(bytes.length)
+                .put(bytes)
+                .flip();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, StreamedTransactionBuffer> streamedTransactions() throws Exception {
+        final Field field = PgOutputMessageDecoder.class.getDeclaredField("streamedTransactions");
+        field.setAccessible(true);
+        return (Map<Long, StreamedTransactionBuffer>) field.get(decoder);
+    }
+
+    @Test
+    public void shouldEmitStreamedTransactionOnCommit() throws Exception {
+        receive(10, streamStart(700, true));
+        receive(11, message(700, 11, "a"));
+        receive(12, message(700, 12, "b"));
+        receive(12, streamStop());
+        assertThat(emitted).isEmpty();
+
+        receive(20, streamStart(700, false));
+        receive(21, message(700, 21, "c"));
+        receive(21, streamStop());
+        assertThat(emitted).isEmpty();
+
+        receive(30, streamCommit(700, 30));
+        assertThat(emitted).containsExactly("BEGIN 700", "MESSAGE 700 a", "MESSAGE 700 b", "MESSAGE 700 c", "COMMIT 700");
+        assertThat(streamedTransactions()).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardAbortedTransactionsAndSubTransactions() throws Exception {
+        receive(10, streamStart(700, true));
+        receive(11, message(700, 11, "a"));
+        receive(12, message(701, 12, "b"));
+        receive(13, message(702, 13, "c"));
+        receive(13, streamStop());
+        receive(14, streamStart(800, true));
+        receive(15, message(800, 15, "d"));
+        receive(15, streamStop());
+
+        receive(20, streamAbort(700, 701));
+        receive(21, streamAbort(800, 800));
+        assertThat(streamedTransactions()).containsOnlyKeys(700L);
+
+        receive(30, streamCommit(700, 30));
+        assertThat(emitted).containsExactly("BEGIN 700", "MESSAGE 700 a", "MESSAGE 700 c", "COMMIT 700");
+    }
+
+    @Test
+    public void shouldSkipReplayedMessagesThatWereAlreadyProcessed() throws Exception {
+        when(walPosition.skipMessage(any())).thenAnswer(invocation -> invocation.<Lsn> getArgument(0).asLong() <= 12);
+
+        receive(10, streamStart(700, true));
+        receive(11, message(700, 11, "a"));
+        receive(12, message(700, 12, "b"));
+        receive(13, message(700, 13, "c"));
+        receive(13, streamStop());
+        receive(30, streamCommit(700, 30));
+
+        assertThat(emitted).containsExactly("BEGIN 700", "MESSAGE 700 c", "COMMIT 700");
+    }
+
+    @Test
+    public void shouldSpillLargestTransactionsWhenAllTransactionsExceedBufferSize() throws Exception {
+        when(config.pgOutputStreamingBufferMemoryBytes()).thenReturn(100L);
+        // each buffered message takes 37 bytes, so each transaction fits the buffer size but not both together
+        final String content = "x".repeat(20);
+
+        receive(10, streamStart(700, true));
+        receive(11, message(700, 11, "a" + content));
+        receive(12, message(700, 12, "b" + content));
+        receive(12, streamStop());
+        assertThat(streamedTransactions().get(700L).isSpilled()).isFalse();
+
+        receive(20, streamStart(800, true));
+        receive(21, message(800, 21, "c" + content));
+        receive(21, streamStop());
+        assertThat(streamedTransactions().get(700L).isSpilled()).isTrue();
+        assertThat(streamedTransactions().get(800L).isSpilled()).isFalse();
+
+        receive(30, streamCommit(800, 30));
+        receive(40, streamCommit(700, 40));
+        assertThat(emitted).containsExactly("BEGIN 800", "MESSAGE 800 c" + content, "COMMIT 800",
+                "BEGIN 700", "MESSAGE 700 a" + content, "MESSAGE 700 b" + content, "COMMIT 700");
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.postgresql.connection.pgoutput;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.postgresql.connection.Lsn;
+
+/**
+ * Tests for buffering the messages of streamed transactions in {@link StreamedTransactionBuffer}.
+ */
+public class StreamedTransactionBufferTest {
+
+    private static List<String> replay(StreamedTransactionBuffer buffer) throws Exception {
+        final List<String> replayed = new ArrayList<>();
+        buffer.replay((lsn, message) -> replayed.add(lsn.asLong() + ":" + new String(message)));
+        return replayed;
+    }
+
+    @Test
+    public void shouldReplayMessagesFromMemory() throws Exception {
+        try (StreamedTransactionBuffer buffer = new StreamedTransactionBuffer(100)) {
+            buffer.add(Lsn.valueOf(10L), 100, "I1".getBytes());
+            buffer.add(Lsn.valueOf(20L), 100, "U2".getBytes());
+
+            assertThat(buffer.isSpilled()).isFalse();
+            assertThat(buffer.getFirstLsn()).isEqualTo(Lsn.valueOf(10L));
+            assertThat(replay(buffer)).containsExactly("10:I1", "20:U2");
+        }
+    }
+
+    @Test
+    public void shouldReplayMessagesFromSpillFile() throws Exception {
+        try (StreamedTransactionBuffer buffer = new StreamedTransactionBuffer(100)) {
+            assertThat(buffer.add(Lsn.valueOf(10L), 100, "I1".getBytes())).isEqualTo(2);
+            assertThat(buffer.add(Lsn.valueOf(20L), 100, "I2".getBytes())).isEqualTo(2);
+            assertThat(buffer.isSpilled()).isFalse();
+            assertThat(buffer.getMemoryBytes()).isEqualTo(4);
+
+            assertThat(buffer.spill()).isEqualTo(4);
+            assertThat(buffer.add(Lsn.valueOf(30L), 100, "I3".getBytes())).isZero();
+            buffer.add(Lsn.valueOf(40L), 100, "D4".getBytes());
+
+            assertThat(buffer.isSpilled()).isTrue();
+            assertThat(buffer.getMemoryBytes()).isZero();
+            assertThat(buffer.getMessageCount()).isEqualTo(4);
+            assertThat(replay(buffer)).containsExactly("10:I1", "20:I2", "30:I3", "40:D4");
+        }
+    }
+
+    @Test
+    public void shouldSkipMessagesOfAbortedSubTransactions() throws Exception {
+        try (StreamedTransactionBuffer buffer = new StreamedTransactionBuffer(100)) {
+            buffer.add(Lsn.valueOf(10L), 100, "I1".getBytes());
+            buffer.add(Lsn.valueOf(20L), 101, "I2".getBytes());
+            buffer.spill();
+            buffer.add(Lsn.valueOf(30L), 102, "I3".getBytes());
+            buffer.abortSubTransaction(101);
+
+            assertThat(replay(buffer)).containsExactly("10:I1", "30:I3");
+        }
+    }
+}
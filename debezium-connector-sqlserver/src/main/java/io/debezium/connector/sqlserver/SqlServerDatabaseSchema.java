@@ -45,7 +45,8 @@ public SqlServerDatabaseSchema(SqlServerConnectorConfig connectorConfig, SqlServ
                         connectorConfig.getSourceInfoStructMaker().schema(),
                         connectorConfig.getFieldNamer(),
                         true,
-                        connectorConfig.getEventConvertingFailureHandlingMode()),
+                        connectorConfig.getEventConvertingFailureHandlingMode(),
+                        connectorConfig.getStructGeneratorMode()),
                 false, connectorConfig.getKeyMapper(), taskContext);
     }
 
@@ -64,6 +64,7 @@ public synchronized void unregister() {
     @Override
     public void reset() {
         beans.values().forEach(B::reset);
+        changeEventQueueMetrics.latencyMeter().reset();
     }
 
     @Override
@@ -117,6 +118,27 @@ public long getCurrentQueueSizeInBytes() {
         return changeEventQueueMetrics.currentQueueSizeInBytes();
     }
 
+    @Override
+    public long getNumberOfConflatedEvents() {
+        return changeEventQueueMetrics.conflatedRecords();
+    }
+
+    @Override
+    public double getConflationRatio() {
+        final long conflatable = changeEventQueueMetrics.conflatableRecords();
+        return conflatable == 0 ? 0.0 : (double) changeEventQueueMetrics.conflatedRecords() / conflatable;
+    }
+
+    @Override
+    public Map<String, Long> getStageLatencyMicros() {
+        return changeEventQueueMetrics.latencyMeter().getStageLatencyMicros();
+    }
+
+    @Override
+    public Map<String, Long> getTableLatencyMicros() {
+        return changeEventQueueMetrics.latencyMeter().getTableLatencyMicros();
+    }
+
     protected void onPartitionEvent(SqlServerPartition partition, Consumer<B> handler) {
         B bean = beans.get(partition);
         if (bean == null) {
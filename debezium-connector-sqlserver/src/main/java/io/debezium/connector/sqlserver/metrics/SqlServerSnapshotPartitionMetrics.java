@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.sqlserver.metrics;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
@@ -128,6 +129,10 @@ void chunkProgress(TableId tableId, Long totalChunks, Long completedChunks) {
         snapshotMeter.chunkProgress(tableId, totalChunks, completedChunks);
     }
 
+    void readDurations(TableId tableId, Duration fetchDuration, Duration convertDuration) {
+        snapshotMeter.readDurations(tableId, fetchDuration, convertDuration);
+    }
+
     @Override
     public String getChunkId() {
         return snapshotMeter.getChunkId();
@@ -163,6 +168,16 @@ public Map<String, Long> getTableChunksCompletedCounts() {
         return snapshotMeter.getTableChunksCompletedCounts();
     }
 
+    @Override
+    public Map<String, Long> getTableFetchDurationsInMillis() {
+        return snapshotMeter.getTableFetchDurationsInMillis();
+    }
+
+    @Override
+    public Map<String, Long> getTableConvertDurationsInMillis() {
+        return snapshotMeter.getTableConvertDurationsInMillis();
+    }
+
     @Override
     public void reset() {
         snapshotMeter.reset();
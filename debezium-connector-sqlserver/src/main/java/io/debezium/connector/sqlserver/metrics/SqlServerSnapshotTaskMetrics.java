@@ -5,6 +5,7 @@
  */
 package io.debezium.connector.sqlserver.metrics;
 
+import java.time.Duration;
 import java.util.Collection;
 
 import io.debezium.connector.base.ChangeEventQueueMetrics;
@@ -92,4 +93,9 @@ public void currentChunk(SqlServerPartition partition, String chunkId, Object[]
     public void chunkProgress(SqlServerPartition partition, TableId tableId, long totalChunks, long completedChunks) {
         onPartitionEvent(partition, bean -> bean.chunkProgress(tableId, totalChunks, completedChunks));
     }
+
+    @Override
+    public void readDurations(SqlServerPartition partition, TableId tableId, Duration fetchDuration, Duration convertDuration) {
+        onPartitionEvent(partition, bean -> bean.readDurations(tableId, fetchDuration, convertDuration));
+    }
 }
@@ -11,6 +11,7 @@
 
 import io.debezium.connector.common.CdcSourceTaskContext;
 import io.debezium.data.Envelope;
+import io.debezium.pipeline.meters.LatencyMeter;
 import io.debezium.pipeline.meters.StreamingMeter;
 import io.debezium.pipeline.metrics.CapturedTablesSupplier;
 import io.debezium.pipeline.source.spi.EventMetadataProvider;
@@ -25,9 +26,10 @@ class SqlServerStreamingPartitionMetrics extends AbstractSqlServerPartitionMetri
     SqlServerStreamingPartitionMetrics(CdcSourceTaskContext taskContext,
                                        Map<String, String> tags,
                                        EventMetadataProvider metadataProvider,
-                                       CapturedTablesSupplier capturedTablesSupplier) {
+                                       CapturedTablesSupplier capturedTablesSupplier,
+                                       LatencyMeter latencyMeter) {
         super(taskContext, tags, metadataProvider);
-        streamingMeter = new StreamingMeter(capturedTablesSupplier, metadataProvider);
+        streamingMeter = new StreamingMeter(capturedTablesSupplier, metadataProvider, latencyMeter);
     }
 
     @Override
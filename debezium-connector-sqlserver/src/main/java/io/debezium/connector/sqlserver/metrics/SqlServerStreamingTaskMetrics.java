@@ -34,7 +34,8 @@ class SqlServerStreamingTaskMetrics extends AbstractSqlServerTaskMetrics<SqlServ
                                 "context", "streaming",
                                 "database", partition.getDatabaseName()),
                         metadataProvider,
-                        capturedTablesSupplier));
+                        capturedTablesSupplier,
+                        changeEventQueueMetrics.latencyMeter()));
         connectionMeter = new ConnectionMeter();
     }
 
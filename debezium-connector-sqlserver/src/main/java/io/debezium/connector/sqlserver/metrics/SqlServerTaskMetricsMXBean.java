@@ -5,12 +5,13 @@
  */
 package io.debezium.connector.sqlserver.metrics;
 
+import io.debezium.pipeline.metrics.traits.LatencyMetricsMXBean;
 import io.debezium.pipeline.metrics.traits.QueueMetricsMXBean;
 
 /**
  * Metrics scoped to a connector task that are common for both snapshot and streaming change event sources
  */
-public interface SqlServerTaskMetricsMXBean extends QueueMetricsMXBean {
+public interface SqlServerTaskMetricsMXBean extends QueueMetricsMXBean, LatencyMetricsMXBean {
 
     void reset();
 }
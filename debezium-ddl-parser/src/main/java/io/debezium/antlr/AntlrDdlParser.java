@@ -8,15 +8,19 @@
 
 import java.util.Collection;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
@@ -61,17 +65,23 @@ public AntlrDdlParser(boolean throwErrorsFromTreeWalk, boolean includeViews, boo
     public DdlChanges parse(String ddlContent, Tables databaseTables) {
         this.databaseTables = databaseTables;
 
+        final DdlStatementClassifier statementClassifier = statementClassifier();
+        if (statementClassifier != null && statementClassifier.isSkippable(ddlContent)) {
+            debugSkipped(ddlContent);
+            return getAndResetDdlChanges();
+        }
+
         CodePointCharStream ddlContentCharStream = CharStreams.fromString(ddlContent);
         L lexer = createNewLexerInstance(new CaseChangingCharStream(ddlContentCharStream, isGrammarInUpperCase()));
-        P parser = createNewParserInstance(new CommonTokenStream(lexer));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        P parser = createNewParserInstance(tokens);
 
         // remove default console output printing error listener
         parser.removeErrorListener(ConsoleErrorListener.INSTANCE);
 
         ParsingErrorListener parsingErrorListener = new ParsingErrorListener(ddlContent, AbstractDdlParser::accumulateParsingFailure);
-        parser.addErrorListener(parsingErrorListener);
 
-        ParseTree parseTree = parseTree(parser);
+        ParseTree parseTree = parseTree(parser, tokens, parsingErrorListener);
 
         if (parsingErrorListener.getErrors().isEmpty()) {
             antlrDdlParserListener = createParseTreeWalkerListener();
@@ -89,6 +99,30 @@ public DdlChanges parse(String ddlContent, Tables databaseTables) {
         return getAndResetDdlChanges();
     }
 
+    /**
+     * Parses the statement in two stages. The faster SLL prediction mode is tried first and bails out on the first
+     * syntax error, as that can be either a real error or a construct SLL cannot decide. Only then the statement is
+     * parsed again with the full LL prediction mode, reporting errors to the supplied listener.
+     */
+    private ParseTree parseTree(P parser, CommonTokenStream tokens, ParsingErrorListener parsingErrorListener) {
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parseTree(parser);
+        }
+        catch (ParseCancellationException e) {
+            logger.trace("SLL prediction failed, parsing again with LL prediction");
+        }
+
+        // the tokens were already buffered by the first stage, so the statement is not lexed again
+        tokens.seek(0);
+        parser.reset();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.addErrorListener(parsingErrorListener);
+        return parseTree(parser);
+    }
+
     /**
      * Returns errors catched during tree walk.
      *
@@ -106,6 +140,15 @@ public Collection<ParsingException> getParsingExceptionsFromWalker() {
      */
     protected abstract ParseTree parseTree(P parser);
 
+    /**
+     * Returns the classifier of statements that can be skipped without being parsed.
+     *
+     * @return the statement classifier or {@code null} if every statement must be parsed
+     */
+    protected DdlStatementClassifier statementClassifier() {
+        return null;
+    }
+
     /**
      * Creates a new instance of parsed tree walker listener.
      *
@@ -0,0 +1,147 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.antlr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A cheap, token-level classifier of DDL statements, run before the statement reaches the ANTLR lexer.
+ * <p>
+ * It recognizes statements which can never change the table definitions, e.g. {@code GRANT}, {@code CREATE USER}
+ * or {@code FLUSH}, by their leading keywords, as well as statements consisting of comments only. Such statements
+ * can be skipped without being parsed. The classifier is conservative, a statement is skippable only if it is
+ * the only statement of the content and its leading keywords match one of the configured prefixes.
+ */
+public class DdlStatementClassifier {
+
+    private final List<String[]> skippablePrefixes;
+    private final int maxPrefixLength;
+    private final boolean hashComments;
+
+    /**
+     * @param hashComments whether {@code #} starts a single line comment in the SQL dialect
+     * @param skippablePrefixes the leading keywords of skippable statements, with keywords separated by a single space,
+     *                          e.g. {@code CREATE USER}; may not be null
+     */
+    public DdlStatementClassifier(boolean hashComments, String... skippablePrefixes) {
+        this.hashComments = hashComments;
+        this.skippablePrefixes = new ArrayList<>(skippablePrefixes.length);
+        int maxLength = 0;
+        for (String prefix : skippablePrefixes) {
+            final String[] keywords = prefix.toUpperCase(Locale.ROOT).split(" ");
+            this.skippablePrefixes.add(keywords);
+            maxLength = Math.max(maxLength, keywords.length);
+        }
+        this.maxPrefixLength = maxLength;
+    }
+
+    /**
+     * Determines whether the supplied DDL content can be skipped as it cannot change any table definition.
+     *
+     * @param ddlContent the DDL content; may not be null
+     * @return {@code true} if the content consists of a single skippable statement or of comments only
+     */
+    public boolean isSkippable(String ddlContent) {
+        final String[] keywords = new String[maxPrefixLength];
+        int keywordCount = 0;
+        final int length = ddlContent.length();
+        int i = 0;
+        while (i < length) {
+            final char c = ddlContent.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            }
+            else if (isCommentStart(ddlContent, i)) {
+                i = endOfComment(ddlContent, i);
+                if (i == -1) {
+                    return false;
+                }
+            }
+            else if (Character.isLetter(c) || c == '_') {
+                final int start = i;
+                while (i < length && (Character.isLetterOrDigit(ddlContent.charAt(i)) || ddlContent.charAt(i) == '_')) {
+                    i++;
+                }
+                keywords[keywordCount++] = ddlContent.substring(start, i).toUpperCase(Locale.ROOT);
+                if (keywordCount == maxPrefixLength) {
+                    break;
+                }
+            }
+            else {
+                break;
+            }
+        }
+
+        if (keywordCount == 0) {
+            // only comments and whitespace, or a statement not starting with a keyword
+            return i == length;
+        }
+        return matchesPrefix(keywords, keywordCount) && isSingleStatement(ddlContent, i);
+    }
+
+    private boolean matchesPrefix(String[] keywords, int keywordCount) {
+        for (String[] prefix : skippablePrefixes) {
+            if (prefix.length <= keywordCount && Arrays.equals(prefix, 0, prefix.length, keywords, 0, prefix.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSingleStatement(String ddlContent, int from) {
+        final int separator = ddlContent.indexOf(';', from);
+        if (separator == -1) {
+            return true;
+        }
+        // only a trailing statement terminator, optionally followed by comments, is allowed
+        int i = separator + 1;
+        while (i < ddlContent.length()) {
+            final char c = ddlContent.charAt(i);
+            if (Character.isWhitespace(c) || c == ';') {
+                i++;
+            }
+            else if (isCommentStart(ddlContent, i)) {
+                i = endOfComment(ddlContent, i);
+                if (i == -1) {
+                    return false;
+                }
+            }
+            else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCommentStart(String ddlContent, int i) {
+        final char c = ddlContent.charAt(i);
+        if (c == '#') {
+            return hashComments;
+        }
+        final char next = i + 1 < ddlContent.length() ? ddlContent.charAt(i + 1) : 0;
+        return c == '-' && next == '-' || c == '/' && next == '*';
+    }
+
+    /**
+     * @return the position following the comment starting at {@code from}, or {@code -1} if the comment is not
+     *         terminated or is interpreted by the database
+     */
+    private static int endOfComment(String ddlContent, int from) {
+        if (ddlContent.charAt(from) != '/') {
+            final int end = ddlContent.indexOf('\n', from);
+            return end == -1 ? ddlContent.length() : end + 1;
+        }
+        if (from + 2 < ddlContent.length() && (ddlContent.charAt(from + 2) == '!' || ddlContent.charAt(from + 2) == '+')) {
+            // executable comments and optimizer hints are interpreted by the database
+            return -1;
+        }
+        final int end = ddlContent.indexOf("*/", from + 2);
+        return end == -1 ? -1 : end + 2;
+    }
+}
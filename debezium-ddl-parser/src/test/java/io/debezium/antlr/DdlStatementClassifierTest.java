@@ -0,0 +1,97 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.antlr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class DdlStatementClassifierTest {
+
+    private final DdlStatementClassifier mySql = new DdlStatementClassifier(true, "GRANT", "REVOKE", "FLUSH", "CREATE USER", "SET DEFAULT ROLE");
+    private final DdlStatementClassifier oracle = new DdlStatementClassifier(false, "GRANT", "REVOKE", "AUDIT", "NOAUDIT", "ANALYZE",
+            "CREATE USER", "ALTER USER", "DROP USER", "CREATE ROLE", "ALTER ROLE", "DROP ROLE");
+
+    @Test
+    public void shouldSkipStatementsMatchingPrefix() {
+        assertThat(mySql.isSkippable("GRANT SELECT ON db.* TO 'user'@'%'")).isTrue();
+        assertThat(mySql.isSkippable("  flush privileges")).isTrue();
+        assertThat(mySql.isSkippable("CREATE  USER 'user'@'%'")).isTrue();
+        assertThat(mySql.isSkippable("SET DEFAULT ROLE ALL TO 'user'@'%'")).isTrue();
+    }
+
+    @Test
+    public void shouldNotSkipStatementsNotMatchingPrefix() {
+        assertThat(mySql.isSkippable("CREATE TABLE t (id INT)")).isFalse();
+        assertThat(mySql.isSkippable("CREATE USERS_TABLE (id INT)")).isFalse();
+        assertThat(mySql.isSkippable("SET DEFAULT_STORAGE_ENGINE = InnoDB")).isFalse();
+        assertThat(mySql.isSkippable("GRANTS")).isFalse();
+    }
+
+    @Test
+    public void shouldSkipLeadingHashCommentsOnlyIfEnabled() {
+        assertThat(mySql.isSkippable("# comment\nGRANT SELECT ON t TO u")).isTrue();
+        assertThat(oracle.isSkippable("# comment\nGRANT SELECT ON t TO u")).isFalse();
+    }
+
+    @Test
+    public void shouldSkipLeadingComments() {
+        assertThat(mySql.isSkippable("-- comment\n/* block\n comment */ REVOKE SELECT ON t FROM u")).isTrue();
+        assertThat(oracle.isSkippable("/* comment */ -- comment\nGRANT SELECT ON t TO u")).isTrue();
+    }
+
+    @Test
+    public void shouldNotSkipExecutableComments() {
+        assertThat(mySql.isSkippable("/*!40101 SET NAMES utf8 */")).isFalse();
+        assertThat(mySql.isSkippable("/*! CREATE TABLE t (id INT) */ GRANT SELECT ON t TO u")).isFalse();
+        assertThat(oracle.isSkippable("/*+ APPEND */ GRANT SELECT ON t TO u")).isFalse();
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u; /*!40101 CREATE TABLE t2 (id INT) */")).isFalse();
+    }
+
+    @Test
+    public void shouldNotSkipUnterminatedComment() {
+        assertThat(mySql.isSkippable("/* comment GRANT SELECT ON t TO u")).isFalse();
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u; /* comment")).isFalse();
+    }
+
+    @Test
+    public void shouldSkipStatementFollowedByTerminatorAndComments() {
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u;")).isTrue();
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u; -- comment")).isTrue();
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u; # comment\n")).isTrue();
+        assertThat(oracle.isSkippable("GRANT SELECT ON t TO u; /* comment */ ;")).isTrue();
+        assertThat(oracle.isSkippable("GRANT SELECT ON t TO u; # comment")).isFalse();
+    }
+
+    @Test
+    public void shouldNotSkipStatementFollowedBySecondStatement() {
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u; CREATE TABLE t2 (id INT)")).isFalse();
+        assertThat(mySql.isSkippable("GRANT SELECT ON t TO u; -- comment\nDROP TABLE t")).isFalse();
+        assertThat(oracle.isSkippable("GRANT SELECT ON t TO u;\nALTER TABLE t ADD c NUMBER;")).isFalse();
+    }
+
+    @Test
+    public void shouldSkipCommentOnlyContent() {
+        assertThat(mySql.isSkippable("")).isTrue();
+        assertThat(mySql.isSkippable("-- comment")).isTrue();
+        assertThat(mySql.isSkippable("  /* comment */\n# comment\n")).isTrue();
+        assertThat(oracle.isSkippable("/* comment */ -- comment")).isTrue();
+        assertThat(oracle.isSkippable("# comment")).isFalse();
+    }
+
+    @Test
+    public void shouldClassifyOracleStatements() {
+        assertThat(oracle.isSkippable("AUDIT SELECT ON hr.employees")).isTrue();
+        assertThat(oracle.isSkippable("NOAUDIT SELECT ON hr.employees")).isTrue();
+        assertThat(oracle.isSkippable("ANALYZE TABLE hr.employees COMPUTE STATISTICS")).isTrue();
+        assertThat(oracle.isSkippable("ALTER USER hr IDENTIFIED BY secret")).isTrue();
+        assertThat(oracle.isSkippable("DROP ROLE reader")).isTrue();
+        assertThat(oracle.isSkippable("ALTER TABLE hr.employees ADD c NUMBER")).isFalse();
+        assertThat(oracle.isSkippable("DROP TABLE hr.employees")).isFalse();
+        assertThat(oracle.isSkippable("CREATE ROLLBACK SEGMENT rbs")).isFalse();
+        assertThat(oracle.isSkippable("FLUSH PRIVILEGES")).isFalse();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.oracle.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.antlr.CaseChangingCharStream;
+import io.debezium.antlr.DdlStatementClassifier;
+import io.debezium.connector.oracle.antlr.OracleDdlParser;
+import io.debezium.ddl.parser.oracle.generated.PlSqlLexer;
+import io.debezium.ddl.parser.oracle.generated.PlSqlParser;
+import io.debezium.relational.Tables;
+
+/**
+ * A basic test to determine the performance of the Oracle DDL parser depending on the amount of columns
+ * in the statement, comparing the SLL and LL prediction modes of the PL/SQL grammar and the cost of a
+ * statement skipped by the statement classifier against the cost of parsing it.
+ */
+public class OracleDdlParserPerf {
+
+    @State(Scope.Thread)
+    public static class ParserState {
+        public OracleDdlParser ddlParser;
+        public OracleDdlParser unclassifiedDdlParser;
+        public Tables tables;
+        public String ddl;
+        public String grantDdl;
+
+        @Param({ "1", "2", "5", "10", "20", "50" })
+        public int columnCount;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            ddlParser = new OracleDdlParser();
+            ddlParser.setCurrentDatabase("ORCLPDB1");
+            ddlParser.setCurrentSchema("DEBEZIUM");
+            unclassifiedDdlParser = new OracleDdlParser() {
+                @Override
+                protected DdlStatementClassifier statementClassifier() {
+                    return null;
+                }
+            };
+            unclassifiedDdlParser.setCurrentDatabase("ORCLPDB1");
+            unclassifiedDdlParser.setCurrentSchema("DEBEZIUM");
+            tables = new Tables();
+            ddl = createTableStatement();
+            grantDdl = "GRANT SELECT, INSERT, UPDATE, DELETE ON DEBEZIUM.TEST TO C##DBZUSER";
+        }
+
+        private String createTableStatement() {
+            final StringBuilder sb = new StringBuilder("CREATE TABLE DEBEZIUM.TEST (ID NUMBER(9,0) PRIMARY KEY");
+            for (int i = 0; i < columnCount; ++i) {
+                sb.append(", COL").append(i).append(" VARCHAR2(255)");
+            }
+            return sb.append(");").toString();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void antlr(ParserState state) {
+        state.ddlParser.parse(state.ddl, state.tables);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public ParseTree antlrSllPrediction(ParserState state) {
+        return parseTree(state.ddl, PredictionMode.SLL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public ParseTree antlrLlPrediction(ParserState state) {
+        return parseTree(state.ddl, PredictionMode.LL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void antlrClassifiedGrant(ParserState state) {
+        state.ddlParser.parse(state.grantDdl, state.tables);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void antlrParsedGrant(ParserState state) {
+        state.unclassifiedDdlParser.parse(state.grantDdl, state.tables);
+    }
+
+    private static ParseTree parseTree(String ddl, PredictionMode predictionMode) {
+        final PlSqlLexer lexer = new PlSqlLexer(new CaseChangingCharStream(CharStreams.fromString(ddl), true));
+        final PlSqlParser parser = new PlSqlParser(new CommonTokenStream(lexer));
+        parser.getInterpreter().setPredictionMode(predictionMode);
+        return parser.sql_script();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.mongodb;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.connector.mongodb.BsonSerialization;
+import io.debezium.connector.mongodb.MongoDbSchema;
+import io.debezium.connector.mongodb.transforms.ExtractNewDocumentState;
+import io.debezium.data.Envelope;
+import io.debezium.data.Json;
+
+/**
+ * JMH benchmark measuring the events per second of a MongoDB change event going from the captured document
+ * to the flattened record of {@link ExtractNewDocumentState}, with the document emitted either as a JSON string
+ * or as raw BSON bytes.
+ */
+@State(Scope.Thread)
+public class MongoDbDocumentFormatPerf {
+
+    private static final JsonWriterSettings COMPACT_JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.STRICT)
+            .indent(true)
+            .indentCharacters("")
+            .newLineCharacters("")
+            .build();
+
+    private final BsonSerialization bsonSerialization = new BsonSerialization();
+
+    private ExtractNewDocumentState<SourceRecord> transformation;
+    private BsonDocument document;
+    private Schema keySchema;
+    private Struct key;
+    private Schema jsonEnvelopeSchema;
+    private Schema bsonEnvelopeSchema;
+
+    @Setup
+    public void setup() {
+        transformation = new ExtractNewDocumentState<>();
+        transformation.configure(Collections.singletonMap("array.encoding", "document"));
+
+        final BsonArray items = new BsonArray();
+        for (int i = 0; i < 5; i++) {
+            items.add(new BsonDocument("sku", new BsonString("SKU-" + i))
+                    .append("quantity", new BsonInt32(i + 1))
+                    .append("price", new BsonDouble(9.99 * (i + 1))));
+        }
+        document = new BsonDocument("_id", new BsonObjectId())
+                .append("customerId", new BsonInt64(1234567890L))
+                .append("name", new BsonString("Sally Thomas"))
+                .append("email", new BsonString("sally.thomas@acme.com"))
+                .append("active", BsonBoolean.TRUE)
+                .append("createdAt", new BsonDateTime(1_700_000_000_000L))
+                .append("address", new BsonDocument("street", new BsonString("Main Street 1"))
+                        .append("city", new BsonString("Prague"))
+                        .append("zip", new BsonString("11000")))
+                .append("items", items);
+
+        keySchema = SchemaBuilder.struct()
+                .name("dbserver1.inventory.orders.Key")
+                .field("id", Schema.STRING_SCHEMA)
+                .build();
+        key = new Struct(keySchema).put("id", "{\"$oid\": \"" + document.getObjectId("_id").getValue().toHexString() + "\"}");
+
+        jsonEnvelopeSchema = envelopeSchema(Json.builder().optional().build());
+        bsonEnvelopeSchema = envelopeSchema(MongoDbSchema.BSON_DOCUMENT_SCHEMA);
+    }
+
+    @TearDown
+    public void tearDown() {
+        transformation.close();
+    }
+
+    private static Schema envelopeSchema(Schema documentSchema) {
+        return SchemaBuilder.struct()
+                .name("dbserver1.inventory.orders.Envelope")
+                .field(Envelope.FieldName.BEFORE, documentSchema)
+                .field(Envelope.FieldName.AFTER, documentSchema)
+                .field(Envelope.FieldName.OPERATION, Schema.OPTIONAL_STRING_SCHEMA)
+                .build();
+    }
+
+    private SourceRecord record(Schema envelopeSchema, Object after) {
+        final Struct value = new Struct(envelopeSchema)
+                .put(Envelope.FieldName.AFTER, after)
+                .put(Envelope.FieldName.OPERATION, Envelope.Operation.CREATE.code());
+        final Map<String, ?> empty = Collections.emptyMap();
+        return new SourceRecord(empty, empty, "dbserver1.inventory.orders", keySchema, key, envelopeSchema, value);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord jsonDocument() {
+        return transformation.apply(record(jsonEnvelopeSchema, document.toJson(COMPACT_JSON_SETTINGS)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord bsonDocument() {
+        return transformation.apply(record(bsonEnvelopeSchema, bsonSerialization.getDocumentValue(document)));
+    }
+}
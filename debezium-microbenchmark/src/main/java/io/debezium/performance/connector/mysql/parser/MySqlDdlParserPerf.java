@@ -7,6 +7,10 @@
 
 import java.util.concurrent.TimeUnit;
 
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -20,13 +24,18 @@
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.antlr.CaseChangingCharStream;
+import io.debezium.antlr.DdlStatementClassifier;
 import io.debezium.connector.mysql.antlr.MySqlAntlrDdlParser;
+import io.debezium.ddl.parser.mysql.generated.MySqlLexer;
+import io.debezium.ddl.parser.mysql.generated.MySqlParser;
 import io.debezium.relational.Tables;
 import io.debezium.relational.ddl.AbstractDdlParser;
 
 /**
  * A basic test to compare performance of legacy and antlr DDL parsers depending on the amount
- * of columns in the statement.
+ * of columns in the statement. It also compares the SLL and LL prediction modes of the grammar and
+ * the cost of a statement skipped by the statement classifier against the cost of parsing it.
  *
  * @author Jiri Pechanec <jpechane@redhat.com>
  *
@@ -37,8 +46,10 @@ public class MySqlDdlParserPerf {
     public static class ParserState {
 
         public AbstractDdlParser antlrParser;
+        public AbstractDdlParser unclassifiedAntlrParser;
         public Tables tables;
         public String ddl;
+        public String grantDdl;
 
         @Param({ "1", "2", "5", "10", "20", "50" })
         public int columnCount;
@@ -46,8 +57,23 @@ public static class ParserState {
         @Setup(Level.Trial)
         public void doSetup() {
             antlrParser = new MySqlAntlrDdlParser();
+            unclassifiedAntlrParser = new MySqlAntlrDdlParser() {
+                @Override
+                protected DdlStatementClassifier statementClassifier() {
+                    return null;
+                }
+            };
             tables = new Tables();
             ddl = testStatement();
+            grantDdl = grantStatement();
+        }
+
+        private String grantStatement() {
+            final StringBuilder sb = new StringBuilder("GRANT SELECT (id");
+            for (int i = 0; i < columnCount; i++) {
+                sb.append(", v").append(i);
+            }
+            return sb.append(") ON db1.t1 TO 'mysqluser'@'%'").toString();
         }
 
         private String testStatement() {
@@ -69,4 +95,51 @@ private String testStatement() {
     public void antlr(ParserState state) {
         state.antlrParser.parse(state.ddl, state.tables);
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public ParseTree antlrSllPrediction(ParserState state) {
+        return parseTree(state.ddl, PredictionMode.SLL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public ParseTree antlrLlPrediction(ParserState state) {
+        return parseTree(state.ddl, PredictionMode.LL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void antlrClassifiedGrant(ParserState state) {
+        state.antlrParser.parse(state.grantDdl, state.tables);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public void antlrParsedGrant(ParserState state) {
+        state.unclassifiedAntlrParser.parse(state.grantDdl, state.tables);
+    }
+
+    private static ParseTree parseTree(String ddl, PredictionMode predictionMode) {
+        final MySqlLexer lexer = new MySqlLexer(new CaseChangingCharStream(CharStreams.fromString(ddl), true));
+        final MySqlParser parser = new MySqlParser(new CommonTokenStream(lexer));
+        parser.getInterpreter().setPredictionMode(predictionMode);
+        return parser.root();
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.connector.postgres;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.connector.postgresql.PgOid;
+import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeRegistry;
+import io.debezium.connector.postgresql.connection.pgoutput.PgOutputReplicationMessage;
+
+/**
+ * JMH benchmark comparing the decoding of pgoutput column values sent in the text format with the
+ * decoding of the same values sent in the binary format.
+ */
+@State(Scope.Benchmark)
+public class PgOutputColumnDecodingPerf {
+
+    private static final int OP_COUNT = 5;
+
+    private PostgresType[] types;
+    private String[] textValues;
+    private byte[][] binaryValues;
+
+    @Setup
+    public void setup() {
+        types = new PostgresType[]{
+                type("int4", PgOid.INT4, Types.INTEGER),
+                type("int8", PgOid.INT8, Types.BIGINT),
+                type("float8", PgOid.FLOAT8, Types.DOUBLE),
+                type("numeric", PgOid.NUMERIC, Types.NUMERIC),
+                type("timestamptz", PgOid.TIMESTAMPTZ, Types.TIMESTAMP_WITH_TIMEZONE)
+        };
+        textValues = new String[]{
+                "123456789",
+                "1234567890123456789",
+                "12345.6789",
+                "123456789.1234",
+                "2024-05-17 10:11:12.123456+00"
+        };
+        binaryValues = new byte[][]{
+                ByteBuffer.allocate(4).putInt(123456789).array(),
+                ByteBuffer.allocate(8).putLong(1234567890123456789L).array(),
+                ByteBuffer.allocate(8).putDouble(12345.6789).array(),
+                // ndigits, weight, sign, dscale followed by the base 10000 digits 1|2345|6789.1234
+                ByteBuffer.allocate(16).putShort((short) 4).putShort((short) 2).putShort((short) 0).putShort((short) 4)
+                        .putShort((short) 1).putShort((short) 2345).putShort((short) 6789).putShort((short) 1234).array(),
+                // microseconds since 2000-01-01T00:00:00Z
+                ByteBuffer.allocate(8).putLong(769169472123456L).array()
+        };
+    }
+
+    private static PostgresType type(String name, int oid, int jdbcId) {
+        return new PostgresType.Builder(null, name, oid, jdbcId, TypeRegistry.NO_TYPE_MODIFIER, null).build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OperationsPerInvocation(OP_COUNT)
+    public void textFormat(Blackhole bh) {
+        for (int i = 0; i < OP_COUNT; i++) {
+            // the text value arrives as bytes on the wire as well
+            final String value = new String(textValues[i].getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            bh.consume(PgOutputReplicationMessage.getValue("c" + i, types[i], types[i].getName(), value, null, false, null));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    @OperationsPerInvocation(OP_COUNT)
+    public void binaryFormat(Blackhole bh) {
+        for (int i = 0; i < OP_COUNT; i++) {
+            bh.consume(PgOutputReplicationMessage.getBinaryValue("c" + i, types[i], types[i].getName(), binaryValues[i], null, false, null));
+        }
+    }
+}
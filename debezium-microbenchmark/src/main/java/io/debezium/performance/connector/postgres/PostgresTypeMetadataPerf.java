@@ -5,6 +5,9 @@
  */
 package io.debezium.performance.connector.postgres;
 
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -15,6 +18,7 @@
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -22,6 +26,7 @@
 
 import io.debezium.connector.postgresql.PostgresStreamingChangeEventSource;
 import io.debezium.connector.postgresql.PostgresType;
+import io.debezium.connector.postgresql.TypeMetadataCache;
 import io.debezium.connector.postgresql.connection.AbstractReplicationMessageColumn;
 import io.debezium.connector.postgresql.connection.ReplicationMessage;
 
@@ -82,4 +87,59 @@ public void columnMetadata(Blackhole bh) {
             bh.consume(columns[i].getTypeMetadata());
         }
     }
+
+    /**
+     * Models the startup of several connectors against the same database, each priming its type registry with the
+     * type metadata of the catalog. The catalog result rows are decoded from their text representation, as the driver
+     * does, but the round trips to the database are not part of the measurement.
+     */
+    @State(Scope.Thread)
+    public static class CatalogState {
+
+        private static final int TYPE_COUNT = 2_000;
+
+        @Param({ "1", "10", "50" })
+        public int connectorCount;
+
+        public List<String[]> rows;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            rows = new ArrayList<>(TYPE_COUNT);
+            for (int i = 0; i < TYPE_COUNT; i++) {
+                rows.add(new String[]{ String.valueOf(16_384 + i), "type_" + i, "0", "0", "-1", i % 10 == 0 ? "A" : "U" });
+            }
+        }
+
+        public List<TypeMetadataCache.TypeMetadata> load() {
+            final List<TypeMetadataCache.TypeMetadata> types = new ArrayList<>(rows.size());
+            for (String[] row : rows) {
+                final String category = row[5];
+                types.add(new TypeMetadataCache.TypeMetadata(Integer.parseInt(row[0]), new String(row[1]), "A".equals(category) ? Types.ARRAY : Types.OTHER,
+                        Integer.parseInt(row[4]), category, null, Integer.parseInt(row[2]), Integer.parseInt(row[3])));
+            }
+            return types;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    public void primeEachConnectorFromCatalog(CatalogState state, Blackhole bh) {
+        for (int i = 0; i < state.connectorCount; i++) {
+            bh.consume(state.load());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    public void primeConnectorsFromSharedCache(CatalogState state, Blackhole bh) throws Exception {
+        final TypeMetadataCache cache = new TypeMetadataCache();
+        for (int i = 0; i < state.connectorCount; i++) {
+            bh.consume(cache.get("localhost:5432/postgres", "1", state::load));
+        }
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.data.Envelope;
+import io.debezium.util.ApproximateStructSizeCalculator;
+
+/**
+ * JMH benchmark of the record size estimation used by {@code max.queue.size.in.bytes}, comparing the schema template
+ * based {@link ApproximateStructSizeCalculator} against the previous recursive walker, kept here as
+ * {@link RecursiveWalker}. Run with {@code -prof gc} to compare the allocations per estimation.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class ApproximateStructSizeCalculatorPerf {
+
+    @Param({ "5", "20", "100" })
+    private int columnCount;
+
+    private SourceRecord record;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SchemaBuilder rowBuilder = SchemaBuilder.struct().name("server.inventory.customers.Value").optional()
+                .field("id", Schema.INT64_SCHEMA);
+        for (int i = 0; i < columnCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    rowBuilder.field("name_" + i, Schema.OPTIONAL_STRING_SCHEMA);
+                    break;
+                case 1:
+                    rowBuilder.field("amount_" + i, Decimal.builder(2).optional().build());
+                    break;
+                case 2:
+                    rowBuilder.field("count_" + i, Schema.OPTIONAL_INT32_SCHEMA);
+                    break;
+                default:
+                    rowBuilder.field("created_" + i, Schema.OPTIONAL_INT64_SCHEMA);
+                    break;
+            }
+        }
+        final Schema rowSchema = rowBuilder.build();
+        final Schema keySchema = SchemaBuilder.struct().name("server.inventory.customers.Key").field("id", Schema.INT64_SCHEMA).build();
+        final Envelope envelope = Envelope.defineSchema()
+                .withName("server.inventory.customers.Envelope")
+                .withRecord(rowSchema)
+                .withSource(SchemaBuilder.struct().name("source").field("table", Schema.STRING_SCHEMA).field("pos", Schema.INT64_SCHEMA).build())
+                .build();
+
+        final Struct row = new Struct(rowSchema).put("id", 1001L);
+        for (Field field : rowSchema.fields()) {
+            if (field.name().startsWith("name_")) {
+                row.put(field, "Sally Thomas, 1234 Main Street, Springfield");
+            }
+            else if (field.name().startsWith("amount_")) {
+                row.put(field, new BigDecimal("10099999.29"));
+            }
+            else if (field.name().startsWith("count_")) {
+                row.put(field, 42);
+            }
+            else if (field.name().startsWith("created_")) {
+                row.put(field, 1_700_000_000_000L);
+            }
+        }
+        final Struct source = new Struct(envelope.schema().field("source").schema()).put("table", "customers").put("pos", 4711L);
+        final Struct value = envelope.update(row, row, source, Instant.now());
+
+        record = new SourceRecord(Collections.singletonMap("server", "server"), Collections.singletonMap("pos", 4711L),
+                "server.inventory.customers", keySchema, new Struct(keySchema).put("id", 1001L), envelope.schema(), value);
+    }
+
+    @Benchmark
+    public long schemaTemplates() {
+        return ApproximateStructSizeCalculator.getApproximateRecordSize(record);
+    }
+
+    @Benchmark
+    public long recursiveWalker() {
+        return RecursiveWalker.getApproximateRecordSize(record);
+    }
+
+    /**
+     * The recursive walker estimating every field of every record, as implemented before the schema templates.
+     */
+    private static class RecursiveWalker {
+
+        private static final int EMPTY_STRUCT_SIZE = 56;
+        private static final int EMPTY_STRING_SIZE = 56;
+        private static final int EMPTY_BYTES_SIZE = 24;
+        private static final int EMPTY_ARRAY_SIZE = 64;
+        private static final int EMPTY_MAP_SIZE = 88;
+        private static final int EMPTY_PRIMITIVE = 24;
+        private static final int REFERENCE_SIZE = 8;
+
+        static long getApproximateRecordSize(SourceRecord changeEvent) {
+            long value = changeEvent.sourcePartition().size() * 100L + changeEvent.sourceOffset().size() * 100L + changeEvent.headers().size() * 100L;
+            value += 8;
+            return value + getStructSize((Struct) changeEvent.key()) + getStructSize((Struct) changeEvent.value())
+                    + changeEvent.topic().getBytes().length;
+        }
+
+        private static long getStructSize(Struct struct) {
+            if (struct == null) {
+                return 0;
+            }
+            long size = EMPTY_STRUCT_SIZE;
+            for (Field field : struct.schema().fields()) {
+                size += REFERENCE_SIZE;
+                size += getValueSize(field.schema(), struct.getWithoutDefault(field.name()));
+            }
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static long getValueSize(Schema schema, Object value) {
+            switch (schema.type()) {
+                case BOOLEAN:
+                case INT8:
+                case INT16:
+                case FLOAT32:
+                case INT32:
+                case FLOAT64:
+                case INT64:
+                    return EMPTY_PRIMITIVE;
+                case STRING:
+                    final String s = (String) value;
+                    return (s == null) ? 0 : EMPTY_STRING_SIZE + s.getBytes().length;
+                case BYTES:
+                    byte[] b;
+                    if (value instanceof BigDecimal) {
+                        b = ((BigDecimal) value).unscaledValue().toByteArray();
+                    }
+                    else if (value instanceof ByteBuffer) {
+                        final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                        b = new byte[buffer.remaining()];
+                        buffer.get(b);
+                    }
+                    else {
+                        b = (byte[]) value;
+                    }
+                    return (b == null) ? 0 : EMPTY_BYTES_SIZE + b.length;
+                case STRUCT:
+                    return getStructSize((Struct) value);
+                case ARRAY:
+                    final List<Object> array = (List<Object>) value;
+                    if (array == null) {
+                        return 0L;
+                    }
+                    long arraySize = EMPTY_ARRAY_SIZE;
+                    for (Object element : array) {
+                        arraySize += REFERENCE_SIZE + getValueSize(schema.valueSchema(), element);
+                    }
+                    return arraySize;
+                case MAP:
+                    final Map<Object, Object> map = (Map<Object, Object>) value;
+                    if (map == null) {
+                        return 0L;
+                    }
+                    long mapSize = EMPTY_MAP_SIZE;
+                    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                        mapSize += REFERENCE_SIZE * 2 + getValueSize(schema.keySchema(), entry.getKey())
+                                + getValueSize(schema.valueSchema(), entry.getValue());
+                    }
+                    return mapSize;
+            }
+            return 0L;
+        }
+    }
+}
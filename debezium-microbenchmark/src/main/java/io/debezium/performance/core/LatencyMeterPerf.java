@@ -0,0 +1,113 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.config.CommonConnectorConfig.LatencyHistograms;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.meters.LatencyMeter;
+import io.debezium.relational.TableId;
+import io.debezium.util.LoggingContext;
+
+/**
+ * JMH benchmark of the overhead of the pipeline latency histograms, comparing each {@link LatencyHistograms} mode
+ * against {@code none} for the per event work of all pipeline stages and for the change event queue.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class LatencyMeterPerf {
+
+    private static final int BATCH_SIZE = 256;
+    private static final DataChangeEvent EVENT = new DataChangeEvent(new SourceRecord(Collections.emptyMap(),
+            Collections.emptyMap(), "dummy", Schema.STRING_SCHEMA, "Change Data Capture Even via Debezium"));
+    private static final TableId[] TABLES = {
+            new TableId("inventory", null, "customers"),
+            new TableId("inventory", null, "orders"),
+            new TableId("inventory", null, "products"),
+            new TableId("inventory", null, "addresses")
+    };
+
+    @Param({ "none", "stage", "table" })
+    private String mode;
+
+    private LatencyMeter meter;
+    private ChangeEventQueue<DataChangeEvent> queue;
+    private int event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final LatencyHistograms latencyHistograms = LatencyHistograms.parse(mode);
+        meter = new LatencyMeter(latencyHistograms);
+        queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.ofMillis(1))
+                .maxQueueSize(BATCH_SIZE * 2)
+                .maxBatchSize(BATCH_SIZE)
+                .loggingContextSupplier(() -> LoggingContext.forConnector("a", "b", "c"))
+                .latencyHistograms(latencyHistograms)
+                .build();
+    }
+
+    /**
+     * The latency bookkeeping done for one event, i.e. recording its source lag, its dispatch, its queue dwell time
+     * and its commit.
+     */
+    @Benchmark
+    public void recordEvent() {
+        final TableId table = TABLES[event++ & 3];
+        final long start = meter.startNanos();
+        meter.onSourceLag(table, Duration.ofMillis(event & 1023));
+        meter.onDispatched(table, start);
+        meter.onDequeued(start, start + 1_000);
+        meter.onBatchPolled(1);
+        meter.onRecordCommitted();
+    }
+
+    /**
+     * Recording from several threads at once, as done when the snapshot of several tables runs in parallel.
+     */
+    @Benchmark
+    @Threads(4)
+    public void recordEventConcurrently() {
+        final TableId table = TABLES[(int) (Thread.currentThread().getId() & 3)];
+        meter.onDispatched(table, meter.startNanos());
+    }
+
+    /**
+     * A batch of events passing through the change event queue; divide by the batch size for the per event cost.
+     */
+    @Benchmark
+    public List<DataChangeEvent> enqueueAndPollBatch() throws InterruptedException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            queue.enqueue(EVENT);
+        }
+        return queue.poll();
+    }
+}
@@ -5,6 +5,7 @@
  */
 package io.debezium.performance.core;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -28,7 +29,14 @@
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import io.debezium.data.Envelope;
 import io.debezium.performance.Module;
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.Timestamp;
+import io.debezium.time.ZonedTimestamp;
+import io.debezium.transforms.ExtractNewRecordState;
+import io.debezium.transforms.TimezoneConverter;
+import io.debezium.util.Collect;
 
 /**
  * A basic test to calculate overhead of using SMTs.
@@ -103,8 +111,13 @@ public static class TransformState {
 
         public Transformation<SourceRecord> newRecord;
         public Transformation<SourceRecord> noop;
+        public Transformation<SourceRecord> timezoneConverter;
+        public Transformation<SourceRecord> extractNewRecordState;
         public SourceRecord delete;
         public SourceRecord create;
+        private Envelope envelope;
+        private Struct after;
+        private Struct source;
 
         @Setup(Level.Trial)
         public void doSetup() {
@@ -123,6 +136,51 @@ public void doSetup() {
 
             noop = new NoOp();
             noop.configure(new HashMap<>());
+
+            final Schema sourceSchema = SchemaBuilder.struct().optional()
+                    .field("table", Schema.STRING_SCHEMA)
+                    .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+                    .build();
+            final SchemaBuilder recordSchemaBuilder = SchemaBuilder.struct().optional()
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("created_micros", MicroTimestamp.builder().optional().build())
+                    .field("created_millis", Timestamp.builder().optional().build())
+                    .field("created_zoned", ZonedTimestamp.builder().optional().build());
+            for (int i = 0; i < 20; i++) {
+                recordSchemaBuilder.field("col" + i, Schema.OPTIONAL_STRING_SCHEMA);
+            }
+            final Schema recordSchema = recordSchemaBuilder.build();
+            envelope = Envelope.defineSchema()
+                    .withName("dummy.Envelope")
+                    .withRecord(recordSchema)
+                    .withSource(sourceSchema)
+                    .build();
+
+            after = new Struct(recordSchema);
+            after.put("id", 1);
+            after.put("created_micros", 1529507596945104L);
+            after.put("created_millis", 1514908810123L);
+            after.put("created_zoned", "2018-01-02T11:15:30.123456789+00:00");
+            for (int i = 0; i < 20; i++) {
+                after.put("col" + i, "value" + i);
+            }
+            source = new Struct(sourceSchema);
+            source.put("table", "orders");
+            source.put("ts_ms", 1514908810123L);
+
+            timezoneConverter = new TimezoneConverter<>();
+            timezoneConverter.configure(Collect.hashMapOf("converted.timezone", "Europe/Prague"));
+
+            extractNewRecordState = new ExtractNewRecordState<>();
+            extractNewRecordState.configure(Collect.hashMapOf("add.fields", "op,table,ts_ms"));
+        }
+
+        /**
+         * Creates a new change event record, as the transformations may modify the value of the record passed in.
+         */
+        public SourceRecord envelopeCreate() {
+            return new SourceRecord(new HashMap<>(), new HashMap<>(), "top1", 1, envelope.schema(),
+                    envelope.create(after, source, Instant.now()));
         }
     }
 
@@ -154,4 +212,34 @@ public void noop(TransformState state) {
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
     public void base(TransformState state) {
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord envelopeCreate(TransformState state) {
+        return state.envelopeCreate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord timezoneConverter(TransformState state) {
+        return state.timezoneConverter.apply(state.envelopeCreate());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public SourceRecord extractNewRecordState(TransformState state) {
+        return state.extractNewRecordState.apply(state.envelopeCreate());
+    }
 }
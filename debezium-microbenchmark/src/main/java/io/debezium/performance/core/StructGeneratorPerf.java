@@ -0,0 +1,140 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.config.CommonConnectorConfig.EventConvertingFailureHandlingMode;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.CustomConverterRegistry;
+import io.debezium.relational.RelationalDatabaseConnectorConfig.StructGeneratorMode;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.schema.FieldNameSelector;
+import io.debezium.schema.SchemaNameAdjuster;
+import io.debezium.schema.SchemaTopicNamingStrategy;
+
+/**
+ * JMH benchmark of the generation of change event keys and values of wide tables by the generic and the specialized
+ * struct generators, for rows whose values already have the types of the event schema.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class StructGeneratorPerf {
+
+    private static final int ROW_COUNT = 100;
+
+    @Param({ "generic", "specialized" })
+    private String mode;
+
+    @Param({ "20", "200" })
+    private int columnCount;
+
+    private TableSchema tableSchema;
+    private Object[][] rows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Properties properties = new Properties();
+        properties.put("topic.prefix", "server");
+        tableSchema = new TableSchemaBuilder(
+                new JdbcValueConverters(null, TemporalPrecisionMode.ADAPTIVE, ZoneOffset.UTC, null, null, null),
+                null,
+                SchemaNameAdjuster.NO_OP,
+                new CustomConverterRegistry(null),
+                SchemaBuilder.struct().build(),
+                FieldNameSelector.defaultSelector(SchemaNameAdjuster.NO_OP),
+                false,
+                EventConvertingFailureHandlingMode.FAIL,
+                StructGeneratorMode.parse(mode))
+                .create(new SchemaTopicNamingStrategy(properties, false), table(), null, null, null);
+
+        rows = new Object[ROW_COUNT][];
+        for (int r = 0; r < ROW_COUNT; r++) {
+            final Object[] row = new Object[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                row[c] = value(r, c);
+            }
+            rows[r] = row;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void generateStructs(Blackhole bh) {
+        for (Object[] row : rows) {
+            bh.consume(tableSchema.keyFromColumnData(row));
+            bh.consume(tableSchema.valueFromColumnData(row));
+        }
+    }
+
+    private Table table() {
+        final TableEditor editor = Table.editor().tableId(new TableId("db", null, "wide"));
+        editor.addColumn(Column.editor().name("id").type("BIGINT").jdbcType(Types.BIGINT).optional(false).create());
+        for (int c = 1; c < columnCount; c++) {
+            switch (c % 4) {
+                case 0:
+                    editor.addColumn(Column.editor().name("int_" + c).type("INT").jdbcType(Types.INTEGER).create());
+                    break;
+                case 1:
+                    editor.addColumn(Column.editor().name("bigint_" + c).type("BIGINT").jdbcType(Types.BIGINT).create());
+                    break;
+                case 2:
+                    editor.addColumn(Column.editor().name("double_" + c).type("DOUBLE").jdbcType(Types.DOUBLE).create());
+                    break;
+                default:
+                    editor.addColumn(Column.editor().name("varchar_" + c).type("VARCHAR").jdbcType(Types.VARCHAR).length(32).create());
+                    break;
+            }
+        }
+        return editor.setPrimaryKeyNames("id").create();
+    }
+
+    private static Object value(int row, int column) {
+        if (column == 0) {
+            return (long) row;
+        }
+        switch (column % 4) {
+            case 0:
+                return row * column;
+            case 1:
+                return (long) row * column;
+            case 2:
+                return row * 1.5d + column;
+            default:
+                // every tenth value is null
+                return row % 10 == 0 ? null : "value-" + row + "-" + column;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
+/**
+ * JMH benchmark of the in-memory table definitions. The memory used by the definitions is reported by running
+ * the {@code buildTables} benchmark with the GC profiler ({@code -prof gc}), whose normalized allocation rate is
+ * the number of bytes allocated for building the given number of tables.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class TablesPerf {
+
+    private static final int COLUMN_COUNT = 25;
+    private static final List<String> STATUS_VALUES = List.of("NEW", "ACTIVE", "SUSPENDED", "CLOSED");
+
+    @Param({ "1000", "10000" })
+    private int tableCount;
+
+    private Tables tables;
+    private Table alteredTable;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        tables = buildTables();
+        alteredTable = tables.forTable(tableId(0)).edit()
+                .addColumn(Column.editor().name("added").type("INT").jdbcType(Types.INTEGER).create())
+                .create();
+    }
+
+    @Benchmark
+    public Tables buildTables() {
+        final Tables result = new Tables();
+        for (int i = 0; i < tableCount; i++) {
+            result.overwriteTable(table(tableId(i)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Tables cloneTables() {
+        return tables.clone();
+    }
+
+    @Benchmark
+    public Tables cloneTablesAndAlterTable() {
+        final Tables clone = tables.clone();
+        clone.overwriteTable(alteredTable);
+        return clone;
+    }
+
+    private static TableId tableId(int i) {
+        return new TableId("tenant_" + (i % 100), null, "table_" + i);
+    }
+
+    private static Table table(TableId id) {
+        final TableEditor editor = Table.editor().tableId(id).setDefaultCharsetName("utf8mb4");
+        editor.addColumn(Column.editor().name("id").type("BIGINT").jdbcType(Types.BIGINT).optional(false).autoIncremented(true).create());
+        for (int i = 1; i < COLUMN_COUNT; i++) {
+            switch (i % 4) {
+                case 0:
+                    editor.addColumn(Column.editor().name("name_" + i).type("VARCHAR").jdbcType(Types.VARCHAR).length(255).create());
+                    break;
+                case 1:
+                    editor.addColumn(Column.editor().name("amount_" + i).type("DECIMAL").jdbcType(Types.DECIMAL).length(10).scale(2)
+                            .defaultValueExpression("0.00").create());
+                    break;
+                case 2:
+                    editor.addColumn(Column.editor().name("status_" + i).type("ENUM").jdbcType(Types.CHAR).length(1)
+                            .enumValues(STATUS_VALUES).create());
+                    break;
+                default:
+                    editor.addColumn(Column.editor().name("created_" + i).type("DATETIME").jdbcType(Types.TIMESTAMP)
+                            .defaultValueExpression("CURRENT_TIMESTAMP").create());
+                    break;
+            }
+        }
+        return editor.setPrimaryKeyNames("id").create();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.performance.core;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.debezium.config.CommonConnectorConfig.EventConvertingFailureHandlingMode;
+import io.debezium.data.SpecialValueDecimal;
+import io.debezium.jdbc.JdbcValueConverters;
+import io.debezium.jdbc.TemporalPrecisionMode;
+import io.debezium.relational.Column;
+import io.debezium.relational.CustomConverterRegistry;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.TableSchema;
+import io.debezium.relational.TableSchemaBuilder;
+import io.debezium.schema.FieldNameSelector;
+import io.debezium.schema.SchemaNameAdjuster;
+import io.debezium.schema.SchemaTopicNamingStrategy;
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.Timestamp;
+
+/**
+ * JMH benchmark of the conversion of snapshot rows of wide, mostly numeric tables into change event values, using
+ * the values JDBC drivers commonly return for integer, floating point, decimal and timestamp columns.
+ * <p>
+ * The {@code direct} converters return values of the expected type without conversion callbacks, while the
+ * {@code callback} converters convert them through a {@code ResultReceiver} and a callback, as all values were
+ * converted before, which serves as the baseline.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode({ Mode.AverageTime })
+public class WideTableValueConversionPerf {
+
+    private static final int ROW_COUNT = 100;
+
+    @Param({ "direct", "callback" })
+    private String converters;
+
+    @Param({ "20", "200" })
+    private int columnCount;
+
+    private TableSchema tableSchema;
+    private Object[][] rows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Table table = table();
+        final Properties properties = new Properties();
+        properties.put("topic.prefix", "server");
+        tableSchema = new TableSchemaBuilder(
+                "callback".equals(converters)
+                        ? new CallbackValueConverters()
+                        : new JdbcValueConverters(null, TemporalPrecisionMode.ADAPTIVE, ZoneOffset.UTC, null, null, null),
+                null,
+                SchemaNameAdjuster.NO_OP,
+                new CustomConverterRegistry(null),
+                SchemaBuilder.struct().build(),
+                FieldNameSelector.defaultSelector(SchemaNameAdjuster.NO_OP),
+                false,
+                EventConvertingFailureHandlingMode.FAIL)
+                .create(new SchemaTopicNamingStrategy(properties, false), table, null, null, null);
+
+        rows = new Object[ROW_COUNT][];
+        for (int r = 0; r < ROW_COUNT; r++) {
+            final Object[] row = new Object[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                row[c] = value(r, c);
+            }
+            rows[r] = row;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void convertRows(Blackhole bh) {
+        for (Object[] row : rows) {
+            bh.consume(tableSchema.keyFromColumnData(row));
+            bh.consume(tableSchema.valueFromColumnData(row));
+        }
+    }
+
+    private Table table() {
+        final TableEditor editor = Table.editor().tableId(new TableId("db", null, "wide"));
+        editor.addColumn(Column.editor().name("id").type("BIGINT").jdbcType(Types.BIGINT).optional(false).create());
+        for (int c = 1; c < columnCount; c++) {
+            switch (c % 5) {
+                case 0:
+                    editor.addColumn(Column.editor().name("int_" + c).type("INT").jdbcType(Types.INTEGER).create());
+                    break;
+                case 1:
+                    editor.addColumn(Column.editor().name("bigint_" + c).type("BIGINT").jdbcType(Types.BIGINT).create());
+                    break;
+                case 2:
+                    editor.addColumn(Column.editor().name("double_" + c).type("DOUBLE").jdbcType(Types.DOUBLE).create());
+                    break;
+                case 3:
+                    editor.addColumn(Column.editor().name("decimal_" + c).type("DECIMAL").jdbcType(Types.DECIMAL).length(12).scale(2).create());
+                    break;
+                default:
+                    editor.addColumn(Column.editor().name("timestamp_" + c).type("TIMESTAMP").jdbcType(Types.TIMESTAMP).length(6).create());
+                    break;
+            }
+        }
+        return editor.setPrimaryKeyNames("id").create();
+    }
+
+    private static Object value(int row, int column) {
+        if (column == 0) {
+            return (long) row;
+        }
+        switch (column % 5) {
+            case 0:
+                return row * column;
+            case 1:
+                return (long) row * column;
+            case 2:
+                return row * 1.5d + column;
+            case 3:
+                return BigDecimal.valueOf(row * 100L + column, 2);
+            default:
+                return java.sql.Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(row * 60L + column));
+        }
+    }
+
+    /**
+     * Converts the values of the benchmarked columns through the conversion callbacks, as before values of the
+     * expected type were returned directly.
+     */
+    private static class CallbackValueConverters extends JdbcValueConverters {
+
+        CallbackValueConverters() {
+            super(null, TemporalPrecisionMode.ADAPTIVE, ZoneOffset.UTC, null, null, null);
+        }
+
+        @Override
+        protected Object convertInteger(Column column, Field fieldDefn, Object data) {
+            return convertValue(column, fieldDefn, data, 0, (r) -> r.deliver(data));
+        }
+
+        @Override
+        protected Object convertBigInt(Column column, Field fieldDefn, Object data) {
+            return convertValue(column, fieldDefn, data, 0L, (r) -> r.deliver(data));
+        }
+
+        @Override
+        protected Object convertDouble(Column column, Field fieldDefn, Object data) {
+            return convertValue(column, fieldDefn, data, 0.0d, (r) -> r.deliver(data));
+        }
+
+        @Override
+        protected Object convertDecimal(Column column, Field fieldDefn, Object data) {
+            final Object decimal = toBigDecimal(column, fieldDefn, data);
+            if (decimal instanceof BigDecimal) {
+                return SpecialValueDecimal.fromLogical(new SpecialValueDecimal((BigDecimal) decimal), decimalMode, column.name());
+            }
+            return decimal;
+        }
+
+        @Override
+        protected Object convertTimestampToEpochMillis(Column column, Field fieldDefn, Object data) {
+            return convertValue(column, fieldDefn, data, 0L, (r) -> r.deliver(Timestamp.toEpochMillis(data, adjuster)));
+        }
+
+        @Override
+        protected Object convertTimestampToEpochMicros(Column column, Field fieldDefn, Object data) {
+            return convertValue(column, fieldDefn, data, 0L, (r) -> r.deliver(MicroTimestamp.toEpochMicros(data, adjuster)));
+        }
+    }
+}
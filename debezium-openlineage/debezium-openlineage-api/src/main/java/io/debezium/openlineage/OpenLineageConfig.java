@@ -23,4 +23,6 @@ public class OpenLineageConfig {
     public static final String OPEN_LINEAGE_INTEGRATION_JOB_TAGS = "openlineage.integration.job.tags";
     public static final String OPEN_LINEAGE_INTEGRATION_JOB_OWNERS = "openlineage.integration.job.owners";
     public static final String OPEN_LINEAGE_INTEGRATION_DATASET_KAFKA_BOOTSTRAP_SERVER = "openlineage.integration.dataset.kafka.bootstrap.servers";
+    public static final String OPEN_LINEAGE_INTEGRATION_EMITTER_QUEUE_CAPACITY = "openlineage.integration.emitter.queue.capacity";
+    public static final String OPEN_LINEAGE_INTEGRATION_RUNNING_EVENT_INTERVAL_MS = "openlineage.integration.running.event.interval.ms";
 }
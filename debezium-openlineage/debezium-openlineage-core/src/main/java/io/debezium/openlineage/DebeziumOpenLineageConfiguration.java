@@ -6,12 +6,15 @@
 package io.debezium.openlineage;
 
 import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_CONFIG_FILE_PATH;
+import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_EMITTER_QUEUE_CAPACITY;
 import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_ENABLED;
 import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_JOB_DESCRIPTION;
 import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_JOB_NAMESPACE;
 import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_JOB_OWNERS;
 import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_JOB_TAGS;
+import static io.debezium.openlineage.OpenLineageConfig.OPEN_LINEAGE_INTEGRATION_RUNNING_EVENT_INTERVAL_MS;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +33,20 @@ public record DebeziumOpenLineageConfiguration(boolean enabled, Config config, J
     private static final String LIST_SEPARATOR = ",";
     private static final String DEFAULT_JOB_DESCRIPTION_TEMPLATE = "Debezium CDC job for %s";
 
-    public record Config(String path) {
+    /**
+     * @param path the path of the OpenLineage client configuration file
+     * @param queueCapacity the maximum number of events waiting to be sent, further events are dropped
+     * @param runningEventInterval the minimum interval between two {@code RUNNING} events of the same datasets,
+     *                             {@link Duration#ZERO} to send every {@code RUNNING} event
+     */
+    public record Config(String path, int queueCapacity, Duration runningEventInterval) {
+
+        public static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+        public static final Duration DEFAULT_RUNNING_EVENT_INTERVAL = Duration.ZERO;
+
+        public Config(String path) {
+            this(path, DEFAULT_QUEUE_CAPACITY, DEFAULT_RUNNING_EVENT_INTERVAL);
+        }
     }
 
     public record Job(String namespace, String description, Map<String, String> tags, Map<String, String> owners) {
@@ -47,7 +63,10 @@ public static DebeziumOpenLineageConfiguration from(ConnectorContext connectorCo
                 .collect(Collectors.toMap(pair -> pair[0].trim(), pair -> pair[1].trim()));
 
         return new DebeziumOpenLineageConfiguration(Boolean.parseBoolean(connectorContext.config().get(OPEN_LINEAGE_INTEGRATION_ENABLED)),
-                new Config(connectorContext.config().get(OPEN_LINEAGE_INTEGRATION_CONFIG_FILE_PATH)),
+                new Config(connectorContext.config().get(OPEN_LINEAGE_INTEGRATION_CONFIG_FILE_PATH),
+                        getInt(connectorContext.config(), OPEN_LINEAGE_INTEGRATION_EMITTER_QUEUE_CAPACITY, Config.DEFAULT_QUEUE_CAPACITY),
+                        Duration.ofMillis(getInt(connectorContext.config(), OPEN_LINEAGE_INTEGRATION_RUNNING_EVENT_INTERVAL_MS,
+                                (int) Config.DEFAULT_RUNNING_EVENT_INTERVAL.toMillis()))),
                 new Job(
                         connectorContext.config().getOrDefault(OPEN_LINEAGE_INTEGRATION_JOB_NAMESPACE, connectorContext.connectorLogicalName()),
                         connectorContext.config().getOrDefault(OPEN_LINEAGE_INTEGRATION_JOB_DESCRIPTION,
@@ -56,6 +75,11 @@ public static DebeziumOpenLineageConfiguration from(ConnectorContext connectorCo
                         owners));
     }
 
+    private static int getInt(Map<String, String> configuration, String key, int defaultValue) {
+        var value = configuration.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
     public static <T> List<T> getList(Map<String, String> configuration, String key, String separator, Function<String, T> converter) {
         var value = configuration.get(key);
         return value == null ? List.of()
@@ -8,10 +8,12 @@
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,12 +36,16 @@ public class DebeziumOpenLineageClient {
     private static final String VERSION_FORMAT = "v%s";
     private static final long SHUTDOWN_TIMEOUT_SECONDS = 60L;
 
-    private final ExecutorService emitterExecutor = Executors.newSingleThreadExecutor();
+    private static final String EMITTER_THREAD_NAME = "debezium-openlineage-emitter";
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final ExecutorService emitterExecutor;
     private final OpenLineageClient openLineageClient;
     private final ConnectorContext connectorContext;
 
     public DebeziumOpenLineageClient(ConnectorContext connectorContext, DebeziumOpenLineageConfiguration config) {
         this.connectorContext = connectorContext;
+        this.emitterExecutor = createEmitterExecutor(config.config().queueCapacity());
 
         LOGGER.debug("Creating new openlineage client with config {}", config.config().path());
 
@@ -55,10 +61,38 @@ public DebeziumOpenLineageClient(ConnectorContext connectorContext, DebeziumOpen
     }
 
     public DebeziumOpenLineageClient(OpenLineageClient client, ConnectorContext connectorContext) {
+        this(client, connectorContext, DebeziumOpenLineageConfiguration.Config.DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public DebeziumOpenLineageClient(OpenLineageClient client, ConnectorContext connectorContext, int queueCapacity) {
         this.openLineageClient = client;
         this.connectorContext = connectorContext;
+        this.emitterExecutor = createEmitterExecutor(queueCapacity);
+    }
+
+    /**
+     * Creates the executor sending the events in the background. Its queue is bounded, so that a slow or unavailable
+     * OpenLineage backend cannot make the events pile up in memory; events arriving at a full queue are dropped, as
+     * lineage must never hold back the connector.
+     */
+    private ExecutorService createEmitterExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, EMITTER_THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    long dropped = droppedEvents.incrementAndGet();
+                    if (Long.bitCount(dropped) == 1) {
+                        LOGGER.warn("OpenLineage event queue is full, {} events dropped so far", dropped);
+                    }
+                });
     }
 
+    /**
+     * Queues the event to be sent in the background; the event is dropped if the queue is full.
+     */
     public void emit(OpenLineage.RunEvent event) {
 
         CompletableFuture.supplyAsync(() -> {
@@ -76,6 +110,10 @@ public void emit(OpenLineage.RunEvent event) {
                 });
     }
 
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
     public boolean isEnabled() {
         return openLineageClient != null;
     }
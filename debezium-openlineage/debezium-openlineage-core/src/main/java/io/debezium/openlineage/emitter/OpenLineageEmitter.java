@@ -10,10 +10,12 @@
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.debezium.annotation.VisibleForTesting;
 import io.debezium.connector.common.DebeziumTaskState;
@@ -45,6 +47,10 @@
  * For table events, the emitter extracts detailed schema information, including column names,
  * types, and descriptions, which are included as dataset facets in the OpenLineage events.
  * Database connection information is used to construct appropriate dataset namespace identifiers.
+ * <p>
+ * {@code RUNNING} events without an error are coalesced: an event for the same datasets as an earlier one is only
+ * emitted once the configured running event interval has passed, so that connectors reporting their datasets on each
+ * batch emit lineage periodically rather than at the rate of their batches. Any other state resets the coalescing.
  *
  * @see LineageEmitter
  * @see OpenLineageContext
@@ -54,6 +60,7 @@
 public class OpenLineageEmitter implements LineageEmitter {
 
     private static final String JAVA = "Java";
+    private static final int MAX_COALESCED_DATASETS = 10_000;
 
     private final ConnectorContext connectorContext;
     private final OpenLineageContext openLineageContext;
@@ -61,6 +68,8 @@ public class OpenLineageEmitter implements LineageEmitter {
     private final DebeziumOpenLineageClient emitter;
     private final Map<String, String> config;
     private final DatasetNamespaceResolverFactory datasetNamespaceResolverFactory;
+    private final long runningEventIntervalNanos;
+    private final Map<List<DatasetMetadata>, Long> lastRunningEvents = new ConcurrentHashMap<>();
 
     public OpenLineageEmitter(ConnectorContext connectorContext, OpenLineageContext openLineageContext, DebeziumOpenLineageClient emitter,
                               DatasetNamespaceResolverFactory datasetNamespaceResolverFactory) {
@@ -70,6 +79,7 @@ public OpenLineageEmitter(ConnectorContext connectorContext, OpenLineageContext
         this.emitter = emitter;
         this.config = connectorContext.config();
         this.datasetNamespaceResolverFactory = datasetNamespaceResolverFactory;
+        this.runningEventIntervalNanos = getRunningEventInterval(openLineageContext).toNanos();
     }
 
     @Override
@@ -93,6 +103,10 @@ public void emit(DebeziumTaskState state, List<DatasetMetadata> datasetMetadata)
     @Override
     public void emit(DebeziumTaskState state, List<DatasetMetadata> datasetMetadata, Throwable t) {
 
+        if (isCoalesced(state, datasetMetadata, t)) {
+            return;
+        }
+
         OpenLineage.Job job = new OpenLineageJobCreator(openLineageContext).create();
 
         List<OpenLineage.InputDataset> inputs = getInputDatasets(datasetMetadata);
@@ -127,6 +141,34 @@ public void close() {
         emitter.close();
     }
 
+    private boolean isCoalesced(DebeziumTaskState state, List<DatasetMetadata> datasetMetadata, Throwable t) {
+        if (state != DebeziumTaskState.RUNNING || t != null) {
+            lastRunningEvents.clear();
+            return false;
+        }
+        if (runningEventIntervalNanos <= 0) {
+            return false;
+        }
+
+        final long now = System.nanoTime();
+        final Long last = lastRunningEvents.get(datasetMetadata);
+        if (last != null && now - last < runningEventIntervalNanos) {
+            return true;
+        }
+        if (last == null && lastRunningEvents.size() >= MAX_COALESCED_DATASETS) {
+            lastRunningEvents.clear();
+        }
+        lastRunningEvents.put(datasetMetadata, now);
+        return false;
+    }
+
+    private static Duration getRunningEventInterval(OpenLineageContext openLineageContext) {
+        if (openLineageContext.getConfiguration() == null || openLineageContext.getConfiguration().config() == null) {
+            return Duration.ZERO;
+        }
+        return openLineageContext.getConfiguration().config().runningEventInterval();
+    }
+
     private void addStackTrace(Throwable t, OpenLineage.RunFacetsBuilder runFacetsBuilder) {
         if (t != null) {
             StringWriter sw = new StringWriter();
@@ -7,9 +7,12 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -47,19 +50,23 @@ public class OpenLineageEmitterTest {
 
     @BeforeEach
     void setUp() {
+        emitter = createEmitter(Duration.ZERO);
+    }
+
+    private OpenLineageEmitter createEmitter(Duration runningEventInterval) {
 
         Map<String, String> configMap = new HashMap<>();
         configMap.put("database.hostname", "localhost");
         configMap.put("database.port", "3306");
 
         ConnectorContext connectorContext = new ConnectorContext("test-connector", "mysql", "0", "3.2.0.Final", UUID.randomUUID(), configMap);
-        emitter = new OpenLineageEmitter(
+        return new OpenLineageEmitter(
                 connectorContext,
                 new OpenLineageContext(
                         new OpenLineage(URI.create("http://producer.io")),
                         new DebeziumOpenLineageConfiguration(
                                 true,
-                                new DebeziumOpenLineageConfiguration.Config("opnelineage.yml"),
+                                new DebeziumOpenLineageConfiguration.Config("opnelineage.yml", 10, runningEventInterval),
                                 new DebeziumOpenLineageConfiguration.Job(
                                         "namespace",
                                         "description",
@@ -128,4 +135,27 @@ void testEmitComplete() {
         assertEquals(OpenLineage.RunEvent.EventType.COMPLETE, event.getEventType());
     }
 
+    @Test
+    void testCoalesceRunningEventsOfUnchangedDatasets() {
+        emitter = createEmitter(Duration.ofHours(1));
+
+        emitter.emit(DebeziumTaskState.RUNNING, List.of(outputDataset("table_a")));
+        emitter.emit(DebeziumTaskState.RUNNING, List.of(outputDataset("table_a")));
+        emitter.emit(DebeziumTaskState.RUNNING, List.of(outputDataset("table_b")));
+        emitter.emit(DebeziumTaskState.RUNNING, List.of(outputDataset("table_a")));
+        verify(eventEmitter, times(2)).emit(any());
+
+        // any other state starts the coalescing anew
+        emitter.emit(DebeziumTaskState.RESTARTING, new RuntimeException("Test failure"));
+        emitter.emit(DebeziumTaskState.RUNNING, List.of(outputDataset("table_a")));
+        verify(eventEmitter, times(4)).emit(eventCaptor.capture());
+
+        assertEquals(OpenLineage.RunEvent.EventType.RUNNING, eventCaptor.getValue().getEventType());
+        assertEquals("table_a", eventCaptor.getValue().getOutputs().get(0).getName());
+    }
+
+    private static DatasetMetadata outputDataset(String name) {
+        return new DatasetMetadata(name, DatasetMetadata.DatasetKind.OUTPUT, DatasetMetadata.TABLE_DATASET_TYPE, DatasetMetadata.DataStore.DATABASE,
+                List.of(new DatasetMetadata.FieldDefinition("id", "int", "Identifier")));
+    }
 }
@@ -39,20 +39,18 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
 
     @Override
     protected void recoverRecords(Consumer<HistoryRecord> records) {
-        lock.write(() -> {
-            for (HistoryRecord record : getRecords()) {
-                records.accept(record);
-
-                // Introduce a delay if configured
-                if (recoveryDelayMs > 0) {
-                    try {
-                        LOGGER.info("Sleeping for {} ms to simulate recovery delay", recoveryDelayMs);
-                        Thread.sleep(recoveryDelayMs);
-                    }
-                    catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Interrupted while recovering records", e);
-                    }
+        super.recoverRecords(record -> {
+            records.accept(record);
+
+            // Introduce a delay if configured
+            if (recoveryDelayMs > 0) {
+                try {
+                    LOGGER.info("Sleeping for {} ms to simulate recovery delay", recoveryDelayMs);
+                    Thread.sleep(recoveryDelayMs);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while recovering records", e);
                 }
             }
         });
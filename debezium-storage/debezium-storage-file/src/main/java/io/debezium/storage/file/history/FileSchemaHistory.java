@@ -5,21 +5,30 @@
  */
 package io.debezium.storage.file.history;
 
-import java.io.BufferedWriter;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import org.apache.kafka.common.config.ConfigDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.DebeziumException;
 import io.debezium.annotation.ThreadSafe;
 import io.debezium.config.Configuration;
+import io.debezium.config.EnumeratedValue;
 import io.debezium.config.Field;
 import io.debezium.relational.history.AbstractFileBasedSchemaHistory;
 import io.debezium.relational.history.HistoryRecord;
@@ -29,9 +38,15 @@
 import io.debezium.relational.history.SchemaHistoryListener;
 import io.debezium.util.Collect;
 import io.debezium.util.Loggings;
+import io.debezium.util.Threads;
 
 /**
  * A {@link SchemaHistory} implementation that stores the schema history in a local file.
+ * <p>
+ * The records are appended through a stream kept open while the history is running, and synced to the storage
+ * device according to the configured {@link SyncPolicy}. Unlike a {@link FileChannel}, the stream is not closed when
+ * a thread writing to it is interrupted. The history is not kept in memory; recovery reads the
+ * records from the file, optionally through a memory-mapped buffer.
  *
  * @author Randall Hauch
  */
@@ -43,8 +58,82 @@ public class FileSchemaHistory extends AbstractFileBasedSchemaHistory {
             .withDescription("The path to the file that will be used to record the database schema history")
             .required();
 
-    public static Collection<Field> ALL_FIELDS = Collect.arrayListOf(FILE_PATH);
+    /**
+     * The possible values for {@link #SYNC_POLICY}.
+     */
+    public enum SyncPolicy implements EnumeratedValue {
+        /**
+         * Each record is synced to the storage device before it is acknowledged.
+         */
+        ALWAYS("always"),
+
+        /**
+         * The records written since the last sync are synced together, periodically.
+         */
+        INTERVAL("interval"),
+
+        /**
+         * The records are never synced explicitly, the operating system decides when to write them to the storage device.
+         */
+        OS("os");
+
+        private final String value;
+
+        SyncPolicy(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        public static SyncPolicy parse(String value) {
+            for (SyncPolicy option : SyncPolicy.values()) {
+                if (option.getValue().equalsIgnoreCase(value)) {
+                    return option;
+                }
+            }
+            return OS;
+        }
+    }
+
+    public static final Field SYNC_POLICY = Field.create(SchemaHistory.CONFIGURATION_FIELD_PREFIX_STRING + "file.sync.policy")
+            .withDisplayName("Sync policy")
+            .withEnum(SyncPolicy.class, SyncPolicy.OS)
+            .withDescription("When the records written to the history file are synced to the storage device: "
+                    + "'always' syncs each record before it is acknowledged; "
+                    + "'interval' syncs the records written meanwhile every '" + SchemaHistory.CONFIGURATION_FIELD_PREFIX_STRING + "file.sync.interval.ms'; "
+                    + "'os' (the default) leaves it to the operating system.");
+
+    public static final Field SYNC_INTERVAL_MS = Field.create(SchemaHistory.CONFIGURATION_FIELD_PREFIX_STRING + "file.sync.interval.ms")
+            .withDisplayName("Sync interval")
+            .withType(ConfigDef.Type.LONG)
+            .withDefault(1000L)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The interval in milliseconds at which the records written to the history file are synced to the storage device, "
+                    + "when the sync policy is 'interval'.");
+
+    public static final Field RECOVERY_MEMORY_MAPPED = Field.create(SchemaHistory.CONFIGURATION_FIELD_PREFIX_STRING + "file.recovery.memory.mapped")
+            .withDisplayName("Memory-mapped recovery")
+            .withType(ConfigDef.Type.BOOLEAN)
+            .withDefault(false)
+            .withDescription("Whether the history file is read through a memory-mapped buffer when the schema is recovered, "
+                    + "which speeds up the recovery of large histories.");
+
+    public static Collection<Field> ALL_FIELDS = Collect.arrayListOf(FILE_PATH, SYNC_POLICY, SYNC_INTERVAL_MS, RECOVERY_MEMORY_MAPPED);
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final long SYNC_TERMINATION_TIMEOUT_MS = 10_000;
+
     private Path path;
+    private SyncPolicy syncPolicy;
+    private long syncIntervalMs;
+    private boolean memoryMappedRecovery;
+
+    private FileOutputStream output;
+    private ScheduledExecutorService syncExecutor;
+    private volatile boolean unsynced;
 
     @Override
     public void configure(Configuration config, HistoryRecordComparator comparator, SchemaHistoryListener listener, boolean useCatalogBeforeSchema) {
@@ -57,40 +146,153 @@ public void configure(Configuration config, HistoryRecordComparator comparator,
         }
         super.configure(config, comparator, listener, useCatalogBeforeSchema);
         path = Paths.get(config.getString(FILE_PATH));
+        syncPolicy = SyncPolicy.parse(config.getString(SYNC_POLICY));
+        syncIntervalMs = config.getLong(SYNC_INTERVAL_MS);
+        memoryMappedRecovery = config.getBoolean(RECOVERY_MEMORY_MAPPED);
     }
 
     @Override
     protected void doStoreRecord(HistoryRecord record) {
+        final String line;
         try {
             LOGGER.trace("Storing record into database history: {}", record);
-            records.add(record);
-            String line = documentWriter.write(record.document());
+            line = documentWriter.write(record.document());
+        }
+        catch (IOException e) {
+            Loggings.logErrorAndTraceRecord(logger, record, "Failed to convert record to string", e);
+            return;
+        }
 
-            try (BufferedWriter historyWriter = Files.newBufferedWriter(path, StandardOpenOption.APPEND)) {
-                try {
-                    historyWriter.append(line);
-                    historyWriter.newLine();
-                }
-                catch (IOException e) {
-                    Loggings.logErrorAndTraceRecord(logger, record, "Failed to add record to history at {}", path, e);
-                }
+        try {
+            output.write((line + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8));
+            if (syncPolicy == SyncPolicy.ALWAYS) {
+                output.getFD().sync();
             }
-            catch (IOException e) {
-                throw new SchemaHistoryException("Unable to create writer for history file " + path + ": " + e.getMessage(), e);
+            else {
+                unsynced = true;
             }
         }
         catch (IOException e) {
-            Loggings.logErrorAndTraceRecord(logger, record, "Failed to convert record to string", e);
+            Loggings.logErrorAndTraceRecord(logger, record, "Failed to add record to history at {}", path, e);
+            throw new SchemaHistoryException("Failed to add record to history file " + path + ": " + e.getMessage(), e);
         }
     }
 
     @Override
     protected void doStart() {
         try {
-            toHistoryRecord(Files.newInputStream(path));
+            output = new FileOutputStream(path.toFile(), true);
         }
         catch (IOException e) {
-            throw new SchemaHistoryException("Can't retrieve file with schema history", e);
+            throw new SchemaHistoryException("Unable to open history file " + path + ": " + e.getMessage(), e);
+        }
+        if (syncPolicy == SyncPolicy.INTERVAL) {
+            syncExecutor = Threads.newSingleThreadScheduledExecutor(FileSchemaHistory.class, path.getFileName().toString(), "history-sync", true);
+            syncExecutor.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        if (syncExecutor != null) {
+            // a sync in progress is let complete, the records written since are synced below
+            syncExecutor.shutdown();
+            try {
+                if (!syncExecutor.awaitTermination(syncIntervalMs + SYNC_TERMINATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Syncing history file {} did not complete in time", path);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            syncExecutor = null;
+        }
+        lock.write(() -> {
+            if (output != null) {
+                try {
+                    if (syncPolicy != SyncPolicy.OS) {
+                        output.getFD().sync();
+                    }
+                    output.close();
+                }
+                catch (IOException e) {
+                    LOGGER.warn("Failed to close history file {}", path, e);
+                }
+                output = null;
+            }
+        });
+    }
+
+    /**
+     * Syncs the records written since the last sync, all of them at once.
+     */
+    private void sync() {
+        if (!unsynced) {
+            return;
+        }
+        lock.write(() -> {
+            if (output == null) {
+                return;
+            }
+            unsynced = false;
+            try {
+                output.getFD().sync();
+            }
+            catch (IOException e) {
+                unsynced = true;
+                LOGGER.warn("Failed to sync history file {}", path, e);
+            }
+        });
+    }
+
+    @Override
+    protected void recoverRecords(Consumer<HistoryRecord> records) {
+        lock.write(() -> {
+            try {
+                if (memoryMappedRecovery && Files.size(path) <= Integer.MAX_VALUE) {
+                    recoverMemoryMapped(records);
+                }
+                else {
+                    recoverStreaming(records);
+                }
+            }
+            catch (IOException e) {
+                throw new SchemaHistoryException("Can't retrieve file with schema history", e);
+            }
+        });
+    }
+
+    private void recoverStreaming(Consumer<HistoryRecord> records) throws IOException {
+        try (BufferedReader historyReader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = historyReader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    records.accept(new HistoryRecord(documentReader.read(line)));
+                }
+            }
+        }
+    }
+
+    private void recoverMemoryMapped(Consumer<HistoryRecord> records) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid once the channel is closed
+            buffer = reader.map(FileChannel.MapMode.READ_ONLY, 0, reader.size());
+        }
+        int start = 0;
+        final int limit = buffer.limit();
+        for (int position = 0; position <= limit; position++) {
+            if (position == limit || buffer.get(position) == '\n') {
+                int end = position;
+                if (end > start && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+                if (end > start) {
+                    final String line = StandardCharsets.UTF_8.decode(buffer.slice(start, end - start)).toString();
+                    records.accept(new HistoryRecord(documentReader.read(line)));
+                }
+                start = position + 1;
+            }
         }
     }
 
@@ -79,6 +79,13 @@ public List<Map<String, String>> xrange(String key) {
         return tryErrors(() -> jedis.xrange(key, (StreamEntryID) null, (StreamEntryID) null).stream().map(item -> item.getFields()).collect(Collectors.toList()));
     }
 
+    @Override
+    public List<SimpleEntry<String, Map<String, String>>> xrange(String key, String start, int count) {
+        return tryErrors(() -> jedis.xrange(key, start == null ? "-" : start, "+", count).stream()
+                .map(item -> new SimpleEntry<>(item.getID().toString(), item.getFields()))
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public long xlen(String key) {
         return tryErrors(() -> jedis.xlen(key));
@@ -94,6 +101,11 @@ public long hset(byte[] key, byte[] field, byte[] value) {
         return tryErrors(() -> jedis.hset(key, field, value));
     }
 
+    @Override
+    public long hset(byte[] key, Map<byte[], byte[]> hash) {
+        return tryErrors(() -> jedis.hset(key, hash));
+    }
+
     @Override
     public long waitReplicas(int replicas, long timeout) {
         return tryErrors(() -> jedis.waitReplicas(replicas, timeout));
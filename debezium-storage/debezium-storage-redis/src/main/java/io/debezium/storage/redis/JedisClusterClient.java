@@ -130,6 +130,14 @@ public List<Map<String, String>> xrange(String key) {
                 .toList());
     }
 
+    @Override
+    public List<SimpleEntry<String, Map<String, String>>> xrange(String key, String start, int count) {
+        return tryErrors(() -> jedisCluster.xrange(key, start == null ? "-" : start, "+", count)
+                .stream()
+                .map(item -> new SimpleEntry<>(item.getID().toString(), item.getFields()))
+                .toList());
+    }
+
     @Override
     public long xlen(String key) {
         return tryErrors(() -> jedisCluster.xlen(key));
@@ -145,6 +153,12 @@ public long hset(byte[] key, byte[] field, byte[] value) {
         return tryErrors(() -> jedisCluster.hset(key, field, value));
     }
 
+    @Override
+    public long hset(byte[] key, Map<byte[], byte[]> hash) {
+        // all fields belong to the same key and thus to the same slot
+        return tryErrors(() -> jedisCluster.hset(key, hash));
+    }
+
     @Override
     public long waitReplicas(int replicas, long timeout) {
         // JedisCluster does not directly support waitReplicas across the entire cluster
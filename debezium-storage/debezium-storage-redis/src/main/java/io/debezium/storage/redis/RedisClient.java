@@ -48,6 +48,17 @@ public interface RedisClient {
      */
     List<Map<String, String>> xrange(String key);
 
+    /**
+     * Reads a page of the entries of a stream.
+     *
+     * @param key
+     * @param start the id of the first entry to read, inclusive, or {@code null} to read from the beginning of the stream
+     * @param count the maximum number of entries to read
+     * @return the ids and the fields of the entries, in the order of the stream
+     * @throws RedisClientConnectionException
+     */
+    List<SimpleEntry<String, Map<String, String>>> xrange(String key, String start, int count);
+
     /**
      *
      * @param key
@@ -74,6 +85,16 @@ public interface RedisClient {
      */
     long hset(byte[] key, byte[] field, byte[] value);
 
+    /**
+     * Sets several fields of a hash with a single, atomic command.
+     *
+     * @param key
+     * @param hash the fields and their values
+     * @return the number of fields that were added
+     * @throws RedisClientConnectionException
+     */
+    long hset(byte[] key, Map<byte[], byte[]> hash);
+
     /**
      *
      * @param replicas
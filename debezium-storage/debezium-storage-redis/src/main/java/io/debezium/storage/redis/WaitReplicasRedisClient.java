@@ -63,6 +63,11 @@ public List<Map<String, String>> xrange(String key) {
         return delegate.xrange(key);
     }
 
+    @Override
+    public List<SimpleEntry<String, Map<String, String>>> xrange(String key, String start, int count) {
+        return delegate.xrange(key, start, count);
+    }
+
     @Override
     public long xlen(String key) {
         return delegate.xlen(key);
@@ -78,6 +83,11 @@ public long hset(byte[] key, byte[] field, byte[] value) {
         return waitResult(() -> delegate.hset(key, field, value));
     }
 
+    @Override
+    public long hset(byte[] key, Map<byte[], byte[]> hash) {
+        return waitResult(() -> delegate.hset(key, hash));
+    }
+
     @Override
     public long waitReplicas(int replicas, long timeout) {
         throw new UnsupportedOperationException();
@@ -7,9 +7,15 @@
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -32,6 +38,7 @@
 import io.debezium.storage.redis.RedisConnection;
 import io.debezium.util.DelayStrategy;
 import io.debezium.util.Loggings;
+import io.debezium.util.Threads;
 
 /**
  * A {@link SchemaHistory} implementation that stores the schema history in Redis.
@@ -42,6 +49,11 @@ public class RedisSchemaHistory extends AbstractSchemaHistory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisSchemaHistory.class);
 
+    /**
+     * The maximum number of history entries read from Redis at once during recovery.
+     */
+    private static final int RECOVERY_PAGE_SIZE = 1_000;
+
     private Duration initialRetryDelay;
     private Duration maxRetryDelay;
     private Integer maxRetryCount;
@@ -109,19 +121,67 @@ public void stop() {
 
     @Override
     protected synchronized void recoverRecords(Consumer<HistoryRecord> records) {
-        // read the entries from Redis
-        final List<Map<String, String>> entries = doWithRetry(() -> client.xrange(config.getRedisKeyName()),
-                "Writing to database schema history stream");
+        // read the entries from Redis page by page, the next page being read and parsed while the current one is applied
+        final ExecutorService pageReader = Executors.newSingleThreadExecutor(
+                Threads.threadFactory(RedisSchemaHistory.class, config.getRedisKeyName(), "recovery", false, true));
+        try {
+            Future<RecoveryPage> nextPage = pageReader.submit(() -> readPage(null));
+            while (nextPage != null) {
+                final RecoveryPage page = nextPage.get();
+                nextPage = (page.nextStart() != null) ? pageReader.submit(() -> readPage(page.nextStart())) : null;
+                page.records().forEach(records);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchemaHistoryException("Interrupted while recovering the database schema history", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof SchemaHistoryException) {
+                throw (SchemaHistoryException) e.getCause();
+            }
+            throw new SchemaHistoryException("Failed to recover the database schema history", e.getCause());
+        }
+        finally {
+            pageReader.shutdownNow();
+        }
+    }
 
-        for (Map<String, String> item : entries) {
+    /**
+     * Reads and parses a page of the history entries.
+     *
+     * @param start the id of the first entry of the page, or {@code null} for the first page
+     */
+    private RecoveryPage readPage(String start) {
+        final List<SimpleEntry<String, Map<String, String>>> entries = doWithRetry(
+                () -> client.xrange(config.getRedisKeyName(), start, RECOVERY_PAGE_SIZE),
+                "Reading from database schema history stream");
+
+        final List<HistoryRecord> records = new ArrayList<>(entries.size());
+        for (SimpleEntry<String, Map<String, String>> entry : entries) {
             try {
-                records.accept(new HistoryRecord(reader.read(item.get("schema"))));
+                records.add(new HistoryRecord(reader.read(entry.getValue().get("schema"))));
             }
             catch (IOException e) {
-                LOGGER.error("Failed to convert record to string: {}", item, e);
-                return;
+                LOGGER.error("Failed to convert record to string: {}", entry.getValue(), e);
+                // the records up to the failed one are recovered, as before paging
+                return new RecoveryPage(records, null);
             }
         }
+        final String nextStart = (entries.size() < RECOVERY_PAGE_SIZE) ? null : nextEntryId(entries.get(entries.size() - 1).getKey());
+        return new RecoveryPage(records, nextStart);
+    }
+
+    /**
+     * Returns the smallest stream entry id following the given one, as entry ids are made of a millisecond time and
+     * a sequence number.
+     */
+    static String nextEntryId(String entryId) {
+        final int separator = entryId.indexOf('-');
+        return entryId.substring(0, separator + 1) + (Long.parseLong(entryId.substring(separator + 1)) + 1);
+    }
+
+    private record RecoveryPage(List<HistoryRecord> records, String nextStart) {
     }
 
     @Override
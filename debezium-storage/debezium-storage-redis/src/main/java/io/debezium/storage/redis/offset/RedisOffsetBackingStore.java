@@ -37,6 +37,11 @@ public class RedisOffsetBackingStore extends MemoryOffsetBackingStore {
 
     private volatile RedisClient client;
 
+    /**
+     * The offsets as last written to or read from Redis, so that a flush only writes the offsets that changed since.
+     */
+    private final Map<ByteBuffer, ByteBuffer> savedOffsets = new HashMap<>();
+
     public RedisClient getRedisClient() {
         return client;
     }
@@ -47,6 +52,8 @@ public void setRedisClient(RedisClient client) {
 
     void connect() {
         closeClient();
+        // the offsets are rewritten in full after a reconnect, as the server may have failed over meanwhile
+        savedOffsets.clear();
         RedisConnection redisConnection = RedisConnection.getInstance(config);
         client = redisConnection.getRedisClient(RedisConnection.DEBEZIUM_OFFSETS_CLIENT_NAME, config.isWaitEnabled(), config.getWaitTimeout(),
                 config.isWaitRetryEnabled(), config.getWaitRetryDelay());
@@ -133,43 +140,55 @@ void load() {
             ByteBuffer value = (mapEntry.getValue() != null) ? ByteBuffer.wrap(mapEntry.getValue().getBytes()) : null;
             data.put(key, value);
         }
+        savedOffsets.putAll(data);
     }
 
     /**
-    * Save offsets to Redis keys
+    * Save the offsets which changed since the last save to Redis keys, setting all of them with a single command
     */
     @Override
     protected void save() {
+        final Map<ByteBuffer, ByteBuffer> changedOffsets = new HashMap<>();
         for (Map.Entry<ByteBuffer, ByteBuffer> mapEntry : data.entrySet()) {
-            byte[] key = (mapEntry.getKey() != null) ? mapEntry.getKey().array() : null;
-            byte[] value = (mapEntry.getValue() != null) ? mapEntry.getValue().array() : null;
-            // set the value in Redis
-            Uni.createFrom().item(() -> {
-                if (client == null) {
-                    throw new RedisClientConnectionException(new RuntimeException("Redis client is null"));
-                }
-                return (Long) client.hset(config.getRedisKeyName().getBytes(), key, value);
-            })
-                    // handle failures and retry
-                    .onFailure().invoke(
-                            f -> {
-                                LOGGER.warn("Writing to Redis offset store failed with " + f);
-                                LOGGER.warn("Will retry");
-                            })
-                    .onFailure(RedisClientConnectionException.class).invoke(
-                            f -> {
-                                LOGGER.warn("Attempting to reconnect to Redis");
-                                this.connect();
-                            })
-                    // retry on failure with backoff
-                    .onFailure().retry().withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(2)).indefinitely()
-                    // write success trace message
-                    .invoke(
-                            item -> {
-                                LOGGER.trace("Offsets written to Redis: " + value);
-                            })
-                    .await().indefinitely();
+            if (mapEntry.getValue() != null && !mapEntry.getValue().equals(savedOffsets.get(mapEntry.getKey()))) {
+                changedOffsets.put(mapEntry.getKey(), mapEntry.getValue());
+            }
+        }
+        if (changedOffsets.isEmpty()) {
+            LOGGER.trace("No offsets changed since the last write to Redis");
+            return;
         }
+        final Map<byte[], byte[]> hash = new HashMap<>(changedOffsets.size());
+        for (Map.Entry<ByteBuffer, ByteBuffer> mapEntry : changedOffsets.entrySet()) {
+            hash.put((mapEntry.getKey() != null) ? mapEntry.getKey().array() : null, mapEntry.getValue().array());
+        }
+        // set the values in Redis
+        Uni.createFrom().item(() -> {
+            if (client == null) {
+                throw new RedisClientConnectionException(new RuntimeException("Redis client is null"));
+            }
+            return (Long) client.hset(config.getRedisKeyName().getBytes(), hash);
+        })
+                // handle failures and retry
+                .onFailure().invoke(
+                        f -> {
+                            LOGGER.warn("Writing to Redis offset store failed with " + f);
+                            LOGGER.warn("Will retry");
+                        })
+                .onFailure(RedisClientConnectionException.class).invoke(
+                        f -> {
+                            LOGGER.warn("Attempting to reconnect to Redis");
+                            this.connect();
+                        })
+                // retry on failure with backoff
+                .onFailure().retry().withBackOff(Duration.ofSeconds(1), Duration.ofSeconds(2)).indefinitely()
+                // write success trace message
+                .invoke(
+                        item -> {
+                            LOGGER.trace("{} offsets written to Redis", hash.size());
+                        })
+                .await().indefinitely();
+        savedOffsets.putAll(changedOffsets);
     }
 
     @Override
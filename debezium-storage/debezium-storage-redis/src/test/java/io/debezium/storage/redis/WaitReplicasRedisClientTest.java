@@ -54,6 +54,12 @@ public void xrangeRetry() {
         assertEquals("2", result.get(0).get("key"));
     }
 
+    @Test
+    public void xrangePageNoRetry() {
+        List<SimpleEntry<String, Map<String, String>>> result = client(false).xrange("key", null, 10);
+        assertEquals("2", result.get(0).getValue().get("key"));
+    }
+
     @Test
     public void xlenNoRetry() {
         long result = client(false).xlen("key");
@@ -90,6 +96,18 @@ public void hsetRetry() {
         assertEquals(0, result);
     }
 
+    @Test
+    public void hsetFieldsNoRetry() {
+        long result = client(false).hset(null, Collections.emptyMap());
+        assertEquals(2, result);
+    }
+
+    @Test
+    public void hsetFieldsRetry() {
+        long result = client(true).hset(null, Collections.emptyMap());
+        assertEquals(0, result);
+    }
+
     @Test
     public void waitUnsupported() {
         assertThrows(UnsupportedOperationException.class, () -> client(false).waitReplicas(0, 0));
@@ -136,6 +154,13 @@ public List<Map<String, String>> xrange(String key) throws RedisClientConnection
             return result;
         }
 
+        @Override
+        public List<SimpleEntry<String, Map<String, String>>> xrange(String key, String start, int count) throws RedisClientConnectionException {
+            List<SimpleEntry<String, Map<String, String>>> result = new ArrayList<>();
+            result.add(new SimpleEntry<>("0-1", Collections.singletonMap(key, errorCount())));
+            return result;
+        }
+
         @Override
         public long xlen(String key) throws RedisClientConnectionException {
             return errorCount;
@@ -151,6 +176,11 @@ public long hset(byte[] key, byte[] field, byte[] value) throws RedisClientConne
             return errorCount;
         }
 
+        @Override
+        public long hset(byte[] key, Map<byte[], byte[]> hash) throws RedisClientConnectionException {
+            return errorCount;
+        }
+
         @Override
         public long waitReplicas(int replicas, long timeout) throws RedisClientConnectionException {
             return replicas + errorCount--;
@@ -0,0 +1,20 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.storage.redis.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class RedisSchemaHistoryTest {
+
+    @Test
+    public void nextEntryIdFollowsSequence() {
+        assertEquals("1526919030474-56", RedisSchemaHistory.nextEntryId("1526919030474-55"));
+        assertEquals("0-1", RedisSchemaHistory.nextEntryId("0-0"));
+        assertEquals("1526919030474-10000000000", RedisSchemaHistory.nextEntryId("1526919030474-9999999999"));
+    }
+}
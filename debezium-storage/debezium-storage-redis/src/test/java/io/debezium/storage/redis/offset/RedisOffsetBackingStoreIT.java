@@ -8,16 +8,25 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
@@ -29,6 +38,7 @@
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.testcontainers.containers.ComposeContainer;
 import org.testcontainers.containers.GenericContainer;
@@ -159,7 +169,7 @@ public void testLoadWithRetry(boolean clusterEnabled) throws InterruptedExceptio
     @MethodSource("clusterScenarios")
     @Timeout(5) // Ensure we don't stuck in endless retry loop
     @DisplayName("Test save with retry mechanism")
-    public void testSaveWithRetry(boolean clusterEnabled) throws InterruptedException {
+    public void testSaveWithRetry(boolean clusterEnabled) throws Exception {
         RedisOffsetBackingStore redisOffsetBackingStore = getRedisOffsetBackingStore(clusterEnabled);
         RedisClient client = redisOffsetBackingStore.getRedisClient();
 
@@ -172,10 +182,12 @@ public void testSaveWithRetry(boolean clusterEnabled) throws InterruptedExceptio
         redisOffsetBackingStore.load();
 
         RedisClient mockClient = Mockito.spy(client);
-        when(mockClient.hset(redisKey, field, value)).thenThrow(RedisClientConnectionException.class);
+        when(mockClient.hset(eq(redisKey), anyMap())).thenThrow(RedisClientConnectionException.class);
         redisOffsetBackingStore.setRedisClient(mockClient);
-        redisOffsetBackingStore.save();
+        // only changed offsets are written
+        redisOffsetBackingStore.set(Map.of(ByteBuffer.wrap(field), ByteBuffer.wrap("changed".getBytes())), null).get();
         client = redisOffsetBackingStore.getRedisClient();
+        assertEquals("changed", client.hgetAll("metadata:debezium:offsets").get(""));
 
         // For cluster mode, clientList is not supported, so we skip this assertion
         if (!clusterEnabled) {
@@ -186,6 +198,41 @@ public void testSaveWithRetry(boolean clusterEnabled) throws InterruptedExceptio
         redisOffsetBackingStore.stop();
     }
 
+    @ParameterizedTest
+    @MethodSource("clusterScenarios")
+    @Timeout(5)
+    @DisplayName("Test save only writes the changed offsets")
+    @SuppressWarnings("unchecked")
+    public void testSaveOnlyChangedOffsets(boolean clusterEnabled) throws Exception {
+        RedisOffsetBackingStore redisOffsetBackingStore = getRedisOffsetBackingStore(clusterEnabled);
+        RedisClient client = redisOffsetBackingStore.getRedisClient();
+
+        byte[] redisKey = "metadata:debezium:offsets".getBytes();
+        client.hset(redisKey, "server1".getBytes(), "{\"pos\":1}".getBytes());
+        client.hset(redisKey, "server2".getBytes(), "{\"pos\":1}".getBytes());
+        redisOffsetBackingStore.load();
+
+        RedisClient spyClient = Mockito.spy(client);
+        redisOffsetBackingStore.setRedisClient(spyClient);
+
+        // unchanged offsets are not written at all
+        redisOffsetBackingStore.set(Map.of(ByteBuffer.wrap("server1".getBytes()), ByteBuffer.wrap("{\"pos\":1}".getBytes())), null).get();
+        verify(spyClient, never()).hset(any(byte[].class), anyMap());
+
+        redisOffsetBackingStore.set(Map.of(ByteBuffer.wrap("server2".getBytes()), ByteBuffer.wrap("{\"pos\":2}".getBytes()),
+                ByteBuffer.wrap("server3".getBytes()), ByteBuffer.wrap("{\"pos\":3}".getBytes())), null).get();
+        ArgumentCaptor<Map<byte[], byte[]>> hash = ArgumentCaptor.forClass(Map.class);
+        verify(spyClient, times(1)).hset(eq(redisKey), hash.capture());
+        assertEquals(Set.of("server2", "server3"), hash.getValue().keySet().stream().map(String::new).collect(Collectors.toSet()));
+
+        Map<String, String> offsets = client.hgetAll("metadata:debezium:offsets");
+        assertEquals("{\"pos\":1}", offsets.get("server1"));
+        assertEquals("{\"pos\":2}", offsets.get("server2"));
+        assertEquals("{\"pos\":3}", offsets.get("server3"));
+
+        redisOffsetBackingStore.stop();
+    }
+
     private long getClientsNumber(String name, RedisClient client) {
         return Arrays.stream(client.clientList().split(NEW_LINE)).filter(entry -> entry.contains(name)).count();
     }